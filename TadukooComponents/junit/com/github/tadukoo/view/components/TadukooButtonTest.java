@@ -1,6 +1,8 @@
 package com.github.tadukoo.view.components;
 
 import com.github.tadukoo.view.border.ShapedLineBorder;
+import com.github.tadukoo.view.components.interfaces.Shaped;
+import com.github.tadukoo.view.components.interfaces.paint.HasSizablePaints;
 import com.github.tadukoo.view.font.FontFamilies;
 import com.github.tadukoo.view.font.FontFamily;
 import com.github.tadukoo.view.paint.SizableColor;
@@ -18,10 +20,14 @@ import java.awt.Font;
 import java.awt.FontFormatException;
 import java.awt.event.ActionListener;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TadukooButtonTest{
@@ -124,6 +130,12 @@ public class TadukooButtonTest{
 		assertEquals(fontSize, font.getSize());
 	}
 	
+	@Test
+	public void testBuilderFontShared() throws IOException, FontFormatException{
+		TadukooButton other = TadukooButton.builder().font(fontFamily, fontStyle, fontSize).build();
+		assertSame(button.getFont(), other.getFont());
+	}
+	
 	@Test
 	public void testBuilderShapeInfo(){
 		assertEquals(shapeInfo, button.getShapeInfo());
@@ -150,6 +162,16 @@ public class TadukooButtonTest{
 		assertEquals(newPaint, button.getBackgroundPaint());
 	}
 	
+	@Test
+	public void testSetBackgroundPaintFiresPropertyChange(){
+		List<Object> newValues = new ArrayList<>();
+		button.addPropertyChangeListener(HasSizablePaints.BACKGROUND_PAINT_PROPERTY,
+				e -> newValues.add(e.getNewValue()));
+		SizableColor newPaint = new SizableColor(Color.DARK_GRAY);
+		button.setBackgroundPaint(newPaint);
+		assertEquals(List.of(newPaint), newValues);
+	}
+	
 	@Test
 	public void testSetSelectPaint(){
 		assertEquals(selectPaint, button.getSelectPaint());
@@ -181,4 +203,39 @@ public class TadukooButtonTest{
 		button.setShapeInfo(newInfo);
 		assertEquals(newInfo, button.getShapeInfo());
 	}
+	
+	@Test
+	public void testSetShapeInfoFiresPropertyChange(){
+		List<Object> newValues = new ArrayList<>();
+		button.addPropertyChangeListener(Shaped.SHAPE_INFO_PROPERTY, e -> newValues.add(e.getNewValue()));
+		ShapeInfo newInfo = Shapes.ROUND_RECTANGLE.getShapeInfo();
+		button.setShapeInfo(newInfo);
+		assertEquals(List.of(newInfo), newValues);
+	}
+	
+	@Test
+	public void testContainsUsesShape(){
+		button.setSize(100, 50);
+		// Ellipse center is inside, corners are not
+		assertTrue(button.contains(50, 25));
+		assertFalse(button.contains(1, 1));
+		assertFalse(button.contains(98, 48));
+		assertFalse(button.contains(100, 25));
+	}
+	
+	@Test
+	public void testContainsWithoutShape(){
+		button.setShapeInfo(null);
+		button.setSize(100, 50);
+		assertTrue(button.contains(1, 1));
+		assertFalse(button.contains(-1, 1));
+	}
+	
+	@Test
+	public void testContainsAfterShapeChange(){
+		button.setSize(100, 50);
+		assertFalse(button.contains(1, 1));
+		button.setShapeInfo(Shapes.RECTANGLE.getShapeInfo());
+		assertTrue(button.contains(1, 1));
+	}
 }
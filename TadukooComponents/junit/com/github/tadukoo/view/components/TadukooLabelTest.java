@@ -1,6 +1,8 @@
 package com.github.tadukoo.view.components;
 
 import com.github.tadukoo.view.border.ShapedLineBorder;
+import com.github.tadukoo.view.components.interfaces.Shaped;
+import com.github.tadukoo.view.components.interfaces.paint.HasSizablePaints;
 import com.github.tadukoo.view.font.FontFamilies;
 import com.github.tadukoo.view.font.FontFamily;
 import com.github.tadukoo.view.paint.SizableColor;
@@ -17,10 +19,14 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontFormatException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TadukooLabelTest{
@@ -99,6 +105,12 @@ public class TadukooLabelTest{
 		assertEquals(fontSize, font.getSize());
 	}
 	
+	@Test
+	public void testBuilderFontShared() throws IOException, FontFormatException{
+		TadukooLabel other = TadukooLabel.builder().font(fontFamily, fontStyle, fontSize).build();
+		assertSame(label.getFont(), other.getFont());
+	}
+	
 	@Test
 	public void testBuilderShapeInfo(){
 		assertEquals(shapeInfo, label.getShapeInfo());
@@ -125,6 +137,16 @@ public class TadukooLabelTest{
 		assertEquals(newPaint, label.getBackgroundPaint());
 	}
 	
+	@Test
+	public void testSetBackgroundPaintFiresPropertyChange(){
+		List<Object> newValues = new ArrayList<>();
+		label.addPropertyChangeListener(HasSizablePaints.BACKGROUND_PAINT_PROPERTY,
+				e -> newValues.add(e.getNewValue()));
+		SizableColor newPaint = new SizableColor(Color.DARK_GRAY);
+		label.setBackgroundPaint(newPaint);
+		assertEquals(List.of(newPaint), newValues);
+	}
+	
 	@Test
 	public void testSetDisabledForegroundPaint(){
 		assertEquals(disabledForegroundPaint, label.getDisabledForegroundPaint());
@@ -140,4 +162,39 @@ public class TadukooLabelTest{
 		label.setShapeInfo(newInfo);
 		assertEquals(newInfo, label.getShapeInfo());
 	}
+	
+	@Test
+	public void testSetShapeInfoFiresPropertyChange(){
+		List<Object> newValues = new ArrayList<>();
+		label.addPropertyChangeListener(Shaped.SHAPE_INFO_PROPERTY, e -> newValues.add(e.getNewValue()));
+		ShapeInfo newInfo = Shapes.ROUND_RECTANGLE.getShapeInfo();
+		label.setShapeInfo(newInfo);
+		assertEquals(List.of(newInfo), newValues);
+	}
+	
+	@Test
+	public void testContainsUsesShape(){
+		label.setSize(100, 50);
+		// Ellipse center is inside, corners are not
+		assertTrue(label.contains(50, 25));
+		assertFalse(label.contains(1, 1));
+		assertFalse(label.contains(98, 48));
+		assertFalse(label.contains(100, 25));
+	}
+	
+	@Test
+	public void testContainsWithoutShape(){
+		label.setShapeInfo(null);
+		label.setSize(100, 50);
+		assertTrue(label.contains(1, 1));
+		assertFalse(label.contains(-1, 1));
+	}
+	
+	@Test
+	public void testContainsAfterShapeChange(){
+		label.setSize(100, 50);
+		assertFalse(label.contains(1, 1));
+		label.setShapeInfo(Shapes.RECTANGLE.getShapeInfo());
+		assertTrue(label.contains(1, 1));
+	}
 }
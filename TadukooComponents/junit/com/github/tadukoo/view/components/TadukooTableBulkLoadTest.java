@@ -0,0 +1,55 @@
+package com.github.tadukoo.view.components;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import com.github.tadukoo.view.components.table.PojoTableModel;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.TableModelEvent;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests loading data into a {@link TadukooTable} with a single event, rather than adding each column and row to the
+ * table model one at a time (firing an event for each, which the attached JTable has to handle).
+ */
+public class TadukooTableBulkLoadTest{
+	private final List<String> keys = ListUtil.createList("ID", "Name", "Value");
+	
+	/**
+	 * Creates a list of the given size whose pojos are made as they're asked for
+	 */
+	private List<OrderedMappedPojo> createData(int size){
+		return new AbstractList<>(){
+			@Override
+			public OrderedMappedPojo get(int index){
+				OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keys);
+				pojo.setItem("ID", index);
+				pojo.setItem("Name", "Row");
+				pojo.setItem("Value", index % 100);
+				return pojo;
+			}
+			
+			@Override
+			public int size(){
+				return size;
+			}
+		};
+	}
+	
+	@Test
+	public void testSetTableDataSingleEvent(){
+		TadukooTable table = TadukooTable.builder().keyOrder(keys).build();
+		List<TableModelEvent> events = new ArrayList<>();
+		table.getTableModel().addTableModelListener(events::add);
+		table.setTableData(createData(100));
+		assertEquals(1, events.size());
+		assertEquals(TableModelEvent.HEADER_ROW, events.get(0).getFirstRow());
+		assertEquals(100, table.getTable().getRowCount());
+		assertEquals(3, table.getTable().getColumnCount());
+		assertEquals(42, table.getTable().getValueAt(42, 0));
+	}
+}
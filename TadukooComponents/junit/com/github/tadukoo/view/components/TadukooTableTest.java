@@ -3,14 +3,30 @@ package com.github.tadukoo.view.components;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.pojo.AbstractOrderedMappedPojo;
 import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import com.github.tadukoo.view.components.table.ColumnType;
+import com.github.tadukoo.view.components.table.ColumnarTableModel;
+import com.github.tadukoo.view.components.table.GeneratedRowSource;
+import com.github.tadukoo.view.components.table.ListRowSource;
+import com.github.tadukoo.view.components.table.PagingTableModel;
+import com.github.tadukoo.view.components.table.PojoTableModel;
+import com.github.tadukoo.view.components.table.RowSource;
+import com.github.tadukoo.view.components.table.TableChangeSet;
+import com.github.tadukoo.view.components.table.TableModelType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.swing.table.DefaultTableModel;
+import java.awt.Point;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class TadukooTableTest{
 	private TadukooTable table = TadukooTable.builder().build();
@@ -121,6 +137,42 @@ public class TadukooTableTest{
 		assertEquals(data, table.updatePojos(data));
 	}
 	
+	@Test
+	public void testUpdatePojosEditedCell(){
+		table = TadukooTable.builder().data(data).build();
+		table.getTable().setValueAt(42, 1, 0);
+		assertTrue(table.getChangeTracker().hasChanges());
+		assertSame(data, table.updatePojos(data));
+		assertEquals(42, data.get(1).getItem("Test"));
+		assertEquals(testValue, data.get(0).getItem("Test"));
+		assertFalse(table.getChangeTracker().hasChanges());
+	}
+	
+	@Test
+	public void testApplyChanges(){
+		table = TadukooTable.builder().data(data).build();
+		OrderedMappedPojo first = data.get(0);
+		table.getTable().setValueAt("Edited", 1, 1);
+		((DefaultTableModel) table.getTableModel()).removeRow(0);
+		table.addEmptyRow();
+		TableChangeSet changeSet = table.applyChanges(data);
+		assertSame(data, changeSet.getData());
+		assertEquals(2, data.size());
+		assertEquals("Edited", data.get(0).getItem("Derp"));
+		assertEquals(List.of(data.get(0)), changeSet.getUpdatedPojos());
+		assertEquals(List.of(data.get(1)), changeSet.getInsertedPojos());
+		assertEquals(List.of(first), changeSet.getRemovedPojos());
+	}
+	
+	@Test
+	public void testSetTableDataResetsChanges(){
+		table = TadukooTable.builder().data(data).build();
+		table.getTable().setValueAt(42, 1, 0);
+		table.setTableData(data);
+		assertFalse(table.getChangeTracker().hasChanges());
+		assertTrue(table.applyChanges(data).isEmpty());
+	}
+	
 	@Test
 	public void testAddEmptyRow(){
 		table.addEmptyRow();
@@ -144,4 +196,198 @@ public class TadukooTableTest{
 		assertEquals(testValue, table.getTable().getValueAt(2, 1));
 		assertNull(table.getTable().getValueAt(2, 2));
 	}
+	
+	@Test
+	public void testDefaultTableModelType(){
+		assertEquals(TableModelType.DEFAULT, table.getTableModelType());
+		assertTrue(table.getTableModel() instanceof DefaultTableModel);
+	}
+	
+	@Test
+	public void testPojoTableModelType(){
+		table = TadukooTable.builder().keyOrder(keyOrder).data(data).tableModelType(TableModelType.POJO).build();
+		assertEquals(TableModelType.POJO, table.getTableModelType());
+		assertTrue(table.getTableModel() instanceof PojoTableModel);
+		assertSame(data, ((PojoTableModel) table.getTableModel()).getData());
+		assertEquals(keyOrder.size(), table.getTable().getColumnCount());
+		assertEquals(data.size(), table.getTable().getRowCount());
+		assertEquals(derpValue, table.getTable().getValueAt(0, 1));
+	}
+	
+	@Test
+	public void testPojoSetTableDataNullKeys(){
+		table = TadukooTable.builder().tableModelType(TableModelType.POJO).build();
+		table.setTableData(data);
+		assertEquals(keyOrder2.size(), table.getTable().getColumnCount());
+		assertEquals(data.size(), table.getTable().getRowCount());
+	}
+	
+	@Test
+	public void testPojoSetTableDataNulls(){
+		table = TadukooTable.builder().tableModelType(TableModelType.POJO).build();
+		table.setTableData(null);
+		assertEquals(0, table.getTable().getColumnCount());
+		assertEquals(0, table.getTable().getRowCount());
+	}
+	
+	@Test
+	public void testPojoUpdatePojosInPlace(){
+		table = TadukooTable.builder().data(data).tableModelType(TableModelType.POJO).build();
+		table.getTable().setValueAt(42, 1, 0);
+		assertEquals(42, data.get(1).getItem("Test"));
+		assertSame(data, table.updatePojos(data));
+		assertSame(data, table.updatePojos(null));
+	}
+	
+	@Test
+	public void testPojoApplyChanges(){
+		table = TadukooTable.builder().data(data).tableModelType(TableModelType.POJO).build();
+		table.getTable().setValueAt(42, 1, 0);
+		TableChangeSet changeSet = table.applyChanges(data);
+		assertSame(data, changeSet.getData());
+		assertEquals(List.of(data.get(1)), changeSet.getUpdatedPojos());
+		assertEquals(Set.of("Test"), changeSet.getChangedKeys(data.get(1)));
+	}
+	
+	@Test
+	public void testPojoUpdatePojosOtherList(){
+		table = TadukooTable.builder().data(data).tableModelType(TableModelType.POJO).build();
+		List<OrderedMappedPojo> result = table.updatePojos(new ArrayList<>());
+		assertEquals(2, result.size());
+		assertEquals(testValue, result.get(0).getItem("Test"));
+		assertEquals(derpValue, result.get(1).getItem("Derp"));
+	}
+	
+	@Test
+	public void testPojoAddEmptyRow(){
+		table = TadukooTable.builder().keyOrder(keyOrder).tableModelType(TableModelType.POJO).build();
+		table.addEmptyRow();
+		assertEquals(1, table.getTable().getRowCount());
+		assertEquals(1, table.updatePojos(null).size());
+	}
+	
+	@Test
+	public void testPojoAddRow(){
+		table = TadukooTable.builder().data(data).tableModelType(TableModelType.POJO).build();
+		OrderedMappedPojo newPojo = new AbstractOrderedMappedPojo(){
+			@Override
+			public List<String> getKeyOrder(){
+				return keyOrder2;
+			}
+		};
+		newPojo.setItem("Test", derpValue);
+		table.addRow(newPojo);
+		assertEquals(3, table.getTable().getRowCount());
+		assertSame(newPojo, data.get(2));
+		assertEquals(derpValue, table.getTable().getValueAt(2, 0));
+	}
+	
+	@Test
+	public void testColumnarTableModelType(){
+		table = TadukooTable.builder().keyOrder(keyOrder2).data(data).tableModelType(TableModelType.COLUMNAR).build();
+		assertEquals(TableModelType.COLUMNAR, table.getTableModelType());
+		assertTrue(table.getTableModel() instanceof ColumnarTableModel);
+		ColumnarTableModel model = (ColumnarTableModel) table.getTableModel();
+		assertEquals(ColumnType.INT, model.getColumnType(0));
+		assertEquals(ColumnType.STRING, model.getColumnType(1));
+		assertEquals(ColumnType.OBJECT, model.getColumnType(2));
+		assertEquals(data.size(), table.getTable().getRowCount());
+		assertEquals(testValue, table.getTable().getValueAt(0, 0));
+		assertEquals(plopValue, table.getTable().getValueAt(0, 2));
+	}
+	
+	@Test
+	public void testColumnarUpdatePojos(){
+		table = TadukooTable.builder().data(data).tableModelType(TableModelType.COLUMNAR).build();
+		table.getTable().setValueAt(42, 1, 0);
+		assertSame(data, table.updatePojos(data));
+		assertEquals(42, data.get(1).getItem("Test"));
+	}
+	
+	@Test
+	public void testColumnarAddRows(){
+		table = TadukooTable.builder().keyOrder(keyOrder).data(data).tableModelType(TableModelType.COLUMNAR).build();
+		table.addEmptyRow();
+		table.addRow(data.get(0));
+		assertEquals(4, table.getTable().getRowCount());
+		assertNull(table.getTable().getValueAt(2, 0));
+		assertEquals(derpValue, table.getTable().getValueAt(3, 1));
+		List<OrderedMappedPojo> result = table.updatePojos(data);
+		assertEquals(4, result.size());
+		assertEquals(testValue, result.get(3).getItem("Test"));
+	}
+	
+	@Test
+	public void testPagingTableModelType(){
+		RowSource source = new ListRowSource(keyOrder, data);
+		table = TadukooTable.builder().tableModelType(TableModelType.PAGING).rowSource(source).build();
+		assertEquals(TableModelType.PAGING, table.getTableModelType());
+		assertTrue(table.getTableModel() instanceof PagingTableModel);
+		assertSame(source, ((PagingTableModel) table.getTableModel()).getRowSource());
+		assertEquals(data.size(), table.getTable().getRowCount());
+		assertEquals(keyOrder.size(), table.getTable().getColumnCount());
+	}
+	
+	@Test
+	public void testDataAndRowSource(){
+		try{
+			TadukooTable.builder().data(data).tableModelType(TableModelType.PAGING)
+					.rowSource(new ListRowSource(keyOrder, data)).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't set both data and a row source!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testPagingOverData(){
+		table = TadukooTable.builder().data(data).tableModelType(TableModelType.PAGING).build();
+		assertEquals(data.size(), table.getTable().getRowCount());
+		assertEquals(keyOrder2.size(), table.getTable().getColumnCount());
+		assertSame(data, table.updatePojos(data));
+		assertTrue(table.applyChanges(data).isEmpty());
+	}
+	
+	@Test
+	public void testPagingAddRow(){
+		table = TadukooTable.builder().data(data).tableModelType(TableModelType.PAGING).build();
+		try{
+			table.addRow(data.get(0));
+			fail();
+		}catch(UnsupportedOperationException e){
+			assertEquals("Rows can't be added to a paging table!", e.getMessage());
+		}
+		try{
+			table.addEmptyRow();
+			fail();
+		}catch(UnsupportedOperationException e){
+			assertEquals("Rows can't be added to a paging table!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testPagingPrefetchesViewport() throws InterruptedException{
+		List<String> keys = ListUtil.createList("ID");
+		table = TadukooTable.builder().tableModelType(TableModelType.PAGING)
+				.rowSource(new GeneratedRowSource(keys, 100000, row -> {
+					OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keys);
+					pojo.setItem("ID", row);
+					return pojo;
+				})).build();
+		PagingTableModel model = (PagingTableModel) table.getTableModel();
+		table.setSize(200, 200);
+		table.doLayout();
+		int rowHeight = table.getTable().getRowHeight();
+		table.getViewport().setViewPosition(new Point(0, rowHeight * 50000));
+		
+		// The visible rows and the pages around them get loaded in the background
+		int nextPageRow = 50000 + PagingTableModel.DEFAULT_PAGE_SIZE;
+		for(int i = 0; i < 500 && !(model.isRowLoaded(50000) && model.isRowLoaded(nextPageRow)); i++){
+			Thread.sleep(10);
+		}
+		assertTrue(model.isRowLoaded(50000));
+		assertTrue(model.isRowLoaded(nextPageRow));
+		assertEquals(50000, model.getValueAt(50000, 0));
+		assertFalse(model.isRowLoaded(90000));
+	}
 }
@@ -0,0 +1,219 @@
+package com.github.tadukoo.view.components.table;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ColumnStorageTest{
+	/** Enough rows to need more than one chunk */
+	private static final int ROWS = 10000;
+	
+	@Test
+	public void testIntStorage(){
+		IntColumnStorage storage = new IntColumnStorage();
+		for(int row = 0; row < ROWS; row++){
+			storage.addInt(row * 2);
+		}
+		assertEquals(ROWS, storage.size());
+		assertEquals(9998, storage.getInt(4999));
+		assertEquals(9998, storage.get(4999));
+		storage.setInt(4999, -1);
+		assertEquals(-1, storage.get(4999));
+	}
+	
+	@Test
+	public void testLongStorage(){
+		LongColumnStorage storage = new LongColumnStorage();
+		storage.add(5L);
+		storage.addLong(Long.MAX_VALUE);
+		assertEquals(5L, storage.getLong(0));
+		assertEquals(Long.MAX_VALUE, storage.get(1));
+	}
+	
+	@Test
+	public void testDoubleStorage(){
+		DoubleColumnStorage storage = new DoubleColumnStorage();
+		storage.add(2.5);
+		storage.setDouble(0, 3.5);
+		assertEquals(3.5, storage.getDouble(0));
+		assertEquals(3.5, storage.get(0));
+	}
+	
+	@Test
+	public void testNulls(){
+		IntColumnStorage storage = new IntColumnStorage();
+		storage.add(null);
+		storage.add(5);
+		assertTrue(storage.isNull(0));
+		assertNull(storage.get(0));
+		assertEquals(0, storage.getInt(0));
+		assertFalse(storage.isNull(1));
+		storage.setInt(0, 3);
+		assertEquals(3, storage.get(0));
+		storage.set(1, null);
+		assertNull(storage.get(1));
+	}
+	
+	@Test
+	public void testSetWrongType(){
+		IntColumnStorage storage = new IntColumnStorage();
+		storage.add(5);
+		try{
+			storage.set(0, "Test");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't store a String in a INT column", e.getMessage());
+		}
+		assertEquals(5, storage.get(0));
+	}
+	
+	@Test
+	public void testAddWrongType(){
+		IntColumnStorage storage = new IntColumnStorage();
+		try{
+			storage.add(5L);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals(0, storage.size());
+		}
+	}
+	
+	@Test
+	public void testGetOutOfBounds(){
+		IntColumnStorage storage = new IntColumnStorage();
+		storage.add(5);
+		try{
+			storage.get(1);
+			fail();
+		}catch(IndexOutOfBoundsException e){
+			assertEquals(1, storage.size());
+		}
+	}
+	
+	@Test
+	public void testAppendAllAcrossChunks(){
+		IntColumnStorage storage = new IntColumnStorage();
+		storage.addInt(-1);
+		int[] values = new int[ROWS];
+		for(int i = 0; i < ROWS; i++){
+			values[i] = i;
+		}
+		storage.appendArray(values);
+		storage.appendAll(values, 100, 5);
+		assertEquals(ROWS + 6, storage.size());
+		assertEquals(-1, storage.getInt(0));
+		assertEquals(4095, storage.getInt(4096));
+		assertEquals(ROWS - 1, storage.getInt(ROWS));
+		assertEquals(104, storage.getInt(ROWS + 5));
+	}
+	
+	@Test
+	public void testAppendObjectArray(){
+		DoubleColumnStorage storage = new DoubleColumnStorage();
+		assertTrue(storage.acceptsArray(new Double[]{1.0, null}));
+		assertFalse(storage.acceptsArray(new Object[]{1}));
+		assertFalse(storage.acceptsArray(new int[]{1}));
+		storage.appendArray(new Double[]{1.0, null});
+		assertEquals(1.0, storage.get(0));
+		assertNull(storage.get(1));
+		try{
+			storage.appendArray(new int[]{1});
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't append a int[] to a DOUBLE column", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testStringStorage(){
+		StringColumnStorage storage = new StringColumnStorage();
+		storage.appendArray(new String[]{"Yes", "No", "Yes", null, "Yes"});
+		assertEquals(5, storage.size());
+		assertEquals(2, storage.getDictionarySize());
+		assertEquals("No", storage.get(1));
+		assertEquals(0, storage.getCode(4));
+		assertEquals(-1, storage.getCode(3));
+		assertNull(storage.get(3));
+		storage.set(3, "No");
+		assertEquals("No", storage.get(3));
+		assertEquals(2, storage.getDictionarySize());
+	}
+	
+	@Test
+	public void testObjectStorage(){
+		ObjectColumnStorage storage = new ObjectColumnStorage();
+		Object value = new Object();
+		storage.appendArray(new Object[]{value, null, 5});
+		storage.appendArray(new int[]{7});
+		assertEquals(value, storage.get(0));
+		assertTrue(storage.isNull(1));
+		assertEquals(5, storage.get(2));
+		assertEquals(7, storage.get(3));
+	}
+	
+	@Test
+	public void testRemove(){
+		IntColumnStorage storage = new IntColumnStorage();
+		for(int row = 0; row < ROWS; row++){
+			storage.add(row % 3 == 0?null:row);
+		}
+		storage.remove(1);
+		assertEquals(ROWS - 1, storage.size());
+		assertNull(storage.get(0));
+		assertEquals(2, storage.get(1));
+		assertNull(storage.get(2));
+		assertEquals(ROWS - 2, storage.get(ROWS - 3));
+		assertTrue(storage.isNull(ROWS - 2));
+		storage.addInt(42);
+		assertEquals(42, storage.get(ROWS - 1));
+	}
+	
+	@Test
+	public void testToObjectStorage(){
+		IntColumnStorage storage = new IntColumnStorage();
+		storage.add(5);
+		storage.add(null);
+		ColumnStorage objects = storage.toObjectStorage();
+		assertEquals(ColumnType.OBJECT, objects.getType());
+		assertEquals(5, objects.get(0));
+		assertTrue(objects.isNull(1));
+		objects.add("Test");
+		assertEquals("Test", objects.get(2));
+	}
+	
+	@Test
+	public void testSortedRows(){
+		IntColumnStorage ints = new IntColumnStorage();
+		ints.appendArray(new Integer[]{3, null, 1, 3, 2});
+		assertArrayEquals(new int[]{1, 2, 4, 0, 3}, ints.getSortedRows());
+		
+		StringColumnStorage strings = new StringColumnStorage();
+		strings.appendArray(new String[]{"b", "a", "c", "a"});
+		assertArrayEquals(new int[]{1, 3, 0, 2}, strings.getSortedRows());
+		
+		ObjectColumnStorage objects = new ObjectColumnStorage();
+		objects.appendArray(new Object[]{2.5f, 1.5f, null});
+		assertArrayEquals(new int[]{2, 1, 0}, objects.getSortedRows());
+	}
+	
+	@Test
+	public void testSortedRowsMixedClasses(){
+		ObjectColumnStorage objects = new ObjectColumnStorage();
+		objects.appendArray(new Object[]{10, "9", 2, "10", 9});
+		
+		// Integers come before Strings, as the classes are ordered by name first
+		assertArrayEquals(new int[]{2, 4, 0, 3, 1}, objects.getSortedRows());
+		
+		// The order is consistent for every pair of rows
+		for(int a = 0; a < objects.size(); a++){
+			for(int b = 0; b < objects.size(); b++){
+				assertEquals(Integer.signum(objects.compareRows(a, b)), -Integer.signum(objects.compareRows(b, a)));
+			}
+		}
+	}
+}
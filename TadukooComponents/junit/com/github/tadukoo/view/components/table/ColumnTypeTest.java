@@ -0,0 +1,47 @@
+package com.github.tadukoo.view.components.table;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnTypeTest{
+	
+	@Test
+	public void testValueClasses(){
+		assertEquals(Integer.class, ColumnType.INT.getValueClass());
+		assertEquals(Long.class, ColumnType.LONG.getValueClass());
+		assertEquals(Double.class, ColumnType.DOUBLE.getValueClass());
+		assertEquals(String.class, ColumnType.STRING.getValueClass());
+		assertEquals(Object.class, ColumnType.OBJECT.getValueClass());
+	}
+	
+	@Test
+	public void testOf(){
+		assertEquals(ColumnType.INT, ColumnType.of(5));
+		assertEquals(ColumnType.LONG, ColumnType.of(5L));
+		assertEquals(ColumnType.DOUBLE, ColumnType.of(2.5));
+		assertEquals(ColumnType.STRING, ColumnType.of("Test"));
+		assertEquals(ColumnType.OBJECT, ColumnType.of(2.5f));
+		assertEquals(ColumnType.OBJECT, ColumnType.of((short) 5));
+		assertEquals(ColumnType.OBJECT, ColumnType.of(null));
+	}
+	
+	@Test
+	public void testAccepts(){
+		assertTrue(ColumnType.INT.accepts(5));
+		assertTrue(ColumnType.INT.accepts(null));
+		assertFalse(ColumnType.INT.accepts(5L));
+		assertFalse(ColumnType.DOUBLE.accepts(5));
+		assertFalse(ColumnType.STRING.accepts(5));
+		assertTrue(ColumnType.OBJECT.accepts(5));
+	}
+	
+	@Test
+	public void testCreateStorage(){
+		for(ColumnType type: ColumnType.values()){
+			assertEquals(type, type.createStorage().getType());
+		}
+	}
+}
@@ -0,0 +1,292 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ColumnarTableModelTest{
+	private final List<String> keyOrder = ListUtil.createList("ID", "Name", "Value", "Other");
+	private final List<OrderedMappedPojo> data = new ArrayList<>();
+	private final List<TableModelEvent> events = new ArrayList<>();
+	private ColumnarTableModel model;
+	
+	private OrderedMappedPojo createPojo(Integer id, String name, Double value){
+		OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keyOrder);
+		pojo.setItem("ID", id);
+		pojo.setItem("Name", name);
+		pojo.setItem("Value", value);
+		return pojo;
+	}
+	
+	@BeforeEach
+	public void setup(){
+		data.add(createPojo(null, "First", 1.5));
+		data.add(createPojo(2, "Second", null));
+		data.add(createPojo(1, "First", 0.5));
+		model = new ColumnarTableModel(keyOrder, data);
+		model.addTableModelListener(events::add);
+	}
+	
+	@Test
+	public void testEmpty(){
+		model = new ColumnarTableModel();
+		assertEquals(0, model.getRowCount());
+		assertEquals(0, model.getColumnCount());
+		assertTrue(model.getColumnKeys().isEmpty());
+	}
+	
+	@Test
+	public void testColumnTypes(){
+		assertEquals(ColumnType.INT, model.getColumnType(0));
+		assertEquals(ColumnType.STRING, model.getColumnType(1));
+		assertEquals(ColumnType.DOUBLE, model.getColumnType(2));
+		assertEquals(ColumnType.OBJECT, model.getColumnType(3));
+		assertEquals(Integer.class, model.getColumnClass(0));
+		assertEquals(Object.class, model.getColumnClass(3));
+	}
+	
+	@Test
+	public void testGivenColumnTypes(){
+		model = new ColumnarTableModel(ListUtil.createList("A", "B"), ColumnType.LONG, ColumnType.STRING);
+		assertEquals(0, model.getRowCount());
+		assertEquals(ColumnType.LONG, model.getColumnType(0));
+		assertEquals(ColumnType.STRING, model.getColumnType(1));
+	}
+	
+	@Test
+	public void testWrongNumberOfColumnTypes(){
+		try{
+			model = new ColumnarTableModel(ListUtil.createList("A", "B"), ColumnType.LONG);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Expected 2 column types, but got 1", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetValueAt(){
+		assertEquals(3, model.getRowCount());
+		assertEquals(4, model.getColumnCount());
+		assertNull(model.getValueAt(0, 0));
+		assertEquals("First", model.getValueAt(0, 1));
+		assertEquals(1.5, model.getValueAt(0, 2));
+		assertEquals(2, model.getValueAt(1, 0));
+		assertNull(model.getValueAt(1, 2));
+		assertNull(model.getValueAt(2, 3));
+	}
+	
+	@Test
+	public void testPrimitiveAccess(){
+		assertEquals(1, ((IntColumnStorage) model.getColumn(0)).getInt(2));
+		assertEquals(0.5, ((DoubleColumnStorage) model.getColumn(2)).getDouble(2));
+		assertEquals(2, ((StringColumnStorage) model.getColumn(1)).getDictionarySize());
+	}
+	
+	@Test
+	public void testFindColumn(){
+		assertEquals(2, model.findColumn("Value"));
+		assertEquals(-1, model.findColumn("Plop"));
+	}
+	
+	@Test
+	public void testSetValueAt(){
+		model.setValueAt(7, 0, 0);
+		assertEquals(7, model.getValueAt(0, 0));
+		assertEquals(1, events.size());
+		assertEquals(0, events.get(0).getFirstRow());
+		assertEquals(0, events.get(0).getColumn());
+	}
+	
+	@Test
+	public void testSetValueAtWidensColumn(){
+		model.setValueAt("Seven", 0, 0);
+		assertEquals(ColumnType.OBJECT, model.getColumnType(0));
+		assertEquals("Seven", model.getValueAt(0, 0));
+		assertEquals(2, model.getValueAt(1, 0));
+		
+		// The column class changed, so the structure changed event follows the cell's event
+		assertEquals(Object.class, model.getColumnClass(0));
+		assertEquals(2, events.size());
+		assertEquals(0, events.get(0).getFirstRow());
+		assertEquals(TableModelEvent.HEADER_ROW, events.get(1).getFirstRow());
+		
+		// Already converted, so there's no structure changed event this time
+		model.setValueAt("Eight", 1, 0);
+		assertEquals(3, events.size());
+		assertEquals(1, events.get(2).getFirstRow());
+	}
+	
+	@Test
+	public void testAddRowWidensColumn(){
+		OrderedMappedPojo pojo = createPojo(null, "Fourth", 4.0);
+		pojo.setItem("ID", 4L);
+		model.addRow(pojo);
+		assertEquals(ColumnType.OBJECT, model.getColumnType(0));
+		assertEquals(2, events.size());
+		assertEquals(TableModelEvent.INSERT, events.get(0).getType());
+		assertEquals(TableModelEvent.HEADER_ROW, events.get(1).getFirstRow());
+	}
+	
+	@Test
+	public void testMixedValuesWidenColumn(){
+		data.add(createPojo(3, "Third", null));
+		data.get(3).setItem("ID", 3L);
+		model.setData(keyOrder, data);
+		assertEquals(ColumnType.OBJECT, model.getColumnType(0));
+		assertEquals(3L, model.getValueAt(3, 0));
+		assertEquals(1, model.getValueAt(2, 0));
+	}
+	
+	@Test
+	public void testSetData(){
+		data.get(0).setItem("Name", 1);
+		model.setData(ListUtil.createList("Name"), data);
+		assertEquals(ColumnType.OBJECT, model.getColumnType(0));
+		assertEquals(1, model.getColumnCount());
+		assertEquals(3, model.getRowCount());
+		assertEquals(1, events.size());
+		assertEquals(TableModelEvent.HEADER_ROW, events.get(0).getFirstRow());
+	}
+	
+	@Test
+	public void testAddRow(){
+		model.addRow(createPojo(4, "Fourth", 4.0));
+		assertEquals(4, model.getRowCount());
+		assertEquals("Fourth", model.getValueAt(3, 1));
+		assertEquals(TableModelEvent.INSERT, events.get(0).getType());
+		assertEquals(3, events.get(0).getFirstRow());
+	}
+	
+	@Test
+	public void testAddRows(){
+		model.addRows(ListUtil.createList(createPojo(4, "Fourth", 4.0), createPojo(5, "Fifth", 5.0)));
+		assertEquals(5, model.getRowCount());
+		assertEquals(1, events.size());
+		assertEquals(3, events.get(0).getFirstRow());
+		assertEquals(4, events.get(0).getLastRow());
+	}
+	
+	@Test
+	public void testAddEmptyRow(){
+		model.addEmptyRow();
+		assertEquals(4, model.getRowCount());
+		assertNull(model.getValueAt(3, 0));
+		assertNull(model.getValueAt(3, 1));
+	}
+	
+	@Test
+	public void testAppendColumns(){
+		model.appendColumns(new int[]{4, 5}, new String[]{"Fourth", "Second"}, new double[]{4.0, 5.0},
+				new Object[]{true, null});
+		assertEquals(5, model.getRowCount());
+		assertEquals(5, model.getValueAt(4, 0));
+		assertEquals("Second", model.getValueAt(4, 1));
+		assertEquals(4.0, model.getValueAt(3, 2));
+		assertEquals(true, model.getValueAt(3, 3));
+		assertEquals(ColumnType.INT, model.getColumnType(0));
+		assertEquals(1, events.size());
+		assertEquals(3, events.get(0).getFirstRow());
+		assertEquals(4, events.get(0).getLastRow());
+	}
+	
+	@Test
+	public void testAppendColumnsWidens(){
+		model.appendColumns(new long[]{4L}, new String[]{"Fourth"}, new double[]{4.0}, new Object[]{null});
+		assertEquals(ColumnType.OBJECT, model.getColumnType(0));
+		assertEquals(4L, model.getValueAt(3, 0));
+		assertEquals(2, model.getValueAt(1, 0));
+		assertEquals(2, events.size());
+		assertEquals(TableModelEvent.HEADER_ROW, events.get(1).getFirstRow());
+	}
+	
+	@Test
+	public void testAppendColumnsWrongCount(){
+		try{
+			model.appendColumns(new int[]{4});
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Expected values for 4 columns, but got 1", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAppendColumnsDifferentLengths(){
+		try{
+			model.appendColumns(new int[]{4}, new String[]{"Fourth"}, new double[]{4.0, 5.0}, new Object[]{null});
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("All the columns must have the same number of values", e.getMessage());
+		}
+		assertEquals(3, model.getRowCount());
+	}
+	
+	@Test
+	public void testRemoveRow(){
+		model.removeRow(0);
+		assertEquals(2, model.getRowCount());
+		assertEquals(2, model.getValueAt(0, 0));
+		assertEquals("First", model.getValueAt(1, 1));
+		assertEquals(TableModelEvent.DELETE, events.get(0).getType());
+	}
+	
+	@Test
+	public void testGetSortedRows(){
+		assertArrayEquals(new int[]{0, 2, 1}, model.getSortedRows(0));
+		assertArrayEquals(new int[]{0, 2, 1}, model.getSortedRows(1));
+		assertArrayEquals(new int[]{1, 2, 0}, model.getSortedRows(2));
+	}
+	
+	@Test
+	public void testAppendColumnsMatchesDefaultTableModel(){
+		// Enough rows to need more than one chunk
+		int rows = ColumnStorage.CHUNK_SIZE * 2 + 1;
+		String[] statuses = {"OK", "WARN", "ERROR"};
+		
+		DefaultTableModel defaultModel = new DefaultTableModel(new Object[]{"ID", "Time", "Value", "Status"}, 0);
+		for(int row = 0; row < rows; row++){
+			defaultModel.addRow(new Object[]{row, 1000000000000L + row, row * 0.5, statuses[row % 3]});
+		}
+		
+		ColumnarTableModel columnarModel = new ColumnarTableModel(ListUtil.createList("ID", "Time", "Value", "Status"),
+				ColumnType.INT, ColumnType.LONG, ColumnType.DOUBLE, ColumnType.STRING);
+		int[] ids = new int[rows];
+		long[] times = new long[rows];
+		double[] values = new double[rows];
+		String[] rowStatuses = new String[rows];
+		for(int row = 0; row < rows; row++){
+			ids[row] = row;
+			times[row] = 1000000000000L + row;
+			values[row] = row * 0.5;
+			rowStatuses[row] = statuses[row % 3];
+		}
+		columnarModel.appendColumns(ids, times, values, rowStatuses);
+		
+		assertEquals(defaultModel.getRowCount(), columnarModel.getRowCount());
+		for(int row = 0; row < rows; row++){
+			for(int col = 0; col < 4; col++){
+				assertEquals(defaultModel.getValueAt(row, col), columnarModel.getValueAt(row, col));
+			}
+		}
+		
+		// Sorting by status keeps rows with the same status in order ("ERROR", then "OK", then "WARN")
+		int[] sorted = columnarModel.getSortedRows(3);
+		int index = 0;
+		for(int remainder: new int[]{2, 0, 1}){
+			for(int row = remainder; row < rows; row += 3){
+				assertEquals(row, sorted[index++]);
+			}
+		}
+	}
+}
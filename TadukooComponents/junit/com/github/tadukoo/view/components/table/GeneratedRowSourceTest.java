@@ -0,0 +1,39 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GeneratedRowSourceTest{
+	private final List<String> keys = ListUtil.createList("ID");
+	private final GeneratedRowSource source = new GeneratedRowSource(keys, 25, row -> {
+		OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keys);
+		pojo.setItem("ID", row);
+		return pojo;
+	});
+	
+	@Test
+	public void testSettings(){
+		assertEquals(keys, source.getColumnKeys());
+		assertEquals(25, source.getRowCount());
+	}
+	
+	@Test
+	public void testGetRows(){
+		List<OrderedMappedPojo> rows = source.getRows(10, 5);
+		assertEquals(5, rows.size());
+		assertEquals(10, rows.get(0).getItem("ID"));
+		assertEquals(14, rows.get(4).getItem("ID"));
+	}
+	
+	@Test
+	public void testGetRowsPastEnd(){
+		assertEquals(5, source.getRows(20, 10).size());
+		assertTrue(source.getRows(30, 10).isEmpty());
+	}
+}
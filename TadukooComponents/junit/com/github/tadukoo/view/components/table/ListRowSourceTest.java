@@ -0,0 +1,49 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ListRowSourceTest{
+	
+	@Test
+	public void testNulls(){
+		ListRowSource source = new ListRowSource(null, null);
+		assertTrue(source.getColumnKeys().isEmpty());
+		assertEquals(0, source.getRowCount());
+	}
+	
+	@Test
+	public void testGetRows(){
+		List<String> keys = ListUtil.createList("ID");
+		List<OrderedMappedPojo> rows = new ArrayList<>();
+		for(int i = 0; i < 5; i++){
+			rows.add(PojoTableModel.createEmptyPojo(keys));
+		}
+		ListRowSource source = new ListRowSource(keys, rows);
+		assertSame(keys, source.getColumnKeys());
+		assertEquals(5, source.getRowCount());
+		assertEquals(List.of(rows.get(3), rows.get(4)), source.getRows(3, 10));
+	}
+	
+	@Test
+	public void testPagesAreCopies(){
+		List<String> keys = ListUtil.createList("ID");
+		List<OrderedMappedPojo> rows = new ArrayList<>();
+		for(int i = 0; i < 5; i++){
+			rows.add(PojoTableModel.createEmptyPojo(keys));
+		}
+		ListRowSource source = new ListRowSource(keys, rows);
+		List<OrderedMappedPojo> page = source.getRows(0, 2);
+		OrderedMappedPojo first = rows.get(0);
+		rows.remove(0);
+		assertEquals(List.of(first, rows.get(0)), page);
+	}
+}
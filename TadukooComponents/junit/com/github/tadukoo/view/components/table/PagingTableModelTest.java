@@ -0,0 +1,279 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class PagingTableModelTest{
+	private static final int ROWS = 1000;
+	private static final int PAGE_SIZE = 10;
+	private final List<String> keys = ListUtil.createList("ID", "Square");
+	/** The pages that have been fetched from the source, by their first row */
+	private final List<Integer> fetchedRows = new ArrayList<>();
+	/** The page loads that have been queued, run by {@link #runLoads()} */
+	private final List<Runnable> loads = new ArrayList<>();
+	private final List<TableModelEvent> events = new ArrayList<>();
+	private RowSource source;
+	private PagingTableModel model;
+	
+	@BeforeEach
+	public void setup(){
+		source = new GeneratedRowSource(keys, ROWS, row -> {
+			OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keys);
+			pojo.setItem("ID", row);
+			pojo.setItem("Square", (long) row * row);
+			return pojo;
+		}){
+			@Override
+			public List<OrderedMappedPojo> getRows(int firstRow, int count){
+				fetchedRows.add(firstRow);
+				return super.getRows(firstRow, count);
+			}
+		};
+		model = new PagingTableModel(source, PAGE_SIZE, 4, 1, loads::add);
+		model.addTableModelListener(events::add);
+	}
+	
+	/**
+	 * Runs the queued page loads, then waits for their events to be fired on the Event Dispatch Thread
+	 */
+	private void runLoads() throws Exception{
+		while(!loads.isEmpty()){
+			loads.remove(0).run();
+		}
+		SwingUtilities.invokeAndWait(() -> {});
+	}
+	
+	@Test
+	public void testSettings(){
+		assertSame(source, model.getRowSource());
+		assertEquals(PAGE_SIZE, model.getPageSize());
+		assertEquals(1, model.getPrefetchPages());
+		assertEquals(4, model.getPageCache().getCapacity());
+		assertEquals(ROWS, model.getRowCount());
+		assertEquals(2, model.getColumnCount());
+		assertEquals("Square", model.getColumnName(1));
+		assertFalse(model.isCellEditable(0, 0));
+	}
+	
+	@Test
+	public void testBadSettings(){
+		try{
+			new PagingTableModel(source, 0, 4, 1, loads::add);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Page size must be positive!", e.getMessage());
+		}
+		try{
+			new PagingTableModel(source, 10, 0, 1, loads::add);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Number of cached pages must be positive!", e.getMessage());
+		}
+		try{
+			new PagingTableModel(source, 10, 4, -1, loads::add);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Number of pages to prefetch can't be negative!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testPlaceholderUntilLoaded() throws Exception{
+		assertSame(PagingTableModel.LOADING, model.getValueAt(25, 0));
+		assertEquals("Loading...", model.getValueAt(25, 1).toString());
+		assertFalse(model.isRowLoaded(25));
+		assertEquals(1, loads.size());
+		assertTrue(fetchedRows.isEmpty());
+		
+		runLoads();
+		assertEquals(List.of(20), fetchedRows);
+		assertTrue(model.isRowLoaded(25));
+		assertEquals(25, model.getValueAt(25, 0));
+		assertEquals(625L, model.getValueAt(25, 1));
+		assertEquals(1, events.size());
+		assertEquals(20, events.get(0).getFirstRow());
+		assertEquals(29, events.get(0).getLastRow());
+		assertEquals(TableModelEvent.UPDATE, events.get(0).getType());
+	}
+	
+	@Test
+	public void testPageOnlyRequestedOnce() throws Exception{
+		model.getValueAt(20, 0);
+		model.getValueAt(21, 1);
+		model.getValueAt(29, 0);
+		assertEquals(1, loads.size());
+		runLoads();
+		model.getValueAt(22, 0);
+		assertTrue(loads.isEmpty());
+	}
+	
+	@Test
+	public void testLastPartialPage() throws Exception{
+		model = new PagingTableModel(source, 300, 4, 0, loads::add);
+		model.getValueAt(999, 0);
+		runLoads();
+		assertEquals(999, model.getValueAt(999, 0));
+		assertEquals(List.of(900), fetchedRows);
+	}
+	
+	@Test
+	public void testLeastRecentlyUsedPagesEvicted() throws Exception{
+		for(int page = 0; page < 4; page++){
+			model.getValueAt(page * PAGE_SIZE, 0);
+		}
+		runLoads();
+		model.getValueAt(0, 0);
+		model.getValueAt(40, 0);
+		runLoads();
+		assertTrue(model.isRowLoaded(0));
+		assertFalse(model.isRowLoaded(10));
+		assertTrue(model.isRowLoaded(40));
+		assertEquals(4, model.getPageCache().size());
+		assertEquals(1, model.getPageCache().getEvictionCount());
+	}
+	
+	@Test
+	public void testPrefetch() throws Exception{
+		model.prefetch(25, 34);
+		runLoads();
+		assertEquals(List.of(20, 30, 40, 10), fetchedRows);
+		for(int row = 10; row < 50; row++){
+			assertTrue(model.isRowLoaded(row));
+		}
+		
+		// Already loaded pages aren't fetched again
+		model.prefetch(25, 34);
+		assertTrue(loads.isEmpty());
+	}
+	
+	@Test
+	public void testPrefetchEdges() throws Exception{
+		model.prefetch(-5, 3);
+		model.prefetch(995, 2000);
+		runLoads();
+		assertEquals(List.of(0, 10, 990, 980), fetchedRows);
+	}
+	
+	@Test
+	public void testLoadFailed() throws Exception{
+		IOException error = new IOException("Can't read");
+		model = new PagingTableModel(new ListRowSource(keys, null){
+			@Override
+			public int getRowCount(){
+				return 5;
+			}
+			
+			@Override
+			public List<OrderedMappedPojo> getRows(int firstRow, int count){
+				throw new IllegalStateException(error);
+			}
+		}, PAGE_SIZE, 4, 1, loads::add);
+		model.getValueAt(0, 0);
+		runLoads();
+		assertTrue(model.isRowLoaded(0));
+		assertSame(PagingTableModel.LOAD_FAILED, model.getValueAt(0, 0));
+		assertSame(error, model.getLoadError(0).getCause());
+		assertNull(model.getLoadError(20));
+	}
+	
+	@Test
+	public void testLoadFailedRetried() throws Exception{
+		IOException error = new IOException("Can't read");
+		int[] failures = {2};
+		model = new PagingTableModel(new GeneratedRowSource(keys, 5, row -> {
+			OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keys);
+			pojo.setItem("ID", row);
+			return pojo;
+		}){
+			@Override
+			public List<OrderedMappedPojo> getRows(int firstRow, int count){
+				if(failures[0]-- > 0){
+					throw new IllegalStateException(error);
+				}
+				return super.getRows(firstRow, count);
+			}
+		}, PAGE_SIZE, 4, 1, loads::add);
+		model.addTableModelListener(events::add);
+		model.getValueAt(0, 0);
+		runLoads();
+		assertEquals(0, model.getPageCache().size());
+		assertEquals(1, events.size());
+		
+		// Failing again doesn't fire another event
+		assertSame(PagingTableModel.LOAD_FAILED, model.getValueAt(0, 0));
+		assertEquals(1, loads.size());
+		runLoads();
+		assertSame(error, model.getLoadError(0).getCause());
+		assertEquals(1, events.size());
+		
+		model.prefetch(0, 4);
+		assertEquals(1, loads.size());
+		runLoads();
+		assertEquals(3, model.getValueAt(3, 0));
+		assertNull(model.getLoadError(0));
+		assertEquals(2, events.size());
+	}
+	
+	@Test
+	public void testRefreshThrowsOutPages() throws Exception{
+		model.getValueAt(0, 0);
+		runLoads();
+		model.getValueAt(10, 0);
+		model.refresh();
+		runLoads();
+		assertFalse(model.isRowLoaded(0));
+		assertFalse(model.isRowLoaded(10));
+		assertEquals(TableModelEvent.HEADER_ROW, events.get(1).getFirstRow());
+		assertEquals(2, events.size());
+	}
+	
+	@Test
+	public void testSetRowSource() throws Exception{
+		model.setRowSource(new ListRowSource(ListUtil.createList("Name"), null));
+		assertEquals(0, model.getRowCount());
+		assertEquals(1, model.getColumnCount());
+		model.prefetch(0, 10);
+		assertTrue(loads.isEmpty());
+	}
+	
+	@Test
+	public void testScrollLargeSource() throws Exception{
+		// Rows are only generated as they're loaded, so the source can be large
+		int rows = 50000000;
+		List<String> columns = ListUtil.createList("ID", "Value");
+		RowSource hugeSource = new GeneratedRowSource(columns, rows, row -> {
+			OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(columns);
+			pojo.setItem("ID", row);
+			pojo.setItem("Value", row * 0.5);
+			return pojo;
+		});
+		PagingTableModel hugeModel = new PagingTableModel(hugeSource, PagingTableModel.DEFAULT_PAGE_SIZE,
+				PagingTableModel.DEFAULT_CACHED_PAGES, PagingTableModel.DEFAULT_PREFETCH_PAGES, Runnable::run);
+		assertEquals(rows, hugeModel.getRowCount());
+		
+		// Jump around the table like scrolling would, with 40 rows visible at a time
+		for(int jump = 0; jump < 50; jump++){
+			int firstRow = (int) ((long) jump * 7919 * 6311 % (rows - 40));
+			hugeModel.prefetch(firstRow, firstRow + 39);
+			assertEquals(firstRow, hugeModel.getValueAt(firstRow, 0));
+			assertEquals((firstRow + 39) * 0.5, hugeModel.getValueAt(firstRow + 39, 1));
+			assertTrue(hugeModel.getPageCache().size() <= PagingTableModel.DEFAULT_CACHED_PAGES);
+		}
+		SwingUtilities.invokeAndWait(() -> {});
+	}
+}
@@ -0,0 +1,191 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PojoTableModelTest{
+	private final List<String> keyOrder = ListUtil.createList("Test", "Derp");
+	private final List<OrderedMappedPojo> data = new ArrayList<>();
+	private final List<TableModelEvent> events = new ArrayList<>();
+	private PojoTableModel model;
+	
+	@BeforeEach
+	public void setup(){
+		data.add(PojoTableModel.createEmptyPojo(keyOrder));
+		data.get(0).setItem("Test", 5);
+		data.get(0).setItem("Derp", "Yep");
+		data.add(PojoTableModel.createEmptyPojo(keyOrder));
+		data.get(1).setItem("Derp", "Nope");
+		model = new PojoTableModel(keyOrder, data);
+		model.addTableModelListener(events::add);
+	}
+	
+	@Test
+	public void testEmpty(){
+		model = new PojoTableModel();
+		assertEquals(0, model.getRowCount());
+		assertEquals(0, model.getColumnCount());
+		assertTrue(model.getColumnKeys().isEmpty());
+		assertTrue(model.getData().isEmpty());
+	}
+	
+	@Test
+	public void testDataNotCopied(){
+		assertSame(data, model.getData());
+		assertSame(data.get(1), model.getPojo(1));
+		assertEquals(2, model.getRowCount());
+		assertEquals(2, model.getColumnCount());
+		assertEquals(keyOrder, model.getColumnKeys());
+	}
+	
+	@Test
+	public void testGetColumnName(){
+		assertEquals("Test", model.getColumnName(0));
+		assertEquals("Derp", model.getColumnName(1));
+	}
+	
+	@Test
+	public void testFindColumn(){
+		assertEquals(0, model.findColumn("Test"));
+		assertEquals(1, model.findColumn("Derp"));
+		assertEquals(-1, model.findColumn("Plop"));
+	}
+	
+	@Test
+	public void testIsCellEditable(){
+		assertTrue(model.isCellEditable(0, 0));
+	}
+	
+	@Test
+	public void testGetValueAt(){
+		assertEquals(5, model.getValueAt(0, 0));
+		assertEquals("Yep", model.getValueAt(0, 1));
+		assertNull(model.getValueAt(1, 0));
+		assertEquals("Nope", model.getValueAt(1, 1));
+	}
+	
+	@Test
+	public void testValuesReadInPlace(){
+		data.get(1).setItem("Test", 42);
+		assertEquals(42, model.getValueAt(1, 0));
+	}
+	
+	@Test
+	public void testSetValueAt(){
+		model.setValueAt(12, 1, 0);
+		assertEquals(12, data.get(1).getItem("Test"));
+		assertEquals(1, events.size());
+		assertEquals(1, events.get(0).getFirstRow());
+		assertEquals(0, events.get(0).getColumn());
+		assertEquals(TableModelEvent.UPDATE, events.get(0).getType());
+	}
+	
+	@Test
+	public void testSetData(){
+		List<OrderedMappedPojo> newData = new ArrayList<>();
+		newData.add(PojoTableModel.createEmptyPojo(keyOrder));
+		model.setData(ListUtil.createList("Derp"), newData);
+		assertSame(newData, model.getData());
+		assertEquals(1, model.getRowCount());
+		assertEquals(1, model.getColumnCount());
+		assertEquals(0, model.findColumn("Derp"));
+		assertEquals(-1, model.findColumn("Test"));
+		assertEquals(1, events.size());
+		assertEquals(TableModelEvent.HEADER_ROW, events.get(0).getFirstRow());
+	}
+	
+	@Test
+	public void testSetDataNulls(){
+		model.setData(null, null);
+		assertEquals(0, model.getRowCount());
+		assertEquals(0, model.getColumnCount());
+	}
+	
+	@Test
+	public void testAddRow(){
+		OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keyOrder);
+		model.addRow(pojo);
+		assertEquals(3, data.size());
+		assertSame(pojo, data.get(2));
+		assertEquals(1, events.size());
+		assertEquals(TableModelEvent.INSERT, events.get(0).getType());
+		assertEquals(2, events.get(0).getFirstRow());
+	}
+	
+	@Test
+	public void testAddEmptyRow(){
+		model.addEmptyRow();
+		assertEquals(3, data.size());
+		assertEquals(keyOrder, data.get(2).getKeyOrder());
+		assertNull(model.getValueAt(2, 0));
+	}
+	
+	@Test
+	public void testRemoveRow(){
+		OrderedMappedPojo second = data.get(1);
+		model.removeRow(0);
+		assertEquals(1, data.size());
+		assertSame(second, data.get(0));
+		assertEquals(TableModelEvent.DELETE, events.get(0).getType());
+	}
+	
+	@Test
+	public void testFireRowsUpdated(){
+		model.fireRowsUpdated();
+		assertEquals(1, events.size());
+		assertEquals(0, events.get(0).getFirstRow());
+		assertEquals(1, events.get(0).getLastRow());
+		assertEquals(TableModelEvent.ALL_COLUMNS, events.get(0).getColumn());
+	}
+	
+	@Test
+	public void testLoadMatchesDefaultTableModel(){
+		List<String> keys = ListUtil.createList("A", "B", "C", "D", "E", "F", "G", "H");
+		List<OrderedMappedPojo> bigData = new ArrayList<>();
+		for(int row = 0; row < 100; row++){
+			OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keys);
+			for(int col = 0; col < keys.size(); col++){
+				pojo.setItem(keys.get(col), row * keys.size() + col);
+			}
+			bigData.add(pojo);
+		}
+		
+		DefaultTableModel defaultModel = new DefaultTableModel();
+		for(String key: keys){
+			defaultModel.addColumn(key);
+		}
+		for(OrderedMappedPojo pojo: bigData){
+			Object[] row = new Object[keys.size()];
+			for(int col = 0; col < keys.size(); col++){
+				row[col] = pojo.getItem(keys.get(col));
+			}
+			defaultModel.addRow(row);
+		}
+		
+		PojoTableModel pojoModel = new PojoTableModel();
+		pojoModel.setData(keys, bigData);
+		assertEquals(defaultModel.getRowCount(), pojoModel.getRowCount());
+		assertEquals(defaultModel.getColumnCount(), pojoModel.getColumnCount());
+		for(int row = 0; row < defaultModel.getRowCount(); row++){
+			for(int col = 0; col < defaultModel.getColumnCount(); col++){
+				assertEquals(defaultModel.getValueAt(row, col), pojoModel.getValueAt(row, col));
+			}
+		}
+		
+		// The pojos are used in place, rather than copied
+		bigData.get(42).setItem("D", -1);
+		assertEquals(-1, pojoModel.getValueAt(42, 3));
+	}
+}
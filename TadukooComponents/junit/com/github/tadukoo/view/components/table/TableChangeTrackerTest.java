@@ -0,0 +1,266 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.pojo.AbstractOrderedMappedPojo;
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TableChangeTrackerTest{
+	private final List<String> keyOrder = ListUtil.createList("Test", "Derp");
+	private final List<OrderedMappedPojo> data = new ArrayList<>();
+	private DefaultTableModel model;
+	private TableChangeTracker tracker;
+	
+	/**
+	 * A pojo that counts how many times its values are set
+	 */
+	private static class CountingPojo extends AbstractOrderedMappedPojo{
+		private final List<String> keyOrder;
+		private int sets = 0;
+		
+		private CountingPojo(List<String> keyOrder){
+			this.keyOrder = keyOrder;
+		}
+		
+		@Override
+		public List<String> getKeyOrder(){
+			return keyOrder;
+		}
+		
+		@Override
+		public void setItem(String key, Object value){
+			sets++;
+			super.setItem(key, value);
+		}
+	}
+	
+	private OrderedMappedPojo createPojo(int test, String derp){
+		OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keyOrder);
+		pojo.setItem("Test", test);
+		pojo.setItem("Derp", derp);
+		return pojo;
+	}
+	
+	private void load(){
+		model = new DefaultTableModel(keyOrder.toArray(), 0);
+		for(OrderedMappedPojo pojo: data){
+			model.addRow(new Object[]{pojo.getItem("Test"), pojo.getItem("Derp")});
+		}
+		tracker = new TableChangeTracker();
+		model.addTableModelListener(tracker);
+		tracker.reset(model, data);
+	}
+	
+	@BeforeEach
+	public void setup(){
+		data.add(createPojo(0, "A"));
+		data.add(createPojo(1, "B"));
+		data.add(createPojo(2, "C"));
+		load();
+	}
+	
+	@Test
+	public void testNoChanges(){
+		assertFalse(tracker.hasChanges());
+		TableChangeSet changeSet = tracker.applyChanges(model, data);
+		assertSame(data, changeSet.getData());
+		assertTrue(changeSet.isEmpty());
+		assertFalse(changeSet.isFullUpdate());
+	}
+	
+	@Test
+	public void testEditedCell(){
+		model.setValueAt("Changed", 1, 1);
+		assertTrue(tracker.hasChanges());
+		assertEquals(1, tracker.getEditedCellCount());
+		TableChangeSet changeSet = tracker.applyChanges(model, data);
+		assertEquals("Changed", data.get(1).getItem("Derp"));
+		assertEquals(List.of(data.get(1)), changeSet.getUpdatedPojos());
+		assertEquals(Set.of("Derp"), changeSet.getChangedKeys(data.get(1)));
+		assertTrue(changeSet.getChangedKeys(data.get(0)).isEmpty());
+		assertTrue(changeSet.getInsertedPojos().isEmpty());
+		assertTrue(changeSet.getRemovedPojos().isEmpty());
+		assertFalse(tracker.hasChanges());
+	}
+	
+	@Test
+	public void testOnlyEditedCellsSet(){
+		data.clear();
+		for(int row = 0; row < 3; row++){
+			CountingPojo pojo = new CountingPojo(keyOrder);
+			pojo.setItem("Test", row);
+			data.add(pojo);
+		}
+		load();
+		model.setValueAt(42, 2, 0);
+		tracker.applyChanges(model, data);
+		assertEquals(1, ((CountingPojo) data.get(0)).sets);
+		assertEquals(2, ((CountingPojo) data.get(2)).sets);
+		assertEquals(42, data.get(2).getItem("Test"));
+	}
+	
+	@Test
+	public void testAppendedRow(){
+		model.addRow(new Object[]{3, "D"});
+		TableChangeSet changeSet = tracker.applyChanges(model, data);
+		assertEquals(4, data.size());
+		assertEquals(3, data.get(3).getItem("Test"));
+		assertEquals("D", data.get(3).getItem("Derp"));
+		assertEquals(List.of(data.get(3)), changeSet.getInsertedPojos());
+		assertTrue(changeSet.getUpdatedPojos().isEmpty());
+	}
+	
+	@Test
+	public void testInsertedRowInMiddle(){
+		OrderedMappedPojo first = data.get(0);
+		OrderedMappedPojo second = data.get(1);
+		model.setValueAt("Edited", 1, 1);
+		model.insertRow(1, new Object[]{7, "New"});
+		TableChangeSet changeSet = tracker.applyChanges(model, data);
+		assertEquals(4, data.size());
+		assertSame(first, data.get(0));
+		assertEquals(7, data.get(1).getItem("Test"));
+		assertSame(second, data.get(2));
+		assertEquals("Edited", second.getItem("Derp"));
+		assertEquals(List.of(data.get(1)), changeSet.getInsertedPojos());
+		assertEquals(List.of(second), changeSet.getUpdatedPojos());
+	}
+	
+	@Test
+	public void testRemovedRow(){
+		OrderedMappedPojo first = data.get(0);
+		OrderedMappedPojo second = data.get(1);
+		OrderedMappedPojo third = data.get(2);
+		model.setValueAt("Gone", 1, 1);
+		model.setValueAt("Kept", 2, 1);
+		model.removeRow(1);
+		TableChangeSet changeSet = tracker.applyChanges(model, data);
+		assertEquals(List.of(first, third), data);
+		assertEquals("Kept", third.getItem("Derp"));
+		assertEquals("B", second.getItem("Derp"));
+		assertEquals(List.of(second), changeSet.getRemovedPojos());
+		assertEquals(List.of(third), changeSet.getUpdatedPojos());
+	}
+	
+	@Test
+	public void testRemovedInsertedRow(){
+		model.addRow(new Object[]{3, "D"});
+		model.removeRow(3);
+		assertFalse(tracker.hasChanges());
+		assertTrue(tracker.applyChanges(model, data).isEmpty());
+		assertEquals(3, data.size());
+	}
+	
+	@Test
+	public void testDataChangedIsFullUpdate(){
+		model.fireTableDataChanged();
+		assertTrue(tracker.isFullUpdate());
+		model.setValueAt(9, 0, 0);
+		TableChangeSet changeSet = tracker.applyChanges(model, data);
+		assertTrue(changeSet.isFullUpdate());
+		assertFalse(changeSet.isEmpty());
+		assertEquals(data, changeSet.getUpdatedPojos());
+		assertEquals(Set.of("Test", "Derp"), changeSet.getChangedKeys(data.get(2)));
+		assertEquals(9, data.get(0).getItem("Test"));
+		assertFalse(tracker.isFullUpdate());
+	}
+	
+	@Test
+	public void testOtherListCopiesAll(){
+		List<OrderedMappedPojo> other = new ArrayList<>();
+		other.add(createPojo(5, "Z"));
+		TableChangeSet changeSet = tracker.applyChanges(model, other);
+		assertSame(other, changeSet.getData());
+		assertTrue(changeSet.isFullUpdate());
+		assertEquals(3, other.size());
+		assertEquals(0, other.get(0).getItem("Test"));
+		assertEquals(2, changeSet.getInsertedPojos().size());
+	}
+	
+	@Test
+	public void testNullDataCopiesAll(){
+		TableChangeSet changeSet = tracker.applyChanges(model, null);
+		assertNotSame(data, changeSet.getData());
+		assertEquals(3, changeSet.getData().size());
+		assertEquals("C", changeSet.getData().get(2).getItem("Derp"));
+	}
+	
+	@Test
+	public void testTracksFromAppliedData(){
+		model.setValueAt(11, 0, 0);
+		tracker.applyChanges(model, data);
+		model.setValueAt("Again", 2, 1);
+		TableChangeSet changeSet = tracker.applyChanges(model, data);
+		assertEquals(List.of(data.get(2)), changeSet.getUpdatedPojos());
+		assertEquals(11, data.get(0).getItem("Test"));
+	}
+	
+	@Test
+	public void testPojoTableModel(){
+		PojoTableModel pojoModel = new PojoTableModel(keyOrder, data);
+		tracker = new TableChangeTracker();
+		pojoModel.addTableModelListener(tracker);
+		tracker.reset(pojoModel, data);
+		OrderedMappedPojo removed = data.get(0);
+		pojoModel.setValueAt("Edited", 1, 1);
+		pojoModel.removeRow(0);
+		pojoModel.addEmptyRow();
+		TableChangeSet changeSet = tracker.applyChanges(pojoModel, data);
+		assertSame(data, changeSet.getData());
+		assertEquals(3, data.size());
+		assertEquals(List.of(data.get(0)), changeSet.getUpdatedPojos());
+		assertEquals("Edited", data.get(0).getItem("Derp"));
+		assertEquals(List.of(data.get(2)), changeSet.getInsertedPojos());
+		assertNull(data.get(2).getItem("Test"));
+		assertEquals(List.of(removed), changeSet.getRemovedPojos());
+	}
+	
+	@Test
+	public void testSaveSingleEdit(){
+		List<String> keys = ListUtil.createList("A", "B", "C", "D", "E", "F", "G", "H");
+		int rows = 1000;
+		Object[][] values = new Object[rows][keys.size()];
+		List<OrderedMappedPojo> bigData = new ArrayList<>();
+		for(int row = 0; row < rows; row++){
+			OrderedMappedPojo pojo = PojoTableModel.createEmptyPojo(keys);
+			for(int col = 0; col < keys.size(); col++){
+				pojo.setItem(keys.get(col), row);
+				values[row][col] = row;
+			}
+			bigData.add(pojo);
+		}
+		DefaultTableModel bigModel = new DefaultTableModel(values, keys.toArray());
+		TableChangeTracker bigTracker = new TableChangeTracker();
+		bigModel.addTableModelListener(bigTracker);
+		bigTracker.reset(bigModel, bigData);
+		
+		// Saving a single edit by copying every value in the table
+		bigModel.setValueAt(-1, 500, 3);
+		bigModel.fireTableDataChanged();
+		TableChangeSet changeSet = bigTracker.applyChanges(bigModel, bigData);
+		assertTrue(changeSet.isFullUpdate());
+		assertEquals(rows, changeSet.getUpdatedPojos().size());
+		assertEquals(-1, bigData.get(500).getItem("D"));
+		
+		// Saving a single edit using the tracked changes
+		bigModel.setValueAt(-2, 600, 4);
+		changeSet = bigTracker.applyChanges(bigModel, bigData);
+		assertFalse(changeSet.isFullUpdate());
+		assertEquals(List.of(bigData.get(600)), changeSet.getUpdatedPojos());
+		assertEquals(Set.of("E"), changeSet.getChangedKeys(bigData.get(600)));
+		assertEquals(-2, bigData.get(600).getItem("E"));
+	}
+}
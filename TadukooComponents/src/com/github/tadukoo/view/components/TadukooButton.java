@@ -3,8 +3,10 @@ package com.github.tadukoo.view.components;
 import com.github.tadukoo.util.logger.EasyLogger;
 import com.github.tadukoo.view.components.interfaces.TButton;
 import com.github.tadukoo.view.font.FontFamily;
+import com.github.tadukoo.view.font.FontRegistry;
 import com.github.tadukoo.view.font.FontResourceLoader;
 import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ShapeHitTester;
 import com.github.tadukoo.view.shapes.ShapeInfo;
 
 import javax.swing.Icon;
@@ -22,7 +24,7 @@ import java.io.IOException;
  * Tadukoo Look &amp; Feel, such as {@link ShapeInfo}.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class TadukooButton extends JButton implements TButton{
@@ -133,12 +135,13 @@ public class TadukooButton extends JButton implements TButton{
 	 *         <td>fontResourceLoader</td>
 	 *         <td>The {@link FontResourceLoader} to use in loading a font and/or ensuring they're in the system</td>
 	 *         <td>a new FontResourceLoader with the specified values for {@link #logFontResourceLoaderWarnings},
-	 *         {@link #logger}, {@link #graphEnv}, and {@link #fontFolder}</td>
+	 *         {@link #logger}, {@link #graphEnv}, and {@link #fontFolder}, used through the shared
+	 *         {@link FontRegistry} so that the font is only loaded once</td>
 	 *     </tr>
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
-	 * @version Alpha v.0.3
+	 * @version Alpha v.0.3.4
 	 * @since Alpha v.0.2
 	 */
 	public static class TadukooButtonBuilder{
@@ -383,15 +386,16 @@ public class TadukooButton extends JButton implements TButton{
 			// Determine the font to use if it was specified
 			Font font = null;
 			if(fontFamily != null){
-				// Handle font resource loading
 				if(fontResourceLoader == null){
-					fontResourceLoader = new FontResourceLoader(logFontResourceLoaderWarnings, logger, graphEnv,
-							fontFolder);
+					// Use the shared registry, so the font is only loaded once no matter how many are built
+					font = FontRegistry.getSharedRegistry().getFont(
+							new FontResourceLoader(logFontResourceLoaderWarnings, logger, graphEnv, fontFolder),
+							fontFamily, fontStyle, fontSize);
+				}else{
+					// Load font + create it
+					String foundFont = fontResourceLoader.loadFont(fontFamily, true);
+					font = new Font(foundFont, fontStyle, fontSize);
 				}
-				
-				// Load font + create it
-				String foundFont = fontResourceLoader.loadFont(fontFamily, true);
-				font = new Font(foundFont, fontStyle, fontSize);
 			}
 			
 			return new TadukooButton(text, icon, actionListener,
@@ -413,6 +417,8 @@ public class TadukooButton extends JButton implements TButton{
 	private SizablePaint disabledTextPaint;
 	/** The {@link ShapeInfo} to use on the Button */
 	private ShapeInfo shapeInfo;
+	/** The {@link ShapeHitTester} used to check if points are inside the Button's shape */
+	private final ShapeHitTester hitTester = new ShapeHitTester();
 	
 	/**
 	 * Creates a new Button with the given parameters
@@ -497,7 +503,9 @@ public class TadukooButton extends JButton implements TButton{
 	/** {@inheritDoc} */
 	@Override
 	public void setBackgroundPaint(SizablePaint backgroundPaint){
+		SizablePaint oldBackgroundPaint = this.backgroundPaint;
 		this.backgroundPaint = backgroundPaint;
+		firePropertyChange(BACKGROUND_PAINT_PROPERTY, oldBackgroundPaint, backgroundPaint);
 	}
 	
 	/** {@inheritDoc} */
@@ -545,7 +553,22 @@ public class TadukooButton extends JButton implements TButton{
 	/** {@inheritDoc} */
 	@Override
 	public void setShapeInfo(ShapeInfo shapeInfo){
+		ShapeInfo oldShapeInfo = this.shapeInfo;
 		this.shapeInfo = shapeInfo;
+		firePropertyChange(SHAPE_INFO_PROPERTY, oldShapeInfo, shapeInfo);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br><br>
+	 * If this Button has a {@link ShapeInfo}, the point must also be inside its shape
+	 */
+	@Override
+	public boolean contains(int x, int y){
+		if(shapeInfo == null){
+			return super.contains(x, y);
+		}
+		return hitTester.contains(shapeInfo, x, y, getWidth(), getHeight());
 	}
 	
 	/** {@inheritDoc} */
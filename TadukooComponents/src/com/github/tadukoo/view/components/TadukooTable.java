@@ -1,21 +1,39 @@
 package com.github.tadukoo.view.components;
 
-import com.github.tadukoo.util.pojo.AbstractOrderedMappedPojo;
 import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import com.github.tadukoo.view.components.table.ColumnarTableModel;
+import com.github.tadukoo.view.components.table.ListRowSource;
+import com.github.tadukoo.view.components.table.PagingTableModel;
+import com.github.tadukoo.view.components.table.PojoTableModel;
+import com.github.tadukoo.view.components.table.RowSource;
+import com.github.tadukoo.view.components.table.TableChangeSet;
+import com.github.tadukoo.view.components.table.TableChangeTracker;
+import com.github.tadukoo.view.components.table.TableModelType;
 
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.table.DefaultTableModel;
-import java.util.ArrayList;
+import javax.swing.table.TableModel;
+import java.awt.Point;
+import java.awt.Rectangle;
 import java.util.List;
+import java.util.Vector;
 
 /**
  * Tadukoo Table is an extension of {@link JScrollPane} that contains a {@link JTable}. It provides methods for
  * using {@link List}s of {@link OrderedMappedPojo}s to populate the {@link JTable} and to make it easier to update
  * the table.
+ * <br><br>
+ * By default, the values of the pojos are copied into a {@link DefaultTableModel}, but a {@link PojoTableModel}
+ * can be used instead (by setting the {@link TableModelType}), which reads and writes the pojos in place, or a
+ * {@link ColumnarTableModel}, which stores numeric columns as primitives, or a {@link PagingTableModel}, which
+ * fetches pages of rows from a {@link RowSource} as they're scrolled to (prefetching around the visible rows).
+ * <br><br>
+ * Edited cells and inserted and removed rows are tracked by a {@link TableChangeTracker}, so that
+ * {@link #updatePojos(List) updating the pojos} only needs to set the values that changed.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class TadukooTable extends JScrollPane{
@@ -37,9 +55,20 @@ public class TadukooTable extends JScrollPane{
 	 *     </tr>
 	 *     <tr>
 	 *         <td>data</td>
-	 *         <td>The data to be put in the table</td>
+	 *         <td>The data to be put in the table - can't be set along with a rowSource</td>
 	 *         <td>Defaults to null</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>tableModelType</td>
+	 *         <td>The {@link TableModelType} to determine the {@link TableModel} used by the table</td>
+	 *         <td>Defaults to {@link TableModelType#DEFAULT}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>rowSource</td>
+	 *         <td>The {@link RowSource} to fetch rows from when using {@link TableModelType#PAGING} - can be null
+	 *         to page over the data (and can't be set along with the data)</td>
+	 *         <td>Defaults to null (to page over the data)</td>
+	 *     </tr>
 	 * </table>
 	 */
 	public static class TadukooTableBuilder{
@@ -47,6 +76,10 @@ public class TadukooTable extends JScrollPane{
 		private List<String> keyOrder = null;
 		/** The data to be put in the table */
 		private List<OrderedMappedPojo> data = null;
+		/** The {@link TableModelType} to determine the {@link TableModel} used by the table */
+		private TableModelType tableModelType = TableModelType.DEFAULT;
+		/** The {@link RowSource} to fetch rows from when using {@link TableModelType#PAGING} */
+		private RowSource rowSource = null;
 		
 		/** Can't create outside of Tadukoo Table */
 		private TadukooTableBuilder(){ }
@@ -69,31 +102,87 @@ public class TadukooTable extends JScrollPane{
 			return this;
 		}
 		
+		/**
+		 * @param tableModelType The {@link TableModelType} to determine the {@link TableModel} used by the table
+		 * @return this, to continue building
+		 */
+		public TadukooTableBuilder tableModelType(TableModelType tableModelType){
+			this.tableModelType = tableModelType;
+			return this;
+		}
+		
+		/**
+		 * @param rowSource The {@link RowSource} to fetch rows from when using {@link TableModelType#PAGING} - can
+		 * be null to page over the data
+		 * @return this, to continue building
+		 */
+		public TadukooTableBuilder rowSource(RowSource rowSource){
+			this.rowSource = rowSource;
+			return this;
+		}
+		
 		/**
 		 * Builds the {@link TadukooTable}
 		 *
 		 * @return A newly created {@link TadukooTable}
+		 * @throws IllegalArgumentException If both data and a {@link RowSource} are set
 		 */
 		public TadukooTable build(){
-			return new TadukooTable(keyOrder, data);
+			if(data != null && rowSource != null){
+				throw new IllegalArgumentException("Can't set both data and a row source!");
+			}
+			return new TadukooTable(keyOrder, data, tableModelType, rowSource);
 		}
 	}
 	
 	/** The order of the keys in the table - can be null to use the pojos in the data */
 	private final List<String> keyOrder;
+	/** The {@link TableModelType} that determines the {@link TableModel} used by the table */
+	private final TableModelType tableModelType;
+	/** Tracks the changes made to the table since the data was loaded */
+	private final TableChangeTracker changeTracker = new TableChangeTracker();
 	
 	/**
 	 * Creates a new Tadukoo Table using the given parameters
 	 *
 	 * @param keyOrder The order of the keys in the table - can be null to use the pojos in the data
 	 * @param data The data to be put in the table
+	 * @param tableModelType The {@link TableModelType} to determine the {@link TableModel} used by the table
+	 * @param rowSource The {@link RowSource} to fetch rows from when using {@link TableModelType#PAGING} - can be
+	 * null to page over the data
 	 */
-	private TadukooTable(List<String> keyOrder, List<OrderedMappedPojo> data){
-		super(new JTable(new DefaultTableModel()));
+	private TadukooTable(List<String> keyOrder, List<OrderedMappedPojo> data, TableModelType tableModelType,
+	                     RowSource rowSource){
+		super(new JTable(createTableModel(tableModelType, rowSource)));
 		this.keyOrder = keyOrder;
+		this.tableModelType = tableModelType;
+		if(getTableModel() instanceof PagingTableModel){
+			// The paging table model is read-only, so there's nothing to track, but it needs to know what's visible
+			getViewport().addChangeListener(e -> prefetchVisibleRows());
+			if(rowSource != null){
+				return;
+			}
+		}else{
+			getTableModel().addTableModelListener(changeTracker);
+		}
 		setTableData(data);
 	}
 	
+	/**
+	 * @param tableModelType The {@link TableModelType} to determine the {@link TableModel} to create
+	 * @param rowSource The {@link RowSource} to fetch rows from when using {@link TableModelType#PAGING} - can be
+	 * null to page over the data
+	 * @return A new {@link TableModel} of the given type (empty unless it's using the given {@link RowSource})
+	 */
+	private static TableModel createTableModel(TableModelType tableModelType, RowSource rowSource){
+		return switch(tableModelType){
+			case DEFAULT -> new DefaultTableModel();
+			case POJO -> new PojoTableModel();
+			case COLUMNAR -> new ColumnarTableModel();
+			case PAGING -> new PagingTableModel(rowSource != null?rowSource:new ListRowSource(null, null));
+		};
+	}
+	
 	/**
 	 * @return A new {@link TadukooTableBuilder} to use to make a {@link TadukooTable}
 	 */
@@ -108,6 +197,13 @@ public class TadukooTable extends JScrollPane{
 		return keyOrder;
 	}
 	
+	/**
+	 * @return The {@link TableModelType} that determines the {@link TableModel} used by the table
+	 */
+	public TableModelType getTableModelType(){
+		return tableModelType;
+	}
+	
 	/**
 	 * @return The {@link JTable} behind this Tadukoo Table
 	 */
@@ -116,114 +212,163 @@ public class TadukooTable extends JScrollPane{
 	}
 	
 	/**
-	 * @return The {@link DefaultTableModel} behind this Tadukoo Table
+	 * @return The {@link TableModel} behind this Tadukoo Table (based on the {@link TableModelType})
 	 */
-	public DefaultTableModel getTableModel(){
-		return (DefaultTableModel) getTable().getModel();
+	public TableModel getTableModel(){
+		return getTable().getModel();
+	}
+	
+	/**
+	 * @return The {@link TableChangeTracker} that tracks the changes made to the table since the data was loaded
+	 */
+	public TableChangeTracker getChangeTracker(){
+		return changeTracker;
+	}
+	
+	/**
+	 * Has the {@link PagingTableModel} fetch the pages of the rows that are visible in the viewport (along with the
+	 * pages around them)
+	 */
+	private void prefetchVisibleRows(){
+		if(getTableModel() instanceof PagingTableModel pagingModel){
+			JTable table = getTable();
+			Rectangle visible = getViewport().getViewRect();
+			int firstRow = table.rowAtPoint(new Point(0, visible.y));
+			if(firstRow == -1){
+				return;
+			}
+			int lastRow = table.rowAtPoint(new Point(0, visible.y + Math.max(0, visible.height - 1)));
+			pagingModel.prefetch(firstRow, lastRow != -1?lastRow:table.getRowCount() - 1);
+		}
 	}
 	
 	/**
 	 * Sets the columns and rows of the table based on the passed in data. If the key order was set on the
 	 * Tadukoo Table, that key order will be used, otherwise the key order of the first pojo in the data will
 	 * be used.
+	 * <br><br>
+	 * The new columns and rows are built separately and then swapped into the table model all at once, so only
+	 * a single structure changed event is fired (instead of one per column and row, which would each make the
+	 * {@link JTable} update). Changes are then tracked from the new data. If the table is using a
+	 * {@link PagingTableModel}, its {@link RowSource} is replaced with one that pages over the data.
 	 *
 	 * @param data The pojos to use to populate the table
 	 */
 	public void setTableData(List<OrderedMappedPojo> data){
-		// Grab that table model
-		DefaultTableModel model = getTableModel();
-		
-		// Reset the columns based on either the key order we have or grab it off a pojo
+		// Determine the columns based on either the key order we have or grab it off a pojo
 		List<String> keys = keyOrder != null?
 				keyOrder:
 				(data != null && !data.isEmpty()?data.get(0).getKeyOrder():null);
-		model.setColumnCount(0);
-		if(keys != null){
-			for(String key: keys){
-				model.addColumn(key);
-			}
+		
+		// The pojo table model just uses the data as is
+		if(getTableModel() instanceof PojoTableModel pojoModel){
+			pojoModel.setData(keys, data);
+			changeTracker.reset(pojoModel, data);
+			return;
+		}
+		
+		// The paging table model pages over the data
+		if(getTableModel() instanceof PagingTableModel pagingModel){
+			pagingModel.setRowSource(new ListRowSource(keys, data));
+			return;
+		}
+		
+		// The columnar table model copies the data into its columns
+		if(getTableModel() instanceof ColumnarTableModel columnarModel){
+			columnarModel.setData(keys, data);
+			changeTracker.reset(columnarModel, data);
+			return;
 		}
 		
-		// Reset the row data of the table based on the passed in pojos
-		model.setRowCount(0);
-		if(data != null && !data.isEmpty() && keys != null){
+		// Build the new columns and rows off to the side
+		Vector<String> columnIdentifiers = keys != null?new Vector<>(keys):new Vector<>();
+		Vector<Vector<Object>> rows = new Vector<>(data != null && keys != null?data.size():0);
+		if(data != null && keys != null){
 			for(OrderedMappedPojo pojo: data){
-				Object[] row = new Object[keys.size()];
-				for(int i = 0; i < keys.size(); i++){
-					row[i] = pojo.getItem(keys.get(i));
+				Vector<Object> row = new Vector<>(keys.size());
+				for(String key: keys){
+					row.add(pojo.getItem(key));
 				}
-				model.addRow(row);
+				rows.add(row);
 			}
 		}
+		
+		// Swap them into the default table model with a single event
+		((DefaultTableModel) getTableModel()).setDataVector(rows, columnIdentifiers);
+		changeTracker.reset(getTableModel(), data);
 	}
 	
 	/**
-	 * Update the passed in data based on the current values in the table
+	 * Update the passed in data based on the current values in the table. If the table is using a
+	 * {@link PojoTableModel} backed by the passed in data, the pojos already have the current values, so nothing
+	 * needs to be copied. If the passed in data is what the table was loaded with (or last updated), only the
+	 * edited values are set on it, and the inserted and removed rows are added to or removed from it. Otherwise,
+	 * every value in the table is copied.
 	 *
 	 * @param data The {@link List} of pojos to be updated
 	 * @return The newly updated pojos {@link List}
 	 */
 	public List<OrderedMappedPojo> updatePojos(List<OrderedMappedPojo> data){
-		// If the data is null, create a new table
-		if(data == null){
-			data = new ArrayList<>();
-		}
-		
-		// Grab the table model and the size of the data
-		int dataSize = data.size();
-		DefaultTableModel model = getTableModel();
-		
-		// Get the key order from the model
-		List<String> keys = new ArrayList<>();
-		for(int col = 0; col < model.getColumnCount(); col++){
-			keys.add(model.getColumnName(col));
-		}
-		
-		// Iterate over all the table rows
-		for(int row = 0; row < model.getRowCount(); row++){
-			OrderedMappedPojo pojo;
-			if(row < dataSize){
-				// Grab the pojo from the data if there's enough rows
-				pojo = data.get(row);
-			}else{
-				// Make a new pojo if the data is too small
-				pojo = new AbstractOrderedMappedPojo(){
-					@Override
-					public List<String> getKeyOrder(){
-						return keys;
-					}
-				};
-				data.add(pojo);
-			}
-			// Set the values on the pojo from the table
-			for(int col = 0; col < keys.size(); col++){
-				String key = keys.get(col);
-				Object value = model.getValueAt(row, col);
-				pojo.setItem(key, value);
-			}
-		}
-		
-		// Return the updated data
-		return data;
+		return applyChanges(data).getData();
+	}
+	
+	/**
+	 * Update the passed in data based on the current values in the table, the same as
+	 * {@link #updatePojos(List)}, returning the changes that were made to it
+	 *
+	 * @param data The {@link List} of pojos to be updated
+	 * @return The {@link TableChangeSet} with the newly updated pojos and the changes that were made to them
+	 */
+	public TableChangeSet applyChanges(List<OrderedMappedPojo> data){
+		return changeTracker.applyChanges(getTableModel(), data);
 	}
 	
 	/**
 	 * Adds a new row to the end of the table with empty data
+	 *
+	 * @throws UnsupportedOperationException If the table is using a {@link PagingTableModel}
 	 */
 	public void addEmptyRow(){
-		DefaultTableModel model = getTableModel();
+		if(getTableModel() instanceof PagingTableModel){
+			throw new UnsupportedOperationException("Rows can't be added to a paging table!");
+		}
+		if(getTableModel() instanceof PojoTableModel pojoModel){
+			pojoModel.addEmptyRow();
+			return;
+		}
+		if(getTableModel() instanceof ColumnarTableModel columnarModel){
+			columnarModel.addEmptyRow();
+			return;
+		}
+		DefaultTableModel model = (DefaultTableModel) getTableModel();
 		Object[] row = new Object[model.getColumnCount()];
 		model.addRow(row);
 	}
 	
 	/**
-	 * Adds a new row to the end of the table using values from the passed in pojo
+	 * Adds a new row to the end of the table using values from the passed in pojo. If the table is using a
+	 * {@link PojoTableModel}, the pojo itself is added to the end of its data.
 	 *
 	 * @param row The {@link OrderedMappedPojo} to use to add data to the table
+	 * @throws UnsupportedOperationException If the table is using a {@link PagingTableModel}
 	 */
 	public void addRow(OrderedMappedPojo row){
+		if(getTableModel() instanceof PagingTableModel){
+			throw new UnsupportedOperationException("Rows can't be added to a paging table!");
+		}
+		
+		// The pojo table model uses the pojo as is
+		if(getTableModel() instanceof PojoTableModel pojoModel){
+			pojoModel.addRow(row);
+			return;
+		}
+		if(getTableModel() instanceof ColumnarTableModel columnarModel){
+			columnarModel.addRow(row);
+			return;
+		}
+		
 		// Grab the table model
-		DefaultTableModel model = getTableModel();
+		DefaultTableModel model = (DefaultTableModel) getTableModel();
 		
 		// Create an Object array based on values in the pojo
 		Object[] rowData = new Object[model.getColumnCount()];
@@ -0,0 +1,338 @@
+package com.github.tadukoo.view.components.table;
+
+import java.lang.reflect.Array;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Column Storage holds the values of a single column of a {@link ColumnarTableModel}. The values are stored in
+ * fixed-size chunks of {@value #CHUNK_SIZE} rows, so growing the column only allocates a new chunk instead of
+ * copying every value into a bigger array. Which rows are null is kept in a {@link BitSet} that's only created
+ * once a null is stored, so columns of primitives can still hold nulls.
+ * <br><br>
+ * Subclasses provide the storage for each {@link ColumnType}, with methods to get and set the values as
+ * primitives and to append arrays of them in bulk.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public abstract class ColumnStorage{
+	/** The number of bits to shift a row by to get its chunk */
+	protected static final int CHUNK_SHIFT = 12;
+	/** The number of rows in each chunk */
+	protected static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	/** The mask to use on a row to get its index in its chunk */
+	protected static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	
+	/** The number of rows in the column */
+	private int size = 0;
+	/** The number of chunks that have been allocated */
+	private int chunkCount = 0;
+	/** The rows that are null - null until a null is stored */
+	private BitSet nulls = null;
+	
+	/**
+	 * @return The {@link ColumnType} of the values in the column
+	 */
+	public abstract ColumnType getType();
+	
+	/**
+	 * @return The number of rows in the column
+	 */
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * @param row The index of the row
+	 * @return Whether the value in the given row is null
+	 */
+	public boolean isNull(int row){
+		Objects.checkIndex(row, size);
+		return nulls != null && nulls.get(row);
+	}
+	
+	/**
+	 * Marks whether the given row is null
+	 *
+	 * @param row The index of the row
+	 * @param isNull Whether the value in the row is null
+	 */
+	protected void setNull(int row, boolean isNull){
+		if(isNull){
+			if(nulls == null){
+				nulls = new BitSet();
+			}
+			nulls.set(row);
+		}else if(nulls != null){
+			nulls.clear(row);
+		}
+	}
+	
+	/**
+	 * @param row The index of the row
+	 * @return The value in the given row (boxed if it's a primitive)
+	 */
+	public Object get(int row){
+		return isNull(row)?null:getValue(row);
+	}
+	
+	/**
+	 * Sets the value in the given row
+	 *
+	 * @param row The index of the row
+	 * @param value The value to set (can be null)
+	 * @throws IllegalArgumentException If the value can't be stored in this column's {@link ColumnType}
+	 */
+	public void set(int row, Object value){
+		Objects.checkIndex(row, size);
+		if(!getType().accepts(value)){
+			throw new IllegalArgumentException("Can't store a " + value.getClass().getSimpleName() + " in a " +
+					getType() + " column");
+		}
+		if(value == null){
+			setNull(row, true);
+		}else{
+			setValue(row, value);
+			setNull(row, false);
+		}
+	}
+	
+	/**
+	 * Adds the given value to the end of the column
+	 *
+	 * @param value The value to add (can be null)
+	 * @throws IllegalArgumentException If the value can't be stored in this column's {@link ColumnType}
+	 */
+	public void add(Object value){
+		int row = appendRows(1);
+		try{
+			set(row, value);
+		}catch(IllegalArgumentException e){
+			size--;
+			throw e;
+		}
+	}
+	
+	/**
+	 * @param values An array of values
+	 * @return Whether all the values in the array can be appended to this column
+	 */
+	public boolean acceptsArray(Object values){
+		if(values instanceof Object[] objects){
+			for(Object value: objects){
+				if(!getType().accepts(value)){
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Appends all the values in the given array to the end of the column. Subclasses also accept an array of
+	 * their primitive type, which is copied a chunk at a time.
+	 *
+	 * @param values An array of values
+	 * @throws IllegalArgumentException If the array can't be appended to this column
+	 */
+	public void appendArray(Object values){
+		if(!acceptsArray(values)){
+			throw new IllegalArgumentException("Can't append a " + values.getClass().getSimpleName() + " to a " +
+					getType() + " column");
+		}
+		int length = Array.getLength(values);
+		int row = appendRows(length);
+		for(int i = 0; i < length; i++){
+			Object value = Array.get(values, i);
+			if(value == null){
+				setNull(row + i, true);
+			}else{
+				setValue(row + i, value);
+			}
+		}
+	}
+	
+	/**
+	 * Removes the given row, moving the rows after it up one
+	 *
+	 * @param row The index of the row to remove
+	 */
+	public void remove(int row){
+		Objects.checkIndex(row, size);
+		for(int r = row; r < size - 1; r++){
+			moveValue(r + 1, r);
+		}
+		if(nulls != null){
+			BitSet after = nulls.get(row + 1, size);
+			nulls.clear(row, size);
+			for(int r = after.nextSetBit(0); r >= 0; r = after.nextSetBit(r + 1)){
+				nulls.set(row + r);
+			}
+		}
+		clearValue(size - 1);
+		size--;
+	}
+	
+	/**
+	 * Compares the values in the given rows, with nulls first
+	 *
+	 * @param rowA The index of the first row
+	 * @param rowB The index of the second row
+	 * @return A negative number, zero, or a positive number as the first value is less than, equal to, or greater
+	 * than the second
+	 */
+	public int compareRows(int rowA, int rowB){
+		boolean nullA = isNull(rowA), nullB = isNull(rowB);
+		if(nullA || nullB){
+			return Boolean.compare(!nullA, !nullB);
+		}
+		return compareValues(rowA, rowB);
+	}
+	
+	/**
+	 * Sorts the rows of the column by their values (with nulls first), keeping rows with equal values in order.
+	 * The values are compared straight out of the chunks, without boxing them.
+	 *
+	 * @return The indexes of the rows in sorted order
+	 */
+	public int[] getSortedRows(){
+		int[] rows = new int[size];
+		for(int row = 0; row < size; row++){
+			rows[row] = row;
+		}
+		mergeSort(rows, new int[size], 0, size);
+		return rows;
+	}
+	
+	/**
+	 * Sorts the given range of rows using a merge sort
+	 *
+	 * @param rows The indexes of the rows being sorted
+	 * @param buffer A buffer the size of the rows to merge with
+	 * @param from The start of the range to sort (inclusive)
+	 * @param to The end of the range to sort (exclusive)
+	 */
+	private void mergeSort(int[] rows, int[] buffer, int from, int to){
+		if(to - from < 2){
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		mergeSort(rows, buffer, from, middle);
+		mergeSort(rows, buffer, middle, to);
+		if(compareRows(rows[middle - 1], rows[middle]) <= 0){
+			return;
+		}
+		System.arraycopy(rows, from, buffer, from, to - from);
+		int left = from, right = middle;
+		for(int i = from; i < to; i++){
+			if(right >= to || (left < middle && compareRows(buffer[left], buffer[right]) <= 0)){
+				rows[i] = buffer[left++];
+			}else{
+				rows[i] = buffer[right++];
+			}
+		}
+	}
+	
+	/**
+	 * @return A new {@link ObjectColumnStorage} with the same values as this column, for when a value needs to be
+	 * stored that this column's {@link ColumnType} doesn't accept
+	 */
+	public ColumnStorage toObjectStorage(){
+		ColumnStorage storage = new ObjectColumnStorage();
+		int row = storage.appendRows(size);
+		for(int r = 0; r < size; r++){
+			if(isNull(r)){
+				storage.setNull(row + r, true);
+			}else{
+				storage.setValue(row + r, getValue(r));
+			}
+		}
+		return storage;
+	}
+	
+	/**
+	 * Adds the given number of rows to the end of the column, allocating chunks as needed (the new rows have the
+	 * default value of the chunks and aren't null)
+	 *
+	 * @param count The number of rows to add
+	 * @return The index of the first added row
+	 */
+	protected int appendRows(int count){
+		int row = size;
+		while((long) chunkCount << CHUNK_SHIFT < (long) size + count){
+			addChunk(chunkCount++);
+		}
+		size += count;
+		return row;
+	}
+	
+	/**
+	 * Allocates the chunk at the given index
+	 *
+	 * @param index The index of the chunk to allocate (one past the current last chunk)
+	 */
+	protected abstract void addChunk(int index);
+	
+	/**
+	 * @param row The index of the row (known not to be null)
+	 * @return The value in the given row
+	 */
+	protected abstract Object getValue(int row);
+	
+	/**
+	 * Sets the value in the given row (without marking it as not null)
+	 *
+	 * @param row The index of the row
+	 * @param value The value to set (known to be accepted by the column and not null)
+	 */
+	protected abstract void setValue(int row, Object value);
+	
+	/**
+	 * Copies the value in one row to another (without handling nulls)
+	 *
+	 * @param from The index of the row to copy from
+	 * @param to The index of the row to copy to
+	 */
+	protected abstract void moveValue(int from, int to);
+	
+	/**
+	 * Clears the value in the given row when it's removed - only needed to release references
+	 *
+	 * @param row The index of the row being removed
+	 */
+	protected void clearValue(int row){
+		setNull(row, false);
+	}
+	
+	/**
+	 * Compares the values in the given rows (known not to be null)
+	 *
+	 * @param rowA The index of the first row
+	 * @param rowB The index of the second row
+	 * @return A negative number, zero, or a positive number as the first value is less than, equal to, or greater
+	 * than the second
+	 */
+	protected abstract int compareValues(int rowA, int rowB);
+	
+	/**
+	 * Copies the given range of a primitive array into the chunks starting at the given row, a chunk at a time
+	 *
+	 * @param values The primitive array to copy from
+	 * @param offset The index in the array to start copying from
+	 * @param chunks The chunks to copy into (an array of primitive arrays)
+	 * @param row The row to start copying to
+	 * @param length The number of values to copy
+	 */
+	protected static void copyIntoChunks(Object values, int offset, Object[] chunks, int row, int length){
+		int copied = 0;
+		while(copied < length){
+			int index = (row + copied) & CHUNK_MASK;
+			int count = Math.min(length - copied, CHUNK_SIZE - index);
+			System.arraycopy(values, offset + copied, chunks[(row + copied) >>> CHUNK_SHIFT], index, count);
+			copied += count;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.github.tadukoo.view.components.table;
+
+/**
+ * Column Type is used to pick how the values of a column are stored in a {@link ColumnarTableModel}. Values of the
+ * numeric types are stored as primitives, Strings are dictionary-encoded, and anything else is stored as is.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public enum ColumnType{
+	/** {@link Integer} values, stored as ints */
+	INT(Integer.class),
+	/** {@link Long} values, stored as longs */
+	LONG(Long.class),
+	/** {@link Double} values, stored as doubles */
+	DOUBLE(Double.class),
+	/** {@link String} values, stored as an index into a dictionary of the distinct values */
+	STRING(String.class),
+	/** Any values, stored as {@link Object}s */
+	OBJECT(Object.class);
+	
+	/** The class of the values in the column */
+	private final Class<?> valueClass;
+	
+	/**
+	 * Constructs a new Column Type for the given class of values
+	 *
+	 * @param valueClass The class of the values in the column
+	 */
+	ColumnType(Class<?> valueClass){
+		this.valueClass = valueClass;
+	}
+	
+	/**
+	 * @return The class of the values in the column
+	 */
+	public Class<?> getValueClass(){
+		return valueClass;
+	}
+	
+	/**
+	 * @param value The value to check
+	 * @return Whether the value can be stored in a column of this type (null can be stored in any column)
+	 */
+	public boolean accepts(Object value){
+		return value == null || this == OBJECT || value.getClass() == valueClass;
+	}
+	
+	/**
+	 * Determines the type of column to use for the given value. Only values of exactly the numeric and String
+	 * classes get their own type, so the values read back out of the column are the same as the ones put in.
+	 *
+	 * @param value The value to find the type for
+	 * @return The Column Type to use for the value
+	 */
+	public static ColumnType of(Object value){
+		if(value == null){
+			return OBJECT;
+		}
+		for(ColumnType type: values()){
+			if(type.valueClass == value.getClass()){
+				return type;
+			}
+		}
+		return OBJECT;
+	}
+	
+	/**
+	 * @return A new empty {@link ColumnStorage} for values of this type
+	 */
+	public ColumnStorage createStorage(){
+		return switch(this){
+			case INT -> new IntColumnStorage();
+			case LONG -> new LongColumnStorage();
+			case DOUBLE -> new DoubleColumnStorage();
+			case STRING -> new StringColumnStorage();
+			case OBJECT -> new ObjectColumnStorage();
+		};
+	}
+}
@@ -0,0 +1,382 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableModel;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar Table Model is a {@link javax.swing.table.TableModel} that stores each column in its own
+ * {@link ColumnStorage}, instead of storing each row as a {@link java.util.Vector} of boxed values like
+ * {@link DefaultTableModel}. Columns of {@link Integer}s, {@link Long}s, and {@link Double}s are stored as arrays of
+ * primitives and columns of {@link String}s are dictionary-encoded, which uses a fraction of the memory for
+ * numeric data, and lets a column be scanned (e.g. to {@link #getSortedRows(int) sort} it) by reading through its
+ * chunks in order.
+ * <br><br>
+ * The {@link ColumnType} of each column is determined by its first non-null value when the data is set (unless the
+ * types are given). If a value is later stored that the column's type doesn't accept, the column is converted to
+ * an {@link ObjectColumnStorage} that stores values as they are. Since that changes the column's class, a structure
+ * changed event is fired after the event for the change that converted it.
+ * <br><br>
+ * Rows can be added in bulk with a single event, either from pojos with {@link #addRows(List)} or from arrays of
+ * values for each column with {@link #appendColumns(Object...)}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class ColumnarTableModel extends AbstractTableModel{
+	/** The keys of the columns in the table */
+	private List<String> columnKeys;
+	/** The index of each column, keyed by its key */
+	private Map<String, Integer> columnIndexes;
+	/** The storage of each column */
+	private ColumnStorage[] columns;
+	/** The number of rows in the table */
+	private int rowCount;
+	/** Whether any columns have been converted to store Objects since the last event */
+	private boolean columnsConverted = false;
+	
+	/**
+	 * Constructs a new empty Columnar Table Model
+	 */
+	public ColumnarTableModel(){
+		this(null, (List<OrderedMappedPojo>) null);
+	}
+	
+	/**
+	 * Constructs a new Columnar Table Model with the values of the given data
+	 *
+	 * @param columnKeys The keys of the columns in the table (null for no columns)
+	 * @param data The pojos to copy the values of (can be null)
+	 */
+	public ColumnarTableModel(List<String> columnKeys, List<OrderedMappedPojo> data){
+		setColumnKeysAndData(columnKeys, null, data);
+	}
+	
+	/**
+	 * Constructs a new empty Columnar Table Model with the given columns
+	 *
+	 * @param columnKeys The keys of the columns in the table
+	 * @param columnTypes The {@link ColumnType} of each column
+	 */
+	public ColumnarTableModel(List<String> columnKeys, ColumnType ... columnTypes){
+		if(columnKeys.size() != columnTypes.length){
+			throw new IllegalArgumentException("Expected " + columnKeys.size() + " column types, but got " +
+					columnTypes.length);
+		}
+		setColumnKeysAndData(columnKeys, columnTypes, null);
+	}
+	
+	/**
+	 * Sets the columns and rows without firing an event
+	 *
+	 * @param columnKeys The keys of the columns in the table (null for no columns)
+	 * @param columnTypes The {@link ColumnType} of each column (null to determine them from the data)
+	 * @param data The pojos to copy the values of (can be null)
+	 */
+	private void setColumnKeysAndData(List<String> columnKeys, ColumnType[] columnTypes,
+	                                  List<OrderedMappedPojo> data){
+		this.columnKeys = columnKeys != null?Collections.unmodifiableList(new ArrayList<>(columnKeys)):
+				Collections.emptyList();
+		int columnCount = this.columnKeys.size();
+		Map<String, Integer> columnIndexes = new HashMap<>(columnCount * 2);
+		for(int col = 0; col < columnCount; col++){
+			columnIndexes.putIfAbsent(this.columnKeys.get(col), col);
+		}
+		this.columnIndexes = columnIndexes;
+		
+		// Create the storage for each column
+		columns = new ColumnStorage[columnCount];
+		for(int col = 0; col < columnCount; col++){
+			ColumnType type = columnTypes != null?columnTypes[col]:determineColumnType(this.columnKeys.get(col), data);
+			columns[col] = type.createStorage();
+		}
+		
+		// Copy the values of the pojos
+		rowCount = 0;
+		if(data != null){
+			for(OrderedMappedPojo pojo: data){
+				appendPojo(pojo);
+			}
+		}
+		// The column types were just determined, so there's no need to report conversions separately
+		columnsConverted = false;
+	}
+	
+	/**
+	 * @param key The key of the column
+	 * @param data The pojos that will be in the table (can be null)
+	 * @return The {@link ColumnType} of the first non-null value for the key, or {@link ColumnType#OBJECT} if
+	 * there isn't one
+	 */
+	private static ColumnType determineColumnType(String key, List<OrderedMappedPojo> data){
+		if(data != null){
+			for(OrderedMappedPojo pojo: data){
+				Object value = pojo.getItem(key);
+				if(value != null){
+					return ColumnType.of(value);
+				}
+			}
+		}
+		return ColumnType.OBJECT;
+	}
+	
+	/**
+	 * Replaces the columns and rows of the table with the values of the given data, firing a single structure
+	 * changed event
+	 *
+	 * @param columnKeys The keys of the columns in the table (null for no columns)
+	 * @param data The pojos to copy the values of (can be null)
+	 */
+	public void setData(List<String> columnKeys, List<OrderedMappedPojo> data){
+		setColumnKeysAndData(columnKeys, null, data);
+		fireTableStructureChanged();
+	}
+	
+	/**
+	 * @return The keys of the columns in the table
+	 */
+	public List<String> getColumnKeys(){
+		return columnKeys;
+	}
+	
+	/**
+	 * @param column The index of the column
+	 * @return The {@link ColumnStorage} of the given column, which can be used to read its values as primitives
+	 */
+	public ColumnStorage getColumn(int column){
+		return columns[column];
+	}
+	
+	/**
+	 * @param column The index of the column
+	 * @return The {@link ColumnType} of the given column
+	 */
+	public ColumnType getColumnType(int column){
+		return columns[column].getType();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int getRowCount(){
+		return rowCount;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int getColumnCount(){
+		return columns.length;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String getColumnName(int column){
+		return columnKeys.get(column);
+	}
+	
+	/**
+	 * @param columnIndex The index of the column
+	 * @return The class of the values in the column (based on its {@link ColumnType})
+	 */
+	@Override
+	public Class<?> getColumnClass(int columnIndex){
+		return columns[columnIndex].getType().getValueClass();
+	}
+	
+	/**
+	 * Finds the column with the given key using the column index
+	 *
+	 * @param columnName The key of the column to find
+	 * @return The index of the column, or -1 if it isn't in the table
+	 */
+	@Override
+	public int findColumn(String columnName){
+		Integer col = columnIndexes.get(columnName);
+		return col != null?col:-1;
+	}
+	
+	/**
+	 * @param rowIndex The index of the row
+	 * @param columnIndex The index of the column
+	 * @return true, as all cells are editable (like in a {@link DefaultTableModel})
+	 */
+	@Override
+	public boolean isCellEditable(int rowIndex, int columnIndex){
+		return true;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Object getValueAt(int rowIndex, int columnIndex){
+		return columns[columnIndex].get(rowIndex);
+	}
+	
+	/**
+	 * Sets the value in the given cell, converting the column to store Objects if its type doesn't accept the value
+	 *
+	 * @param aValue The new value
+	 * @param rowIndex The index of the row
+	 * @param columnIndex The index of the column
+	 */
+	@Override
+	public void setValueAt(Object aValue, int rowIndex, int columnIndex){
+		storageFor(columnIndex, aValue).set(rowIndex, aValue);
+		fireTableCellUpdated(rowIndex, columnIndex);
+		fireIfColumnsConverted();
+	}
+	
+	/**
+	 * @param column The index of the column
+	 * @param value A value to be stored in the column
+	 * @return The {@link ColumnStorage} of the column, converted to store Objects if its type doesn't accept the value
+	 */
+	private ColumnStorage storageFor(int column, Object value){
+		if(!columns[column].getType().accepts(value)){
+			convertToObjectStorage(column);
+		}
+		return columns[column];
+	}
+	
+	/**
+	 * Converts the given column to store Objects
+	 *
+	 * @param column The index of the column
+	 */
+	private void convertToObjectStorage(int column){
+		columns[column] = columns[column].toObjectStorage();
+		columnsConverted = true;
+	}
+	
+	/**
+	 * Fires a structure changed event if any columns were converted to store Objects since the last event, as
+	 * their column classes changed
+	 */
+	private void fireIfColumnsConverted(){
+		if(columnsConverted){
+			columnsConverted = false;
+			fireTableStructureChanged();
+		}
+	}
+	
+	/**
+	 * Adds the values of the given pojo to the end of the columns without firing an event
+	 *
+	 * @param pojo The {@link OrderedMappedPojo} to get the values from
+	 */
+	private void appendPojo(OrderedMappedPojo pojo){
+		for(int col = 0; col < columns.length; col++){
+			Object value = pojo.getItem(columnKeys.get(col));
+			storageFor(col, value).add(value);
+		}
+		rowCount++;
+	}
+	
+	/**
+	 * Adds a row to the end of the table using the values of the given pojo
+	 *
+	 * @param pojo The {@link OrderedMappedPojo} to get the values from
+	 */
+	public void addRow(OrderedMappedPojo pojo){
+		appendPojo(pojo);
+		fireTableRowsInserted(rowCount - 1, rowCount - 1);
+		fireIfColumnsConverted();
+	}
+	
+	/**
+	 * Adds rows to the end of the table using the values of the given pojos, firing a single event
+	 *
+	 * @param pojos The {@link OrderedMappedPojo}s to get the values from
+	 */
+	public void addRows(List<OrderedMappedPojo> pojos){
+		if(pojos.isEmpty()){
+			return;
+		}
+		int firstRow = rowCount;
+		for(OrderedMappedPojo pojo: pojos){
+			appendPojo(pojo);
+		}
+		fireTableRowsInserted(firstRow, rowCount - 1);
+		fireIfColumnsConverted();
+	}
+	
+	/**
+	 * Adds a row of nulls to the end of the table
+	 */
+	public void addEmptyRow(){
+		for(ColumnStorage column: columns){
+			column.add(null);
+		}
+		rowCount++;
+		fireTableRowsInserted(rowCount - 1, rowCount - 1);
+	}
+	
+	/**
+	 * Appends rows to the end of the table from an array of values for each column, firing a single event. An
+	 * array of the column's primitive type (e.g. an int[] for an {@link ColumnType#INT INT} column) is copied
+	 * straight into the column's chunks. Any other array is converted to {@link Object}s if the column doesn't
+	 * accept its values.
+	 *
+	 * @param columnValues An array of values for each column (all the same length)
+	 * @throws IllegalArgumentException If there isn't an array for each column or they aren't the same length
+	 */
+	public void appendColumns(Object ... columnValues){
+		if(columnValues.length != columns.length){
+			throw new IllegalArgumentException("Expected values for " + columns.length + " columns, but got " +
+					columnValues.length);
+		}
+		if(columns.length == 0){
+			return;
+		}
+		int length = Array.getLength(columnValues[0]);
+		for(Object values: columnValues){
+			if(Array.getLength(values) != length){
+				throw new IllegalArgumentException("All the columns must have the same number of values");
+			}
+		}
+		if(length == 0){
+			return;
+		}
+		
+		for(int col = 0; col < columns.length; col++){
+			if(!columns[col].acceptsArray(columnValues[col])){
+				convertToObjectStorage(col);
+			}
+			columns[col].appendArray(columnValues[col]);
+		}
+		int firstRow = rowCount;
+		rowCount += length;
+		fireTableRowsInserted(firstRow, rowCount - 1);
+		fireIfColumnsConverted();
+	}
+	
+	/**
+	 * Removes the given row from the table
+	 *
+	 * @param row The index of the row to remove
+	 */
+	public void removeRow(int row){
+		for(ColumnStorage column: columns){
+			column.remove(row);
+		}
+		rowCount--;
+		fireTableRowsDeleted(row, row);
+	}
+	
+	/**
+	 * Sorts the rows of the table by the values in the given column (with nulls first), keeping rows with equal
+	 * values in order. The values are compared straight out of the column's storage, without boxing them.
+	 *
+	 * @param column The index of the column to sort by
+	 * @return The indexes of the rows in sorted order
+	 */
+	public int[] getSortedRows(int column){
+		return columns[column].getSortedRows();
+	}
+}
@@ -0,0 +1,60 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Generated Row Source is a {@link RowSource} that creates each row as it's fetched, using a function of the row's
+ * index. It can be used for computed data or for trying out a {@link PagingTableModel} with a huge number of rows.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class GeneratedRowSource implements RowSource{
+	/** The keys of the columns of the rows */
+	private final List<String> columnKeys;
+	/** The total number of rows */
+	private final int rowCount;
+	/** The function used to create a row from its index */
+	private final IntFunction<OrderedMappedPojo> generator;
+	
+	/**
+	 * Constructs a new Generated Row Source with the given parameters
+	 *
+	 * @param columnKeys The keys of the columns of the rows
+	 * @param rowCount The total number of rows
+	 * @param generator The function used to create a row from its index
+	 */
+	public GeneratedRowSource(List<String> columnKeys, int rowCount, IntFunction<OrderedMappedPojo> generator){
+		this.columnKeys = columnKeys;
+		this.rowCount = rowCount;
+		this.generator = generator;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<String> getColumnKeys(){
+		return columnKeys;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int getRowCount(){
+		return rowCount;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<OrderedMappedPojo> getRows(int firstRow, int count){
+		int lastRow = Math.min(firstRow + count, rowCount);
+		List<OrderedMappedPojo> rows = new ArrayList<>(Math.max(0, lastRow - firstRow));
+		for(int row = firstRow; row < lastRow; row++){
+			rows.add(generator.apply(row));
+		}
+		return rows;
+	}
+}
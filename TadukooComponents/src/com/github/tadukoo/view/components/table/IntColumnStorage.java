@@ -0,0 +1,114 @@
+package com.github.tadukoo.view.components.table;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Int Column Storage is a {@link ColumnStorage} for {@link Integer} values, stored as ints
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class IntColumnStorage extends ColumnStorage{
+	/** The chunks of values */
+	private int[][] chunks = new int[0][];
+	
+	/** {@inheritDoc} */
+	@Override
+	public ColumnType getType(){
+		return ColumnType.INT;
+	}
+	
+	/**
+	 * @param row The index of the row
+	 * @return The value in the given row as a int (0 if it's null)
+	 */
+	public int getInt(int row){
+		return isNull(row)?0:chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+	}
+	
+	/**
+	 * Sets the value in the given row
+	 *
+	 * @param row The index of the row
+	 * @param value The value to set
+	 */
+	public void setInt(int row, int value){
+		Objects.checkIndex(row, size());
+		chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = value;
+		setNull(row, false);
+	}
+	
+	/**
+	 * Adds the given value to the end of the column
+	 *
+	 * @param value The value to add
+	 */
+	public void addInt(int value){
+		int row = appendRows(1);
+		chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = value;
+	}
+	
+	/**
+	 * Appends the given range of values to the end of the column, copying them a chunk at a time
+	 *
+	 * @param values The values to append
+	 * @param offset The index of the first value to append
+	 * @param length The number of values to append
+	 */
+	public void appendAll(int[] values, int offset, int length){
+		int row = appendRows(length);
+		copyIntoChunks(values, offset, chunks, row, length);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean acceptsArray(Object values){
+		return values instanceof int[] || super.acceptsArray(values);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void appendArray(Object values){
+		if(values instanceof int[] array){
+			appendAll(array, 0, array.length);
+		}else{
+			super.appendArray(values);
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void addChunk(int index){
+		if(index == chunks.length){
+			chunks = Arrays.copyOf(chunks, Math.max(4, chunks.length * 2));
+		}
+		chunks[index] = new int[CHUNK_SIZE];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected Object getValue(int row){
+		return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void setValue(int row, Object value){
+		chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = (Integer) value;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void moveValue(int from, int to){
+		chunks[to >>> CHUNK_SHIFT][to & CHUNK_MASK] = chunks[from >>> CHUNK_SHIFT][from & CHUNK_MASK];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected int compareValues(int rowA, int rowB){
+		return Integer.compare(chunks[rowA >>> CHUNK_SHIFT][rowA & CHUNK_MASK],
+				chunks[rowB >>> CHUNK_SHIFT][rowB & CHUNK_MASK]);
+	}
+}
@@ -0,0 +1,51 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * List Row Source is a {@link RowSource} for a {@link List} of {@link OrderedMappedPojo}s that's already in memory.
+ * Pages are copied out of the list, so later changes to the list don't affect pages that were already fetched.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class ListRowSource implements RowSource{
+	/** The keys of the columns of the rows */
+	private final List<String> columnKeys;
+	/** The rows */
+	private final List<OrderedMappedPojo> rows;
+	
+	/**
+	 * Constructs a new List Row Source for the given rows
+	 *
+	 * @param columnKeys The keys of the columns of the rows (null for no columns)
+	 * @param rows The rows (null for no rows)
+	 */
+	public ListRowSource(List<String> columnKeys, List<OrderedMappedPojo> rows){
+		this.columnKeys = columnKeys != null?columnKeys:Collections.emptyList();
+		this.rows = rows != null?rows:Collections.emptyList();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<String> getColumnKeys(){
+		return columnKeys;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int getRowCount(){
+		return rows.size();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<OrderedMappedPojo> getRows(int firstRow, int count){
+		return new ArrayList<>(rows.subList(firstRow, Math.min(firstRow + count, rows.size())));
+	}
+}
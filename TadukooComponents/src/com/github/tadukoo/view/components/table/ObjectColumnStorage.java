@@ -0,0 +1,106 @@
+package com.github.tadukoo.view.components.table;
+
+import java.util.Arrays;
+
+/**
+ * Object Column Storage is a {@link ColumnStorage} that stores any values as they are. It's used for columns whose
+ * values don't all fit one of the other {@link ColumnType}s.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class ObjectColumnStorage extends ColumnStorage{
+	/** The chunks of values */
+	private Object[][] chunks = new Object[0][];
+	
+	/** {@inheritDoc} */
+	@Override
+	public ColumnType getType(){
+		return ColumnType.OBJECT;
+	}
+	
+	/**
+	 * @param values An array of values
+	 * @return Whether the values are in an array (of any type, as primitive arrays are boxed)
+	 */
+	@Override
+	public boolean acceptsArray(Object values){
+		return values != null && values.getClass().isArray();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void appendArray(Object values){
+		if(values instanceof Object[] array){
+			int row = appendRows(array.length);
+			copyIntoChunks(array, 0, chunks, row, array.length);
+			for(int i = 0; i < array.length; i++){
+				if(array[i] == null){
+					setNull(row + i, true);
+				}
+			}
+		}else{
+			super.appendArray(values);
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void addChunk(int index){
+		if(index == chunks.length){
+			chunks = Arrays.copyOf(chunks, Math.max(4, chunks.length * 2));
+		}
+		chunks[index] = new Object[CHUNK_SIZE];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected Object getValue(int row){
+		return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void setValue(int row, Object value){
+		chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = value;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void moveValue(int from, int to){
+		chunks[to >>> CHUNK_SHIFT][to & CHUNK_MASK] = chunks[from >>> CHUNK_SHIFT][from & CHUNK_MASK];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void clearValue(int row){
+		super.clearValue(row);
+		chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = null;
+	}
+	
+	/**
+	 * Compares the values in the given rows. Values of the same class are compared naturally if they're
+	 * {@link Comparable}, and values of different classes are ordered by their class names first, so that the order
+	 * is consistent. Anything else is compared by its String value.
+	 *
+	 * @param rowA The index of the first row
+	 * @param rowB The index of the second row
+	 * @return A negative number, zero, or a positive number as the first value is less than, equal to, or greater
+	 * than the second
+	 */
+	@Override
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected int compareValues(int rowA, int rowB){
+		Object a = getValue(rowA), b = getValue(rowB);
+		if(a.getClass() != b.getClass()){
+			int classComparison = a.getClass().getName().compareTo(b.getClass().getName());
+			if(classComparison != 0){
+				return classComparison;
+			}
+		}else if(a instanceof Comparable comparable){
+			return comparable.compareTo(b);
+		}
+		return String.valueOf(a).compareTo(String.valueOf(b));
+	}
+}
@@ -0,0 +1,373 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import com.github.tadukoo.view.cache.EvictionPolicy;
+import com.github.tadukoo.view.cache.IntKeyedCache;
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paging Table Model is a read-only {@link javax.swing.table.TableModel} that fetches its rows a page at a time
+ * from a {@link RowSource}, so that tables can show far more rows than would fit in memory. Only the most recently
+ * used pages are kept (in an {@link IntKeyedCache} with {@link EvictionPolicy#LEAST_RECENTLY_USED LRU} eviction),
+ * and a page is fetched again if it's needed after being evicted.
+ * <br><br>
+ * Pages are fetched on an {@link Executor}, so asking for a value never blocks: until its page is loaded, a cell
+ * has the {@link #LOADING} placeholder as its value (or {@link #LOAD_FAILED} if fetching the page failed). Once a
+ * page is loaded, an update event for its rows is fired on the Event Dispatch Thread, so the table repaints them.
+ * Pages that failed to load aren't cached, so they're fetched again the next time their values are asked for or
+ * they're prefetched (the update event is only fired for the first failure, so repainting a page that keeps
+ * failing doesn't keep fetching it).
+ * {@link #prefetch(int, int)} can be used to load the pages around the visible rows before they're scrolled to
+ * (which {@link com.github.tadukoo.view.components.TadukooTable TadukooTable} does for its viewport).
+ * <br><br>
+ * The number of cached pages should be larger than the number of pages that are visible at once plus the ones
+ * being prefetched, or pages will be evicted while they're still being shown.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class PagingTableModel extends AbstractTableModel{
+	/** The default number of rows in a page */
+	public static final int DEFAULT_PAGE_SIZE = 200;
+	/** The default number of pages to keep in memory */
+	public static final int DEFAULT_CACHED_PAGES = 32;
+	/** The default number of pages to prefetch before and after the visible rows */
+	public static final int DEFAULT_PREFETCH_PAGES = 1;
+	/** The placeholder value for cells whose page is still loading */
+	public static final Object LOADING = new Placeholder("Loading...");
+	/** The placeholder value for cells whose page failed to load */
+	public static final Object LOAD_FAILED = new Placeholder("Failed to load");
+	
+	/**
+	 * A placeholder value that shows as the given text in a table
+	 */
+	private static class Placeholder{
+		/** The text to show for the placeholder */
+		private final String text;
+		
+		/**
+		 * Constructs a new Placeholder
+		 *
+		 * @param text The text to show for the placeholder
+		 */
+		private Placeholder(String text){
+			this.text = text;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public String toString(){
+			return text;
+		}
+	}
+	
+	/** The number of rows in a page */
+	private final int pageSize;
+	/** The number of pages to prefetch before and after the visible rows */
+	private final int prefetchPages;
+	/** The rows of the loaded pages, keyed by their index */
+	private final IntKeyedCache<List<OrderedMappedPojo>> pages;
+	/** The {@link Executor} to fetch pages on */
+	private final Executor executor;
+	/** The indexes of the pages that are being fetched */
+	private final Set<Integer> loadingPages = new HashSet<>();
+	/** The errors from fetching the pages that failed to load, keyed by their index */
+	private final Map<Integer, Exception> failedPages = new HashMap<>();
+	/** The {@link RowSource} to fetch rows from */
+	private RowSource rowSource;
+	/** The keys of the columns in the table */
+	private List<String> columnKeys;
+	/** The number of rows in the table */
+	private int rowCount;
+	/** Incremented when the rows are reset, so that pages fetched before then are thrown out */
+	private int generation = 0;
+	
+	/**
+	 * Constructs a new Paging Table Model for the given {@link RowSource}, using the default settings and fetching
+	 * pages on a background thread
+	 *
+	 * @param rowSource The {@link RowSource} to fetch rows from
+	 */
+	public PagingTableModel(RowSource rowSource){
+		this(rowSource, DEFAULT_PAGE_SIZE, DEFAULT_CACHED_PAGES, DEFAULT_PREFETCH_PAGES, createLoader());
+	}
+	
+	/**
+	 * Constructs a new Paging Table Model with the given parameters
+	 *
+	 * @param rowSource The {@link RowSource} to fetch rows from
+	 * @param pageSize The number of rows in a page
+	 * @param cachedPages The number of pages to keep in memory
+	 * @param prefetchPages The number of pages to prefetch before and after the visible rows
+	 * @param executor The {@link Executor} to fetch pages on
+	 * @throws IllegalArgumentException If the page size or number of cached pages isn't positive or the number of
+	 * pages to prefetch is negative
+	 */
+	public PagingTableModel(RowSource rowSource, int pageSize, int cachedPages, int prefetchPages,
+	                        Executor executor){
+		if(pageSize <= 0){
+			throw new IllegalArgumentException("Page size must be positive!");
+		}
+		if(cachedPages <= 0){
+			throw new IllegalArgumentException("Number of cached pages must be positive!");
+		}
+		if(prefetchPages < 0){
+			throw new IllegalArgumentException("Number of pages to prefetch can't be negative!");
+		}
+		this.pageSize = pageSize;
+		this.prefetchPages = prefetchPages;
+		pages = new IntKeyedCache<>(cachedPages, EvictionPolicy.LEAST_RECENTLY_USED);
+		this.executor = executor;
+		resetRows(rowSource);
+	}
+	
+	/**
+	 * @return An {@link Executor} that fetches pages one at a time on a background (daemon) thread, which stops
+	 * when it's been idle for a while
+	 */
+	private static Executor createLoader(){
+		ThreadPoolExecutor loader = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "Tadukoo Table Page Loader");
+					thread.setDaemon(true);
+					return thread;
+				});
+		loader.allowCoreThreadTimeOut(true);
+		return loader;
+	}
+	
+	/**
+	 * Switches to the given {@link RowSource} and throws out the loaded pages without firing an event
+	 *
+	 * @param rowSource The {@link RowSource} to fetch rows from
+	 */
+	private synchronized void resetRows(RowSource rowSource){
+		this.rowSource = rowSource;
+		columnKeys = List.copyOf(rowSource.getColumnKeys());
+		rowCount = rowSource.getRowCount();
+		generation++;
+		pages.clear();
+		loadingPages.clear();
+		failedPages.clear();
+	}
+	
+	/**
+	 * Switches to the given {@link RowSource}, firing a structure changed event
+	 *
+	 * @param rowSource The {@link RowSource} to fetch rows from
+	 */
+	public void setRowSource(RowSource rowSource){
+		resetRows(rowSource);
+		fireTableStructureChanged();
+	}
+	
+	/**
+	 * Throws out the loaded pages and gets the columns and number of rows from the {@link RowSource} again, for
+	 * when its rows have changed
+	 */
+	public void refresh(){
+		setRowSource(rowSource);
+	}
+	
+	/**
+	 * @return The {@link RowSource} rows are fetched from
+	 */
+	public RowSource getRowSource(){
+		return rowSource;
+	}
+	
+	/**
+	 * @return The number of rows in a page
+	 */
+	public int getPageSize(){
+		return pageSize;
+	}
+	
+	/**
+	 * @return The number of pages to prefetch before and after the visible rows
+	 */
+	public int getPrefetchPages(){
+		return prefetchPages;
+	}
+	
+	/**
+	 * @return The {@link IntKeyedCache} of loaded pages - can be used to check its hits, misses, and evictions
+	 */
+	public IntKeyedCache<?> getPageCache(){
+		return pages;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public synchronized int getRowCount(){
+		return rowCount;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public synchronized int getColumnCount(){
+		return columnKeys.size();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public synchronized String getColumnName(int column){
+		return columnKeys.get(column);
+	}
+	
+	/**
+	 * Gets the value of the given cell, or a placeholder if its page isn't loaded. If the page isn't loaded (and
+	 * isn't already being fetched), it's fetched in the background, which retries it if it failed to load before.
+	 *
+	 * @param rowIndex The index of the row
+	 * @param columnIndex The index of the column
+	 * @return The value of the cell, {@link #LOADING} if its page is being fetched, or {@link #LOAD_FAILED} if
+	 * fetching its page failed
+	 */
+	@Override
+	public Object getValueAt(int rowIndex, int columnIndex){
+		int pageIndex = rowIndex / pageSize;
+		List<OrderedMappedPojo> page = pages.get(pageIndex);
+		if(page == null){
+			requestPage(pageIndex);
+			return getLoadError(rowIndex) != null?LOAD_FAILED:LOADING;
+		}
+		int index = rowIndex - pageIndex * pageSize;
+		return index < page.size()?page.get(index).getItem(getColumnName(columnIndex)):null;
+	}
+	
+	/**
+	 * @param rowIndex The index of the row
+	 * @return Whether the page of the given row is loaded (whether it failed or not)
+	 */
+	public boolean isRowLoaded(int rowIndex){
+		return pages.get(rowIndex / pageSize) != null || getLoadError(rowIndex) != null;
+	}
+	
+	/**
+	 * @param rowIndex The index of the row
+	 * @return The error from the last time fetching the page of the given row failed, or null if it hasn't failed
+	 * (or it's been fetched since then)
+	 */
+	public synchronized Exception getLoadError(int rowIndex){
+		return failedPages.get(rowIndex / pageSize);
+	}
+	
+	/**
+	 * Fetches the pages of the given rows, along with the {@link #getPrefetchPages() pages to prefetch} before
+	 * and after them, if they aren't loaded. The pages of the given rows are fetched first.
+	 *
+	 * @param firstRow The index of the first visible row
+	 * @param lastRow The index of the last visible row
+	 */
+	public void prefetch(int firstRow, int lastRow){
+		int rowCount = getRowCount();
+		if(rowCount == 0){
+			return;
+		}
+		int firstPage = Math.max(0, firstRow) / pageSize;
+		int lastPage = Math.min(lastRow, rowCount - 1) / pageSize;
+		int maxPage = (rowCount - 1) / pageSize;
+		for(int pageIndex = firstPage; pageIndex <= lastPage; pageIndex++){
+			prefetchPage(pageIndex);
+		}
+		for(int distance = 1; distance <= prefetchPages; distance++){
+			if(lastPage + distance <= maxPage){
+				prefetchPage(lastPage + distance);
+			}
+			if(firstPage - distance >= 0){
+				prefetchPage(firstPage - distance);
+			}
+		}
+	}
+	
+	/**
+	 * Fetches the given page if it isn't loaded or failed to load (marking it as recently used if it is loaded)
+	 *
+	 * @param pageIndex The index of the page
+	 */
+	private void prefetchPage(int pageIndex){
+		if(pages.get(pageIndex) == null){
+			requestPage(pageIndex);
+		}
+	}
+	
+	/**
+	 * Fetches the given page on the {@link Executor}, unless it's already being fetched
+	 *
+	 * @param pageIndex The index of the page
+	 */
+	private void requestPage(int pageIndex){
+		RowSource source;
+		int firstRow, count, pageGeneration;
+		synchronized(this){
+			firstRow = pageIndex * pageSize;
+			count = Math.min(pageSize, rowCount - firstRow);
+			if(count <= 0 || !loadingPages.add(pageIndex)){
+				return;
+			}
+			source = rowSource;
+			pageGeneration = generation;
+		}
+		executor.execute(() -> loadPage(source, pageIndex, firstRow, count, pageGeneration));
+	}
+	
+	/**
+	 * Fetches the given page from the {@link RowSource} and caches it (or records the error if fetching it failed),
+	 * then fires an update event for its rows on the Event Dispatch Thread if they changed
+	 *
+	 * @param source The {@link RowSource} to fetch the rows from
+	 * @param pageIndex The index of the page
+	 * @param firstRow The index of the first row in the page
+	 * @param count The number of rows in the page
+	 * @param pageGeneration The generation of the rows when the page was requested
+	 */
+	private void loadPage(RowSource source, int pageIndex, int firstRow, int count, int pageGeneration){
+		List<OrderedMappedPojo> rows = null;
+		Exception error = null;
+		try{
+			rows = source.getRows(firstRow, count);
+		}catch(Exception e){
+			error = e;
+		}
+		synchronized(this){
+			// The rows were reset while the page was being fetched
+			if(pageGeneration != generation){
+				return;
+			}
+			loadingPages.remove(pageIndex);
+			if(error == null){
+				failedPages.remove(pageIndex);
+				pages.put(pageIndex, rows);
+			}else if(failedPages.put(pageIndex, error) != null){
+				// The rows already show as failed, and repainting them would just fetch the page again
+				return;
+			}
+		}
+		SwingUtilities.invokeLater(() -> {
+			if(isCurrentGeneration(pageGeneration)){
+				fireTableRowsUpdated(firstRow, firstRow + count - 1);
+			}
+		});
+	}
+	
+	/**
+	 * @param pageGeneration The generation of the rows when a page was requested
+	 * @return Whether the rows haven't been reset since then
+	 */
+	private synchronized boolean isCurrentGeneration(int pageGeneration){
+		return pageGeneration == generation;
+	}
+}
@@ -0,0 +1,216 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.pojo.AbstractOrderedMappedPojo;
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pojo Table Model is a {@link javax.swing.table.TableModel} backed directly by a {@link List} of
+ * {@link OrderedMappedPojo}s. Unlike {@link DefaultTableModel}, it doesn't copy the values into its own rows:
+ * values are read from and written to the pojos in place, so the table doesn't double the memory used by the
+ * data, and loading or saving the data doesn't need to visit every value.
+ * <br><br>
+ * The column keys are resolved into an index once when the data is set, so looking up a column by name doesn't
+ * need to search the keys. Events are coarse-grained: replacing the data fires a single structure changed event,
+ * and {@link #fireRowsUpdated()} can be used after changing the pojos outside the table.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class PojoTableModel extends AbstractTableModel{
+	/** The keys of the columns in the table */
+	private List<String> columnKeys;
+	/** The index of each column, keyed by its key */
+	private Map<String, Integer> columnIndexes;
+	/** The pojos backing the rows of the table */
+	private List<OrderedMappedPojo> data;
+	
+	/**
+	 * Constructs a new empty Pojo Table Model
+	 */
+	public PojoTableModel(){
+		this(null, null);
+	}
+	
+	/**
+	 * Constructs a new Pojo Table Model backed by the given data
+	 *
+	 * @param columnKeys The keys of the columns in the table (null for no columns)
+	 * @param data The pojos backing the rows of the table (null for a new empty list)
+	 */
+	public PojoTableModel(List<String> columnKeys, List<OrderedMappedPojo> data){
+		setColumnKeysAndData(columnKeys, data);
+	}
+	
+	/**
+	 * Sets the columns and rows without firing an event
+	 *
+	 * @param columnKeys The keys of the columns in the table (null for no columns)
+	 * @param data The pojos backing the rows of the table (null for a new empty list)
+	 */
+	private void setColumnKeysAndData(List<String> columnKeys, List<OrderedMappedPojo> data){
+		this.columnKeys = columnKeys != null?Collections.unmodifiableList(new ArrayList<>(columnKeys)):
+				Collections.emptyList();
+		Map<String, Integer> columnIndexes = new HashMap<>(this.columnKeys.size() * 2);
+		for(int col = 0; col < this.columnKeys.size(); col++){
+			columnIndexes.putIfAbsent(this.columnKeys.get(col), col);
+		}
+		this.columnIndexes = columnIndexes;
+		this.data = data != null?data:new ArrayList<>();
+	}
+	
+	/**
+	 * Replaces the columns and rows of the table, firing a single structure changed event
+	 *
+	 * @param columnKeys The keys of the columns in the table (null for no columns)
+	 * @param data The pojos backing the rows of the table (null for a new empty list)
+	 */
+	public void setData(List<String> columnKeys, List<OrderedMappedPojo> data){
+		setColumnKeysAndData(columnKeys, data);
+		fireTableStructureChanged();
+	}
+	
+	/**
+	 * @return The keys of the columns in the table
+	 */
+	public List<String> getColumnKeys(){
+		return columnKeys;
+	}
+	
+	/**
+	 * @return The pojos backing the rows of the table - this is the list itself, not a copy
+	 */
+	public List<OrderedMappedPojo> getData(){
+		return data;
+	}
+	
+	/**
+	 * @param row The index of the row
+	 * @return The pojo backing the given row
+	 */
+	public OrderedMappedPojo getPojo(int row){
+		return data.get(row);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int getRowCount(){
+		return data.size();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int getColumnCount(){
+		return columnKeys.size();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String getColumnName(int column){
+		return columnKeys.get(column);
+	}
+	
+	/**
+	 * Finds the column with the given key using the column index
+	 *
+	 * @param columnName The key of the column to find
+	 * @return The index of the column, or -1 if it isn't in the table
+	 */
+	@Override
+	public int findColumn(String columnName){
+		Integer col = columnIndexes.get(columnName);
+		return col != null?col:-1;
+	}
+	
+	/**
+	 * @param rowIndex The index of the row
+	 * @param columnIndex The index of the column
+	 * @return true, as all cells are editable (like in a {@link DefaultTableModel})
+	 */
+	@Override
+	public boolean isCellEditable(int rowIndex, int columnIndex){
+		return true;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Object getValueAt(int rowIndex, int columnIndex){
+		return data.get(rowIndex).getItem(columnKeys.get(columnIndex));
+	}
+	
+	/**
+	 * Sets the value on the pojo backing the given row
+	 *
+	 * @param aValue The new value
+	 * @param rowIndex The index of the row
+	 * @param columnIndex The index of the column
+	 */
+	@Override
+	public void setValueAt(Object aValue, int rowIndex, int columnIndex){
+		data.get(rowIndex).setItem(columnKeys.get(columnIndex), aValue);
+		fireTableCellUpdated(rowIndex, columnIndex);
+	}
+	
+	/**
+	 * Adds the given pojo to the end of the backing data (the pojo itself is added, it isn't copied)
+	 *
+	 * @param pojo The {@link OrderedMappedPojo} to add
+	 */
+	public void addRow(OrderedMappedPojo pojo){
+		data.add(pojo);
+		int row = data.size() - 1;
+		fireTableRowsInserted(row, row);
+	}
+	
+	/**
+	 * Adds a new empty pojo (whose key order is the column keys) to the end of the backing data
+	 */
+	public void addEmptyRow(){
+		addRow(createEmptyPojo(columnKeys));
+	}
+	
+	/**
+	 * Removes the pojo backing the given row from the data
+	 *
+	 * @param row The index of the row to remove
+	 */
+	public void removeRow(int row){
+		data.remove(row);
+		fireTableRowsDeleted(row, row);
+	}
+	
+	/**
+	 * Fires an event for all the rows being updated (but not the columns), which is what's needed after changing
+	 * the values of the pojos outside the table
+	 */
+	public void fireRowsUpdated(){
+		if(!data.isEmpty()){
+			fireTableChanged(new TableModelEvent(this, 0, data.size() - 1, TableModelEvent.ALL_COLUMNS,
+					TableModelEvent.UPDATE));
+		}
+	}
+	
+	/**
+	 * Creates a new empty {@link OrderedMappedPojo} with the given key order
+	 *
+	 * @param keyOrder The key order of the pojo
+	 * @return A new empty {@link OrderedMappedPojo}
+	 */
+	public static OrderedMappedPojo createEmptyPojo(List<String> keyOrder){
+		return new AbstractOrderedMappedPojo(){
+			@Override
+			public List<String> getKeyOrder(){
+				return keyOrder;
+			}
+		};
+	}
+}
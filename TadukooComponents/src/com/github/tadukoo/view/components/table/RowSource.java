@@ -0,0 +1,40 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+
+import java.util.List;
+
+/**
+ * Row Source provides the rows of a {@link PagingTableModel} a page at a time, so that the rows don't all need to
+ * be in memory at once. It can be backed by anything that can fetch a range of rows (e.g. a file, a database
+ * query, or a generator).
+ * <br><br>
+ * {@link #getRows(int, int)} is called on a background thread, so it's fine for it to block, and implementations
+ * need to be safe to call from a thread other than the one that created them.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public interface RowSource{
+	
+	/**
+	 * @return The keys of the columns of the rows
+	 */
+	List<String> getColumnKeys();
+	
+	/**
+	 * @return The total number of rows
+	 */
+	int getRowCount();
+	
+	/**
+	 * Fetches the given range of rows
+	 *
+	 * @param firstRow The index of the first row to fetch
+	 * @param count The number of rows to fetch
+	 * @return The rows, as {@link OrderedMappedPojo}s - can be fewer than the count if there aren't that many rows
+	 * @throws Exception If the rows couldn't be fetched (the rows will show as failed in the table)
+	 */
+	List<OrderedMappedPojo> getRows(int firstRow, int count) throws Exception;
+}
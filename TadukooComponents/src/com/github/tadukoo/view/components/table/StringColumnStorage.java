@@ -0,0 +1,99 @@
+package com.github.tadukoo.view.components.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * String Column Storage is a {@link ColumnStorage} for {@link String} values that is dictionary-encoded: each
+ * distinct String is stored once, and each row only stores the int code of its String. This works well for
+ * columns with many repeated values (e.g. names, categories, or statuses).
+ * <br><br>
+ * Strings are never removed from the dictionary, even once no rows use them, so a column whose values are edited
+ * or removed a lot keeps every String it's ever stored alive. Columns with mostly distinct values (e.g. free text)
+ * are better stored as {@link ColumnType#OBJECT Objects}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class StringColumnStorage extends ColumnStorage{
+	/** The chunks of codes */
+	private int[][] chunks = new int[0][];
+	/** The distinct Strings, indexed by their code */
+	private final List<String> dictionary = new ArrayList<>();
+	/** The code of each distinct String */
+	private final Map<String, Integer> codes = new HashMap<>();
+	
+	/** {@inheritDoc} */
+	@Override
+	public ColumnType getType(){
+		return ColumnType.STRING;
+	}
+	
+	/**
+	 * @return The number of distinct Strings that have been stored in the column
+	 */
+	public int getDictionarySize(){
+		return dictionary.size();
+	}
+	
+	/**
+	 * @param row The index of the row
+	 * @return The code of the String in the given row (-1 if it's null)
+	 */
+	public int getCode(int row){
+		return isNull(row)?-1:chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+	}
+	
+	/**
+	 * @param value The String to encode
+	 * @return The code of the String, adding it to the dictionary if it's new
+	 */
+	private int encode(String value){
+		Integer code = codes.get(value);
+		if(code == null){
+			code = dictionary.size();
+			dictionary.add(value);
+			codes.put(value, code);
+		}
+		return code;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void addChunk(int index){
+		if(index == chunks.length){
+			chunks = Arrays.copyOf(chunks, Math.max(4, chunks.length * 2));
+		}
+		chunks[index] = new int[CHUNK_SIZE];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected Object getValue(int row){
+		return dictionary.get(chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK]);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void setValue(int row, Object value){
+		chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = encode((String) value);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void moveValue(int from, int to){
+		chunks[to >>> CHUNK_SHIFT][to & CHUNK_MASK] = chunks[from >>> CHUNK_SHIFT][from & CHUNK_MASK];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected int compareValues(int rowA, int rowB){
+		int codeA = chunks[rowA >>> CHUNK_SHIFT][rowA & CHUNK_MASK];
+		int codeB = chunks[rowB >>> CHUNK_SHIFT][rowB & CHUNK_MASK];
+		return codeA == codeB?0:dictionary.get(codeA).compareTo(dictionary.get(codeB));
+	}
+}
@@ -0,0 +1,110 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import com.github.tadukoo.view.components.TadukooTable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table Change Set holds the changes that were applied to a {@link List} of {@link OrderedMappedPojo}s when
+ * {@link TadukooTable#applyChanges(List) updating them} from a table: which pojos had which keys changed, and which
+ * pojos were inserted or removed. It can be used to only persist what actually changed.
+ * <br><br>
+ * If the changes couldn't be tracked (e.g. the data was replaced or the pojos being updated aren't the ones the
+ * table was loaded with), every value is copied, and the change set is a {@link #isFullUpdate() full update} that
+ * lists every pojo as updated.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class TableChangeSet{
+	/** The updated pojos */
+	private final List<OrderedMappedPojo> data;
+	/** Whether every value was copied because the changes couldn't be tracked */
+	private final boolean fullUpdate;
+	/** The pojos that had values changed (in row order) */
+	private final List<OrderedMappedPojo> updatedPojos;
+	/** The keys that changed on each updated pojo */
+	private final Map<OrderedMappedPojo, Set<String>> changedKeys;
+	/** The pojos that were inserted (in row order) */
+	private final List<OrderedMappedPojo> insertedPojos;
+	/** The pojos that were removed */
+	private final List<OrderedMappedPojo> removedPojos;
+	
+	/**
+	 * Constructs a new Table Change Set with the given parameters
+	 *
+	 * @param data The updated pojos
+	 * @param fullUpdate Whether every value was copied because the changes couldn't be tracked
+	 * @param updatedPojos The pojos that had values changed (in row order)
+	 * @param changedKeys The keys that changed on each updated pojo (should be an {@link IdentityHashMap})
+	 * @param insertedPojos The pojos that were inserted (in row order)
+	 * @param removedPojos The pojos that were removed
+	 */
+	public TableChangeSet(List<OrderedMappedPojo> data, boolean fullUpdate, List<OrderedMappedPojo> updatedPojos,
+	                      Map<OrderedMappedPojo, Set<String>> changedKeys, List<OrderedMappedPojo> insertedPojos,
+	                      List<OrderedMappedPojo> removedPojos){
+		this.data = data;
+		this.fullUpdate = fullUpdate;
+		this.updatedPojos = Collections.unmodifiableList(updatedPojos);
+		this.changedKeys = Collections.unmodifiableMap(changedKeys);
+		this.insertedPojos = Collections.unmodifiableList(insertedPojos);
+		this.removedPojos = Collections.unmodifiableList(removedPojos);
+	}
+	
+	/**
+	 * @return The updated pojos
+	 */
+	public List<OrderedMappedPojo> getData(){
+		return data;
+	}
+	
+	/**
+	 * @return Whether every value was copied because the changes couldn't be tracked
+	 */
+	public boolean isFullUpdate(){
+		return fullUpdate;
+	}
+	
+	/**
+	 * @return Whether nothing changed
+	 */
+	public boolean isEmpty(){
+		return !fullUpdate && updatedPojos.isEmpty() && insertedPojos.isEmpty() && removedPojos.isEmpty();
+	}
+	
+	/**
+	 * @return The pojos that had values changed (in row order) - doesn't include inserted pojos
+	 */
+	public List<OrderedMappedPojo> getUpdatedPojos(){
+		return updatedPojos;
+	}
+	
+	/**
+	 * @param pojo One of the {@link #getUpdatedPojos() updated pojos}
+	 * @return The keys that changed on the pojo (empty if it wasn't updated)
+	 */
+	public Set<String> getChangedKeys(OrderedMappedPojo pojo){
+		Set<String> keys = changedKeys.get(pojo);
+		return keys != null?Collections.unmodifiableSet(keys):Collections.emptySet();
+	}
+	
+	/**
+	 * @return The pojos that were inserted (in row order)
+	 */
+	public List<OrderedMappedPojo> getInsertedPojos(){
+		return insertedPojos;
+	}
+	
+	/**
+	 * @return The pojos that were removed
+	 */
+	public List<OrderedMappedPojo> getRemovedPojos(){
+		return removedPojos;
+	}
+}
@@ -0,0 +1,409 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Table Change Tracker listens to the {@link TableModelEvent}s of a {@link TableModel} to keep track of which cells
+ * were edited and which rows were inserted or removed since the data was last loaded (or saved). This lets the
+ * changes be {@link #applyChanges(TableModel, List) applied} to the {@link OrderedMappedPojo}s the table was loaded
+ * with by only setting the values that changed, instead of copying every value in the table.
+ * <br><br>
+ * Rows are tracked by the index they had when the data was loaded, so rows can be inserted and removed anywhere.
+ * Nothing is stored for rows that weren't edited until a row is inserted before or removed from the loaded rows.
+ * If an event changes the whole table (e.g. a structure changed event or
+ * {@link javax.swing.table.AbstractTableModel#fireTableDataChanged()}), the edits can't be known anymore, so every
+ * value will be copied the next time the changes are applied.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class TableChangeTracker implements TableModelListener{
+	/** The pojos the table was loaded with (a copy of the list for a {@link PojoTableModel}, as it changes) */
+	private List<OrderedMappedPojo> baseline;
+	/** The number of rows in the table when the data was loaded */
+	private int baselineRowCount;
+	/** The current number of rows in the table */
+	private int rowCount;
+	/** Whether the changes can't be tracked anymore and every value must be copied */
+	private boolean fullUpdate;
+	/** The columns that were edited in each row, keyed by the current index of the row */
+	private final TreeMap<Integer, BitSet> editedCells = new TreeMap<>();
+	/**
+	 * The loaded index of each current row (or -1 for an inserted row) - this is null until a loaded row is moved,
+	 * in which case every loaded row is still at its index and any rows after them are inserted
+	 */
+	private int[] rowOrigins;
+	
+	/**
+	 * Constructs a new Table Change Tracker with no data loaded
+	 */
+	public TableChangeTracker(){
+		baseline = null;
+		baselineRowCount = 0;
+		rowCount = 0;
+		fullUpdate = false;
+		rowOrigins = null;
+	}
+	
+	/**
+	 * Starts tracking changes from the current state of the given model, which was loaded with the given data
+	 *
+	 * @param model The {@link TableModel} being tracked
+	 * @param data The pojos the table was loaded with
+	 */
+	public void reset(TableModel model, List<OrderedMappedPojo> data){
+		// Only the references are copied, so that we still know the pojos of any removed rows
+		baseline = model instanceof PojoTableModel pojoModel?new ArrayList<>(pojoModel.getData()):data;
+		baselineRowCount = model.getRowCount();
+		rowCount = baselineRowCount;
+		fullUpdate = false;
+		editedCells.clear();
+		rowOrigins = null;
+	}
+	
+	/**
+	 * @return Whether the table has changed since the data was loaded (or the changes were last applied)
+	 */
+	public boolean hasChanges(){
+		return fullUpdate || !editedCells.isEmpty() || rowOrigins != null || rowCount != baselineRowCount;
+	}
+	
+	/**
+	 * @return Whether the changes can't be tracked anymore and every value must be copied
+	 */
+	public boolean isFullUpdate(){
+		return fullUpdate;
+	}
+	
+	/**
+	 * @return The number of cells that were edited in rows that were loaded or inserted
+	 */
+	public int getEditedCellCount(){
+		int count = 0;
+		for(BitSet columns: editedCells.values()){
+			count += columns.cardinality();
+		}
+		return count;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void tableChanged(TableModelEvent e){
+		if(fullUpdate){
+			return;
+		}
+		int firstRow = e.getFirstRow();
+		int lastRow = e.getLastRow();
+		switch(e.getType()){
+			case TableModelEvent.INSERT -> rowsInserted(firstRow, lastRow - firstRow + 1);
+			case TableModelEvent.DELETE -> rowsDeleted(firstRow, lastRow - firstRow + 1);
+			default -> {
+				if(firstRow == TableModelEvent.HEADER_ROW || lastRow == Integer.MAX_VALUE){
+					// The whole table changed, so we can't tell what was edited
+					fullUpdate = true;
+					editedCells.clear();
+				}else{
+					cellsUpdated(firstRow, lastRow, e.getColumn(), ((TableModel) e.getSource()).getColumnCount());
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Marks the given cells as edited
+	 *
+	 * @param firstRow The first row that was updated
+	 * @param lastRow The last row that was updated
+	 * @param column The column that was updated, or {@link TableModelEvent#ALL_COLUMNS}
+	 * @param columnCount The number of columns in the table
+	 */
+	private void cellsUpdated(int firstRow, int lastRow, int column, int columnCount){
+		for(int row = firstRow; row <= lastRow; row++){
+			BitSet columns = editedCells.computeIfAbsent(row, r -> new BitSet(columnCount));
+			if(column == TableModelEvent.ALL_COLUMNS){
+				columns.set(0, columnCount);
+			}else{
+				columns.set(column);
+			}
+		}
+	}
+	
+	/**
+	 * Keeps track of rows that were inserted
+	 *
+	 * @param firstRow The index of the first inserted row
+	 * @param count The number of inserted rows
+	 */
+	private void rowsInserted(int firstRow, int count){
+		// Rows inserted after the loaded rows don't move them
+		if(rowOrigins != null || firstRow < baselineRowCount){
+			int[] origins = getRowOrigins();
+			int[] newOrigins = new int[rowCount + count];
+			System.arraycopy(origins, 0, newOrigins, 0, firstRow);
+			Arrays.fill(newOrigins, firstRow, firstRow + count, -1);
+			System.arraycopy(origins, firstRow, newOrigins, firstRow + count, rowCount - firstRow);
+			rowOrigins = newOrigins;
+		}
+		rowCount += count;
+		shiftEditedCells(firstRow, count);
+	}
+	
+	/**
+	 * Keeps track of rows that were removed
+	 *
+	 * @param firstRow The index of the first removed row
+	 * @param count The number of removed rows
+	 */
+	private void rowsDeleted(int firstRow, int count){
+		// Removing inserted rows after the loaded rows doesn't move them
+		if(rowOrigins != null || firstRow < baselineRowCount){
+			int[] origins = getRowOrigins();
+			int[] newOrigins = new int[rowCount - count];
+			System.arraycopy(origins, 0, newOrigins, 0, firstRow);
+			System.arraycopy(origins, firstRow + count, newOrigins, firstRow, rowCount - firstRow - count);
+			rowOrigins = newOrigins;
+		}
+		rowCount -= count;
+		editedCells.subMap(firstRow, firstRow + count).clear();
+		shiftEditedCells(firstRow + count, -count);
+	}
+	
+	/**
+	 * Moves the edited cells of the rows starting at the given row by the given amount
+	 *
+	 * @param fromRow The first row to move
+	 * @param shift The amount to move the rows by
+	 */
+	private void shiftEditedCells(int fromRow, int shift){
+		Map<Integer, BitSet> moved = editedCells.tailMap(fromRow);
+		if(moved.isEmpty()){
+			return;
+		}
+		List<Map.Entry<Integer, BitSet>> entries = new ArrayList<>(moved.entrySet());
+		moved.clear();
+		for(Map.Entry<Integer, BitSet> entry: entries){
+			editedCells.put(entry.getKey() + shift, entry.getValue());
+		}
+	}
+	
+	/**
+	 * @return The loaded index of each current row (or -1 for an inserted row), creating it if needed
+	 */
+	private int[] getRowOrigins(){
+		if(rowOrigins == null){
+			int[] origins = new int[rowCount];
+			for(int row = 0; row < rowCount; row++){
+				origins[row] = row < baselineRowCount?row:-1;
+			}
+			return origins;
+		}
+		return rowOrigins;
+	}
+	
+	/**
+	 * @param row The current index of a row
+	 * @return The index the row had when the data was loaded, or -1 if it was inserted
+	 */
+	private int getRowOrigin(int row){
+		if(rowOrigins != null){
+			return rowOrigins[row];
+		}
+		return row < baselineRowCount?row:-1;
+	}
+	
+	/**
+	 * Updates the given data to match the values in the table. If the table is using a {@link PojoTableModel}
+	 * backed by the data, the values are already in place. If the data is the list of pojos the table was loaded
+	 * with, only the edited values are set and the inserted and removed rows are added and removed. Otherwise
+	 * (or if the changes couldn't be tracked), every value is copied from the table. Afterwards, changes are
+	 * tracked from the updated data. A {@link PagingTableModel} can't be edited, so the data is left as is.
+	 *
+	 * @param model The {@link TableModel} being tracked
+	 * @param data The {@link List} of pojos to be updated (can be null to create a new one)
+	 * @return The {@link TableChangeSet} with the changes that were made to the data
+	 */
+	public TableChangeSet applyChanges(TableModel model, List<OrderedMappedPojo> data){
+		// Get the key order from the model
+		List<String> keys = new ArrayList<>(model.getColumnCount());
+		for(int col = 0; col < model.getColumnCount(); col++){
+			keys.add(model.getColumnName(col));
+		}
+		
+		// The paging table model is read-only, so nothing can change
+		if(model instanceof PagingTableModel){
+			return new TableChangeSet(data != null?data:new ArrayList<>(), false, Collections.emptyList(),
+					Collections.emptyMap(), Collections.emptyList(), Collections.emptyList());
+		}
+		
+		TableChangeSet changeSet;
+		if(model instanceof PojoTableModel pojoModel && (data == null || data == pojoModel.getData())){
+			// The pojo table model's values are already in its data
+			changeSet = fullUpdate?copyAll(model, pojoModel.getData(), keys, false):
+					applyTracked(model, pojoModel.getData(), keys, false);
+		}else if(!fullUpdate && data != null && data == baseline && data.size() == baselineRowCount &&
+				model.getRowCount() == rowCount){
+			changeSet = applyTracked(model, data, keys, true);
+		}else{
+			changeSet = copyAll(model, data, keys, true);
+		}
+		
+		// The data now matches the table
+		reset(model, changeSet.getData());
+		return changeSet;
+	}
+	
+	/**
+	 * Applies the tracked changes to the data
+	 *
+	 * @param model The {@link TableModel} being tracked
+	 * @param data The pojos the table was loaded with (or the pojos backing a {@link PojoTableModel})
+	 * @param keys The keys of the columns in the table
+	 * @param copy Whether to copy the changed values into the data (false if they're already in place)
+	 * @return The {@link TableChangeSet} with the changes that were made to the data
+	 */
+	private TableChangeSet applyTracked(TableModel model, List<OrderedMappedPojo> data, List<String> keys,
+	                                    boolean copy){
+		List<OrderedMappedPojo> updatedPojos = new ArrayList<>();
+		Map<OrderedMappedPojo, Set<String>> changedKeys = new IdentityHashMap<>();
+		List<OrderedMappedPojo> insertedPojos = new ArrayList<>();
+		List<OrderedMappedPojo> removedPojos = new ArrayList<>();
+		
+		// Find the pojo of each current row, making new pojos for inserted rows
+		List<OrderedMappedPojo> rows;
+		if(rowOrigins == null){
+			// The loaded rows are all still in place, so only the inserted rows after them need to be visited
+			rows = data;
+			for(int row = baselineRowCount; row < rowCount; row++){
+				OrderedMappedPojo pojo = copy?copyRow(model, row, keys, null):data.get(row);
+				if(copy){
+					data.add(pojo);
+				}
+				insertedPojos.add(pojo);
+			}
+		}else{
+			rows = copy?new ArrayList<>(rowCount):data;
+			boolean[] kept = new boolean[baselineRowCount];
+			for(int row = 0; row < rowCount; row++){
+				int origin = rowOrigins[row];
+				if(origin >= 0){
+					kept[origin] = true;
+					if(copy){
+						rows.add(baseline.get(origin));
+					}
+				}else{
+					OrderedMappedPojo pojo = copy?copyRow(model, row, keys, null):data.get(row);
+					if(copy){
+						rows.add(pojo);
+					}
+					insertedPojos.add(pojo);
+				}
+			}
+			for(int origin = 0; origin < baselineRowCount; origin++){
+				if(!kept[origin]){
+					removedPojos.add(baseline.get(origin));
+				}
+			}
+		}
+		
+		// Set the edited values on the loaded rows (inserted rows already have all their values)
+		for(Map.Entry<Integer, BitSet> entry: editedCells.entrySet()){
+			int row = entry.getKey();
+			if(getRowOrigin(row) < 0){
+				continue;
+			}
+			OrderedMappedPojo pojo = rows.get(row);
+			Set<String> pojoKeys = new LinkedHashSet<>();
+			BitSet columns = entry.getValue();
+			for(int col = columns.nextSetBit(0); col >= 0 && col < keys.size(); col = columns.nextSetBit(col + 1)){
+				if(copy){
+					pojo.setItem(keys.get(col), model.getValueAt(row, col));
+				}
+				pojoKeys.add(keys.get(col));
+			}
+			updatedPojos.add(pojo);
+			changedKeys.put(pojo, pojoKeys);
+		}
+		
+		// Swap in the new order of the rows if they moved
+		if(copy && rows != data){
+			data.clear();
+			data.addAll(rows);
+		}
+		
+		return new TableChangeSet(data, false, updatedPojos, changedKeys, insertedPojos, removedPojos);
+	}
+	
+	/**
+	 * Copies every value from the table into the data, for when the changes can't be tracked
+	 *
+	 * @param model The {@link TableModel} being tracked
+	 * @param data The {@link List} of pojos to be updated (can be null to create a new one)
+	 * @param keys The keys of the columns in the table
+	 * @param copy Whether to copy the values into the data (false if they're already in place)
+	 * @return The {@link TableChangeSet} that lists every pojo as updated
+	 */
+	private TableChangeSet copyAll(TableModel model, List<OrderedMappedPojo> data, List<String> keys,
+	                               boolean copy){
+		// If the data is null, create a new table
+		if(data == null){
+			data = new ArrayList<>();
+		}
+		
+		List<OrderedMappedPojo> updatedPojos = new ArrayList<>();
+		Map<OrderedMappedPojo, Set<String>> changedKeys = new IdentityHashMap<>();
+		List<OrderedMappedPojo> insertedPojos = new ArrayList<>();
+		Set<String> allKeys = Collections.unmodifiableSet(new LinkedHashSet<>(keys));
+		
+		// Iterate over all the table rows
+		int dataSize = data.size();
+		for(int row = 0; row < model.getRowCount(); row++){
+			if(row < dataSize){
+				// Grab the pojo from the data if there's enough rows
+				OrderedMappedPojo pojo = copy?copyRow(model, row, keys, data.get(row)):data.get(row);
+				updatedPojos.add(pojo);
+				changedKeys.put(pojo, allKeys);
+			}else{
+				// Make a new pojo if the data is too small
+				OrderedMappedPojo pojo = copyRow(model, row, keys, null);
+				data.add(pojo);
+				insertedPojos.add(pojo);
+			}
+		}
+		
+		return new TableChangeSet(data, true, updatedPojos, changedKeys, insertedPojos, Collections.emptyList());
+	}
+	
+	/**
+	 * Sets every value of the given row on a pojo
+	 *
+	 * @param model The {@link TableModel} to get the values from
+	 * @param row The index of the row
+	 * @param keys The keys of the columns in the table
+	 * @param pojo The pojo to set the values on (null to create a new one)
+	 * @return The pojo with the values of the row
+	 */
+	private static OrderedMappedPojo copyRow(TableModel model, int row, List<String> keys, OrderedMappedPojo pojo){
+		if(pojo == null){
+			pojo = PojoTableModel.createEmptyPojo(keys);
+		}
+		for(int col = 0; col < keys.size(); col++){
+			pojo.setItem(keys.get(col), model.getValueAt(row, col));
+		}
+		return pojo;
+	}
+}
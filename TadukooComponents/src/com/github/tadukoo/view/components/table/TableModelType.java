@@ -0,0 +1,37 @@
+package com.github.tadukoo.view.components.table;
+
+import com.github.tadukoo.util.pojo.OrderedMappedPojo;
+import com.github.tadukoo.view.components.TadukooTable;
+
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
+
+/**
+ * An enum used to pick the {@link TableModel} used by a {@link TadukooTable}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public enum TableModelType{
+	/**
+	 * Uses a {@link DefaultTableModel}, which copies the values of the {@link OrderedMappedPojo}s into its own rows
+	 * (and copies them back when the pojos are updated)
+	 */
+	DEFAULT,
+	/**
+	 * Uses a {@link PojoTableModel}, which reads and writes the {@link OrderedMappedPojo}s in place, without copying
+	 * them
+	 */
+	POJO,
+	/**
+	 * Uses a {@link ColumnarTableModel}, which copies the values of the {@link OrderedMappedPojo}s into a column
+	 * each, storing int, long, and double values as primitives and {@link String}s dictionary-encoded
+	 */
+	COLUMNAR,
+	/**
+	 * Uses a read-only {@link PagingTableModel}, which fetches pages of rows from a {@link RowSource} as they're
+	 * needed, so the rows don't all need to be in memory
+	 */
+	PAGING
+}
@@ -0,0 +1,8 @@
+/**
+ * Contains the {@link javax.swing.table.TableModel TableModels} that can be used by
+ * {@link com.github.tadukoo.view.components.TadukooTable TadukooTable} (selected using a
+ * {@link com.github.tadukoo.view.components.table.TableModelType TableModelType}), along with the tracking of
+ * changes made to its data and the {@link com.github.tadukoo.view.components.table.RowSource RowSources} that
+ * paging tables fetch their rows from
+ */
+package com.github.tadukoo.view.components.table;
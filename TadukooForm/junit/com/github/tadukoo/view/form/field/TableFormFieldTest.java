@@ -7,6 +7,8 @@ import com.github.tadukoo.util.pojo.AbstractOrderedMappedPojo;
 import com.github.tadukoo.util.pojo.OrderedMappedPojo;
 import com.github.tadukoo.view.border.ShapedLineBorder;
 import com.github.tadukoo.view.components.TadukooTable;
+import com.github.tadukoo.view.components.table.PojoTableModel;
+import com.github.tadukoo.view.components.table.TableModelType;
 import com.github.tadukoo.view.font.FontFamilies;
 import com.github.tadukoo.view.font.FontResourceLoader;
 import com.github.tadukoo.view.paint.SizableColor;
@@ -27,6 +29,7 @@ import java.util.logging.Level;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TableFormFieldTest{
@@ -302,4 +305,42 @@ public class TableFormFieldTest{
 		assertEquals(5, resultPojo.getItem("Derp"));
 		assertEquals("Yep", resultPojo.getItem("Test"));
 	}
+	
+	@Test
+	public void testDefaultTableModelType(){
+		assertEquals(TableModelType.DEFAULT, field.getTableModelType());
+	}
+	
+	@Test
+	public void testSetTableModelType(){
+		field = TableFormField.builder().tableModelType(TableModelType.POJO).build();
+		assertEquals(TableModelType.POJO, field.getTableModelType());
+	}
+	
+	@Test
+	public void testGetComponentPojoTableModel(){
+		field = TableFormField.builder().defaultValue(table).tableModelType(TableModelType.POJO).build();
+		TadukooTable component = (TadukooTable) field.getComponent();
+		assertEquals(TableModelType.POJO, component.getTableModelType());
+		assertTrue(component.getTableModel() instanceof PojoTableModel);
+	}
+	
+	@Test
+	public void testGetValuePojoTableModel(){
+		OrderedMappedPojo pojo = new AbstractOrderedMappedPojo(){
+			@Override
+			public List<String> getKeyOrder(){
+				return ListUtil.createList("Derp", "Test");
+			}
+		};
+		pojo.setItem("Derp", 5);
+		table.add(pojo);
+		field = TableFormField.builder().defaultValue(table).tableModelType(TableModelType.POJO).build();
+		TadukooTable component = (TadukooTable) field.getComponent();
+		component.getTable().setValueAt("Yep", 0, 1);
+		
+		List<OrderedMappedPojo> result = field.getValue(component);
+		assertSame(table, result);
+		assertEquals("Yep", result.get(0).getItem("Test"));
+	}
 }
@@ -3,6 +3,7 @@ package com.github.tadukoo.view.form.field;
 import com.github.tadukoo.util.logger.EasyLogger;
 import com.github.tadukoo.util.pojo.OrderedMappedPojo;
 import com.github.tadukoo.view.components.TadukooTable;
+import com.github.tadukoo.view.components.table.TableModelType;
 import com.github.tadukoo.view.font.FontFamily;
 import com.github.tadukoo.view.font.FontResourceLoader;
 import com.github.tadukoo.view.form.SimpleForm;
@@ -11,6 +12,7 @@ import com.github.tadukoo.view.shapes.ShapeInfo;
 
 import javax.swing.JComponent;
 import javax.swing.border.Border;
+import javax.swing.table.TableModel;
 import java.awt.GraphicsEnvironment;
 import java.util.List;
 
@@ -18,7 +20,7 @@ import java.util.List;
  * Table Form Field is a {@link FormField} used to show a {@link List} of {@link OrderedMappedPojo}s in a form
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class TableFormField extends FormField<List<OrderedMappedPojo>>{
@@ -93,6 +95,11 @@ public class TableFormField extends FormField<List<OrderedMappedPojo>>{
 	 *         <td>The column span of the field</td>
 	 *         <td>Defaults to 1</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>tableModelType</td>
+	 *         <td>The {@link TableModelType} to determine the {@link TableModel} used by the {@link TadukooTable}</td>
+	 *         <td>Defaults to {@link TableModelType#DEFAULT}</td>
+	 *     </tr>
 	 * </table>
 	 * This builder also provides methods and parameters for {@link FontResourceLoader font resource loading}:
 	 * <table>
@@ -139,6 +146,8 @@ public class TableFormField extends FormField<List<OrderedMappedPojo>>{
 	 * @since Alpha v.0.2
 	 */
 	public static class TableFormFieldBuilder extends FormFieldBuilder<List<OrderedMappedPojo>>{
+		/** The {@link TableModelType} to determine the {@link TableModel} used by the {@link TadukooTable} */
+		private TableModelType tableModelType = TableModelType.DEFAULT;
 		
 		/** Not allowed to create a TableFormFieldBuilder outside of TableFormField */
 		private TableFormFieldBuilder(){
@@ -281,6 +290,20 @@ public class TableFormField extends FormField<List<OrderedMappedPojo>>{
 			return this;
 		}
 		
+		/*
+		 * Table Specific Methods
+		 */
+		
+		/**
+		 * @param tableModelType The {@link TableModelType} to determine the {@link TableModel} used by the
+		 * {@link TadukooTable}
+		 * @return this, to continue building
+		 */
+		public TableFormFieldBuilder tableModelType(TableModelType tableModelType){
+			this.tableModelType = tableModelType;
+			return this;
+		}
+		
 		/** {@inheritDoc} */
 		@Override
 		public TableFormField build(){
@@ -290,10 +313,14 @@ public class TableFormField extends FormField<List<OrderedMappedPojo>>{
 					labelShape, labelBorder,
 					rowPos, colPos, rowSpan, colSpan,
 					logFontResourceLoaderWarnings, logger, graphEnv,
-					fontFolder, fontResourceLoader);
+					fontFolder, fontResourceLoader,
+					tableModelType);
 		}
 	}
 	
+	/** The {@link TableModelType} to determine the {@link TableModel} used by the {@link TadukooTable} */
+	private final TableModelType tableModelType;
+	
 	/**
 	 * Creates a new TableFormField with the given parameters
 	 *
@@ -320,6 +347,8 @@ public class TableFormField extends FormField<List<OrderedMappedPojo>>{
 	 * @param fontFolder The path to the fonts folder to find font files in if needed in the FontResourceLoader
 	 *                   - can be ignored if you specify your own FontResourceLoader
 	 * @param fontResourceLoader The {@link FontResourceLoader} to use for fonts on this field
+	 * @param tableModelType The {@link TableModelType} to determine the {@link TableModel} used by the
+	 * {@link TadukooTable}
 	 */
 	private TableFormField(String key, List<OrderedMappedPojo> defaultValue,
 	                       LabelType labelType, SizablePaint labelForegroundPaint, SizablePaint labelBackgroundPaint,
@@ -327,7 +356,8 @@ public class TableFormField extends FormField<List<OrderedMappedPojo>>{
 	                       ShapeInfo labelShape, Border labelBorder,
 	                       int rowPos, int colPos, int rowSpan, int colSpan,
 	                       boolean logFontResourceLoaderWarnings, EasyLogger logger, GraphicsEnvironment graphEnv,
-	                       String fontFolder, FontResourceLoader fontResourceLoader){
+	                       String fontFolder, FontResourceLoader fontResourceLoader,
+	                       TableModelType tableModelType){
 		super(FieldType.TABLE, key, defaultValue,
 				labelType, labelForegroundPaint, labelBackgroundPaint,
 				labelFontFamily, labelFontStyle, labelFontSize,
@@ -335,6 +365,7 @@ public class TableFormField extends FormField<List<OrderedMappedPojo>>{
 				rowPos, colPos, rowSpan, colSpan,
 				logFontResourceLoaderWarnings, logger, graphEnv,
 				fontFolder, fontResourceLoader);
+		this.tableModelType = tableModelType;
 	}
 	
 	/**
@@ -344,11 +375,19 @@ public class TableFormField extends FormField<List<OrderedMappedPojo>>{
 		return new TableFormFieldBuilder();
 	}
 	
+	/**
+	 * @return The {@link TableModelType} to determine the {@link TableModel} used by the {@link TadukooTable}
+	 */
+	public TableModelType getTableModelType(){
+		return tableModelType;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public JComponent getComponent(){
 		return TadukooTable.builder()
 				.data(getDefaultValue())
+				.tableModelType(tableModelType)
 				.build();
 	}
 	
@@ -1,17 +1,30 @@
 package com.github.tadukoo.view.lookandfeel;
 
 import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.paint.gradient.GradientUIResource;
+import com.github.tadukoo.view.paint.gradient.LinearGradient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.swing.LookAndFeel;
+import javax.swing.UIDefaults;
+import javax.swing.UIManager;
+import javax.swing.plaf.ColorUIResource;
 import java.awt.Color;
+import java.awt.EventQueue;
 import java.awt.FontFormatException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class TadukooLookAndFeelTest{
 	private TadukooLookAndFeel lookAndFeel;
@@ -57,4 +70,85 @@ public class TadukooLookAndFeelTest{
 	public void testIsSupportedLookAndFeel(){
 		assertTrue(lookAndFeel.isSupportedLookAndFeel());
 	}
+	
+	@Test
+	public void testInstallAsync() throws Exception{
+		LookAndFeel previous = UIManager.getLookAndFeel();
+		try{
+			TadukooTheme theme = TadukooTheme.builder().build();
+			List<Boolean> onEDT = new ArrayList<>();
+			TadukooLookAndFeel installed = TadukooLookAndFeel.installAsync(CompletableFuture.completedFuture(theme))
+					.thenApply(lookAndFeel -> {
+						onEDT.add(EventQueue.isDispatchThread());
+						return lookAndFeel;
+					}).get();
+			assertEquals(theme, installed.getTheme());
+			assertSame(installed, UIManager.getLookAndFeel());
+			assertEquals(List.of(true), onEDT);
+		}finally{
+			UIManager.setLookAndFeel(previous);
+		}
+	}
+	
+	@Test
+	public void testInstallAsyncDefaultTheme() throws Exception{
+		LookAndFeel previous = UIManager.getLookAndFeel();
+		try{
+			TadukooLookAndFeel installed = TadukooLookAndFeel.installAsync().get();
+			assertNotNull(installed.getTheme());
+			assertSame(installed, UIManager.getLookAndFeel());
+		}finally{
+			UIManager.setLookAndFeel(previous);
+		}
+	}
+	
+	@Test
+	public void testInstallAsyncFailure() throws InterruptedException{
+		LookAndFeel previous = UIManager.getLookAndFeel();
+		try{
+			TadukooLookAndFeel.installAsync(CompletableFuture.failedFuture(new IOException("Test"))).get();
+			fail();
+		}catch(ExecutionException e){
+			assertTrue(e.getCause() instanceof IOException);
+			assertEquals("Test", e.getCause().getMessage());
+		}
+		assertSame(previous, UIManager.getLookAndFeel());
+	}
+	
+	@Test
+	public void testLazyColorDefaults() throws IOException, FontFormatException{
+		GradientUIResource gradient = new GradientUIResource(LinearGradient.builder()
+				.colorPoint(0f, Color.BLUE)
+				.colorPoint(0.5f, Color.GREEN)
+				.colorPoint(1f, Color.RED)
+				.build());
+		TadukooTheme theme = TadukooTheme.builder()
+				.buttonForegroundPaint(new ColorPaintUIResource(Color.ORANGE))
+				.buttonBackgroundPaint(gradient)
+				.build();
+		UIDefaults defaults = new TadukooLookAndFeel(theme).getDefaults();
+		assertEquals(new ColorUIResource(Color.ORANGE), defaults.getColor("Button.foreground"));
+		assertSame(gradient.getColorUIResource(), defaults.getColor("Button.background"));
+		assertEquals(theme.getLabelForegroundPaint().getColorUIResource(), defaults.getColor("Label.foreground"));
+	}
+	
+	@Test
+	public void testSetLookAndFeelResolvesLazyDefaults() throws Exception{
+		LookAndFeel previous = UIManager.getLookAndFeel();
+		String[] lazyKeys = new String[]{"Button.foreground", "Button.background", "Button.gradient", "Button.focus",
+				"Button.select", "Button.disabledText", "Label.foreground", "Label.background",
+				"Label.disabledForeground"};
+		try{
+			for(TadukooTheme theme: List.of(TadukooThemeFactory.createDefaultTheme(),
+					TadukooThemeFactory.createOceanTheme())){
+				UIManager.setLookAndFeel(new TadukooLookAndFeel(theme));
+				UIDefaults defaults = new TadukooLookAndFeel(theme).getDefaults();
+				for(String key: lazyKeys){
+					assertEquals(defaults.get(key), UIManager.get(key));
+				}
+			}
+		}finally{
+			UIManager.setLookAndFeel(previous);
+		}
+	}
 }
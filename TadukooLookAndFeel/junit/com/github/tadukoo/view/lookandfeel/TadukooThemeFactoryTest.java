@@ -32,6 +32,7 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -179,6 +180,29 @@ public class TadukooThemeFactoryTest{
 		verifyDefaultTheme(defaultTheme);
 	}
 	
+	/**
+	 * Method used to verify that the settings on the given {@link TadukooTheme themes} match, used to check that
+	 * themes created asynchronously are the same as those created synchronously.
+	 *
+	 * @param expected The {@link TadukooTheme} created synchronously
+	 * @param actual The {@link TadukooTheme} created asynchronously
+	 */
+	private void verifySameTheme(TadukooTheme expected, TadukooTheme actual){
+		assertEquals(expected.getButtonUI(), actual.getButtonUI());
+		assertEquals(expected.getLabelUI(), actual.getLabelUI());
+		assertEquals(expected.getButtonForegroundPaint().getColorUIResource(),
+				actual.getButtonForegroundPaint().getColorUIResource());
+		assertEquals(expected.getButtonBackgroundPaint().getColorUIResource(),
+				actual.getButtonBackgroundPaint().getColorUIResource());
+		assertEquals(expected.getLabelForegroundPaint().getColorUIResource(),
+				actual.getLabelForegroundPaint().getColorUIResource());
+		assertEquals(expected.getButtonFont(), actual.getButtonFont());
+		assertEquals(expected.getLabelFont(), actual.getLabelFont());
+		assertEquals(expected.getTitledBorderFont(), actual.getTitledBorderFont());
+		assertEquals(expected.getTitledBorderColor(), actual.getTitledBorderColor());
+		assertEquals(expected.getTitledBorderPosition(), actual.getTitledBorderPosition());
+	}
+	
 	@Test
 	public void testCreateDefaultTheme() throws IOException, FontFormatException{
 		// Create Theme
@@ -188,6 +212,16 @@ public class TadukooThemeFactoryTest{
 		verifyDefaultTheme(defaultTheme);
 	}
 	
+	@Test
+	public void testCreateDefaultThemeAsync() throws IOException, FontFormatException, InterruptedException,
+			ExecutionException{
+		// Create Theme
+		TadukooTheme defaultTheme = TadukooThemeFactory.createDefaultThemeAsync().get();
+		
+		// Verify that the settings match the synchronously created theme
+		verifySameTheme(TadukooThemeFactory.createDefaultTheme(), defaultTheme);
+	}
+	
 	/**
 	 * Method used to verify that the settings on the given {@link TadukooTheme} match those of the Metal Tadukoo
 	 * Theme. This is used in multiple tests, and is easier to maintain here instead of maintaining the code in
@@ -232,6 +266,16 @@ public class TadukooThemeFactoryTest{
 		verifyMetalTheme(metalTheme);
 	}
 	
+	@Test
+	public void testCreateMetalThemeAsync() throws IOException, FontFormatException, InterruptedException,
+			ExecutionException{
+		// Create Theme
+		TadukooTheme metalTheme = TadukooThemeFactory.createMetalThemeAsync().get();
+		
+		// Verify that the settings match the synchronously created theme
+		verifySameTheme(TadukooThemeFactory.createMetalTheme(), metalTheme);
+	}
+	
 	/**
 	 * Method used to verify that the contents of the given {@link MetalTheme} have been copied over to the given
 	 * {@link TadukooTheme} correctly. This is done multiple times in these tests, and to have the logic present
@@ -312,6 +356,16 @@ public class TadukooThemeFactoryTest{
 		verifyMetalTheme(new DefaultMetalTheme(), defaultMetalTheme);
 	}
 	
+	@Test
+	public void testCreateDefaultMetalThemeAsync() throws IOException, FontFormatException, InterruptedException,
+			ExecutionException{
+		// Create Theme
+		TadukooTheme defaultMetalTheme = TadukooThemeFactory.createDefaultMetalThemeAsync().get();
+		
+		// Verify that the settings match the synchronously created theme
+		verifySameTheme(TadukooThemeFactory.createDefaultMetalTheme(), defaultMetalTheme);
+	}
+	
 	@Test
 	public void testOceanThemeBuilder() throws IOException, FontFormatException{
 		// Create Theme
@@ -331,6 +385,16 @@ public class TadukooThemeFactoryTest{
 		verifyMetalTheme(new OceanTheme(), oceanTheme);
 	}
 	
+	@Test
+	public void testCreateOceanThemeAsync() throws IOException, FontFormatException, InterruptedException,
+			ExecutionException{
+		// Create Theme
+		TadukooTheme oceanTheme = TadukooThemeFactory.createOceanThemeAsync().get();
+		
+		// Verify that the settings match the synchronously created theme
+		verifySameTheme(TadukooThemeFactory.createOceanTheme(), oceanTheme);
+	}
+	
 	@Test
 	public void testCopyMetalTheme() throws IOException, FontFormatException{
 		// Setup a Metal Theme
@@ -4,6 +4,7 @@ import com.github.tadukoo.view.border.NoBorderUIResource;
 import com.github.tadukoo.view.border.ShapedEtchedBorder;
 import com.github.tadukoo.view.font.FontFamilies;
 import com.github.tadukoo.view.font.FontFamily;
+import com.github.tadukoo.view.font.FontLoadResult;
 import com.github.tadukoo.view.font.FontResourceLoader;
 import com.github.tadukoo.view.lookandfeel.componentui.TadukooButtonUI;
 import com.github.tadukoo.view.lookandfeel.componentui.TadukooLabelUI;
@@ -29,13 +30,20 @@ import java.awt.GraphicsEnvironment;
 import java.awt.HeadlessException;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class TadukooThemeTest{
 	private TadukooTheme defaultTheme;
@@ -94,6 +102,54 @@ public class TadukooThemeTest{
 		defaultTheme = TadukooTheme.builder().fontResourceLoader(fontResourceLoader).build();
 	}
 	
+	/*
+	 * Test Building Asynchronously
+	 */
+	
+	@Test
+	public void testBuildAsync() throws InterruptedException, ExecutionException{
+		ColorPaintUIResource orange = new ColorPaintUIResource(Color.ORANGE);
+		TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.buttonFocusPaint(orange)
+				.buildAsync().get();
+		assertEquals(orange, theme.getButtonFocusPaint());
+		assertEquals(defaultFontFamily.getName(), theme.getButtonFont().getName());
+	}
+	
+	@Test
+	public void testBuildAsyncOnExecutor() throws InterruptedException, ExecutionException{
+		List<Thread> threads = new ArrayList<>();
+		TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.buildAsync(runnable -> {
+					Thread thread = new Thread(runnable);
+					threads.add(thread);
+					thread.start();
+				}).get();
+		assertNotNull(theme);
+		assertEquals(1, threads.size());
+		assertNotSame(Thread.currentThread(), threads.get(0));
+	}
+	
+	@Test
+	public void testBuildAsyncFailure() throws InterruptedException{
+		FontResourceLoader failingLoader = new FontResourceLoader(false, null, dummyGraphEnv, "fonts/"){
+			@Override
+			public FontLoadResult loadFontsInParallel(List<FontFamily> fonts, boolean requireLoadAll)
+					throws IOException{
+				throw new IOException("Test");
+			}
+		};
+		CompletableFuture<TadukooTheme> future = TadukooTheme.builder().fontResourceLoader(failingLoader)
+				.buildAsync();
+		try{
+			future.get();
+			fail();
+		}catch(ExecutionException e){
+			assertTrue(e.getCause() instanceof IOException);
+			assertEquals("Test", e.getCause().getMessage());
+		}
+	}
+	
 	/*
 	 * Test Default Component UIs
 	 */
@@ -486,6 +542,30 @@ public class TadukooThemeTest{
 		assertNotNull(defaultTheme.getTitledBorderBorder());
 	}
 	
+	@Test
+	public void testDefaultFontsNotLazy(){
+		assertTrue(defaultTheme.getButtonThemeFont().isResolved());
+		assertTrue(defaultTheme.getLabelThemeFont().isResolved());
+		assertTrue(defaultTheme.getTitledBorderThemeFont().isResolved());
+	}
+	
+	@Test
+	public void testSetLazyFonts() throws IOException, FontFormatException{
+		TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(fontResourceLoader)
+				.lazyFonts(true)
+				.build();
+		assertFalse(theme.getButtonThemeFont().isResolved());
+		assertFalse(theme.getLabelThemeFont().isResolved());
+		assertFalse(theme.getTitledBorderThemeFont().isResolved());
+		
+		FontUIResource labelFont = theme.getLabelFont();
+		assertEquals(defaultFontFamily.getName(), labelFont.getName());
+		assertEquals(defaultFontStyle, labelFont.getStyle());
+		assertEquals(defaultFontSize, labelFont.getSize());
+		assertTrue(theme.getLabelThemeFont().isResolved());
+		assertFalse(theme.getButtonThemeFont().isResolved());
+	}
+	
 	@Test
 	public void testDefaultTitledBorderFont(){
 		FontUIResource titledBorderFont = defaultTheme.getTitledBorderFont();
@@ -0,0 +1,300 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.border.NoBorderUIResource;
+import com.github.tadukoo.view.border.ShapedLineBorder;
+import com.github.tadukoo.view.components.interfaces.TButton;
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.paint.SizableColor;
+import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.LookAndFeel;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import javax.swing.plaf.BorderUIResource;
+import javax.swing.plaf.ColorUIResource;
+import java.awt.Color;
+import java.awt.FontFormatException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThemeDiffTest{
+	private static final int COMPONENTS = 20;
+	
+	/** Shared so that the themes only differ in their paints */
+	private final BorderUIResource border = new BorderUIResource(ShapedLineBorder.builder().build());
+	private final BorderUIResource labelBorder = new NoBorderUIResource();
+	
+	/**
+	 * A simple {@link TButton} to apply themes to
+	 */
+	private static class TestButton extends JButton implements TButton{
+		private SizablePaint foregroundPaint, backgroundPaint, selectPaint, focusPaint, disabledTextPaint;
+		private ShapeInfo shapeInfo;
+		
+		@Override
+		public SizablePaint getForegroundPaint(){
+			return foregroundPaint;
+		}
+		
+		@Override
+		public void setForegroundPaint(SizablePaint foregroundPaint){
+			this.foregroundPaint = foregroundPaint;
+		}
+		
+		@Override
+		public SizablePaint getBackgroundPaint(){
+			return backgroundPaint;
+		}
+		
+		@Override
+		public void setBackgroundPaint(SizablePaint backgroundPaint){
+			this.backgroundPaint = backgroundPaint;
+		}
+		
+		@Override
+		public SizablePaint getSelectPaint(){
+			return selectPaint;
+		}
+		
+		@Override
+		public void setSelectPaint(SizablePaint selectPaint){
+			this.selectPaint = selectPaint;
+		}
+		
+		@Override
+		public SizablePaint getFocusPaint(){
+			return focusPaint;
+		}
+		
+		@Override
+		public void setFocusPaint(SizablePaint focusPaint){
+			this.focusPaint = focusPaint;
+		}
+		
+		@Override
+		public SizablePaint getDisabledTextPaint(){
+			return disabledTextPaint;
+		}
+		
+		@Override
+		public void setDisabledTextPaint(SizablePaint disabledTextPaint){
+			this.disabledTextPaint = disabledTextPaint;
+		}
+		
+		@Override
+		public ShapeInfo getShapeInfo(){
+			return shapeInfo;
+		}
+		
+		@Override
+		public void setShapeInfo(ShapeInfo shapeInfo){
+			this.shapeInfo = shapeInfo;
+		}
+	}
+	
+	private TadukooTheme.TadukooThemeBuilder themeBuilder(){
+		return TadukooTheme.builder().defaultBorder(border).labelBorder(labelBorder);
+	}
+	
+	private TadukooTheme lightTheme() throws IOException, FontFormatException{
+		return themeBuilder()
+				.defaultForegroundPaint(new ColorPaintUIResource(Color.BLACK))
+				.defaultBackgroundPaint(new ColorPaintUIResource(Color.WHITE))
+				.build();
+	}
+	
+	private TadukooTheme darkTheme() throws IOException, FontFormatException{
+		return themeBuilder()
+				.defaultForegroundPaint(new ColorPaintUIResource(Color.WHITE))
+				.defaultBackgroundPaint(new ColorPaintUIResource(Color.DARK_GRAY))
+				.build();
+	}
+	
+	@Test
+	public void testSameTheme() throws IOException, FontFormatException{
+		TadukooTheme theme = lightTheme();
+		ThemeDiff diff = ThemeDiff.between(theme, theme);
+		assertTrue(diff.isEmpty());
+		assertFalse(diff.isFullUpdateRequired());
+		assertTrue(diff.getChangedKeys().isEmpty());
+		assertEquals(0, diff.getUIDefaults().length);
+	}
+	
+	@Test
+	public void testEqualThemes() throws IOException, FontFormatException{
+		assertTrue(ThemeDiff.between(lightTheme(), lightTheme()).isEmpty());
+	}
+	
+	@Test
+	public void testGetThemes() throws IOException, FontFormatException{
+		TadukooTheme light = lightTheme();
+		TadukooTheme dark = darkTheme();
+		ThemeDiff diff = ThemeDiff.between(light, dark);
+		assertSame(light, diff.getOldTheme());
+		assertSame(dark, diff.getNewTheme());
+	}
+	
+	@Test
+	public void testPaintChanges() throws IOException, FontFormatException{
+		TadukooTheme light = lightTheme();
+		TadukooTheme dark = darkTheme();
+		ThemeDiff diff = ThemeDiff.between(light, dark);
+		assertFalse(diff.isEmpty());
+		assertFalse(diff.isFullUpdateRequired());
+		assertEquals(List.of("Button.foreground.paint", "Button.background.paint", "Label.foreground.paint"),
+				List.copyOf(diff.getChangedKeys()));
+		assertTrue(diff.hasChanged("Button.background.paint"));
+		assertFalse(diff.hasChanged("Button.shape"));
+		assertSame(light.getButtonBackgroundPaint(), diff.getOldValue("Button.background.paint"));
+		assertSame(dark.getButtonBackgroundPaint(), diff.getNewValue("Button.background.paint"));
+	}
+	
+	@Test
+	public void testGetUIDefaults() throws IOException, FontFormatException{
+		TadukooTheme dark = darkTheme();
+		List<Object> defaults = Arrays.asList(ThemeDiff.between(lightTheme(), dark).getUIDefaults());
+		assertEquals(14, defaults.size());
+		assertEquals("Button.foreground.paint", defaults.get(0));
+		assertSame(dark.getButtonForegroundPaint(), defaults.get(1));
+		assertEquals("Button.foreground", defaults.get(2));
+		assertSame(dark.getButtonForegroundPaint(), defaults.get(3));
+		assertEquals("Button.background.paint", defaults.get(4));
+		assertEquals("Button.background", defaults.get(6));
+		assertEquals("Button.gradient", defaults.get(8));
+		assertEquals("Label.foreground.paint", defaults.get(10));
+		assertEquals("Label.foreground", defaults.get(12));
+	}
+	
+	@Test
+	public void testFullUpdateRequired() throws IOException, FontFormatException{
+		TadukooTheme light = lightTheme();
+		TadukooTheme other = themeBuilder().componentDefault("Panel.background", Color.RED).build();
+		ThemeDiff diff = ThemeDiff.between(light, other);
+		assertTrue(diff.isFullUpdateRequired());
+		assertFalse(diff.isEmpty());
+	}
+	
+	@Test
+	public void testApplyTo() throws IOException, FontFormatException{
+		TadukooTheme light = lightTheme();
+		TadukooTheme dark = darkTheme();
+		
+		TestButton themed = new TestButton();
+		themed.setForegroundPaint(light.getButtonForegroundPaint());
+		themed.setBackgroundPaint(light.getButtonBackgroundPaint());
+		themed.setForeground(new ColorUIResource(Color.BLACK));
+		TestButton custom = new TestButton();
+		custom.setForegroundPaint(light.getButtonForegroundPaint());
+		SizableColor customBackground = new SizableColor(Color.PINK);
+		custom.setBackgroundPaint(customBackground);
+		custom.setForeground(Color.BLUE);
+		JLabel label = new JLabel("Test");
+		label.setForeground(new ColorUIResource(Color.BLACK));
+		JLabel unchanged = new JLabel("Test");
+		unchanged.setForeground(Color.RED);
+		JPanel panel = new JPanel();
+		panel.add(themed);
+		panel.add(custom);
+		panel.add(label);
+		panel.add(unchanged);
+		
+		assertEquals(3, ThemeDiff.between(light, dark).applyTo(panel));
+		assertSame(dark.getButtonForegroundPaint(), themed.getForegroundPaint());
+		assertSame(dark.getButtonBackgroundPaint(), themed.getBackgroundPaint());
+		assertEquals(Color.WHITE, themed.getForeground());
+		assertSame(dark.getButtonForegroundPaint(), custom.getForegroundPaint());
+		assertSame(customBackground, custom.getBackgroundPaint());
+		assertEquals(Color.BLUE, custom.getForeground());
+		assertEquals(Color.WHITE, label.getForeground());
+		assertEquals(Color.RED, unchanged.getForeground());
+	}
+	
+	@Test
+	public void testApplyToNoChanges() throws IOException, FontFormatException{
+		TadukooTheme light = lightTheme();
+		JPanel panel = new JPanel();
+		panel.add(new TestButton());
+		assertEquals(0, ThemeDiff.between(light, light).applyTo(panel));
+	}
+	
+	@Test
+	public void testApplyThemeNotInstalled() throws Exception{
+		TadukooTheme light = lightTheme();
+		TadukooTheme dark = darkTheme();
+		TadukooLookAndFeel lookAndFeel = new TadukooLookAndFeel(light);
+		ThemeDiff diff = lookAndFeel.applyTheme(dark);
+		assertSame(dark, lookAndFeel.getTheme());
+		assertSame(light, diff.getOldTheme());
+	}
+	
+	@Test
+	public void testApplyThemeInstalled() throws Exception{
+		LookAndFeel previous = UIManager.getLookAndFeel();
+		try{
+			TadukooTheme dark = darkTheme();
+			TadukooLookAndFeel lookAndFeel = new TadukooLookAndFeel(lightTheme());
+			UIManager.setLookAndFeel(lookAndFeel);
+			lookAndFeel.applyTheme(dark);
+			assertSame(dark.getButtonBackgroundPaint(), UIManager.get("Button.background.paint"));
+			assertEquals(new ColorUIResource(Color.WHITE), UIManager.getColor("Button.foreground"));
+			assertEquals(new ColorUIResource(Color.WHITE), UIManager.getColor("Label.foreground"));
+		}finally{
+			UIManager.setLookAndFeel(previous);
+		}
+	}
+	
+	@Test
+	public void testComponentCreatedAfterHotSwap() throws Exception{
+		LookAndFeel previous = UIManager.getLookAndFeel();
+		try{
+			TadukooTheme light = lightTheme();
+			TadukooTheme dark = darkTheme();
+			TadukooLookAndFeel lookAndFeel = new TadukooLookAndFeel(light);
+			UIManager.setLookAndFeel(lookAndFeel);
+			assertSame(light.getButtonBackgroundPaint(), new TestButton().getBackgroundPaint());
+			
+			lookAndFeel.applyTheme(dark);
+			assertSame(dark.getButtonBackgroundPaint(), new TestButton().getBackgroundPaint());
+		}finally{
+			UIManager.setLookAndFeel(previous);
+		}
+	}
+	
+	@Test
+	public void testHotSwapPanel() throws Exception{
+		LookAndFeel previous = UIManager.getLookAndFeel();
+		try{
+			TadukooTheme light = lightTheme();
+			TadukooTheme dark = darkTheme();
+			TadukooLookAndFeel lookAndFeel = new TadukooLookAndFeel(light);
+			UIManager.setLookAndFeel(lookAndFeel);
+			JPanel panel = new JPanel();
+			for(int i = 0; i < COMPONENTS / 2; i++){
+				panel.add(new TestButton());
+				panel.add(new JLabel("Label " + i));
+			}
+			SwingUtilities.updateComponentTreeUI(panel);
+			
+			// Switch to dark using the diff
+			ThemeDiff diff = lookAndFeel.applyTheme(dark);
+			assertEquals(COMPONENTS, diff.applyTo(panel));
+			for(int i = 0; i < COMPONENTS; i += 2){
+				assertSame(dark.getButtonBackgroundPaint(), ((TestButton) panel.getComponent(i)).getBackgroundPaint());
+				assertEquals(Color.WHITE, panel.getComponent(i + 1).getForeground());
+			}
+		}finally{
+			UIManager.setLookAndFeel(previous);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontFamilies;
+import com.github.tadukoo.view.font.FontFamily;
+import com.github.tadukoo.view.font.FontLoadResult;
+import com.github.tadukoo.view.font.FontResourceLoader;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.UIDefaults;
+import javax.swing.plaf.FontUIResource;
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ThemeFontTest{
+	
+	/**
+	 * A {@link FontResourceLoader} that records which {@link FontFamily families} it was asked to load (in order),
+	 * without actually loading them
+	 */
+	private static class CountingLoader extends FontResourceLoader{
+		private final List<FontFamily> loads = new ArrayList<>();
+		
+		private CountingLoader(){
+			super(false, null, GraphicsEnvironment.getLocalGraphicsEnvironment(), "fonts/");
+		}
+		
+		@Override
+		public synchronized String loadFont(FontFamily font, boolean requireLoadAll){
+			loads.add(font);
+			return Font.DIALOG;
+		}
+		
+		@Override
+		public synchronized FontLoadResult loadFontsInParallel(List<FontFamily> fonts, boolean requireLoadAll){
+			List<String> names = new ArrayList<>();
+			for(FontFamily font: fonts){
+				loads.add(font);
+				names.add(Font.DIALOG);
+			}
+			return new FontLoadResult(names, new HashMap<>(), 0);
+		}
+	}
+	
+	@Test
+	public void testResolvedConstructor(){
+		FontUIResource font = new FontUIResource(Font.DIALOG, Font.BOLD, 16);
+		ThemeFont themeFont = new ThemeFont(font);
+		assertTrue(themeFont.isResolved());
+		assertSame(font, themeFont.getFont());
+		assertSame(font, themeFont.getUIDefaultsValue());
+		assertNull(themeFont.getFontFamily());
+		assertEquals(Font.BOLD, themeFont.getFontStyle());
+		assertEquals(16, themeFont.getFontSize());
+	}
+	
+	@Test
+	public void testLazyConstructor(){
+		CountingLoader loader = new CountingLoader();
+		FontFamily family = FontFamilies.DIALOG.getFamily();
+		ThemeFont themeFont = new ThemeFont(loader, family, Font.ITALIC, 18);
+		assertFalse(themeFont.isResolved());
+		assertSame(themeFont, themeFont.getUIDefaultsValue());
+		assertEquals(family, themeFont.getFontFamily());
+		assertEquals(Font.ITALIC, themeFont.getFontStyle());
+		assertEquals(18, themeFont.getFontSize());
+		assertTrue(loader.loads.isEmpty());
+	}
+	
+	@Test
+	public void testLazyResolvedOnce(){
+		CountingLoader loader = new CountingLoader();
+		ThemeFont themeFont = new ThemeFont(loader, FontFamilies.DIALOG.getFamily(), Font.ITALIC, 18);
+		FontUIResource font = themeFont.getFont();
+		assertEquals(Font.DIALOG, font.getName());
+		assertEquals(Font.ITALIC, font.getStyle());
+		assertEquals(18, font.getSize());
+		assertSame(font, themeFont.getFont());
+		assertSame(font, themeFont.createValue(null));
+		assertSame(font, themeFont.getUIDefaultsValue());
+		assertTrue(themeFont.isResolved());
+		assertEquals(1, loader.loads.size());
+	}
+	
+	@Test
+	public void testLazyResolvedByUIDefaults(){
+		CountingLoader loader = new CountingLoader();
+		ThemeFont themeFont = new ThemeFont(loader, FontFamilies.DIALOG.getFamily(), Font.PLAIN, 12);
+		UIDefaults defaults = new UIDefaults();
+		defaults.put("Test.font", themeFont.getUIDefaultsValue());
+		assertTrue(loader.loads.isEmpty());
+		assertSame(themeFont.getFont(), defaults.getFont("Test.font"));
+		assertSame(themeFont.getFont(), defaults.getFont("Test.font"));
+		assertEquals(1, loader.loads.size());
+	}
+	
+	@Test
+	public void testLazyLoadFailure(){
+		FontResourceLoader loader = new FontResourceLoader(false, null,
+				GraphicsEnvironment.getLocalGraphicsEnvironment(), "fonts/"){
+			@Override
+			public String loadFont(FontFamily font, boolean requireLoadAll) throws IOException{
+				throw new IOException("Test");
+			}
+		};
+		ThemeFont themeFont = new ThemeFont(loader, FontFamilies.ARIMO.getFamily(), Font.PLAIN, 12);
+		try{
+			themeFont.getFont();
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Failed to load font: Arimo", e.getMessage());
+			assertEquals("Test", e.getCause().getMessage());
+		}
+		assertFalse(themeFont.isResolved());
+	}
+	
+	@Test
+	public void testLazyThemeOnlyLoadsUsedFonts() throws IOException, FontFormatException{
+		CountingLoader loader = new CountingLoader();
+		TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(loader).lazyFonts(true)
+				.titledBorderFont(FontFamilies.ROBOTO.getFamily(), Font.PLAIN, 12)
+				.build();
+		assertTrue(loader.loads.isEmpty());
+		
+		UIDefaults defaults = new TadukooLookAndFeel(theme).getDefaults();
+		assertTrue(loader.loads.isEmpty());
+		defaults.getFont("Button.font");
+		defaults.getFont("Label.font");
+		assertFalse(loader.loads.contains(FontFamilies.ROBOTO.getFamily()));
+		assertFalse(theme.getTitledBorderThemeFont().isResolved());
+		
+		assertEquals(Font.DIALOG, defaults.getFont("TitledBorder.font").getName());
+		assertTrue(loader.loads.contains(FontFamilies.ROBOTO.getFamily()));
+	}
+	
+	/**
+	 * Builds a theme, creates the Look &amp; Feel defaults, and paints a first frame with a button and a label (but
+	 * no titled border)
+	 *
+	 * @param lazyFonts Whether to use lazy fonts or not
+	 * @return The {@link CountingLoader} used to load the fonts
+	 */
+	private CountingLoader firstFrame(boolean lazyFonts) throws IOException, FontFormatException{
+		CountingLoader loader = new CountingLoader();
+		TadukooTheme theme = TadukooTheme.builder().fontResourceLoader(loader).lazyFonts(lazyFonts)
+				.defaultFont(FontFamilies.CARLITO.getFamily(), Font.PLAIN, 12)
+				.titledBorderFont(FontFamilies.ROBOTO.getFamily(), Font.PLAIN, 12)
+				.build();
+		UIDefaults defaults = new TadukooLookAndFeel(theme).getDefaults();
+		JButton button = new JButton("Button");
+		button.setFont(defaults.getFont("Button.font"));
+		button.setBounds(0, 0, 80, 24);
+		JLabel label = new JLabel("Label");
+		label.setFont(defaults.getFont("Label.font"));
+		label.setBounds(0, 0, 80, 24);
+		BufferedImage image = new BufferedImage(80, 48, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		button.paint(g);
+		g.translate(0, 24);
+		label.paint(g);
+		g.dispose();
+		return loader;
+	}
+	
+	@Test
+	public void testFirstFrameEagerLoadsAllFonts() throws IOException, FontFormatException{
+		CountingLoader loader = firstFrame(false);
+		assertTrue(loader.loads.contains(FontFamilies.CARLITO.getFamily()));
+		assertTrue(loader.loads.contains(FontFamilies.ROBOTO.getFamily()));
+	}
+	
+	@Test
+	public void testFirstFrameLazyOnlyLoadsUsedFonts() throws IOException, FontFormatException{
+		CountingLoader loader = firstFrame(true);
+		assertTrue(loader.loads.contains(FontFamilies.CARLITO.getFamily()));
+		assertFalse(loader.loads.contains(FontFamilies.ROBOTO.getFamily()));
+	}
+}
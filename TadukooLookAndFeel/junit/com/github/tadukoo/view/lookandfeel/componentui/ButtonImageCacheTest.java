@@ -0,0 +1,212 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ButtonImageCacheTest{
+	private static final String[] PAINT_KEYS = {"Button.foreground.paint", "Button.background.paint",
+			"Button.select.paint", "Button.focus.paint", "Button.disabledText.paint"};
+	private final ButtonImageCache cache = ButtonImageCache.getSharedCache();
+	private final TadukooButtonUI ui = (TadukooButtonUI) TadukooButtonUI.createUI(null);
+	
+	@BeforeEach
+	public void setup(){
+		UIManager.put("Button.shape", Shapes.ROUND_RECTANGLE.getShapeInfo());
+		Color[] colors = {Color.BLACK, Color.CYAN, Color.ORANGE, Color.RED, Color.GRAY};
+		for(int i = 0; i < PAINT_KEYS.length; i++){
+			UIManager.put(PAINT_KEYS[i], new ColorPaintUIResource(colors[i]));
+		}
+		cache.clear();
+		cache.resetStats();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		UIManager.put("Button.shape", null);
+		for(String key: PAINT_KEYS){
+			UIManager.put(key, null);
+		}
+		UIManager.put(ButtonImageCache.DEFAULTS_KEY, null);
+		cache.setByteBudget(ButtonImageCache.DEFAULT_BYTE_BUDGET);
+		cache.clear();
+		cache.resetStats();
+	}
+	
+	private JButton createButton(String text, boolean cached){
+		JButton button = new JButton(text);
+		button.setUI(ui);
+		button.setBounds(0, 0, 80, 24);
+		if(cached){
+			ButtonImageCache.enable(button);
+		}
+		return button;
+	}
+	
+	private BufferedImage paint(JButton button){
+		BufferedImage image = new BufferedImage(button.getWidth(), button.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		g.setFont(button.getFont());
+		g.setColor(button.getForeground());
+		ui.update(g, button);
+		g.dispose();
+		return image;
+	}
+	
+	private void assertSamePixels(BufferedImage expected, BufferedImage actual){
+		for(int y = 0; y < expected.getHeight(); y++){
+			for(int x = 0; x < expected.getWidth(); x++){
+				assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "Pixel (" + x + ", " + y + ")");
+			}
+		}
+	}
+	
+	@Test
+	public void testEnableDisable(){
+		JButton button = createButton("Test", false);
+		assertFalse(ButtonImageCache.isEnabled(button));
+		ButtonImageCache.enable(button);
+		assertTrue(ButtonImageCache.isEnabled(button));
+		ButtonImageCache.disable(button);
+		assertFalse(ButtonImageCache.isEnabled(button));
+	}
+	
+	@Test
+	public void testEnabledFromDefaults(){
+		UIManager.put(ButtonImageCache.DEFAULTS_KEY, Boolean.TRUE);
+		assertTrue(ButtonImageCache.isEnabled(createButton("Test", false)));
+	}
+	
+	@Test
+	public void testGetState(){
+		JButton button = createButton("Test", false);
+		assertEquals(0, ButtonImageCache.getState(button));
+		button.getModel().setRollover(true);
+		assertEquals(ButtonImageCache.ROLLOVER, ButtonImageCache.getState(button));
+		button.getModel().setArmed(true);
+		button.getModel().setPressed(true);
+		assertEquals(ButtonImageCache.ROLLOVER | ButtonImageCache.PRESSED, ButtonImageCache.getState(button));
+		button.getModel().setRollover(false);
+		button.getModel().setPressed(false);
+		button.setEnabled(false);
+		assertEquals(ButtonImageCache.DISABLED, ButtonImageCache.getState(button));
+	}
+	
+	@Test
+	public void testCachedPaintMatchesDirectPaint(){
+		JButton direct = createButton("Test", false);
+		JButton cached = createButton("Test", true);
+		assertSamePixels(paint(direct), paint(cached));
+		assertSamePixels(paint(direct), paint(cached));
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+		
+		direct.getModel().setArmed(true);
+		direct.getModel().setPressed(true);
+		cached.getModel().setArmed(true);
+		cached.getModel().setPressed(true);
+		assertSamePixels(paint(direct), paint(cached));
+		assertEquals(2, cache.getMissCount());
+		assertEquals(2, cache.size());
+	}
+	
+	@Test
+	public void testPropertyChangeEvicts(){
+		JButton button = createButton("Test", true);
+		paint(button);
+		assertEquals(1, cache.size());
+		assertEquals(80 * 24 * 4, cache.getBytes());
+		button.setText("Other");
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getBytes());
+	}
+	
+	@Test
+	public void testDisableEvicts(){
+		JButton button = createButton("Test", true);
+		paint(button);
+		ButtonImageCache.disable(button);
+		assertEquals(0, cache.size());
+		paint(button);
+		assertEquals(0, cache.size());
+	}
+	
+	@Test
+	public void testByteBudget(){
+		cache.setByteBudget(80 * 24 * 4 * 2);
+		JButton button = createButton("Test", true);
+		paint(button);
+		button.getModel().setRollover(true);
+		paint(button);
+		button.getModel().setArmed(true);
+		button.getModel().setPressed(true);
+		paint(button);
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+		assertTrue(cache.getBytes() <= cache.getByteBudget());
+		
+		cache.setByteBudget(0);
+		assertEquals(0, cache.size());
+		paint(button);
+		assertEquals(0, cache.size());
+	}
+	
+	@Test
+	public void testNegativeByteBudget(){
+		try{
+			new ButtonImageCache(-1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't have a negative button image cache byte budget!", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Paints each button in the toolbar for the given number of frames, toggling whether it's hovered each frame
+	 */
+	private void hover(List<JButton> toolbar, BufferedImage image, int frames){
+		for(int frame = 0; frame < frames; frame++){
+			for(JButton button: toolbar){
+				button.getModel().setRollover(frame % 2 == 0);
+				Graphics2D g = image.createGraphics();
+				g.setFont(button.getFont());
+				ui.update(g, button);
+				g.dispose();
+			}
+		}
+	}
+	
+	@Test
+	public void testToolbarHover(){
+		List<JButton> direct = new ArrayList<>();
+		List<JButton> cached = new ArrayList<>();
+		for(int i = 0; i < 10; i++){
+			direct.add(createButton("Tool " + i, false));
+			cached.add(createButton("Tool " + i, true));
+		}
+		BufferedImage image = new BufferedImage(80, 24, BufferedImage.TYPE_INT_ARGB);
+		hover(direct, image, 10);
+		assertEquals(0, cache.size());
+		
+		// Each button is rendered once per hover state, then painted from the cache
+		hover(cached, image, 10);
+		assertEquals(20, cache.size());
+		assertEquals(20, cache.getMissCount());
+		assertEquals(80, cache.getHitCount());
+	}
+}
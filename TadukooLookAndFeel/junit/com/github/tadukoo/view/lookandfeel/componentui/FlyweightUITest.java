@@ -0,0 +1,72 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.UIManager;
+import javax.swing.plaf.ComponentUI;
+import java.awt.Color;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the Component UIs are shared between components by {@link TadukooLabelUI#createUI} and
+ * {@link TadukooButtonUI#createUI}, with any per-component state kept on the components themselves.
+ */
+public class FlyweightUITest{
+	private static final int LABELS = 100;
+	
+	@AfterEach
+	public void tearDown(){
+		UIManager.put("Label.shape", null);
+		UIManager.put("Label.background.paint", null);
+	}
+	
+	@Test
+	public void testSharedLabelUIForManyLabels(){
+		Set<ComponentUI> uis = Collections.newSetFromMap(new IdentityHashMap<>());
+		for(int i = 0; i < LABELS; i++){
+			JLabel label = new JLabel("Label " + i);
+			label.setUI((TadukooLabelUI) TadukooLabelUI.createUI(label));
+			uis.add(label.getUI());
+		}
+		assertEquals(1, uis.size());
+	}
+	
+	@Test
+	public void testLabelUIShared(){
+		assertSame(TadukooLabelUI.createUI(new JLabel()), TadukooLabelUI.createUI(new JLabel()));
+	}
+	
+	@Test
+	public void testButtonUIShared(){
+		assertSame(TadukooButtonUI.createUI(new JButton()), TadukooButtonUI.createUI(new JButton()));
+	}
+	
+	@Test
+	public void testSharedUIKeepsStateOnComponents(){
+		TadukooLabelUI ui = (TadukooLabelUI) TadukooLabelUI.createUI(null);
+		JLabel opaqueLabel = new JLabel("Opaque");
+		JLabel translucentLabel = new JLabel("Translucent");
+		
+		UIManager.put("Label.shape", Shapes.RECTANGLE.getShapeInfo());
+		UIManager.put("Label.background.paint", new ColorPaintUIResource(Color.BLUE));
+		opaqueLabel.setUI(ui);
+		UIManager.put("Label.background.paint", new ColorPaintUIResource(new Color(0, 0, 255, 128)));
+		translucentLabel.setUI(ui);
+		
+		assertSame(opaqueLabel.getUI(), translucentLabel.getUI());
+		assertTrue(opaqueLabel.isOpaque());
+		assertFalse(translucentLabel.isOpaque());
+	}
+}
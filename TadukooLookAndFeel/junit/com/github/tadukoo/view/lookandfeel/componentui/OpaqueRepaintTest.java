@@ -0,0 +1,312 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.components.interfaces.Shaped;
+import com.github.tadukoo.view.components.interfaces.paint.HasSizablePaints;
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.paint.SizableColor;
+import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.awt.Container;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the opacity installed by the Tadukoo component UIs, and how many ancestors get repainted when a button deep
+ * in a container hierarchy repaints. Swing's RepaintManager starts painting at the nearest opaque ancestor (or the
+ * component itself if it's opaque), so a non-opaque button forces every non-opaque ancestor between it and the first
+ * opaque one to repaint as well.
+ */
+public class OpaqueRepaintTest{
+	private static final int DEPTH = 25;
+	
+	/**
+	 * A panel that counts how many times its component was painted
+	 */
+	private static class CountingPanel extends JPanel{
+		private int paints = 0;
+		
+		private CountingPanel(boolean opaque){
+			super(null);
+			setOpaque(opaque);
+			setBackground(Color.WHITE);
+		}
+		
+		@Override
+		protected void paintComponent(Graphics g){
+			paints++;
+			super.paintComponent(g);
+		}
+	}
+	
+	/**
+	 * A button with its own shape and background paint, firing property changes when they're set
+	 */
+	private static class ShapedButton extends JButton implements Shaped, HasSizablePaints{
+		private ShapeInfo shapeInfo;
+		private SizablePaint backgroundPaint;
+		
+		@Override
+		public ShapeInfo getShapeInfo(){
+			return shapeInfo;
+		}
+		
+		@Override
+		public void setShapeInfo(ShapeInfo shapeInfo){
+			ShapeInfo oldShapeInfo = this.shapeInfo;
+			this.shapeInfo = shapeInfo;
+			firePropertyChange(SHAPE_INFO_PROPERTY, oldShapeInfo, shapeInfo);
+		}
+		
+		@Override
+		public SizablePaint getForegroundPaint(){
+			return null;
+		}
+		
+		@Override
+		public void setForegroundPaint(SizablePaint foregroundPaint){ }
+		
+		@Override
+		public SizablePaint getBackgroundPaint(){
+			return backgroundPaint;
+		}
+		
+		@Override
+		public void setBackgroundPaint(SizablePaint backgroundPaint){
+			SizablePaint oldBackgroundPaint = this.backgroundPaint;
+			this.backgroundPaint = backgroundPaint;
+			firePropertyChange(BACKGROUND_PAINT_PROPERTY, oldBackgroundPaint, backgroundPaint);
+		}
+	}
+	
+	/**
+	 * A label with its own shape, firing property changes when it's set
+	 */
+	private static class ShapedLabel extends JLabel implements Shaped, HasSizablePaints{
+		private ShapeInfo shapeInfo;
+		
+		@Override
+		public ShapeInfo getShapeInfo(){
+			return shapeInfo;
+		}
+		
+		@Override
+		public void setShapeInfo(ShapeInfo shapeInfo){
+			ShapeInfo oldShapeInfo = this.shapeInfo;
+			this.shapeInfo = shapeInfo;
+			firePropertyChange(SHAPE_INFO_PROPERTY, oldShapeInfo, shapeInfo);
+		}
+		
+		@Override
+		public SizablePaint getForegroundPaint(){
+			return null;
+		}
+		
+		@Override
+		public void setForegroundPaint(SizablePaint foregroundPaint){ }
+		
+		@Override
+		public SizablePaint getBackgroundPaint(){
+			return new SizableColor(Color.BLUE);
+		}
+		
+		@Override
+		public void setBackgroundPaint(SizablePaint backgroundPaint){ }
+	}
+	
+	private final List<CountingPanel> panels = new ArrayList<>();
+	
+	/**
+	 * Creates a {@link ShapedButton} using the {@link TadukooButtonUI}, with a rectangle shape and opaque paint set
+	 * after the UI installed its defaults
+	 */
+	private ShapedButton createShapedButton(){
+		ShapedButton button = new ShapedButton();
+		button.setUI(new TadukooButtonUI());
+		button.setShapeInfo(Shapes.RECTANGLE.getShapeInfo());
+		button.setBackgroundPaint(new SizableColor(Color.BLUE));
+		return button;
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		UIManager.put("Button.shape", null);
+		UIManager.put("Button.background.paint", null);
+	}
+	
+	/**
+	 * Builds a hierarchy of {@link #DEPTH} non-opaque panels under an opaque root, with a button using the given
+	 * shape at the bottom
+	 */
+	private JButton buildHierarchy(ShapeInfo shapeInfo){
+		UIManager.put("Button.shape", shapeInfo);
+		UIManager.put("Button.background.paint", new ColorPaintUIResource(Color.BLUE));
+		
+		panels.clear();
+		CountingPanel root = new CountingPanel(true);
+		root.setBounds(0, 0, 200 + DEPTH * 2, 100 + DEPTH * 2);
+		panels.add(root);
+		Container parent = root;
+		for(int i = 0; i < DEPTH; i++){
+			CountingPanel panel = new CountingPanel(false);
+			panel.setBounds(1, 1, parent.getWidth() - 2, parent.getHeight() - 2);
+			parent.add(panel);
+			panels.add(panel);
+			parent = panel;
+		}
+		
+		JButton button = new JButton();
+		button.setUI(new TadukooButtonUI());
+		button.setBounds(10, 10, 100, 40);
+		parent.add(button);
+		return button;
+	}
+	
+	/**
+	 * Repaints the given button the way Swing's RepaintManager does: painting starts at the nearest opaque
+	 * ancestor (or the button itself), clipped to the button's bounds
+	 *
+	 * @return The number of ancestor panels painted
+	 */
+	private int repaint(JButton button){
+		JComponent paintRoot = button;
+		while(!paintRoot.isOpaque() && paintRoot.getParent() instanceof JComponent parent){
+			paintRoot = parent;
+		}
+		Rectangle clip = SwingUtilities.convertRectangle(button.getParent(), button.getBounds(), paintRoot);
+		
+		for(CountingPanel panel: panels){
+			panel.paints = 0;
+		}
+		BufferedImage image = new BufferedImage(paintRoot.getWidth(), paintRoot.getHeight(),
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		g.setClip(clip);
+		paintRoot.paint(g);
+		g.dispose();
+		
+		int ancestorPaints = 0;
+		for(CountingPanel panel: panels){
+			ancestorPaints += panel.paints;
+		}
+		return ancestorPaints;
+	}
+	
+	@Test
+	public void testRectangleButtonIsOpaque(){
+		JButton button = buildHierarchy(Shapes.RECTANGLE.getShapeInfo());
+		assertTrue(button.isOpaque());
+		assertEquals(0, repaint(button));
+	}
+	
+	@Test
+	public void testCutCornersButtonRepaintsAncestors(){
+		JButton button = buildHierarchy(Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo());
+		assertFalse(button.isOpaque());
+		assertEquals(DEPTH + 1, repaint(button));
+	}
+	
+	@Test
+	public void testTranslucentPaintIsNotOpaque(){
+		JButton button = buildHierarchy(Shapes.RECTANGLE.getShapeInfo());
+		UIManager.put("Button.background.paint", new ColorPaintUIResource(new Color(0, 0, 255, 128)));
+		button.setUI(new TadukooButtonUI());
+		assertFalse(button.isOpaque());
+	}
+	
+	@Test
+	public void testContentAreaNotFilledIsNotOpaque(){
+		JButton button = buildHierarchy(Shapes.RECTANGLE.getShapeInfo());
+		button.setContentAreaFilled(false);
+		assertFalse(button.isOpaque());
+		button.setContentAreaFilled(true);
+		assertTrue(button.isOpaque());
+	}
+	
+	@Test
+	public void testContentAreaFilledKeepsShapeOpacity(){
+		JButton button = buildHierarchy(Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo());
+		button.setContentAreaFilled(false);
+		button.setContentAreaFilled(true);
+		assertFalse(button.isOpaque());
+	}
+	
+	@Test
+	public void testClientOpaqueKept(){
+		UIManager.put("Button.shape", Shapes.RECTANGLE.getShapeInfo());
+		UIManager.put("Button.background.paint", new ColorPaintUIResource(Color.BLUE));
+		JButton button = new JButton();
+		button.setOpaque(false);
+		button.setUI(new TadukooButtonUI());
+		assertFalse(button.isOpaque());
+		button.setContentAreaFilled(false);
+		button.setContentAreaFilled(true);
+		assertFalse(button.isOpaque());
+	}
+	
+	@Test
+	public void testShapeChangeUpdatesOpaque(){
+		ShapedButton button = createShapedButton();
+		assertTrue(button.isOpaque());
+		button.setShapeInfo(Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo());
+		assertFalse(button.isOpaque());
+		button.setShapeInfo(Shapes.RECTANGLE.getShapeInfo());
+		assertTrue(button.isOpaque());
+	}
+	
+	@Test
+	public void testBackgroundPaintChangeUpdatesOpaque(){
+		ShapedButton button = createShapedButton();
+		assertTrue(button.isOpaque());
+		button.setBackgroundPaint(new SizableColor(0, 0, 255, 128));
+		assertFalse(button.isOpaque());
+		button.setBackgroundPaint(new SizableColor(Color.BLUE));
+		assertTrue(button.isOpaque());
+	}
+	
+	@Test
+	public void testUninstalledUIStopsUpdatingOpaque(){
+		ShapedButton button = createShapedButton();
+		button.getUI().uninstallUI(button);
+		boolean opaque = button.isOpaque();
+		button.setShapeInfo(Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo());
+		assertEquals(opaque, button.isOpaque());
+	}
+	
+	@Test
+	public void testLabelShapeChangeUpdatesOpaque(){
+		ShapedLabel label = new ShapedLabel();
+		label.setUI(new TadukooLabelUI());
+		label.setShapeInfo(Shapes.RECTANGLE.getShapeInfo());
+		assertTrue(label.isOpaque());
+		label.setShapeInfo(Shapes.ELLIPSE.getShapeInfo());
+		assertFalse(label.isOpaque());
+	}
+	
+	@Test
+	public void testPaintDoesNotChangeOpaque(){
+		JButton button = buildHierarchy(Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo());
+		assertFalse(button.isOpaque());
+		UIManager.put("Button.shape", Shapes.RECTANGLE.getShapeInfo());
+		repaint(button);
+		assertFalse(button.isOpaque());
+	}
+}
@@ -0,0 +1,98 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.paint.ColorPaintUIResource;
+import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class UIDefaultsSnapshotTest{
+	private final TadukooButtonUI buttonUI = new TadukooButtonUI();
+	private final TadukooLabelUI labelUI = new TadukooLabelUI();
+	
+	@AfterEach
+	public void tearDown(){
+		UIManager.put("Button.foreground.paint", null);
+		UIManager.put("Button.shape", null);
+		UIManager.put("Label.background.paint", null);
+	}
+	
+	@Test
+	public void testSameSnapshotReused(){
+		UIDefaultsSnapshot snapshot = UIDefaultsSnapshot.of(buttonUI);
+		assertSame(snapshot, UIDefaultsSnapshot.of(buttonUI));
+		assertSame(snapshot, UIDefaultsSnapshot.of(new TadukooButtonUI()));
+		assertSame(snapshot, buttonUI.getDefaultsSnapshot());
+	}
+	
+	@Test
+	public void testSnapshotPerUIClass(){
+		UIDefaultsSnapshot buttonSnapshot = UIDefaultsSnapshot.of(buttonUI);
+		UIDefaultsSnapshot labelSnapshot = UIDefaultsSnapshot.of(labelUI);
+		assertNotSame(buttonSnapshot, labelSnapshot);
+		assertEquals("Button.", buttonSnapshot.getPropertyPrefix());
+		assertEquals("Label.", labelSnapshot.getPropertyPrefix());
+	}
+	
+	@Test
+	public void testResolvesDefaults(){
+		SizablePaint foreground = new ColorPaintUIResource(Color.RED);
+		UIManager.put("Button.foreground.paint", foreground);
+		UIManager.put("Button.shape", Shapes.CIRCLE.getShapeInfo());
+		assertSame(foreground, buttonUI.getForegroundPaint());
+		assertSame(Shapes.CIRCLE.getShapeInfo(), buttonUI.getShape());
+	}
+	
+	@Test
+	public void testDefaultsChangeInvalidates(){
+		UIDefaultsSnapshot snapshot = UIDefaultsSnapshot.of(buttonUI);
+		int generation = UIDefaultsSnapshot.getGeneration();
+		
+		SizablePaint background = new ColorPaintUIResource(Color.BLUE);
+		UIManager.put("Label.background.paint", background);
+		assertNotEquals(generation, UIDefaultsSnapshot.getGeneration());
+		assertNotSame(snapshot, UIDefaultsSnapshot.of(buttonUI));
+		assertSame(background, labelUI.getBackgroundPaint());
+	}
+	
+	@Test
+	public void testInvalidateAll(){
+		UIDefaultsSnapshot snapshot = UIDefaultsSnapshot.of(labelUI);
+		assertEquals(UIDefaultsSnapshot.getGeneration(), snapshot.getSnapshotGeneration());
+		UIDefaultsSnapshot.invalidateAll();
+		UIDefaultsSnapshot newSnapshot = UIDefaultsSnapshot.of(labelUI);
+		assertNotSame(snapshot, newSnapshot);
+		assertEquals(UIDefaultsSnapshot.getGeneration(), newSnapshot.getSnapshotGeneration());
+	}
+	
+	@Test
+	public void testConcurrentInvalidateAllCounted() throws InterruptedException{
+		int threadCount = 4;
+		int invalidations = 10000;
+		int generation = UIDefaultsSnapshot.getGeneration();
+		List<Thread> threads = new ArrayList<>();
+		for(int i = 0; i < threadCount; i++){
+			Thread thread = new Thread(() -> {
+				for(int j = 0; j < invalidations; j++){
+					UIDefaultsSnapshot.invalidateAll();
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for(Thread thread: threads){
+			thread.join();
+		}
+		assertEquals(generation + threadCount * invalidations, UIDefaultsSnapshot.getGeneration());
+	}
+}
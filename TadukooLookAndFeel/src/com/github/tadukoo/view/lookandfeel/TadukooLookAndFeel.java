@@ -1,11 +1,20 @@
 package com.github.tadukoo.view.lookandfeel;
 
+import com.github.tadukoo.view.lookandfeel.componentui.UIDefaultsSnapshot;
 import com.github.tadukoo.view.paint.PaintUIResource;
 
+import javax.swing.SwingUtilities;
 import javax.swing.UIDefaults;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import javax.swing.plaf.ColorUIResource;
 import javax.swing.plaf.metal.MetalLookAndFeel;
+import java.awt.EventQueue;
 import java.awt.FontFormatException;
+import java.awt.Window;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Tadukoo Look &amp; Feel is a Look &amp; Feel currently extending {@link MetalLookAndFeel} that allows for easier
@@ -14,12 +23,12 @@ import java.io.IOException;
  * that's not custom enough for you.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class TadukooLookAndFeel extends MetalLookAndFeel{
-	/** The {@link TadukooTheme theme} to use in the Look &amp; Feel */
-	private final TadukooTheme theme;
+	/** The {@link TadukooTheme theme} to use in the Look &amp; Feel (can be changed with {@link #applyTheme}) */
+	private TadukooTheme theme;
 	
 	/**
 	 * Constructs a Tadukoo Look &amp; Feel with the default {@link TadukooTheme theme}.
@@ -40,6 +49,42 @@ public class TadukooLookAndFeel extends MetalLookAndFeel{
 		this.theme = theme;
 	}
 	
+	/**
+	 * Builds the default {@link TadukooTheme theme} on a background thread, and then installs a Tadukoo
+	 * Look &amp; Feel using it on the Event Dispatch Thread. See {@link #installAsync(CompletableFuture)} for more
+	 * details.
+	 *
+	 * @return A {@link CompletableFuture} that completes with the installed Tadukoo Look &amp; Feel
+	 */
+	public static CompletableFuture<TadukooLookAndFeel> installAsync(){
+		return installAsync(TadukooThemeFactory.createDefaultThemeAsync());
+	}
+	
+	/**
+	 * Installs a Tadukoo Look &amp; Feel using the given {@link TadukooTheme theme} on the Event Dispatch Thread once
+	 * the theme is finished being built (e.g. with {@link TadukooTheme.TadukooThemeBuilder#buildAsync()}), and
+	 * updates any existing windows to use it. This allows the Event Dispatch Thread to keep running (e.g. to render
+	 * a splash screen) while the theme is prepared. If building the theme or installing the Look &amp; Feel fails,
+	 * the returned {@link CompletableFuture} completes exceptionally with the cause.
+	 *
+	 * @param theme A {@link CompletableFuture} that completes with the {@link TadukooTheme theme} to use
+	 * @return A {@link CompletableFuture} that completes with the installed Tadukoo Look &amp; Feel
+	 */
+	public static CompletableFuture<TadukooLookAndFeel> installAsync(CompletableFuture<TadukooTheme> theme){
+		return theme.thenApplyAsync(builtTheme -> {
+			TadukooLookAndFeel lookAndFeel = new TadukooLookAndFeel(builtTheme);
+			try{
+				UIManager.setLookAndFeel(lookAndFeel);
+			}catch(UnsupportedLookAndFeelException e){
+				throw new CompletionException(e);
+			}
+			for(Window window: Window.getWindows()){
+				SwingUtilities.updateComponentTreeUI(window);
+			}
+			return lookAndFeel;
+		}, EventQueue::invokeLater);
+	}
+	
 	/**
 	 * @return The {@link TadukooTheme} to use in the Look &amp; Feel
 	 */
@@ -47,6 +92,45 @@ public class TadukooLookAndFeel extends MetalLookAndFeel{
 		return theme;
 	}
 	
+	/**
+	 * Switches this Look &amp; Feel to the given {@link TadukooTheme theme}. If this Look &amp; Feel is the one
+	 * currently installed, existing windows are updated as well: when only paints, shapes, borders, and fonts
+	 * changed, just the changed {@link UIDefaults} entries are replaced and the {@link ThemeDiff} is
+	 * {@link ThemeDiff#applyTo applied} to each window (only updating the components that were using the old
+	 * values), otherwise the Look &amp; Feel is reinstalled and every component tree is updated.
+	 * <br><br>
+	 * This should be called on the Event Dispatch Thread.
+	 *
+	 * @param newTheme The {@link TadukooTheme theme} to switch to
+	 * @return The {@link ThemeDiff} between the old and new themes
+	 * @throws UnsupportedLookAndFeelException If reinstalling the Look &amp; Feel fails
+	 */
+	public ThemeDiff applyTheme(TadukooTheme newTheme) throws UnsupportedLookAndFeelException{
+		ThemeDiff diff = ThemeDiff.between(theme, newTheme);
+		theme = newTheme;
+		if(UIManager.getLookAndFeel() != this || diff.isEmpty()){
+			return diff;
+		}
+		
+		if(diff.isFullUpdateRequired()){
+			UIManager.setLookAndFeel(this);
+			for(Window window: Window.getWindows()){
+				SwingUtilities.updateComponentTreeUI(window);
+			}
+		}else{
+			UIDefaults table = UIManager.getLookAndFeelDefaults();
+			table.putDefaults(diff.getUIDefaults());
+			// Metal's theme entries are added after the component defaults, so they need to win again
+			getCurrentTheme().addCustomEntriesToTable(table);
+			// Changes to the Look & Feel defaults table aren't seen by the snapshots' listeners
+			UIDefaultsSnapshot.invalidateAll();
+			for(Window window: Window.getWindows()){
+				diff.applyTo(window);
+			}
+		}
+		return diff;
+	}
+	
 	/**
 	 * @return The name of this look and feel. This returns "Tadukoo"
 	 */
@@ -154,38 +238,38 @@ public class TadukooLookAndFeel extends MetalLookAndFeel{
 		PaintUIResource labelBackgroundPaint = theme.getLabelBackgroundPaint();
 		PaintUIResource labelDisabledForegroundPaint = theme.getLabelDisabledForegroundPaint();
 		
-		// Setup Array of the Defaults to add
+		// Setup Array of the Defaults to add (colors and gradients are only derived from the paints when first used)
 		Object[] defaults = new Object[]{
 				// Button Customizations
-				"Button.foreground", buttonForegroundPaint.getColorUIResource(),
+				"Button.foreground", lazyColor(buttonForegroundPaint),
 				"Button.foreground.paint", buttonForegroundPaint,
-				"Button.background", buttonBackgroundPaint.getColorUIResource(),
-				"Button.gradient", buttonBackgroundPaint.getMetalGradientList(),
+				"Button.background", lazyColor(buttonBackgroundPaint),
+				"Button.gradient", lazyMetalGradient(buttonBackgroundPaint),
 				"Button.background.paint", buttonBackgroundPaint,
-				"Button.focus", buttonFocusPaint.getColorUIResource(),
+				"Button.focus", lazyColor(buttonFocusPaint),
 				"Button.focus.paint", buttonFocusPaint,
-				"Button.select", buttonSelectPaint.getColorUIResource(),
+				"Button.select", lazyColor(buttonSelectPaint),
 				"Button.select.paint", buttonSelectPaint,
-				"Button.disabledText", buttonDisabledTextPaint.getColorUIResource(),
+				"Button.disabledText", lazyColor(buttonDisabledTextPaint),
 				"Button.disabledText.paint", buttonDisabledTextPaint,
-				"Button.font", theme.getButtonFont(),
+				"Button.font", theme.getButtonThemeFont().getUIDefaultsValue(),
 				"Button.border", theme.getButtonBorder(),
 				"Button.shape", theme.getButtonShapeInfo(),
 				
 				// Label Customizations
-				"Label.foreground", labelForegroundPaint.getColorUIResource(),
+				"Label.foreground", lazyColor(labelForegroundPaint),
 				"Label.foreground.paint", labelForegroundPaint,
-				"Label.background", labelBackgroundPaint.getColorUIResource(),
+				"Label.background", lazyColor(labelBackgroundPaint),
 				"Label.background.paint", labelBackgroundPaint,
-				"Label.disabledForeground", labelDisabledForegroundPaint.getColorUIResource(),
+				"Label.disabledForeground", lazyColor(labelDisabledForegroundPaint),
 				"Label.disabledForeground.paint", labelDisabledForegroundPaint,
-				"Label.font", theme.getLabelFont(),
+				"Label.font", theme.getLabelThemeFont().getUIDefaultsValue(),
 				"Label.border", theme.getLabelBorder(),
 				"Label.shape", theme.getLabelShapeInfo(),
 				
 				// Titled Border Customizations
 				"TitledBorder.border", theme.getTitledBorderBorder(),
-				"TitledBorder.font", theme.getTitledBorderFont(),
+				"TitledBorder.font", theme.getTitledBorderThemeFont().getUIDefaultsValue(),
 				"TitledBorder.titleColor", theme.getTitledBorderColor(),
 				"TitledBorder.position", theme.getTitledBorderPosition()
 		};
@@ -197,4 +281,30 @@ public class TadukooLookAndFeel extends MetalLookAndFeel{
 			table.putDefaults(theme.getComponentDefaults());
 		}
 	}
+	
+	/**
+	 * Creates the value to put in {@link UIDefaults} for the {@link ColorUIResource} of the given
+	 * {@link PaintUIResource}. If the paint is already a {@link ColorUIResource}, it's used directly, otherwise the
+	 * {@link ColorUIResource} is only derived from it the first time it's asked for.
+	 *
+	 * @param paint The {@link PaintUIResource} to get the {@link ColorUIResource} of
+	 * @return The paint itself, or a {@link UIDefaults.LazyValue} for its {@link ColorUIResource}
+	 */
+	static Object lazyColor(PaintUIResource paint){
+		if(paint instanceof ColorUIResource){
+			return paint.getColorUIResource();
+		}
+		return (UIDefaults.LazyValue) table -> paint.getColorUIResource();
+	}
+	
+	/**
+	 * Creates the value to put in {@link UIDefaults} for the {@link PaintUIResource#getMetalGradientList() Metal
+	 * gradient list} of the given {@link PaintUIResource}, which is only built the first time it's asked for.
+	 *
+	 * @param paint The {@link PaintUIResource} to get the Metal gradient list of
+	 * @return A {@link UIDefaults.LazyValue} for the Metal gradient list of the paint
+	 */
+	static UIDefaults.LazyValue lazyMetalGradient(PaintUIResource paint){
+		return table -> paint.getMetalGradientList();
+	}
 }
@@ -30,13 +30,15 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Theme class for {@link TadukooLookAndFeel}. You can use the {@link TadukooThemeBuilder builder} via the
  * {@link #builder()} method to construct it and specify whatever customizations you want.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class TadukooTheme{
@@ -207,6 +209,12 @@ public class TadukooTheme{
 	 *        <td>a new FontResourceLoader with the specified values for {@link #logFontResourceLoaderWarnings},
 	 *         {@link #logger}, {@link #graphEnv}, and {@link #fontFolder}</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>lazyFonts</td>
+	 *         <td>Whether to wait to load each font until it's first used (see {@link ThemeFont}) instead of
+	 *         loading them all when the theme is built</td>
+	 *         <td>false</td>
+	 *     </tr>
 	 * </table>
 	 * <br>
 	 * <table>
@@ -311,7 +319,7 @@ public class TadukooTheme{
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
-	 * @version Alpha v.0.3
+	 * @version Alpha v.0.3.4
 	 * @since Alpha v.0.2
 	 */
 	public static class TadukooThemeBuilder{
@@ -416,6 +424,8 @@ public class TadukooTheme{
 		private String fontFolder = "fonts/";
 		/** The {@link FontResourceLoader} to use in loading fonts and/or ensuring they're in the system */
 		private FontResourceLoader fontResourceLoader = null;
+		/** Whether to wait to load each font until it's first used instead of loading them all when built */
+		private boolean lazyFonts = false;
 		
 		/*
 		 * Shapes
@@ -746,6 +756,16 @@ public class TadukooTheme{
 			return this;
 		}
 		
+		/**
+		 * @param lazyFonts Whether to wait to load each font until it's first used (see {@link ThemeFont}) instead
+		 * of loading them all when the theme is built
+		 * @return this, to continue building
+		 */
+		public TadukooThemeBuilder lazyFonts(boolean lazyFonts){
+			this.lazyFonts = lazyFonts;
+			return this;
+		}
+		
 		/*
 		 * Shape Methods
 		 */
@@ -1009,16 +1029,25 @@ public class TadukooTheme{
 						fontFolder);
 			}
 			
-			// Load fonts
-			List<FontFamily> fontFamilies = ListUtil.createList(buttonFontFamily, labelFontFamily,
-					titledBorderFontFamily);
-			List<String> foundFonts = fontResourceLoader.loadFonts(fontFamilies, true);
-			
-			// Create the FontUIResources
-			FontUIResource buttonFont = new FontUIResource(foundFonts.get(0), buttonFontStyle, buttonFontSize);
-			FontUIResource labelFont = new FontUIResource(foundFonts.get(1), labelFontStyle, labelFontSize);
-			FontUIResource titledBorderFont = new FontUIResource(foundFonts.get(2),
-					titledBorderFontStyle, titledBorderFontSize);
+			ThemeFont buttonFont, labelFont, titledBorderFont;
+			if(lazyFonts){
+				// Fonts will be loaded when they're first used
+				buttonFont = new ThemeFont(fontResourceLoader, buttonFontFamily, buttonFontStyle, buttonFontSize);
+				labelFont = new ThemeFont(fontResourceLoader, labelFontFamily, labelFontStyle, labelFontSize);
+				titledBorderFont = new ThemeFont(fontResourceLoader, titledBorderFontFamily,
+						titledBorderFontStyle, titledBorderFontSize);
+			}else{
+				// Load fonts (parsing their files in parallel)
+				List<FontFamily> fontFamilies = ListUtil.createList(buttonFontFamily, labelFontFamily,
+						titledBorderFontFamily);
+				List<String> foundFonts = fontResourceLoader.loadFontsInParallel(fontFamilies, true).getFontNames();
+				
+				// Create the FontUIResources
+				buttonFont = new ThemeFont(new FontUIResource(foundFonts.get(0), buttonFontStyle, buttonFontSize));
+				labelFont = new ThemeFont(new FontUIResource(foundFonts.get(1), labelFontStyle, labelFontSize));
+				titledBorderFont = new ThemeFont(new FontUIResource(foundFonts.get(2),
+						titledBorderFontStyle, titledBorderFontSize));
+			}
 			
 			/*
 			 * Handle Default Shapes
@@ -1087,6 +1116,42 @@ public class TadukooTheme{
 					titledBorderBorder, titledBorderFont, titledBorderColor, titledBorderPosition.getValue(),
 					classDefaultsArray, systemColorDefaultsArray, componentDefaultsArray);
 		}
+		
+		/**
+		 * Builds a {@link TadukooTheme} on a new background thread, so that loading fonts doesn't block the calling
+		 * thread (e.g. the Event Dispatch Thread during startup). See {@link #buildAsync(Executor)} for more details.
+		 *
+		 * @return A {@link CompletableFuture} that completes with the new {@link TadukooTheme}
+		 */
+		public CompletableFuture<TadukooTheme> buildAsync(){
+			return buildAsync(runnable -> {
+				Thread thread = new Thread(runnable, "Tadukoo Theme Builder");
+				thread.setDaemon(true);
+				thread.start();
+			});
+		}
+		
+		/**
+		 * Builds a {@link TadukooTheme} on the given {@link Executor}, so that loading fonts doesn't block the calling
+		 * thread (e.g. the Event Dispatch Thread during startup). If building fails, the returned
+		 * {@link CompletableFuture} completes exceptionally with the original exception (e.g. an
+		 * {@link IOException} or {@link FontFormatException} from loading fonts). This builder shouldn't be changed
+		 * until the {@link CompletableFuture} completes.
+		 *
+		 * @param executor The {@link Executor} to build the {@link TadukooTheme} on
+		 * @return A {@link CompletableFuture} that completes with the new {@link TadukooTheme}
+		 */
+		public CompletableFuture<TadukooTheme> buildAsync(Executor executor){
+			CompletableFuture<TadukooTheme> future = new CompletableFuture<>();
+			executor.execute(() -> {
+				try{
+					future.complete(build());
+				}catch(Throwable t){
+					future.completeExceptionally(t);
+				}
+			});
+			return future;
+		}
 	}
 	
 	/*
@@ -1114,8 +1179,8 @@ public class TadukooTheme{
 	/*
 	 * Other Button Customizations
 	 */
-	/** The {@link FontUIResource} to use for Buttons */
-	private final FontUIResource buttonFont;
+	/** The {@link ThemeFont} to use for Buttons */
+	private final ThemeFont buttonFont;
 	/** The {@link ShapeInfoUIResource} to use on Buttons */
 	private final ShapeInfoUIResource buttonShapeInfo;
 	/** The {@link Border} to use on Buttons */
@@ -1134,8 +1199,8 @@ public class TadukooTheme{
 	/*
 	 * Other Label Customizations
 	 */
-	/** The {@link FontUIResource} to use for Labels */
-	private final FontUIResource labelFont;
+	/** The {@link ThemeFont} to use for Labels */
+	private final ThemeFont labelFont;
 	/** The {@link ShapeInfoUIResource} to use on Labels */
 	private final ShapeInfoUIResource labelShapeInfo;
 	/** The {@link BorderUIResource} to use on Labels */
@@ -1146,8 +1211,8 @@ public class TadukooTheme{
 	 */
 	/** The default {@link BorderUIResource} to use in Titled Borders */
 	private final BorderUIResource titledBorderBorder;
-	/** The default {@link FontUIResource} to use in Titled Borders */
-	private final FontUIResource titledBorderFont;
+	/** The default {@link ThemeFont} to use in Titled Borders */
+	private final ThemeFont titledBorderFont;
 	/** The default color to use in Titled Borders */
 	private final ColorUIResource titledBorderColor;
 	/** The default position for the title in Titled Borders */
@@ -1173,17 +1238,17 @@ public class TadukooTheme{
 	 * @param buttonFocusPaint The {@link PaintUIResource} to use for focus on Buttons
 	 * @param buttonSelectPaint The {@link PaintUIResource} to use for select on Buttons
 	 * @param buttonDisabledTextPaint The {@link PaintUIResource} to use for disabled text on Buttons
-	 * @param buttonFont The {@link FontUIResource} to use for Buttons
+	 * @param buttonFont The {@link ThemeFont} to use for Buttons
 	 * @param buttonShapeInfo The {@link ShapeInfoUIResource} to use on Buttons
 	 * @param buttonBorder The {@link Border} to use on Buttons
 	 * @param labelForegroundPaint The {@link PaintUIResource} to use for the foreground on Labels
 	 * @param labelBackgroundPaint The {@link PaintUIResource} to use for the background on Labels
 	 * @param labelDisabledForegroundPaint The {@link PaintUIResource} to use for the disabled foreground on Labels
-	 * @param labelFont The {@link FontUIResource} to use for Labels
+	 * @param labelFont The {@link ThemeFont} to use for Labels
 	 * @param labelShapeInfo The {@link ShapeInfoUIResource} to use for Labels
 	 * @param labelBorder The {@link BorderUIResource} to use for Labels
 	 * @param titledBorderBorder The default {@link BorderUIResource} to use in Titled Borders
-	 * @param titledBorderFont The default {@link FontUIResource} to use in Titled Borders
+	 * @param titledBorderFont The default {@link ThemeFont} to use in Titled Borders
 	 * @param titledBorderColor The default color to use in Titled Borders
 	 * @param titledBorderPosition The default position for the title in Titled Borders
 	 * @param classDefaults Class defaults beyond those specified in the "Component UI Classes" section
@@ -1193,12 +1258,12 @@ public class TadukooTheme{
 	private TadukooTheme(String buttonUI, String labelUI,
 	                     PaintUIResource buttonForegroundPaint, PaintUIResource buttonBackgroundPaint,
 	                     PaintUIResource buttonFocusPaint, PaintUIResource buttonSelectPaint,
-	                     PaintUIResource buttonDisabledTextPaint, FontUIResource buttonFont,
+	                     PaintUIResource buttonDisabledTextPaint, ThemeFont buttonFont,
 	                     ShapeInfoUIResource buttonShapeInfo, BorderUIResource buttonBorder,
 	                     PaintUIResource labelForegroundPaint, PaintUIResource labelBackgroundPaint,
 	                     PaintUIResource labelDisabledForegroundPaint,
-	                     FontUIResource labelFont, ShapeInfoUIResource labelShapeInfo, BorderUIResource labelBorder,
-	                     BorderUIResource titledBorderBorder, FontUIResource titledBorderFont,
+	                     ThemeFont labelFont, ShapeInfoUIResource labelShapeInfo, BorderUIResource labelBorder,
+	                     BorderUIResource titledBorderBorder, ThemeFont titledBorderFont,
 	                     ColorUIResource titledBorderColor, int titledBorderPosition,
 	                     Object[] classDefaults, Object[] systemColorDefaults, Object[] componentDefaults){
 		// Set Component UI Classes
@@ -1308,9 +1373,17 @@ public class TadukooTheme{
 	 */
 	
 	/**
-	 * @return The {@link FontUIResource} to use for Buttons
+	 * @return The {@link FontUIResource} to use for Buttons (loading it first if fonts are lazy and it hasn't been
+	 * loaded yet)
 	 */
 	public FontUIResource getButtonFont(){
+		return buttonFont.getFont();
+	}
+	
+	/**
+	 * @return The {@link ThemeFont} to use for Buttons
+	 */
+	public ThemeFont getButtonThemeFont(){
 		return buttonFont;
 	}
 	
@@ -1358,9 +1431,17 @@ public class TadukooTheme{
 	 */
 	
 	/**
-	 * @return The {@link FontUIResource} to use for Labels
+	 * @return The {@link FontUIResource} to use for Labels (loading it first if fonts are lazy and it hasn't been
+	 * loaded yet)
 	 */
 	public FontUIResource getLabelFont(){
+		return labelFont.getFont();
+	}
+	
+	/**
+	 * @return The {@link ThemeFont} to use for Labels
+	 */
+	public ThemeFont getLabelThemeFont(){
 		return labelFont;
 	}
 	
@@ -1390,9 +1471,17 @@ public class TadukooTheme{
 	}
 	
 	/**
-	 * @return The default {@link FontUIResource} to use in Titled Borders
+	 * @return The default {@link FontUIResource} to use in Titled Borders (loading it first if fonts are lazy and it
+	 * hasn't been loaded yet)
 	 */
 	public FontUIResource getTitledBorderFont(){
+		return titledBorderFont.getFont();
+	}
+	
+	/**
+	 * @return The default {@link ThemeFont} to use in Titled Borders
+	 */
+	public ThemeFont getTitledBorderThemeFont(){
 		return titledBorderFont;
 	}
 	
@@ -17,6 +17,7 @@ import java.awt.Font;
 import java.awt.FontFormatException;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Tadukoo Theme Factory provides some standard {@link TadukooTheme}s and
@@ -24,7 +25,7 @@ import java.util.Objects;
  * {@link TadukooTheme}.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class TadukooThemeFactory{
@@ -52,6 +53,15 @@ public class TadukooThemeFactory{
 		return defaultThemeBuilder().build();
 	}
 	
+	/**
+	 * @return A {@link CompletableFuture} that completes with the
+	 * {@link #createDefaultTheme() default theme}, which is built on a background thread
+	 * (see {@link TadukooTheme.TadukooThemeBuilder#buildAsync()})
+	 */
+	public static CompletableFuture<TadukooTheme> createDefaultThemeAsync(){
+		return defaultThemeBuilder().buildAsync();
+	}
+	
 	/**
 	 * @return A {@link TadukooTheme.TadukooThemeBuilder TadukooThemeBuilder} that uses the
 	 * {@link MetalLookAndFeel MetalLookAndFeel} Component UIs and Borders, but uses the
@@ -75,6 +85,15 @@ public class TadukooThemeFactory{
 		return metalThemeBuilder().build();
 	}
 	
+	/**
+	 * @return A {@link CompletableFuture} that completes with the
+	 * {@link #createMetalTheme() metal theme}, which is built on a background thread
+	 * (see {@link TadukooTheme.TadukooThemeBuilder#buildAsync()})
+	 */
+	public static CompletableFuture<TadukooTheme> createMetalThemeAsync(){
+		return metalThemeBuilder().buildAsync();
+	}
+	
 	/**
 	 * @return A {@link TadukooTheme.TadukooThemeBuilder TadukooThemeBuilder} that uses the
 	 * {@link MetalLookAndFeel MetalLookAndFeel} Component UIs and Borders and uses the
@@ -95,6 +114,15 @@ public class TadukooThemeFactory{
 		return defaultMetalThemeBuilder().build();
 	}
 	
+	/**
+	 * @return A {@link CompletableFuture} that completes with the
+	 * {@link #createDefaultMetalTheme() default metal theme}, which is built on a background thread
+	 * (see {@link TadukooTheme.TadukooThemeBuilder#buildAsync()})
+	 */
+	public static CompletableFuture<TadukooTheme> createDefaultMetalThemeAsync(){
+		return defaultMetalThemeBuilder().buildAsync();
+	}
+	
 	/**
 	 * @return A {@link TadukooTheme.TadukooThemeBuilder TadukooThemeBuilder} that uses the
 	 * {@link MetalLookAndFeel MetalLookAndFeel} Component UIs and Borders and uses the
@@ -115,6 +143,15 @@ public class TadukooThemeFactory{
 		return oceanThemeBuilder().build();
 	}
 	
+	/**
+	 * @return A {@link CompletableFuture} that completes with the
+	 * {@link #createOceanTheme() ocean theme}, which is built on a background thread
+	 * (see {@link TadukooTheme.TadukooThemeBuilder#buildAsync()})
+	 */
+	public static CompletableFuture<TadukooTheme> createOceanThemeAsync(){
+		return oceanThemeBuilder().buildAsync();
+	}
+	
 	/*
 	 * Util Functions
 	 */
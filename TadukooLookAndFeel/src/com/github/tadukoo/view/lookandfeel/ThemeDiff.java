@@ -0,0 +1,435 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.components.interfaces.Shaped;
+import com.github.tadukoo.view.components.interfaces.paint.HasDisabledForegroundPaint;
+import com.github.tadukoo.view.components.interfaces.paint.HasDisabledTextPaint;
+import com.github.tadukoo.view.components.interfaces.paint.HasSelectAndFocusPaints;
+import com.github.tadukoo.view.components.interfaces.paint.HasSizablePaints;
+import com.github.tadukoo.view.paint.PaintUIResource;
+import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.UIDefaults;
+import javax.swing.border.Border;
+import javax.swing.border.TitledBorder;
+import javax.swing.plaf.UIResource;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Container;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Theme Diff holds the differences between two {@link TadukooTheme themes}: which paints, shapes, borders, and
+ * fonts changed, keyed by the {@link UIDefaults} key they're put under by {@link TadukooLookAndFeel} (e.g.
+ * "Button.background.paint" or "Label.font"). It can then {@link #applyTo(Component) apply} those changes to an
+ * existing component tree in a single walk, only calling setters on components that are still using the old
+ * theme's value (i.e. it's a {@link UIResource} or the same object), which is much cheaper than reinstalling every
+ * Component UI with {@link SwingUtilities#updateComponentTreeUI(Component)}.
+ * <br><br>
+ * If the Component UI classes or the extra class, system color, or component defaults of the themes differ, an
+ * incremental update isn't possible, and {@link #isFullUpdateRequired()} will be true.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class ThemeDiff{
+	/** Result of {@link #applyToComponent(JComponent)} when nothing changed */
+	private static final int UNCHANGED = 0;
+	/** Result of {@link #applyToComponent(JComponent)} when only paints changed */
+	private static final int PAINT_CHANGED = 1;
+	/** Result of {@link #applyToComponent(JComponent)} when something that affects layout changed */
+	private static final int LAYOUT_CHANGED = 2;
+	
+	/** The {@link TadukooTheme} being switched from */
+	private final TadukooTheme oldTheme;
+	/** The {@link TadukooTheme} being switched to */
+	private final TadukooTheme newTheme;
+	/** The values of the old theme that changed, keyed by {@link UIDefaults} key */
+	private final Map<String, Object> oldValues = new LinkedHashMap<>();
+	/** The values of the new theme that changed, keyed by {@link UIDefaults} key */
+	private final Map<String, Object> newValues = new LinkedHashMap<>();
+	/** Whether the Component UIs need to be reinstalled to switch themes */
+	private final boolean fullUpdateRequired;
+	
+	/**
+	 * Constructs a new Theme Diff between the given {@link TadukooTheme themes}
+	 *
+	 * @param oldTheme The {@link TadukooTheme} being switched from
+	 * @param newTheme The {@link TadukooTheme} being switched to
+	 */
+	private ThemeDiff(TadukooTheme oldTheme, TadukooTheme newTheme){
+		this.oldTheme = oldTheme;
+		this.newTheme = newTheme;
+		
+		// Anything that changes the Component UIs or the extra defaults needs a full update
+		fullUpdateRequired = !Objects.equals(oldTheme.getButtonUI(), newTheme.getButtonUI()) ||
+				!Objects.equals(oldTheme.getLabelUI(), newTheme.getLabelUI()) ||
+				!Arrays.equals(oldTheme.getClassDefaults(), newTheme.getClassDefaults()) ||
+				!Arrays.equals(oldTheme.getSystemColorDefaults(), newTheme.getSystemColorDefaults()) ||
+				!Arrays.equals(oldTheme.getComponentDefaults(), newTheme.getComponentDefaults());
+		
+		// Button Customizations
+		compare("Button.foreground.paint", oldTheme.getButtonForegroundPaint(), newTheme.getButtonForegroundPaint());
+		compare("Button.background.paint", oldTheme.getButtonBackgroundPaint(), newTheme.getButtonBackgroundPaint());
+		compare("Button.focus.paint", oldTheme.getButtonFocusPaint(), newTheme.getButtonFocusPaint());
+		compare("Button.select.paint", oldTheme.getButtonSelectPaint(), newTheme.getButtonSelectPaint());
+		compare("Button.disabledText.paint", oldTheme.getButtonDisabledTextPaint(),
+				newTheme.getButtonDisabledTextPaint());
+		compareFonts("Button.font", oldTheme.getButtonThemeFont(), newTheme.getButtonThemeFont());
+		compare("Button.border", oldTheme.getButtonBorder(), newTheme.getButtonBorder());
+		compare("Button.shape", oldTheme.getButtonShapeInfo(), newTheme.getButtonShapeInfo());
+		
+		// Label Customizations
+		compare("Label.foreground.paint", oldTheme.getLabelForegroundPaint(), newTheme.getLabelForegroundPaint());
+		compare("Label.background.paint", oldTheme.getLabelBackgroundPaint(), newTheme.getLabelBackgroundPaint());
+		compare("Label.disabledForeground.paint", oldTheme.getLabelDisabledForegroundPaint(),
+				newTheme.getLabelDisabledForegroundPaint());
+		compareFonts("Label.font", oldTheme.getLabelThemeFont(), newTheme.getLabelThemeFont());
+		compare("Label.border", oldTheme.getLabelBorder(), newTheme.getLabelBorder());
+		compare("Label.shape", oldTheme.getLabelShapeInfo(), newTheme.getLabelShapeInfo());
+		
+		// Titled Border Customizations
+		compare("TitledBorder.border", oldTheme.getTitledBorderBorder(), newTheme.getTitledBorderBorder());
+		compareFonts("TitledBorder.font", oldTheme.getTitledBorderThemeFont(),
+				newTheme.getTitledBorderThemeFont());
+		compare("TitledBorder.titleColor", oldTheme.getTitledBorderColor(), newTheme.getTitledBorderColor());
+		compare("TitledBorder.position", oldTheme.getTitledBorderPosition(), newTheme.getTitledBorderPosition());
+	}
+	
+	/**
+	 * Finds the differences between the given {@link TadukooTheme themes}
+	 *
+	 * @param oldTheme The {@link TadukooTheme} being switched from
+	 * @param newTheme The {@link TadukooTheme} being switched to
+	 * @return The Theme Diff between the two themes
+	 */
+	public static ThemeDiff between(TadukooTheme oldTheme, TadukooTheme newTheme){
+		return new ThemeDiff(oldTheme, newTheme);
+	}
+	
+	/**
+	 * Records the given values as changed if they're not equal
+	 *
+	 * @param key The {@link UIDefaults} key of the values
+	 * @param oldValue The value in the old theme
+	 * @param newValue The value in the new theme
+	 */
+	private void compare(String key, Object oldValue, Object newValue){
+		if(!Objects.equals(oldValue, newValue)){
+			oldValues.put(key, oldValue);
+			newValues.put(key, newValue);
+		}
+	}
+	
+	/**
+	 * Records the given {@link ThemeFont fonts} as changed if they're not the same font. Lazy fonts are compared by
+	 * their {@link ThemeFont#getFontFamily() family}, style, and size, so that comparing them doesn't load them.
+	 *
+	 * @param key The {@link UIDefaults} key of the fonts
+	 * @param oldFont The {@link ThemeFont} in the old theme
+	 * @param newFont The {@link ThemeFont} in the new theme
+	 */
+	private void compareFonts(String key, ThemeFont oldFont, ThemeFont newFont){
+		boolean same;
+		if(oldFont == newFont){
+			same = true;
+		}else if(oldFont.getFontFamily() != null || newFont.getFontFamily() != null){
+			same = oldFont.getFontFamily() == newFont.getFontFamily() &&
+					oldFont.getFontStyle() == newFont.getFontStyle() && oldFont.getFontSize() == newFont.getFontSize();
+		}else{
+			same = oldFont.getFont().equals(newFont.getFont());
+		}
+		if(!same){
+			oldValues.put(key, oldFont);
+			newValues.put(key, newFont);
+		}
+	}
+	
+	/**
+	 * @return The {@link TadukooTheme} being switched from
+	 */
+	public TadukooTheme getOldTheme(){
+		return oldTheme;
+	}
+	
+	/**
+	 * @return The {@link TadukooTheme} being switched to
+	 */
+	public TadukooTheme getNewTheme(){
+		return newTheme;
+	}
+	
+	/**
+	 * @return Whether the Component UI classes or extra defaults changed, meaning the Component UIs need to be
+	 * reinstalled instead of just {@link #applyTo(Component) applying} the changes
+	 */
+	public boolean isFullUpdateRequired(){
+		return fullUpdateRequired;
+	}
+	
+	/**
+	 * @return Whether nothing changed between the themes
+	 */
+	public boolean isEmpty(){
+		return !fullUpdateRequired && newValues.isEmpty();
+	}
+	
+	/**
+	 * @return The {@link UIDefaults} keys of the paints, shapes, borders, and fonts that changed
+	 */
+	public Set<String> getChangedKeys(){
+		return Collections.unmodifiableSet(newValues.keySet());
+	}
+	
+	/**
+	 * @param key The {@link UIDefaults} key to check
+	 * @return Whether the value for the given key changed
+	 */
+	public boolean hasChanged(String key){
+		return newValues.containsKey(key);
+	}
+	
+	/**
+	 * @param key The {@link UIDefaults} key to get the value of
+	 * @return The old theme's value for the given key, if it changed (otherwise null)
+	 */
+	public Object getOldValue(String key){
+		return oldValues.get(key);
+	}
+	
+	/**
+	 * @param key The {@link UIDefaults} key to get the value of
+	 * @return The new theme's value for the given key, if it changed (otherwise null)
+	 */
+	public Object getNewValue(String key){
+		return newValues.get(key);
+	}
+	
+	/**
+	 * Creates the {@link UIDefaults} entries for the changed values, in the same form
+	 * {@link TadukooLookAndFeel} puts them in (including the colors and Metal gradient derived from the paints)
+	 *
+	 * @return An array of the changed keys and values, to be used with {@link UIDefaults#putDefaults(Object[])}
+	 */
+	public Object[] getUIDefaults(){
+		List<Object> defaults = new ArrayList<>();
+		for(Map.Entry<String, Object> change: newValues.entrySet()){
+			String key = change.getKey();
+			Object value = change.getValue();
+			if(value instanceof ThemeFont font){
+				defaults.add(key);
+				defaults.add(font.getUIDefaultsValue());
+			}else if(key.endsWith(".paint") && value instanceof PaintUIResource paint){
+				defaults.add(key);
+				defaults.add(paint);
+				// The color is put under the key without ".paint"
+				defaults.add(key.substring(0, key.length() - ".paint".length()));
+				defaults.add(TadukooLookAndFeel.lazyColor(paint));
+				if(key.equals("Button.background.paint")){
+					defaults.add("Button.gradient");
+					defaults.add(TadukooLookAndFeel.lazyMetalGradient(paint));
+				}
+			}else{
+				defaults.add(key);
+				defaults.add(value);
+			}
+		}
+		return defaults.toArray();
+	}
+	
+	/**
+	 * Applies the changes to the given component tree, walking it once and only calling setters on components
+	 * whose values are still the old theme's (meaning they're {@link UIResource}s, or the same object as the old
+	 * theme's value). Values set directly on the components are left alone. Components that had fonts or borders
+	 * changed are invalidated and the tree is validated once at the end, and only the topmost updated components
+	 * are repainted (since repainting a component repaints its children).
+	 * <br><br>
+	 * This should be called on the Event Dispatch Thread, after the new {@link UIDefaults} are in place (which
+	 * {@link TadukooLookAndFeel#applyTheme(TadukooTheme)} takes care of).
+	 *
+	 * @param root The root {@link Component} of the tree to apply the changes to
+	 * @return The number of components that were updated
+	 */
+	public int applyTo(Component root){
+		if(newValues.isEmpty()){
+			return 0;
+		}
+		List<Component> toRepaint = new ArrayList<>();
+		boolean[] invalidated = new boolean[]{false};
+		int updated = applyTo(root, false, toRepaint, invalidated);
+		
+		// Batch the layout and repaints
+		if(invalidated[0]){
+			root.validate();
+		}
+		for(Component component: toRepaint){
+			component.repaint();
+		}
+		return updated;
+	}
+	
+	/**
+	 * Applies the changes to the given {@link Component} and its children
+	 *
+	 * @param c The {@link Component} to apply the changes to
+	 * @param ancestorUpdated Whether an ancestor of the {@link Component} was updated (and so will be repainted)
+	 * @param toRepaint The topmost updated components, to be repainted at the end
+	 * @param invalidated Holds whether any component was invalidated
+	 * @return The number of components that were updated
+	 */
+	private int applyTo(Component c, boolean ancestorUpdated, List<Component> toRepaint, boolean[] invalidated){
+		int updated = 0;
+		boolean thisUpdated = false;
+		if(c instanceof JComponent jc){
+			int result = applyToComponent(jc);
+			if(result != UNCHANGED){
+				updated++;
+				thisUpdated = true;
+				if(result == LAYOUT_CHANGED){
+					jc.invalidate();
+					invalidated[0] = true;
+				}
+				if(!ancestorUpdated){
+					toRepaint.add(c);
+				}
+			}
+		}
+		if(c instanceof Container container){
+			for(Component child: container.getComponents()){
+				updated += applyTo(child, ancestorUpdated || thisUpdated, toRepaint, invalidated);
+			}
+		}
+		return updated;
+	}
+	
+	/**
+	 * Applies the changes to the given {@link JComponent}, based on the prefix of its UI class ID (e.g. "Button."
+	 * for "ButtonUI")
+	 *
+	 * @param c The {@link JComponent} to apply the changes to
+	 * @return {@link #UNCHANGED}, {@link #PAINT_CHANGED}, or {@link #LAYOUT_CHANGED}
+	 */
+	private int applyToComponent(JComponent c){
+		int result = UNCHANGED;
+		
+		// Titled Borders read their defaults when painting, so they only need repainted and laid out again
+		if(c.getBorder() instanceof TitledBorder && (hasChanged("TitledBorder.border") ||
+				hasChanged("TitledBorder.font") || hasChanged("TitledBorder.titleColor") ||
+				hasChanged("TitledBorder.position"))){
+			result = LAYOUT_CHANGED;
+		}
+		
+		String uiClassID = c.getUIClassID();
+		if(!uiClassID.endsWith("UI")){
+			return result;
+		}
+		String prefix = uiClassID.substring(0, uiClassID.length() - 2) + ".";
+		
+		// Paints
+		if(c instanceof HasSizablePaints paints){
+			if(shouldReplace(prefix + "foreground.paint", paints.getForegroundPaint())){
+				paints.setForegroundPaint(getNewPaint(prefix + "foreground.paint"));
+				result = Math.max(result, PAINT_CHANGED);
+			}
+			if(shouldReplace(prefix + "background.paint", paints.getBackgroundPaint())){
+				paints.setBackgroundPaint(getNewPaint(prefix + "background.paint"));
+				result = Math.max(result, PAINT_CHANGED);
+			}
+		}
+		if(c instanceof HasSelectAndFocusPaints paints){
+			if(shouldReplace(prefix + "select.paint", paints.getSelectPaint())){
+				paints.setSelectPaint(getNewPaint(prefix + "select.paint"));
+				result = Math.max(result, PAINT_CHANGED);
+			}
+			if(shouldReplace(prefix + "focus.paint", paints.getFocusPaint())){
+				paints.setFocusPaint(getNewPaint(prefix + "focus.paint"));
+				result = Math.max(result, PAINT_CHANGED);
+			}
+		}
+		if(c instanceof HasDisabledTextPaint paints &&
+				shouldReplace(prefix + "disabledText.paint", paints.getDisabledTextPaint())){
+			paints.setDisabledTextPaint(getNewPaint(prefix + "disabledText.paint"));
+			result = Math.max(result, PAINT_CHANGED);
+		}
+		if(c instanceof HasDisabledForegroundPaint paints &&
+				shouldReplace(prefix + "disabledForeground.paint", paints.getDisabledForegroundPaint())){
+			paints.setDisabledForegroundPaint(getNewPaint(prefix + "disabledForeground.paint"));
+			result = Math.max(result, PAINT_CHANGED);
+		}
+		
+		// Colors (derived from the paints)
+		if(shouldReplaceColor(prefix + "foreground.paint", c.getForeground())){
+			c.setForeground(getNewColor(prefix + "foreground.paint"));
+			result = Math.max(result, PAINT_CHANGED);
+		}
+		if(shouldReplaceColor(prefix + "background.paint", c.getBackground())){
+			c.setBackground(getNewColor(prefix + "background.paint"));
+			result = Math.max(result, PAINT_CHANGED);
+		}
+		
+		// Shape
+		if(c instanceof Shaped shaped && shouldReplace(prefix + "shape", shaped.getShapeInfo())){
+			shaped.setShapeInfo((ShapeInfo) getNewValue(prefix + "shape"));
+			result = LAYOUT_CHANGED;
+		}
+		
+		// Font
+		if(hasChanged(prefix + "font") && c.getFont() instanceof UIResource){
+			c.setFont(((ThemeFont) getNewValue(prefix + "font")).getFont());
+			result = LAYOUT_CHANGED;
+		}
+		
+		// Border
+		if(shouldReplace(prefix + "border", c.getBorder())){
+			c.setBorder((Border) getNewValue(prefix + "border"));
+			result = LAYOUT_CHANGED;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param key The {@link UIDefaults} key of the value
+	 * @param current The component's current value
+	 * @return Whether the value changed and the component's current value came from the old theme
+	 */
+	private boolean shouldReplace(String key, Object current){
+		return hasChanged(key) && (current instanceof UIResource || current == getOldValue(key));
+	}
+	
+	/**
+	 * @param paintKey The {@link UIDefaults} key of the paint the color is derived from
+	 * @param current The component's current color
+	 * @return Whether the paint changed and the component's current color was installed by the Look &amp; Feel
+	 */
+	private boolean shouldReplaceColor(String paintKey, Color current){
+		return hasChanged(paintKey) && current instanceof UIResource;
+	}
+	
+	/**
+	 * @param key The {@link UIDefaults} key of the paint
+	 * @return The new theme's {@link SizablePaint} for the key
+	 */
+	private SizablePaint getNewPaint(String key){
+		return (SizablePaint) getNewValue(key);
+	}
+	
+	/**
+	 * @param paintKey The {@link UIDefaults} key of the paint
+	 * @return The color derived from the new theme's paint for the key
+	 */
+	private Color getNewColor(String paintKey){
+		Object paint = getNewValue(paintKey);
+		return paint instanceof PaintUIResource paintUIResource?paintUIResource.getColorUIResource():null;
+	}
+}
@@ -0,0 +1,135 @@
+package com.github.tadukoo.view.lookandfeel;
+
+import com.github.tadukoo.view.font.FontFamily;
+import com.github.tadukoo.view.font.FontResourceLoader;
+
+import javax.swing.UIDefaults;
+import javax.swing.UIManager;
+import javax.swing.plaf.FontUIResource;
+import java.awt.FontFormatException;
+import java.io.IOException;
+
+/**
+ * Theme Font is a font used in a {@link TadukooTheme}. It's either already resolved to a {@link FontUIResource},
+ * or it's a descriptor of the {@link FontFamily}, style, and size to use, whose {@link FontFamily} is only loaded
+ * the first time the font is asked for (e.g. by {@link UIManager}, as this is a {@link UIDefaults.LazyValue}).
+ * The resolved {@link FontUIResource} is cached, so the {@link FontFamily} is only loaded once.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class ThemeFont implements UIDefaults.LazyValue{
+	/** The {@link FontResourceLoader} to load the {@link FontFamily} with (null if already resolved) */
+	private final FontResourceLoader fontResourceLoader;
+	/** The {@link FontFamily} of the font */
+	private final FontFamily fontFamily;
+	/** The font style */
+	private final int fontStyle;
+	/** The font size */
+	private final int fontSize;
+	/** The resolved {@link FontUIResource} (null until resolved) */
+	private volatile FontUIResource font;
+	
+	/**
+	 * Constructs a new Theme Font that's already resolved to the given {@link FontUIResource}
+	 *
+	 * @param font The resolved {@link FontUIResource}
+	 */
+	public ThemeFont(FontUIResource font){
+		this.fontResourceLoader = null;
+		this.fontFamily = null;
+		this.fontStyle = font.getStyle();
+		this.fontSize = font.getSize();
+		this.font = font;
+	}
+	
+	/**
+	 * Constructs a new Theme Font that will load the given {@link FontFamily} the first time it's asked for
+	 *
+	 * @param fontResourceLoader The {@link FontResourceLoader} to load the {@link FontFamily} with
+	 * @param fontFamily The {@link FontFamily} of the font
+	 * @param fontStyle The font style
+	 * @param fontSize The font size
+	 */
+	public ThemeFont(FontResourceLoader fontResourceLoader, FontFamily fontFamily, int fontStyle, int fontSize){
+		this.fontResourceLoader = fontResourceLoader;
+		this.fontFamily = fontFamily;
+		this.fontStyle = fontStyle;
+		this.fontSize = fontSize;
+		this.font = null;
+	}
+	
+	/**
+	 * @return The {@link FontFamily} of the font (null if it was created already resolved)
+	 */
+	public FontFamily getFontFamily(){
+		return fontFamily;
+	}
+	
+	/**
+	 * @return The font style
+	 */
+	public int getFontStyle(){
+		return fontStyle;
+	}
+	
+	/**
+	 * @return The font size
+	 */
+	public int getFontSize(){
+		return fontSize;
+	}
+	
+	/**
+	 * @return Whether the font has been resolved to a {@link FontUIResource} yet or not
+	 */
+	public boolean isResolved(){
+		return font != null;
+	}
+	
+	/**
+	 * Retrieves the {@link FontUIResource}, loading the {@link FontFamily} first if it hasn't been resolved yet
+	 *
+	 * @return The resolved {@link FontUIResource}
+	 * @throws IllegalStateException If loading the {@link FontFamily} fails
+	 */
+	public FontUIResource getFont(){
+		FontUIResource font = this.font;
+		if(font == null){
+			synchronized(this){
+				font = this.font;
+				if(font == null){
+					try{
+						String fontName = fontResourceLoader.loadFont(fontFamily, true);
+						font = new FontUIResource(fontName, fontStyle, fontSize);
+					}catch(IOException | FontFormatException e){
+						throw new IllegalStateException("Failed to load font: " + fontFamily.getName(), e);
+					}
+					this.font = font;
+				}
+			}
+		}
+		return font;
+	}
+	
+	/**
+	 * @return The value to put in {@link UIDefaults} for this font - the {@link FontUIResource} if it's already
+	 * resolved, or this Theme Font to resolve it the first time it's asked for
+	 */
+	public Object getUIDefaultsValue(){
+		FontUIResource font = this.font;
+		return font != null?font:this;
+	}
+	
+	/**
+	 * Resolves the font when {@link UIDefaults} is first asked for it
+	 *
+	 * @param table The {@link UIDefaults} table
+	 * @return The resolved {@link FontUIResource}
+	 */
+	@Override
+	public Object createValue(UIDefaults table){
+		return getFont();
+	}
+}
@@ -0,0 +1,410 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import javax.swing.AbstractButton;
+import javax.swing.ButtonModel;
+import javax.swing.Icon;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.beans.PropertyChangeListener;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Button Image Cache keeps the fully rendered appearance of buttons (background, pressed fill, icon, text, and
+ * focus) as images, so that repainting a button in a state it has already been painted in is a single image blit
+ * instead of redoing all the vector work. This is mainly useful for toolbars with many buttons, where hovering
+ * over them repaints them often.
+ * <br><br>
+ * Caching is opt-in per button, using {@link #enable(AbstractButton)}, or for all buttons by setting
+ * {@link #DEFAULTS_KEY} to true in the Look &amp; Feel defaults. Images are keyed by the button, its
+ * {@link #getState(AbstractButton) state}, size, text, font, icon, and the paints and shape it's painted with. Any
+ * property change on the button evicts its images, and all images together are kept under a
+ * {@link #getByteBudget() byte budget}, evicting the least recently used ones first.
+ * <br><br>
+ * Images are only used when painting to a {@link Graphics} that is only translated (not scaled or rotated), so that
+ * they're pixel-for-pixel the same as painting the button directly.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class ButtonImageCache{
+	/** The client property key used to mark a button as using the cache (its value is the button's cache id) */
+	public static final String ENABLED_PROPERTY = "TadukooButtonUI.imageCache";
+	/** The Look &amp; Feel defaults key for a Boolean of whether to enable the cache for all buttons */
+	public static final String DEFAULTS_KEY = "Button.imageCache";
+	/** The default byte budget of the shared cache (16 MB) */
+	public static final long DEFAULT_BYTE_BUDGET = 16L * 1024 * 1024;
+	
+	/** The state flag for a button that is pressed or selected */
+	public static final int PRESSED = 1;
+	/** The state flag for a button that the mouse is over */
+	public static final int ROLLOVER = 2;
+	/** The state flag for a button that has focus painted */
+	public static final int FOCUSED = 4;
+	/** The state flag for a button that is disabled */
+	public static final int DISABLED = 8;
+	
+	/** The shared cache used by {@link TadukooButtonUI} */
+	private static final ButtonImageCache sharedCache = new ButtonImageCache(DEFAULT_BYTE_BUDGET);
+	/** Used to give each button using the cache its own id */
+	private static final AtomicInteger nextId = new AtomicInteger();
+	/** Evicts a button's images from the shared cache when any of its properties change */
+	private static final PropertyChangeListener evictOnChange = e -> {
+		if(!ENABLED_PROPERTY.equals(e.getPropertyName())){
+			sharedCache.evict((AbstractButton) e.getSource());
+		}
+	};
+	
+	/**
+	 * The key for a rendered image
+	 *
+	 * @param id The cache id of the button
+	 * @param state The {@link #getState(AbstractButton) state} of the button
+	 * @param width The width of the button
+	 * @param height The height of the button
+	 * @param text The text of the button
+	 * @param font The {@link Font} of the button
+	 * @param icon The {@link Icon} of the button
+	 * @param appearance The paints and shape the button is painted with
+	 */
+	private record Key(int id, int state, int width, int height, String text, Font font, Icon icon,
+	                   Object[] appearance){
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean equals(Object o){
+			return o instanceof Key key && id == key.id && state == key.state && width == key.width &&
+					height == key.height && Objects.equals(text, key.text) && Objects.equals(font, key.font) &&
+					icon == key.icon && Arrays.equals(appearance, key.appearance);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int hashCode(){
+			return Objects.hash(id, state, width, height, text, font, System.identityHashCode(icon),
+					Arrays.hashCode(appearance));
+		}
+	}
+	
+	/** The maximum number of bytes of images to keep */
+	private long byteBudget;
+	/** The cached images, in least recently used order */
+	private final LinkedHashMap<Key, BufferedImage> images = new LinkedHashMap<>(16, 0.75f, true);
+	/** The number of bytes of images currently kept */
+	private long bytes = 0;
+	/** The number of paints that used a cached image */
+	private long hitCount = 0;
+	/** The number of paints that had to render an image */
+	private long missCount = 0;
+	/** The number of images evicted to stay under the byte budget */
+	private long evictionCount = 0;
+	
+	/**
+	 * Constructs a new Button Image Cache with the given byte budget
+	 *
+	 * @param byteBudget The maximum number of bytes of images to keep - 0 disables caching
+	 * @throws IllegalArgumentException If the byte budget is negative
+	 */
+	public ButtonImageCache(long byteBudget){
+		setByteBudget(byteBudget);
+	}
+	
+	/**
+	 * @return The shared Button Image Cache used by {@link TadukooButtonUI}
+	 */
+	public static ButtonImageCache getSharedCache(){
+		return sharedCache;
+	}
+	
+	/*
+	 * Opt-In Methods
+	 */
+	
+	/**
+	 * Enables caching the rendered images of the given button in the shared cache
+	 *
+	 * @param b The {@link AbstractButton} to cache the images of
+	 */
+	public static void enable(AbstractButton b){
+		if(!isEnabled(b)){
+			b.putClientProperty(ENABLED_PROPERTY, nextId.getAndIncrement());
+			b.addPropertyChangeListener(evictOnChange);
+		}
+	}
+	
+	/**
+	 * Disables caching the rendered images of the given button, evicting any images it has in the shared cache
+	 *
+	 * @param b The {@link AbstractButton} to stop caching the images of
+	 */
+	public static void disable(AbstractButton b){
+		if(isEnabled(b)){
+			sharedCache.evict(b);
+			b.removePropertyChangeListener(evictOnChange);
+			b.putClientProperty(ENABLED_PROPERTY, null);
+		}
+	}
+	
+	/**
+	 * @param b The {@link AbstractButton} to check
+	 * @return Whether the rendered images of the given button are cached
+	 */
+	public static boolean isEnabled(AbstractButton b){
+		return b.getClientProperty(ENABLED_PROPERTY) instanceof Integer;
+	}
+	
+	/**
+	 * Determines the state of the given button as it affects painting, as a combination of the {@link #PRESSED},
+	 * {@link #ROLLOVER}, {@link #FOCUSED}, and {@link #DISABLED} flags
+	 *
+	 * @param b The {@link AbstractButton} to get the state of
+	 * @return The state of the button
+	 */
+	public static int getState(AbstractButton b){
+		ButtonModel model = b.getModel();
+		int state = 0;
+		if((model.isArmed() && model.isPressed()) || model.isSelected()){
+			state |= PRESSED;
+		}
+		if(model.isRollover()){
+			state |= ROLLOVER;
+		}
+		if(b.isFocusPainted() && b.hasFocus()){
+			state |= FOCUSED;
+		}
+		if(!model.isEnabled()){
+			state |= DISABLED;
+		}
+		return state;
+	}
+	
+	/*
+	 * Cache Methods
+	 */
+	
+	/**
+	 * @return The maximum number of bytes of images to keep
+	 */
+	public synchronized long getByteBudget(){
+		return byteBudget;
+	}
+	
+	/**
+	 * Sets the maximum number of bytes of images to keep, evicting images if there are now too many
+	 *
+	 * @param byteBudget The maximum number of bytes of images to keep - 0 disables caching
+	 * @throws IllegalArgumentException If the byte budget is negative
+	 */
+	public synchronized void setByteBudget(long byteBudget){
+		if(byteBudget < 0){
+			throw new IllegalArgumentException("Can't have a negative button image cache byte budget!");
+		}
+		this.byteBudget = byteBudget;
+		evictToBudget();
+	}
+	
+	/**
+	 * @return The number of bytes of images currently kept
+	 */
+	public synchronized long getBytes(){
+		return bytes;
+	}
+	
+	/**
+	 * @return The number of images currently kept
+	 */
+	public synchronized int size(){
+		return images.size();
+	}
+	
+	/**
+	 * @return The number of paints that used a cached image
+	 */
+	public synchronized long getHitCount(){
+		return hitCount;
+	}
+	
+	/**
+	 * @return The number of paints that had to render an image
+	 */
+	public synchronized long getMissCount(){
+		return missCount;
+	}
+	
+	/**
+	 * @return The number of images evicted to stay under the byte budget
+	 */
+	public synchronized long getEvictionCount(){
+		return evictionCount;
+	}
+	
+	/**
+	 * Checks whether the button can be painted from an image on the given {@link Graphics}, which requires a
+	 * non-empty size and a {@link Graphics2D} that is only translated
+	 *
+	 * @param g The {@link Graphics} to paint on
+	 * @param b The {@link AbstractButton} to paint
+	 * @return Whether the button can be painted from an image
+	 */
+	public boolean canPaint(Graphics g, AbstractButton b){
+		if(b.getWidth() <= 0 || b.getHeight() <= 0 || !isEnabled(b) || !(g instanceof Graphics2D g2d)){
+			return false;
+		}
+		int type = g2d.getTransform().getType();
+		return (type & ~AffineTransform.TYPE_TRANSLATION) == 0;
+	}
+	
+	/**
+	 * Paints the button from a cached image, rendering the image with the given renderer if there isn't one for the
+	 * button's current state and appearance yet. If the button {@link #canPaint can't be painted} from an image, or
+	 * its image wouldn't fit in the byte budget, the renderer paints it directly instead.
+	 *
+	 * @param g The {@link Graphics} to paint on
+	 * @param b The {@link AbstractButton} to paint
+	 * @param appearance The paints and shape the button is painted with (which are part of the key)
+	 * @param renderer The function used to paint the button directly
+	 */
+	public void paint(Graphics g, AbstractButton b, Object[] appearance, Consumer<Graphics> renderer){
+		int width = b.getWidth();
+		int height = b.getHeight();
+		long imageBytes = 4L * width * height;
+		if(!canPaint(g, b) || imageBytes > getByteBudget()){
+			renderer.accept(g);
+			return;
+		}
+		
+		// Find the image, or render it if needed
+		Key key = new Key((Integer) b.getClientProperty(ENABLED_PROPERTY), getState(b), width, height, b.getText(),
+				b.getFont(), b.getIcon(), appearance);
+		BufferedImage image = get(key);
+		if(image == null){
+			image = renderImage((Graphics2D) g, width, height, renderer);
+			put(key, image, imageBytes);
+		}
+		
+		g.drawImage(image, 0, 0, null);
+	}
+	
+	/**
+	 * Renders the button into a new compatible translucent image
+	 *
+	 * @param g2d The {@link Graphics2D} being painted on (to get the device configuration, font, color, and
+	 *            rendering hints from)
+	 * @param width The width of the button
+	 * @param height The height of the button
+	 * @param renderer The function used to paint the button directly
+	 * @return The newly rendered image
+	 */
+	private BufferedImage renderImage(Graphics2D g2d, int width, int height, Consumer<Graphics> renderer){
+		BufferedImage image = g2d.getDeviceConfiguration()
+				.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		Graphics2D imageGraphics = image.createGraphics();
+		try{
+			imageGraphics.setRenderingHints(g2d.getRenderingHints());
+			imageGraphics.setFont(g2d.getFont());
+			imageGraphics.setColor(g2d.getColor());
+			renderer.accept(imageGraphics);
+		}finally{
+			imageGraphics.dispose();
+		}
+		return image;
+	}
+	
+	/**
+	 * Looks up a cached image, keeping track of hits and misses
+	 *
+	 * @param key The {@link Key} of the image
+	 * @return The cached image, or null if there isn't one
+	 */
+	private synchronized BufferedImage get(Key key){
+		BufferedImage image = images.get(key);
+		if(image != null){
+			hitCount++;
+		}else{
+			missCount++;
+		}
+		return image;
+	}
+	
+	/**
+	 * Caches an image, evicting the least recently used images if it goes over the byte budget
+	 *
+	 * @param key The {@link Key} of the image
+	 * @param image The image to cache
+	 * @param imageBytes The number of bytes in the image
+	 */
+	private synchronized void put(Key key, BufferedImage image, long imageBytes){
+		BufferedImage old = images.put(key, image);
+		if(old != null){
+			bytes -= imageBytes(old);
+		}
+		bytes += imageBytes;
+		evictToBudget();
+	}
+	
+	/**
+	 * Evicts the least recently used images until the images fit in the byte budget
+	 */
+	private void evictToBudget(){
+		Iterator<BufferedImage> it = images.values().iterator();
+		while(bytes > byteBudget && it.hasNext()){
+			bytes -= imageBytes(it.next());
+			it.remove();
+			evictionCount++;
+		}
+	}
+	
+	/**
+	 * Evicts all the images of the given button
+	 *
+	 * @param b The {@link AbstractButton} to evict the images of
+	 */
+	public synchronized void evict(AbstractButton b){
+		if(!(b.getClientProperty(ENABLED_PROPERTY) instanceof Integer id)){
+			return;
+		}
+		Iterator<Map.Entry<Key, BufferedImage>> it = images.entrySet().iterator();
+		while(it.hasNext()){
+			Map.Entry<Key, BufferedImage> entry = it.next();
+			if(entry.getKey().id == id){
+				bytes -= imageBytes(entry.getValue());
+				it.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Removes all the images from the cache
+	 */
+	public synchronized void clear(){
+		images.clear();
+		bytes = 0;
+	}
+	
+	/**
+	 * Resets the hit, miss, and eviction counts
+	 */
+	public synchronized void resetStats(){
+		hitCount = 0;
+		missCount = 0;
+		evictionCount = 0;
+	}
+	
+	/**
+	 * @param image An image
+	 * @return The number of bytes counted for the image
+	 */
+	private static long imageBytes(BufferedImage image){
+		return 4L * image.getWidth() * image.getHeight();
+	}
+}
@@ -10,6 +10,9 @@ import com.github.tadukoo.view.paint.SizablePaint;
 import com.github.tadukoo.view.shapes.ShapeInfo;
 import com.github.tadukoo.view.components.interfaces.Shaped;
 
+import javax.swing.AbstractButton;
+import javax.swing.JComponent;
+import javax.swing.LookAndFeel;
 import javax.swing.UIManager;
 import javax.swing.plaf.UIResource;
 import java.awt.Component;
@@ -17,6 +20,8 @@ import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.Transparency;
+import java.beans.PropertyChangeListener;
 
 /**
  * This interface provides utilities for {@link TComponent}s - this interface is to be implemented in
@@ -25,7 +30,7 @@ import java.awt.Paint;
  * customizations. It also contains some common paint methods.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  */
 public interface TComponentUIUtil{
 	
@@ -43,11 +48,19 @@ public interface TComponentUIUtil{
 	 * Accessor Methods
 	 */
 	
+	/**
+	 * @return The {@link UIDefaultsSnapshot} of the Look &amp; Feel defaults for this Component UI class, which the
+	 * default getters read from instead of looking up the {@link UIManager} on every paint
+	 */
+	default UIDefaultsSnapshot getDefaultsSnapshot(){
+		return UIDefaultsSnapshot.of(this);
+	}
+	
 	/**
 	 * @return The {@link SizablePaint} to be used for the foreground from the Look &amp; Feel
 	 */
 	default SizablePaint getForegroundPaint(){
-		return (SizablePaint) UIManager.get(getPropertyPrefixString() + "foreground.paint");
+		return getDefaultsSnapshot().getForegroundPaint();
 	}
 	
 	/**
@@ -57,6 +70,17 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getForegroundPaint(Component c, Dimension size){
+		return getForegroundPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the foreground paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the foreground - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
+	 */
+	default Paint getForegroundPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the foreground paint from the component if it has it
 		if(c instanceof HasSizablePaints){
@@ -66,14 +90,14 @@ public interface TComponentUIUtil{
 			paint = getForegroundPaint();
 		}
 		// Return the paint based on the given size
-		return paint.getPaint(size);
+		return paint.getPaint(width, height);
 	}
 	
 	/**
 	 * @return The {@link SizablePaint} to be used for the background from the Look &amp; Feel
 	 */
 	default SizablePaint getBackgroundPaint(){
-		return (SizablePaint) UIManager.get(getPropertyPrefixString() + "background.paint");
+		return getDefaultsSnapshot().getBackgroundPaint();
 	}
 	
 	/**
@@ -83,6 +107,17 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getBackgroundPaint(Component c, Dimension size){
+		return getBackgroundPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the background paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the background - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
+	 */
+	default Paint getBackgroundPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the background paint from the component if it has it
 		if(c instanceof HasSizablePaints){
@@ -92,14 +127,14 @@ public interface TComponentUIUtil{
 			paint = getBackgroundPaint();
 		}
 		// Return the paint based on the given size
-		return paint.getPaint(size);
+		return paint.getPaint(width, height);
 	}
 	
 	/**
 	 * @return The {@link ShapeInfo} to be used from the Look &amp; Feel
 	 */
 	default ShapeInfo getShape(){
-		return (ShapeInfo) UIManager.get(getPropertyPrefixString() + "shape");
+		return getDefaultsSnapshot().getShape();
 	}
 	
 	/**
@@ -120,7 +155,7 @@ public interface TComponentUIUtil{
 	 * @return The {@link SizablePaint} to be used for when the Component is selected from the Look &amp; Feel
 	 */
 	default SizablePaint getSelectPaint(){
-		return (SizablePaint) UIManager.get(getPropertyPrefixString() + "select.paint");
+		return getDefaultsSnapshot().getSelectPaint();
 	}
 	
 	/**
@@ -130,6 +165,17 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getSelectPaint(Component c, Dimension size){
+		return getSelectPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the select paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the select - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
+	 */
+	default Paint getSelectPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the select paint from the component if it has it
 		if(c instanceof HasSelectAndFocusPaints){
@@ -139,14 +185,14 @@ public interface TComponentUIUtil{
 			paint = getSelectPaint();
 		}
 		// Return the paint based on the given size
-		return paint.getPaint(size);
+		return paint.getPaint(width, height);
 	}
 	
 	/**
 	 * @return The {@link SizablePaint} to be used for when the Component is focused from the Look &amp; Feel
 	 */
 	default SizablePaint getFocusPaint(){
-		return (SizablePaint) UIManager.get(getPropertyPrefixString() + "focus.paint");
+		return getDefaultsSnapshot().getFocusPaint();
 	}
 	
 	/**
@@ -156,6 +202,17 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getFocusPaint(Component c, Dimension size){
+		return getFocusPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the focus paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the focus - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
+	 */
+	default Paint getFocusPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the focus paint from the component if it has it
 		if(c instanceof HasSelectAndFocusPaints){
@@ -165,14 +222,14 @@ public interface TComponentUIUtil{
 			paint = getFocusPaint();
 		}
 		// Return the paint based on the given size
-		return paint.getPaint(size);
+		return paint.getPaint(width, height);
 	}
 	
 	/**
 	 * @return The {@link SizablePaint} to be used for disabled text on the Component from the Look &amp; Feel
 	 */
 	default SizablePaint getDisabledTextPaint(){
-		return (SizablePaint) UIManager.get(getPropertyPrefixString() + "disabledText.paint");
+		return getDefaultsSnapshot().getDisabledTextPaint();
 	}
 	
 	/**
@@ -182,6 +239,17 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getDisabledTextPaint(Component c, Dimension size){
+		return getDisabledTextPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the disabled text paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the disabled text - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
+	 */
+	default Paint getDisabledTextPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the disabled text paint from the component if it has it
 		if(c instanceof HasDisabledTextPaint){
@@ -191,14 +259,14 @@ public interface TComponentUIUtil{
 			paint = getDisabledTextPaint();
 		}
 		// Return the paint based on the given size
-		return paint.getPaint(size);
+		return paint.getPaint(width, height);
 	}
 	
 	/**
 	 * @return The {@link SizablePaint} to be used for disabled foreground on the Component from the Look &amp; Feel
 	 */
 	default SizablePaint getDisabledForegroundPaint(){
-		return (SizablePaint) UIManager.get(getPropertyPrefixString() + "disabledForeground.paint");
+		return getDefaultsSnapshot().getDisabledForegroundPaint();
 	}
 	
 	/**
@@ -208,6 +276,17 @@ public interface TComponentUIUtil{
 	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
 	 */
 	default Paint getDisabledForegroundPaint(Component c, Dimension size){
+		return getDisabledForegroundPaint(c, size.width, size.height);
+	}
+	
+	/**
+	 * @param c A {@link Component} which may have the disabled foreground paint on it
+	 * @param width The width of the surface to be painted
+	 * @param height The height of the surface to be painted
+	 * @return The sized {@link Paint} for the disabled foreground - the {@link SizablePaint} used may come from the
+	 * {@link Component} if it has it, or default to the Look &amp; Feel's paint
+	 */
+	default Paint getDisabledForegroundPaint(Component c, int width, int height){
 		SizablePaint paint;
 		// Grab the disabled foreground paint from the component if it has it
 		if(c instanceof HasDisabledForegroundPaint){
@@ -217,7 +296,7 @@ public interface TComponentUIUtil{
 			paint = getDisabledForegroundPaint();
 		}
 		// Return the paint based on the given size
-		return paint.getPaint(size);
+		return paint.getPaint(width, height);
 	}
 	
 	/*
@@ -504,13 +583,82 @@ public interface TComponentUIUtil{
 		int height = c.getHeight();
 		
 		// Grab the background paint and set it
-		Paint backgroundPaint = getBackgroundPaint(c, new Dimension(width, height));
+		Paint backgroundPaint = getBackgroundPaint(c, width, height);
 		if(backgroundPaint != null){
 			g2d.setPaint(backgroundPaint);
 			
 			// Paint the background
-			g2d.fill(getShape(c).getShapeFunc().apply(0, 0, width, height));
+			g2d.fill(getShape(c).getShape(0, 0, width, height));
 		}
 		// If background paint is null, it signifies we don't want to paint it
 	}
+	
+	/*
+	 * Opacity Methods
+	 */
+	
+	/**
+	 * A {@link PropertyChangeListener} to be installed on components by Component UI classes that
+	 * {@link #installOpaque(JComponent) install their opacity}. It installs the opacity again when the
+	 * {@link ShapeInfo}, background {@link SizablePaint}, or whether a button fills its content area changes.
+	 */
+	PropertyChangeListener opaqueUpdater = e -> {
+		String property = e.getPropertyName();
+		if((Shaped.SHAPE_INFO_PROPERTY.equals(property) ||
+				HasSizablePaints.BACKGROUND_PAINT_PROPERTY.equals(property) ||
+				AbstractButton.CONTENT_AREA_FILLED_CHANGED_PROPERTY.equals(property)) &&
+				e.getSource() instanceof JComponent c && c.getUI() instanceof TComponentUIUtil util){
+			util.installOpaque(c);
+		}
+	};
+	
+	/**
+	 * Determines whether the background paint of the {@link Component} (at its current size) is opaque
+	 *
+	 * @param c The {@link Component} to check the background paint of
+	 * @return true if the background paint exists and is {@link Transparency#OPAQUE opaque}
+	 */
+	default boolean hasOpaqueBackgroundPaint(Component c){
+		SizablePaint sizablePaint = c instanceof HasSizablePaints?
+				((HasSizablePaints) c).getBackgroundPaint():getBackgroundPaint();
+		if(sizablePaint == null){
+			return false;
+		}
+		// Paints can't be made for an empty size, so use at least 1x1
+		Paint paint = sizablePaint.getPaint(Math.max(c.getWidth(), 1), Math.max(c.getHeight(), 1));
+		return paint != null && paint.getTransparency() == Transparency.OPAQUE;
+	}
+	
+	/**
+	 * Determines whether the {@link Component} fully paints its bounds when its background is painted, which is
+	 * the case when its {@link ShapeInfo} {@link ShapeInfo#coversBounds() covers its bounds} and its background
+	 * paint is opaque. Buttons that don't {@link AbstractButton#isContentAreaFilled() fill their content area} are
+	 * never considered opaque.
+	 *
+	 * @param c The {@link Component} to check
+	 * @return true if painting the background of the {@link Component} fills its bounds
+	 */
+	default boolean isShapeOpaque(Component c){
+		if(c instanceof AbstractButton b && !b.isContentAreaFilled()){
+			return false;
+		}
+		ShapeInfo shapeInfo = getShape(c);
+		return shapeInfo != null && shapeInfo.coversBounds() && hasOpaqueBackgroundPaint(c);
+	}
+	
+	/**
+	 * Installs the opacity of the {@link JComponent}: opaque if its background {@link #isShapeOpaque(Component) fills
+	 * its bounds}, and non-opaque otherwise. Opaque components let Swing's RepaintManager stop at them, instead of
+	 * repainting their ancestors whenever they repaint. This uses {@link LookAndFeel#installProperty}, so it won't
+	 * override an opacity the client set with {@link JComponent#setOpaque(boolean)}.
+	 * <br><br>
+	 * This method is to be used when installing defaults, and by the {@link #opaqueUpdater} when the properties the
+	 * opacity depends on change. It shouldn't be used while painting, as the RepaintManager has already used the old
+	 * opacity to decide what to paint by then.
+	 *
+	 * @param c The {@link JComponent} to install the opacity of
+	 */
+	default void installOpaque(JComponent c){
+		LookAndFeel.installProperty(c, "opaque", isShapeOpaque(c));
+	}
 }
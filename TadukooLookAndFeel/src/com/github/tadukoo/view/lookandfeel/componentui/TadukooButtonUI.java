@@ -1,38 +1,53 @@
 package com.github.tadukoo.view.lookandfeel.componentui;
 
 import com.github.tadukoo.view.components.interfaces.TButton;
+import com.github.tadukoo.view.components.interfaces.paint.HasDisabledTextPaint;
+import com.github.tadukoo.view.components.interfaces.paint.HasSelectAndFocusPaints;
+import com.github.tadukoo.view.components.interfaces.paint.HasSizablePaints;
 import com.github.tadukoo.view.lookandfeel.TadukooLookAndFeel;
+import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ShapeInfo;
 
 import javax.swing.AbstractButton;
 import javax.swing.ButtonModel;
 import javax.swing.JComponent;
+import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
+import javax.swing.plaf.basic.BasicButtonListener;
 import javax.swing.plaf.metal.MetalButtonUI;
 import java.awt.Button;
-import java.awt.Dimension;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.beans.PropertyChangeEvent;
 
 /**
  * A {@link ComponentUI} class for use with {@link Button}s, used by {@link TadukooLookAndFeel} to
  * provide customizations for the Buttons beyond those present in existing Look &amp; Feels.
+ * <br><br>
+ * Buttons can opt in to having their rendered appearance cached in the {@link ButtonImageCache}, so that they're
+ * repainted with a single image blit when their state and appearance haven't changed.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.1
  */
 public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 	
+	/** The shared instance of {@code TadukooButtonUI}, as it doesn't keep any per-component state */
+	private static final TadukooButtonUI sharedInstance = new TadukooButtonUI();
+	
 	/**
-	 * Returns an instance of {@code TadukooButtonUI}.
+	 * Returns the shared instance of {@code TadukooButtonUI}. Like {@link MetalButtonUI}, a single instance is used
+	 * for every Button, since any per-component state is kept on the component itself (and the Look &amp; Feel
+	 * defaults are kept in a shared {@link UIDefaultsSnapshot}).
 	 *
 	 * @param c a component
-	 * @return an instance of {@code TadukooButtonUI}
+	 * @return the shared instance of {@code TadukooButtonUI}
 	 */
 	public static ComponentUI createUI(JComponent c){
-		return new TadukooButtonUI();
+		return sharedInstance;
 	}
 	
 	/** {@inheritDoc} */
@@ -50,9 +65,6 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 	public void installDefaults(AbstractButton b){
 		super.installDefaults(b);
 		
-		// Most of the shapes do not cover the entire area, causing problems if we leave opaque set to true
-		b.setOpaque(false);
-		
 		// If we have a TButton, we can set everything easily
 		if(b instanceof TButton t){
 			installTComponent(t);
@@ -64,6 +76,14 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 			installHasSelectAndFocusPaintsDefaults(b);
 			installHasDisabledTextPaintDefaults(b);
 		}
+		
+		// Cache the rendered button if the Look & Feel asks for it
+		if(UIManager.getBoolean(ButtonImageCache.DEFAULTS_KEY)){
+			ButtonImageCache.enable(b);
+		}
+		
+		// Most of the shapes do not cover the entire area, so only be opaque if the shape + paint fill it
+		installOpaque(b);
 	}
 	
 	/** {@inheritDoc} */
@@ -82,6 +102,49 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 			uninstallHasSelectAndFocusPaintsDefaults(b);
 			uninstallHasDisabledTextPaintDefaults(b);
 		}
+		
+		// Drop any cached images of the button, as they were painted with this Look & Feel
+		ButtonImageCache.getSharedCache().evict(b);
+	}
+	
+	/*
+	 * Install/Uninstall Listeners
+	 */
+	
+	/**
+	 * Creates the {@link BasicButtonListener} for the button. {@link BasicButtonListener} sets the button's opacity
+	 * directly when its content area filled property changes, which would override the opacity installed by the
+	 * {@link #opaqueUpdater}, so that property is left to the {@link #opaqueUpdater} instead.
+	 *
+	 * @param b The button to create the listener for
+	 * @return The {@link BasicButtonListener} for the button
+	 */
+	@Override
+	protected BasicButtonListener createButtonListener(AbstractButton b){
+		return new BasicButtonListener(b){
+			@Override
+			public void propertyChange(PropertyChangeEvent e){
+				if(!AbstractButton.CONTENT_AREA_FILLED_CHANGED_PROPERTY.equals(e.getPropertyName())){
+					super.propertyChange(e);
+				}
+			}
+		};
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void installListeners(AbstractButton b){
+		super.installListeners(b);
+		
+		// Update the opacity when the shape, background paint, or content area filled change
+		b.addPropertyChangeListener(opaqueUpdater);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void uninstallListeners(AbstractButton b){
+		super.uninstallListeners(b);
+		b.removePropertyChangeListener(opaqueUpdater);
 	}
 	
 	/*
@@ -91,12 +154,58 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 	/** {@inheritDoc} */
 	@Override
 	public void update(Graphics g, JComponent c){
+		// Paint from the image cache if the button uses it
+		if(c instanceof AbstractButton b && ButtonImageCache.isEnabled(b)){
+			ButtonImageCache.getSharedCache().paint(g, b, getAppearance(b), cg -> paintButton(cg, b));
+		}else{
+			paintButton(g, c);
+		}
+	}
+	
+	/**
+	 * Paints the background of the button and then does the other painting
+	 *
+	 * @param g The {@link Graphics} to paint on
+	 * @param c The button to paint
+	 */
+	protected void paintButton(Graphics g, JComponent c){
 		paintBackground(g, c);
-		
-		// Do the other painting
 		paint(g, c);
 	}
 	
+	/**
+	 * Determines the paints and shape the button is painted with, which are part of the key in the
+	 * {@link ButtonImageCache}
+	 *
+	 * @param b The {@link AbstractButton} to get the appearance of
+	 * @return The foreground, background, select, focus, and disabled text {@link SizablePaint}s and the
+	 * {@link ShapeInfo} of the button
+	 */
+	protected Object[] getAppearance(AbstractButton b){
+		SizablePaint foregroundPaint, backgroundPaint, selectPaint, focusPaint, disabledTextPaint;
+		if(b instanceof HasSizablePaints p){
+			foregroundPaint = p.getForegroundPaint();
+			backgroundPaint = p.getBackgroundPaint();
+		}else{
+			foregroundPaint = getForegroundPaint();
+			backgroundPaint = getBackgroundPaint();
+		}
+		if(b instanceof HasSelectAndFocusPaints p){
+			selectPaint = p.getSelectPaint();
+			focusPaint = p.getFocusPaint();
+		}else{
+			selectPaint = getSelectPaint();
+			focusPaint = getFocusPaint();
+		}
+		if(b instanceof HasDisabledTextPaint p){
+			disabledTextPaint = p.getDisabledTextPaint();
+		}else{
+			disabledTextPaint = getDisabledTextPaint();
+		}
+		return new Object[]{foregroundPaint, backgroundPaint, selectPaint, focusPaint, disabledTextPaint,
+				getShape(b)};
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	protected void paintButtonPressed(Graphics g, AbstractButton b){
@@ -105,13 +214,14 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 		
 		if(b.isContentAreaFilled()){
 			// Grab button size for use in paint and shape functions
-			Dimension size = b.getSize();
+			int width = b.getWidth();
+			int height = b.getHeight();
 			
 			// Grab the paint to use and set it on the graphics
-			g2d.setPaint(getSelectPaint(b, size));
+			g2d.setPaint(getSelectPaint(b, width, height));
 			
 			// Grab the shape and fill it
-			g2d.fill(getShape(b).getShapeFunc().apply(0, 0, size.width, size.height));
+			g2d.fill(getShape(b).getShape(0, 0, width, height));
 		}
 	}
 	
@@ -139,7 +249,7 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 		}
 		
 		// Grab the paint to use and set it on the graphics
-		g2d.setPaint(getFocusPaint(b, focusRect.getSize()));
+		g2d.setPaint(getFocusPaint(b, focusRect.width, focusRect.height));
 		
 		// Draw the focus rectangle
 		g2d.drawRect((focusRect.x-1), (focusRect.y-1),
@@ -158,15 +268,16 @@ public class TadukooButtonUI extends MetalButtonUI implements TComponentUIUtil{
 		//int mnemIndex = b.getDisplayedMnemonicIndex();
 		
 		// Determine the size to be painted
-		Dimension size = new Dimension(fm.stringWidth(text), fm.getHeight());
+		int width = fm.stringWidth(text);
+		int height = fm.getHeight();
 		
 		// Determine the paint to use
 		if(model.isEnabled()){
 			// Paint the text normally using foreground paint
-			g2d.setPaint(getForegroundPaint(b, size));
+			g2d.setPaint(getForegroundPaint(b, width, height));
 		}else{
 			// Paint the text disabled
-			g2d.setPaint(getDisabledTextPaint(b, size));
+			g2d.setPaint(getDisabledTextPaint(b, width, height));
 		}
 		
 		// Draw the actual text
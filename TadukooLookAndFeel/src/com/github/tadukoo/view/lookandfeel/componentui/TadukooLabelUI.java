@@ -7,7 +7,6 @@ import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicLabelUI;
-import java.awt.Dimension;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -18,18 +17,23 @@ import java.awt.Label;
  * provide customizations for the Labels beyond those present in existing Look &amp; Feels.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  */
 public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 	
+	/** The shared instance of {@code TadukooLabelUI}, as it doesn't keep any per-component state */
+	private static final TadukooLabelUI sharedInstance = new TadukooLabelUI();
+	
 	/**
-	 * Returns an instance of {@code TadukooLabelUI}.
+	 * Returns the shared instance of {@code TadukooLabelUI}. Like {@link BasicLabelUI}, a single instance is used
+	 * for every Label, since any per-component state is kept on the component itself (and the Look &amp; Feel
+	 * defaults are kept in a shared {@link UIDefaultsSnapshot}).
 	 *
 	 * @param c a component
-	 * @return an instance of {@code TadukooLabelUI}
+	 * @return the shared instance of {@code TadukooLabelUI}
 	 */
 	public static ComponentUI createUI(JComponent c){
-		return new TadukooLabelUI();
+		return sharedInstance;
 	}
 	
 	/** {@inheritDoc} */
@@ -56,6 +60,9 @@ public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 			installTComponentDefaults(c);
 			installHasDisabledForegroundPaintDefaults(c);
 		}
+		
+		// Only be opaque if the shape + background paint fill the entire area
+		installOpaque(c);
 	}
 	
 	/** {@inheritDoc} */
@@ -74,6 +81,26 @@ public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 		}
 	}
 	
+	/*
+	 * Install/Uninstall Listeners
+	 */
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void installListeners(JLabel c){
+		super.installListeners(c);
+		
+		// Update the opacity when the shape or background paint change
+		c.addPropertyChangeListener(opaqueUpdater);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected void uninstallListeners(JLabel c){
+		super.uninstallListeners(c);
+		c.removePropertyChangeListener(opaqueUpdater);
+	}
+	
 	/*
 	 * Paint Methods
 	 */
@@ -95,7 +122,7 @@ public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 		
 		// Set the Paint
 		FontMetrics fm = l.getFontMetrics(g.getFont());
-		g2d.setPaint(getForegroundPaint(l, new Dimension(fm.stringWidth(s), fm.getHeight())));
+		g2d.setPaint(getForegroundPaint(l, fm.stringWidth(s), fm.getHeight()));
 		
 		// Draw the actual text
 		g2d.drawString(s, textX, textY);
@@ -114,7 +141,7 @@ public class TadukooLabelUI extends BasicLabelUI implements TComponentUIUtil{
 		
 		// Set the Paint
 		FontMetrics fm = l.getFontMetrics(g.getFont());
-		g2d.setPaint(getDisabledForegroundPaint(l, new Dimension(fm.stringWidth(s), fm.getHeight())));
+		g2d.setPaint(getDisabledForegroundPaint(l, fm.stringWidth(s), fm.getHeight()));
 		
 		// Draw the actual text
 		g2d.drawString(s, textX, textY);
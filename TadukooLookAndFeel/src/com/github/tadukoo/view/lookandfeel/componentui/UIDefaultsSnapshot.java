@@ -0,0 +1,170 @@
+package com.github.tadukoo.view.lookandfeel.componentui;
+
+import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+
+import javax.swing.UIManager;
+import java.beans.PropertyChangeListener;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * UI Defaults Snapshot holds the Look &amp; Feel defaults used by a {@link TComponentUIUtil} Component UI class
+ * (its paints and {@link ShapeInfo shape}), resolved from the {@link UIManager} once, so that the default getters
+ * can return fields instead of building a key String and looking it up on every paint.
+ * <br><br>
+ * Snapshots are shared per Component UI class. They're all invalidated whenever the Look &amp; Feel changes or
+ * anything in the {@link UIManager#getDefaults() UIManager defaults} changes (tracked using property change
+ * listeners), and get rebuilt the next time they're asked for.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public final class UIDefaultsSnapshot{
+	/** The snapshots for each Component UI class */
+	private static final Map<Class<?>, UIDefaultsSnapshot> snapshots = new ConcurrentHashMap<>();
+	/** The current generation of snapshots - any snapshot from an older generation is out of date */
+	private static final AtomicInteger generation = new AtomicInteger();
+	
+	static{
+		// Any change to the Look & Feel or the defaults makes the snapshots out of date
+		PropertyChangeListener invalidator = e -> invalidateAll();
+		UIManager.addPropertyChangeListener(invalidator);
+		UIManager.getDefaults().addPropertyChangeListener(invalidator);
+	}
+	
+	/** The generation this snapshot was built in */
+	private final int snapshotGeneration;
+	/** The property prefix of the Component UI class this snapshot was built for */
+	private final String propertyPrefix;
+	/** The {@link SizablePaint} to be used for the foreground */
+	private final SizablePaint foregroundPaint;
+	/** The {@link SizablePaint} to be used for the background */
+	private final SizablePaint backgroundPaint;
+	/** The {@link ShapeInfo} to be used */
+	private final ShapeInfo shape;
+	/** The {@link SizablePaint} to be used for when the Component is selected */
+	private final SizablePaint selectPaint;
+	/** The {@link SizablePaint} to be used for when the Component is focused */
+	private final SizablePaint focusPaint;
+	/** The {@link SizablePaint} to be used for disabled text */
+	private final SizablePaint disabledTextPaint;
+	/** The {@link SizablePaint} to be used for disabled foreground */
+	private final SizablePaint disabledForegroundPaint;
+	
+	/**
+	 * Resolves a new UI Defaults Snapshot from the {@link UIManager} for the given property prefix
+	 *
+	 * @param snapshotGeneration The generation this snapshot is being built in
+	 * @param propertyPrefix The property prefix of the Component UI class
+	 */
+	private UIDefaultsSnapshot(int snapshotGeneration, String propertyPrefix){
+		this.snapshotGeneration = snapshotGeneration;
+		this.propertyPrefix = propertyPrefix;
+		foregroundPaint = (SizablePaint) UIManager.get(propertyPrefix + "foreground.paint");
+		backgroundPaint = (SizablePaint) UIManager.get(propertyPrefix + "background.paint");
+		shape = (ShapeInfo) UIManager.get(propertyPrefix + "shape");
+		selectPaint = (SizablePaint) UIManager.get(propertyPrefix + "select.paint");
+		focusPaint = (SizablePaint) UIManager.get(propertyPrefix + "focus.paint");
+		disabledTextPaint = (SizablePaint) UIManager.get(propertyPrefix + "disabledText.paint");
+		disabledForegroundPaint = (SizablePaint) UIManager.get(propertyPrefix + "disabledForeground.paint");
+	}
+	
+	/**
+	 * Retrieves the UI Defaults Snapshot for the given Component UI's class, resolving a new one from the
+	 * {@link UIManager} if there isn't one yet or it's out of date
+	 *
+	 * @param ui The {@link TComponentUIUtil} Component UI to get the snapshot for
+	 * @return The up-to-date UI Defaults Snapshot for the Component UI's class
+	 */
+	public static UIDefaultsSnapshot of(TComponentUIUtil ui){
+		int currentGeneration = generation.get();
+		UIDefaultsSnapshot snapshot = snapshots.get(ui.getClass());
+		if(snapshot == null || snapshot.snapshotGeneration != currentGeneration){
+			snapshot = new UIDefaultsSnapshot(currentGeneration, ui.getPropertyPrefixString());
+			snapshots.put(ui.getClass(), snapshot);
+		}
+		return snapshot;
+	}
+	
+	/**
+	 * Marks all the snapshots as out of date, so that they're resolved from the {@link UIManager} again the next
+	 * time they're asked for. This is called automatically when the Look &amp; Feel or defaults change.
+	 */
+	public static void invalidateAll(){
+		generation.incrementAndGet();
+	}
+	
+	/**
+	 * @return The current generation of snapshots, which goes up every time they're {@link #invalidateAll()
+	 * invalidated}
+	 */
+	public static int getGeneration(){
+		return generation.get();
+	}
+	
+	/**
+	 * @return The generation this snapshot was built in
+	 */
+	public int getSnapshotGeneration(){
+		return snapshotGeneration;
+	}
+	
+	/**
+	 * @return The property prefix of the Component UI class this snapshot was built for
+	 */
+	public String getPropertyPrefix(){
+		return propertyPrefix;
+	}
+	
+	/**
+	 * @return The {@link SizablePaint} to be used for the foreground
+	 */
+	public SizablePaint getForegroundPaint(){
+		return foregroundPaint;
+	}
+	
+	/**
+	 * @return The {@link SizablePaint} to be used for the background
+	 */
+	public SizablePaint getBackgroundPaint(){
+		return backgroundPaint;
+	}
+	
+	/**
+	 * @return The {@link ShapeInfo} to be used
+	 */
+	public ShapeInfo getShape(){
+		return shape;
+	}
+	
+	/**
+	 * @return The {@link SizablePaint} to be used for when the Component is selected
+	 */
+	public SizablePaint getSelectPaint(){
+		return selectPaint;
+	}
+	
+	/**
+	 * @return The {@link SizablePaint} to be used for when the Component is focused
+	 */
+	public SizablePaint getFocusPaint(){
+		return focusPaint;
+	}
+	
+	/**
+	 * @return The {@link SizablePaint} to be used for disabled text
+	 */
+	public SizablePaint getDisabledTextPaint(){
+		return disabledTextPaint;
+	}
+	
+	/**
+	 * @return The {@link SizablePaint} to be used for disabled foreground
+	 */
+	public SizablePaint getDisabledForegroundPaint(){
+		return disabledForegroundPaint;
+	}
+}
@@ -0,0 +1,291 @@
+package com.github.tadukoo.view.border;
+
+import com.github.tadukoo.view.cache.IntKeyedCache;
+import com.github.tadukoo.view.paint.SizableColor;
+import com.github.tadukoo.view.paint.gradient.LinearGradient;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JPanel;
+import javax.swing.border.Border;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class NineSliceBorderCacheTest{
+	private final ShapeInfo rectangle = Shapes.RECTANGLE.getShapeInfo();
+	private NineSliceBorderCache cache;
+	
+	@BeforeEach
+	public void setup(){
+		cache = new NineSliceBorderCache(3);
+	}
+	
+	/**
+	 * Paints the given border on a new image of the given size
+	 */
+	private BufferedImage paint(Border border, JPanel panel, int width, int height){
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		border.paintBorder(panel, g, 0, 0, width, height);
+		g.dispose();
+		return image;
+	}
+	
+	/**
+	 * Asserts that the two images have the same pixels
+	 */
+	private void assertSamePixels(BufferedImage expected, BufferedImage actual){
+		for(int x = 0; x < expected.getWidth(); x++){
+			for(int y = 0; y < expected.getHeight(); y++){
+				assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "Pixel " + x + ", " + y);
+			}
+		}
+	}
+	
+	@Test
+	public void testSizes(){
+		assertEquals(3, cache.getSliceSize());
+		assertEquals(7, cache.getImageSize());
+		assertEquals(IntKeyedCache.DEFAULT_CAPACITY, cache.getCapacity());
+	}
+	
+	@Test
+	public void testNonPositiveSliceSize(){
+		try{
+			cache = new NineSliceBorderCache(0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Nine slice size must be positive!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testThickness(){
+		assertEquals(0, cache.getThickness());
+		assertEquals(2, new NineSliceBorderCache(3, 5, 2).getThickness());
+	}
+	
+	@Test
+	public void testNegativeThickness(){
+		try{
+			cache = new NineSliceBorderCache(3, 5, -1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't have a negative nine slice border thickness!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSliceSizeSmallerThanThickness(){
+		try{
+			cache = new NineSliceBorderCache(3, 5, 4);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Nine slice size can't be smaller than the thickness!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testIsConstantPaint(){
+		assertTrue(NineSliceBorderCache.isConstantPaint(Color.RED));
+		assertFalse(NineSliceBorderCache.isConstantPaint(new GradientPaint(0, 0, Color.RED, 10, 10, Color.BLUE)));
+		assertFalse(NineSliceBorderCache.isConstantPaint(null));
+	}
+	
+	@Test
+	public void testNegativeCapacity(){
+		try{
+			cache = new NineSliceBorderCache(3, -1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't have a negative nine slice cache capacity!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testCanPaint(){
+		BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		assertTrue(cache.canPaint(g, rectangle, true, 7, 7));
+		assertFalse(cache.canPaint(g, rectangle, true, 6, 7));
+		assertFalse(cache.canPaint(g, rectangle, true, 7, 6));
+		g.translate(5, 5);
+		assertTrue(cache.canPaint(g, rectangle, true, 7, 7));
+		g.scale(2, 2);
+		assertFalse(cache.canPaint(g, rectangle, true, 7, 7));
+		g.dispose();
+	}
+	
+	@Test
+	public void testCanPaintNonConstantPaint(){
+		BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		assertFalse(cache.canPaint(g, rectangle, false, 7, 7));
+		g.dispose();
+	}
+	
+	@Test
+	public void testCanPaintShapes(){
+		BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		NineSliceBorderCache bigCache = new NineSliceBorderCache(12, IntKeyedCache.DEFAULT_CAPACITY, 2);
+		ShapeInfo cutCorners = Shapes.RECTANGLE_WITH_CUT_CORNERS_TL_BR.getShapeInfo();
+		// Size-dependent corners can't be sliced at any slice size
+		assertFalse(bigCache.canPaint(g, Shapes.CIRCLE.getShapeInfo(), true, 100, 100));
+		assertFalse(bigCache.canPaint(g, Shapes.ELLIPSE.getShapeInfo(), true, 100, 100));
+		assertFalse(bigCache.canPaint(g, Shapes.ROUND_RECTANGLE.getShapeInfo(), true, 100, 100));
+		// Fixed corners (plus the thickness) must fit in the slice
+		assertTrue(bigCache.canPaint(g, cutCorners, true, 100, 100));
+		assertFalse(new NineSliceBorderCache(11, IntKeyedCache.DEFAULT_CAPACITY, 2)
+				.canPaint(g, cutCorners, true, 100, 100));
+		assertFalse(cache.canPaint(g, cutCorners, true, 100, 100));
+		g.dispose();
+	}
+	
+	@Test
+	public void testPaintBorderTooSmall(){
+		BufferedImage image = new BufferedImage(5, 5, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		assertFalse(cache.paintBorder(g, rectangle, Color.RED, true, 0, 0, 5, 5, (ig, x, y, w, h) -> fail()));
+		g.dispose();
+		assertEquals(0, cache.getImageCache(rectangle).size());
+	}
+	
+	@Test
+	public void testPaintBorderRendersOnce(){
+		int[] renders = new int[1];
+		BufferedImage image = new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		for(int i = 0; i < 3; i++){
+			assertTrue(cache.paintBorder(g, rectangle, Color.RED, true, 0, 0, 20, 10, (ig, x, y, w, h) -> {
+				renders[0]++;
+				ig.setColor(Color.BLACK);
+				ig.drawRect(x, y, w-1, h-1);
+			}));
+		}
+		g.dispose();
+		assertEquals(1, renders[0]);
+		assertEquals(2, cache.getImageCache(rectangle).getHitCount());
+		
+		// Corners and stretched edges are painted, the middle is not
+		assertEquals(0xFF000000, image.getRGB(0, 0));
+		assertEquals(0xFF000000, image.getRGB(19, 9));
+		assertEquals(0xFF000000, image.getRGB(10, 0));
+		assertEquals(0xFF000000, image.getRGB(0, 5));
+		assertEquals(0, image.getRGB(10, 5));
+	}
+	
+	@Test
+	public void testLineBorderMatchesVectors(){
+		ShapedLineBorder vector = ShapedLineBorder.builder().thickness(2).build();
+		ShapedLineBorder raster = ShapedLineBorder.builder().thickness(2).nineSliceSize(3).build();
+		JPanel panel = new JPanel();
+		assertSamePixels(paint(vector, panel, 40, 25), paint(raster, panel, 40, 25));
+	}
+	
+	@Test
+	public void testBevelBorderMatchesVectors(){
+		ShapedBevelBorder vector = ShapedBevelBorder.builder().shapeInfo(rectangle).build();
+		ShapedBevelBorder raster = ShapedBevelBorder.builder().shapeInfo(rectangle).nineSliceSize(3).build();
+		JPanel panel = new JPanel();
+		panel.setBackground(Color.GRAY);
+		assertSamePixels(paint(vector, panel, 30, 30), paint(raster, panel, 30, 30));
+	}
+	
+	@Test
+	public void testCutCornersLineBorderMatchesVectors(){
+		ShapeInfo cutCorners = Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo();
+		ShapedLineBorder vector = ShapedLineBorder.builder().shapeInfo(cutCorners).thickness(2).build();
+		ShapedLineBorder raster = ShapedLineBorder.builder().shapeInfo(cutCorners).thickness(2).nineSliceSize(12)
+				.build();
+		JPanel panel = new JPanel();
+		assertSamePixels(paint(vector, panel, 60, 45), paint(raster, panel, 60, 45));
+		assertEquals(1, raster.getNineSliceCache().getImageCache(cutCorners).size());
+	}
+	
+	@Test
+	public void testSizeDependentShapeFallsBackToVectors(){
+		ShapeInfo circle = Shapes.CIRCLE.getShapeInfo();
+		ShapedLineBorder vector = ShapedLineBorder.builder().shapeInfo(circle).thickness(2).build();
+		ShapedLineBorder raster = ShapedLineBorder.builder().shapeInfo(circle).thickness(2).nineSliceSize(5).build();
+		JPanel panel = new JPanel();
+		assertSamePixels(paint(vector, panel, 40, 40), paint(raster, panel, 40, 40));
+		assertEquals(0, raster.getNineSliceCache().getImageCache(circle).size());
+	}
+	
+	@Test
+	public void testCornersBiggerThanSliceFallBackToVectors(){
+		ShapeInfo cutCorners = Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo();
+		ShapedLineBorder vector = ShapedLineBorder.builder().shapeInfo(cutCorners).thickness(2).build();
+		ShapedLineBorder raster = ShapedLineBorder.builder().shapeInfo(cutCorners).thickness(2).nineSliceSize(5)
+				.build();
+		JPanel panel = new JPanel();
+		assertSamePixels(paint(vector, panel, 60, 45), paint(raster, panel, 60, 45));
+		assertEquals(0, raster.getNineSliceCache().getImageCache(cutCorners).size());
+	}
+	
+	@Test
+	public void testGradientFallsBackToVectors(){
+		LinearGradient gradient = LinearGradient.builder()
+				.colorPoint(0.0f, Color.RED)
+				.colorPoint(1.0f, Color.BLUE)
+				.build();
+		ShapedLineBorder vector = ShapedLineBorder.builder().paint(gradient).thickness(2).build();
+		ShapedLineBorder raster = ShapedLineBorder.builder().paint(gradient).thickness(2).nineSliceSize(3).build();
+		JPanel panel = new JPanel();
+		assertSamePixels(paint(vector, panel, 40, 25), paint(raster, panel, 40, 25));
+		assertEquals(0, raster.getNineSliceCache().getImageCache(rectangle).size());
+	}
+	
+	@Test
+	public void testConstantPaintUsesRaster(){
+		ShapedLineBorder raster = ShapedLineBorder.builder().paint(new SizableColor(Color.RED)).thickness(2)
+				.nineSliceSize(3).build();
+		paint(raster, new JPanel(), 40, 25);
+		assertEquals(1, raster.getNineSliceCache().getImageCache(rectangle).size());
+	}
+	
+	@Test
+	public void testBackgroundChangeInvalidates(){
+		ShapedBevelBorder border = ShapedBevelBorder.builder().shapeInfo(rectangle).nineSliceSize(3).build();
+		JPanel panel = new JPanel();
+		panel.setBackground(Color.GRAY);
+		paint(border, panel, 30, 30);
+		panel.setBackground(Color.BLUE);
+		BufferedImage image = paint(border, panel, 30, 30);
+		
+		IntKeyedCache<BufferedImage> imageCache = border.getNineSliceCache().getImageCache(rectangle);
+		assertEquals(2, imageCache.size());
+		assertEquals(2, imageCache.getMissCount());
+		assertEquals(Color.BLUE.darker().getRGB(), image.getRGB(0, 0));
+	}
+	
+	@Test
+	public void testNegativeNineSliceSize(){
+		try{
+			ShapedEtchedBorder.builder().nineSliceSize(-1).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't have a negative nine slice size!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testNineSliceSizeSmallerThanInsets(){
+		try{
+			ShapedLineBorder.builder().thickness(4).nineSliceSize(3).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Nine slice size can't be smaller than the thickness!", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.github.tadukoo.view.border;
+
+import com.github.tadukoo.view.cache.BoundsKeyedCache;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+import com.github.tadukoo.view.shapes.Shapes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JPanel;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ShapedLineBorderTest{
+	private final ShapeInfo rectangle = Shapes.RECTANGLE.getShapeInfo();
+	private ShapedLineBorder border;
+	
+	@BeforeEach
+	public void setup(){
+		border = ShapedLineBorder.builder().thickness(2).build();
+	}
+	
+	@Test
+	public void testDefaultPathCacheCapacity(){
+		assertEquals(BoundsKeyedCache.DEFAULT_CAPACITY, border.getPathCacheCapacity());
+	}
+	
+	@Test
+	public void testNegativePathCacheCapacity(){
+		try{
+			ShapedLineBorder.builder().pathCacheCapacity(-1).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't have a negative path cache capacity!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testRingPath(){
+		Shape ring = border.getRingPath(rectangle, 0, 0, 20, 10);
+		assertEquals(PathIterator.WIND_EVEN_ODD, ring.getPathIterator(null).getWindingRule());
+		assertEquals(new Rectangle(0, 0, 20, 10), ring.getBounds());
+		// Inside the line
+		assertTrue(ring.contains(1, 1));
+		// Inside the inner shape
+		assertFalse(ring.contains(10, 5));
+	}
+	
+	@Test
+	public void testRingPathCached(){
+		assertNull(border.getPathCache(rectangle));
+		Shape ring = border.getRingPath(rectangle, 0, 0, 20, 10);
+		assertSame(ring, border.getRingPath(rectangle, 0, 0, 20, 10));
+		assertNotSame(ring, border.getRingPath(rectangle, 0, 0, 10, 20));
+		BoundsKeyedCache<Shape> pathCache = border.getPathCache(rectangle);
+		assertEquals(1, pathCache.getHitCount());
+		assertEquals(2, pathCache.getMissCount());
+	}
+	
+	@Test
+	public void testRingPathCachedPerShape(){
+		ShapeInfo ellipse = Shapes.ELLIPSE.getShapeInfo();
+		Shape ring = border.getRingPath(rectangle, 0, 0, 20, 10);
+		assertNotSame(ring, border.getRingPath(ellipse, 0, 0, 20, 10));
+		assertNotSame(border.getPathCache(rectangle), border.getPathCache(ellipse));
+	}
+	
+	@Test
+	public void testRingPathCacheDisabled(){
+		border = ShapedLineBorder.builder().pathCacheCapacity(0).build();
+		Shape ring = border.getRingPath(rectangle, 0, 0, 20, 10);
+		assertNotSame(ring, border.getRingPath(rectangle, 0, 0, 20, 10));
+		assertNull(border.getPathCache(rectangle));
+	}
+	
+	@Test
+	public void testPaintBorderSharedAcrossComponents(){
+		BufferedImage image = new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		border.paintBorder(new JPanel(), g, 0, 0, 20, 10);
+		border.paintBorder(new JPanel(), g, 0, 0, 20, 10);
+		g.dispose();
+		BoundsKeyedCache<Shape> pathCache = border.getPathCache(rectangle);
+		assertEquals(1, pathCache.getMissCount());
+		assertEquals(1, pathCache.getHitCount());
+		// Line is painted, middle is not
+		assertEquals(0xFF000000, image.getRGB(0, 0));
+		assertEquals(0, image.getRGB(10, 5));
+	}
+}
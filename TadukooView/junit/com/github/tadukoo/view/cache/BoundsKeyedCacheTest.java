@@ -0,0 +1,90 @@
+package com.github.tadukoo.view.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BoundsKeyedCacheTest{
+	private BoundsKeyedCache<String> cache;
+	
+	@BeforeEach
+	public void setup(){
+		cache = new BoundsKeyedCache<>(2, EvictionPolicy.LEAST_RECENTLY_USED);
+	}
+	
+	@Test
+	public void testDefaults(){
+		cache = new BoundsKeyedCache<>();
+		assertEquals(BoundsKeyedCache.DEFAULT_CAPACITY, cache.getCapacity());
+		assertEquals(EvictionPolicy.LEAST_RECENTLY_USED, cache.getEvictionPolicy());
+		assertEquals(0, cache.size());
+	}
+	
+	@Test
+	public void testNegativeCapacity(){
+		try{
+			cache = new BoundsKeyedCache<>(-1, EvictionPolicy.LEAST_RECENTLY_USED);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Cache capacity can't be negative!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetAndPut(){
+		assertNull(cache.get(1, 2, 10, 20));
+		cache.put(1, 2, 10, 20, "A");
+		assertEquals("A", cache.get(1, 2, 10, 20));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+	
+	@Test
+	public void testDifferentLocationSameSize(){
+		cache.put(1, 2, 10, 20, "A");
+		cache.put(2, 1, 10, 20, "B");
+		assertEquals("A", cache.get(1, 2, 10, 20));
+		assertEquals("B", cache.get(2, 1, 10, 20));
+		assertNull(cache.get(1, 2, 20, 10));
+		assertEquals(2, cache.size());
+	}
+	
+	@Test
+	public void testPutReplaces(){
+		cache.put(1, 2, 10, 20, "A");
+		cache.put(1, 2, 10, 20, "B");
+		assertEquals("B", cache.get(1, 2, 10, 20));
+		assertEquals(1, cache.size());
+	}
+	
+	@Test
+	public void testLeastRecentlyUsedEviction(){
+		cache.put(0, 0, 1, 1, "A");
+		cache.put(0, 0, 2, 2, "B");
+		cache.get(0, 0, 1, 1);
+		cache.put(0, 0, 3, 3, "C");
+		assertEquals("A", cache.get(0, 0, 1, 1));
+		assertNull(cache.get(0, 0, 2, 2));
+		assertEquals("C", cache.get(0, 0, 3, 3));
+		assertEquals(1, cache.getEvictionCount());
+	}
+	
+	@Test
+	public void testZeroCapacity(){
+		cache = new BoundsKeyedCache<>(0, EvictionPolicy.LEAST_RECENTLY_USED);
+		cache.put(0, 0, 1, 1, "A");
+		assertNull(cache.get(0, 0, 1, 1));
+		assertEquals(0, cache.size());
+	}
+	
+	@Test
+	public void testClear(){
+		cache.put(0, 0, 1, 1, "A");
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNull(cache.get(0, 0, 1, 1));
+	}
+}
@@ -0,0 +1,63 @@
+package com.github.tadukoo.view.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class IntKeyedCacheTest{
+	private IntKeyedCache<String> cache;
+	
+	@BeforeEach
+	public void setup(){
+		cache = new IntKeyedCache<>(2, EvictionPolicy.LEAST_RECENTLY_USED);
+	}
+	
+	@Test
+	public void testDefaults(){
+		cache = new IntKeyedCache<>();
+		assertEquals(IntKeyedCache.DEFAULT_CAPACITY, cache.getCapacity());
+		assertEquals(EvictionPolicy.LEAST_RECENTLY_USED, cache.getEvictionPolicy());
+		assertEquals(0, cache.size());
+	}
+	
+	@Test
+	public void testGetAndPut(){
+		assertNull(cache.get(0xFF112233));
+		cache.put(0xFF112233, "A");
+		assertEquals("A", cache.get(0xFF112233));
+		assertNull(cache.get(0xFF332211));
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+	}
+	
+	@Test
+	public void testPutReplaces(){
+		cache.put(5, "A");
+		cache.put(5, "B");
+		assertEquals("B", cache.get(5));
+		assertEquals(1, cache.size());
+	}
+	
+	@Test
+	public void testEviction(){
+		cache.put(1, "A");
+		cache.put(2, "B");
+		cache.get(1);
+		cache.put(3, "C");
+		assertEquals("A", cache.get(1));
+		assertNull(cache.get(2));
+		assertEquals("C", cache.get(3));
+		assertEquals(1, cache.getEvictionCount());
+	}
+	
+	@Test
+	public void testZeroCapacity(){
+		cache = new IntKeyedCache<>(0, EvictionPolicy.LEAST_RECENTLY_USED);
+		cache.put(1, "A");
+		assertNull(cache.get(1));
+		assertEquals(0, cache.size());
+	}
+}
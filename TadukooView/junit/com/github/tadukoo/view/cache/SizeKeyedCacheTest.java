@@ -0,0 +1,138 @@
+package com.github.tadukoo.view.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class SizeKeyedCacheTest{
+	private SizeKeyedCache<String> cache;
+	
+	@BeforeEach
+	public void setup(){
+		cache = new SizeKeyedCache<>(2, EvictionPolicy.LEAST_RECENTLY_USED);
+	}
+	
+	@Test
+	public void testDefaults(){
+		cache = new SizeKeyedCache<>();
+		assertEquals(SizeKeyedCache.DEFAULT_CAPACITY, cache.getCapacity());
+		assertEquals(EvictionPolicy.LEAST_RECENTLY_USED, cache.getEvictionPolicy());
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+		assertEquals(0, cache.getEvictionCount());
+	}
+	
+	@Test
+	public void testNegativeCapacity(){
+		try{
+			cache = new SizeKeyedCache<>(-1, EvictionPolicy.LEAST_RECENTLY_USED);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Cache capacity can't be negative!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testNullEvictionPolicy(){
+		try{
+			cache = new SizeKeyedCache<>(2, null);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Cache eviction policy can't be null!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetAndPut(){
+		assertNull(cache.get(10, 20));
+		cache.put(10, 20, "A");
+		assertEquals("A", cache.get(10, 20));
+		assertNull(cache.get(20, 10));
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+	}
+	
+	@Test
+	public void testPutReplaces(){
+		cache.put(10, 20, "A");
+		cache.put(10, 20, "B");
+		assertEquals("B", cache.get(10, 20));
+		assertEquals(1, cache.size());
+		assertEquals(0, cache.getEvictionCount());
+	}
+	
+	@Test
+	public void testNegativeSizes(){
+		cache.put(-1, 5, "A");
+		cache.put(5, -1, "B");
+		assertEquals("A", cache.get(-1, 5));
+		assertEquals("B", cache.get(5, -1));
+	}
+	
+	@Test
+	public void testLeastRecentlyUsedEviction(){
+		cache.put(1, 1, "A");
+		cache.put(2, 2, "B");
+		// Use A so that B is the least recently used
+		cache.get(1, 1);
+		cache.put(3, 3, "C");
+		assertEquals("A", cache.get(1, 1));
+		assertNull(cache.get(2, 2));
+		assertEquals("C", cache.get(3, 3));
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+	}
+	
+	@Test
+	public void testFirstInFirstOutEviction(){
+		cache = new SizeKeyedCache<>(2, EvictionPolicy.FIRST_IN_FIRST_OUT);
+		cache.put(1, 1, "A");
+		cache.put(2, 2, "B");
+		// Using A doesn't keep it around
+		cache.get(1, 1);
+		cache.put(3, 3, "C");
+		assertNull(cache.get(1, 1));
+		assertEquals("B", cache.get(2, 2));
+		assertEquals("C", cache.get(3, 3));
+		assertEquals(1, cache.getEvictionCount());
+	}
+	
+	@Test
+	public void testZeroCapacity(){
+		cache = new SizeKeyedCache<>(0, EvictionPolicy.LEAST_RECENTLY_USED);
+		cache.put(1, 1, "A");
+		assertNull(cache.get(1, 1));
+		assertEquals(0, cache.size());
+		assertEquals(1, cache.getMissCount());
+	}
+	
+	@Test
+	public void testClear(){
+		cache.put(1, 1, "A");
+		cache.get(1, 1);
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNull(cache.get(1, 1));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+	
+	@Test
+	public void testResetStats(){
+		cache.put(1, 1, "A");
+		cache.get(1, 1);
+		cache.get(2, 2);
+		cache.put(2, 2, "B");
+		cache.put(3, 3, "C");
+		cache.resetStats();
+		assertEquals(0, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+		assertEquals(0, cache.getEvictionCount());
+		assertEquals(2, cache.size());
+	}
+}
@@ -23,6 +23,32 @@ public class FontFamiliesTest{
 		assertNull(FontFamilies.fromName("dewojgerogk"));
 	}
 	
+	@Test
+	public void testFromNameNull(){
+		assertNull(FontFamilies.fromName(null));
+	}
+	
+	@Test
+	public void testFromNameIgnoresCase(){
+		assertEquals(FontFamilies.COURIER_NEW, FontFamilies.fromName("courier new"));
+		assertEquals(FontFamilies.COURIER_NEW, FontFamilies.fromName("COURIER NEW"));
+	}
+	
+	@Test
+	public void testFromNameEnumName(){
+		for(FontFamilies family: FontFamilies.values()){
+			assertEquals(family, FontFamilies.fromName(family.name()));
+		}
+		assertEquals(FontFamilies.TIMES_NEW_ROMAN, FontFamilies.fromName("times_new_roman"));
+	}
+	
+	@Test
+	public void testGetAlternateChain(){
+		assertEquals(List.of(FontFamilies.ARIAL, FontFamilies.ARIMO), FontFamilies.ARIAL.getAlternateChain());
+		assertEquals(List.of(FontFamilies.ARIMO), FontFamilies.ARIMO.getAlternateChain());
+		assertEquals(List.of(FontFamilies.DIALOG), FontFamilies.DIALOG.getAlternateChain());
+	}
+	
 	/*
 	 * Logical Fonts Section
 	 */
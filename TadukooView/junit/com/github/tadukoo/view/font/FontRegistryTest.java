@@ -0,0 +1,138 @@
+package com.github.tadukoo.view.font;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FontRegistryTest{
+	private final FontRegistry registry = new FontRegistry();
+	private final GraphicsEnvironment graphEnv = GraphicsEnvironment.getLocalGraphicsEnvironment();
+	private final FontFamily dialog = FontFamilies.DIALOG.getFamily();
+	
+	/**
+	 * A {@link FontResourceLoader} that counts how many times fonts are loaded
+	 */
+	private static class CountingLoader extends FontResourceLoader{
+		private int loads = 0;
+		private final String result;
+		
+		private CountingLoader(GraphicsEnvironment graphEnv, String fontDirectoryPath, String result){
+			super(false, null, graphEnv, fontDirectoryPath);
+			this.result = result;
+		}
+		
+		@Override
+		public synchronized String loadFont(FontFamily font, boolean requireLoadAll){
+			loads++;
+			return result;
+		}
+	}
+	
+	@Test
+	public void testSharedRegistry(){
+		assertSame(FontRegistry.getSharedRegistry(), FontRegistry.getSharedRegistry());
+	}
+	
+	@Test
+	public void testResolveFontNameOnce() throws IOException, FontFormatException{
+		CountingLoader loader = new CountingLoader(graphEnv, "fonts/", "Dialog");
+		for(int i = 0; i < 500; i++){
+			assertEquals("Dialog", registry.resolveFontName(loader, dialog, true));
+		}
+		assertEquals(1, loader.loads);
+		assertEquals(1, registry.getLoadCount());
+	}
+	
+	@Test
+	public void testResolveFontNameFailureCached() throws IOException, FontFormatException{
+		CountingLoader loader = new CountingLoader(graphEnv, "fonts/", null);
+		assertNull(registry.resolveFontName(loader, dialog, true));
+		assertNull(registry.resolveFontName(loader, dialog, true));
+		assertEquals(1, loader.loads);
+	}
+	
+	@Test
+	public void testResolveFontNamePerFontFolder() throws IOException, FontFormatException{
+		CountingLoader loader = new CountingLoader(graphEnv, "fonts/", "Dialog");
+		CountingLoader otherLoader = new CountingLoader(graphEnv, "other-fonts/", "Dialog");
+		registry.resolveFontName(loader, dialog, true);
+		registry.resolveFontName(otherLoader, dialog, true);
+		registry.resolveFontName(loader, dialog, false);
+		assertEquals(2, loader.loads);
+		assertEquals(1, otherLoader.loads);
+		assertEquals(3, registry.getLoadCount());
+	}
+	
+	@Test
+	public void testGetFontShared(){
+		Font font = registry.getFont("Dialog", Font.BOLD, 12);
+		assertSame(font, registry.getFont("Dialog", Font.BOLD, 12));
+		assertNotSame(font, registry.getFont("Dialog", Font.BOLD, 14));
+		assertNotSame(font, registry.getFont("Dialog", Font.PLAIN, 12));
+		assertEquals("Dialog", font.getName());
+		assertEquals(Font.BOLD, font.getStyle());
+		assertEquals(12, font.getSize());
+	}
+	
+	@Test
+	public void testGetFontFromFamily() throws IOException, FontFormatException{
+		CountingLoader loader = new CountingLoader(graphEnv, "fonts/", "Dialog");
+		Font font = registry.getFont(loader, dialog, Font.ITALIC, 10);
+		assertSame(font, registry.getFont(loader, dialog, Font.ITALIC, 10));
+		assertEquals(1, loader.loads);
+	}
+	
+	@Test
+	public void testClear() throws IOException, FontFormatException{
+		CountingLoader loader = new CountingLoader(graphEnv, "fonts/", "Dialog");
+		registry.resolveFontName(loader, dialog, true);
+		registry.clear();
+		assertEquals(0, registry.getLoadCount());
+		registry.resolveFontName(loader, dialog, true);
+		assertEquals(2, loader.loads);
+	}
+	
+	@Test
+	public void testConcurrentResolveLoadsOnce() throws InterruptedException, ExecutionException{
+		CountingLoader loader = new CountingLoader(graphEnv, "fonts/", "Dialog");
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try{
+			List<Future<Font>> futures = new ArrayList<>();
+			for(int i = 0; i < 64; i++){
+				futures.add(executor.submit(() -> registry.getFont(loader, dialog, Font.PLAIN, 12)));
+			}
+			Font font = futures.get(0).get();
+			for(Future<Font> future: futures){
+				assertSame(font, future.get());
+			}
+		}finally{
+			executor.shutdown();
+		}
+		assertEquals(1, loader.loads);
+	}
+	
+	@Test
+	public void testGetFontFromLoaderLoadsOnce() throws IOException, FontFormatException{
+		FontResourceLoader loader = new FontResourceLoader(false, null, graphEnv, "fonts/");
+		Font font = registry.getFont(loader, dialog, Font.PLAIN, 12);
+		for(int i = 0; i < 10; i++){
+			assertSame(font, registry.getFont(loader, dialog, Font.PLAIN, 12));
+		}
+		assertEquals(loader.loadFont(dialog, true), font.getName());
+		assertEquals(1, registry.getLoadCount());
+	}
+}
@@ -5,11 +5,23 @@ import com.github.tadukoo.util.logger.EasyLogger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.awt.Font;
+import java.awt.FontFormatException;
 import java.awt.GraphicsEnvironment;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class FontResourceLoaderTest{
 	private boolean logWarnings;
@@ -46,4 +58,196 @@ public class FontResourceLoaderTest{
 	public void testGetFontDirectoryPath(){
 		assertEquals(path, fontResourceLoader.getFontDirectoryPath());
 	}
+	
+	@Test
+	public void testGetFontSource(){
+		FontSource fontSource = fontResourceLoader.getFontSource();
+		assertTrue(fontSource instanceof FileFontSource);
+		assertEquals(path, fontSource.getLocation());
+	}
+	
+	@Test
+	public void testFontSourceConstructor(){
+		FontSource fontSource = new ClasspathFontSource("fonts/");
+		FontResourceLoader loader = new FontResourceLoader(logWarnings, logger, graphEnv, fontSource);
+		assertEquals(fontSource, loader.getFontSource());
+		assertEquals("classpath:fonts/", loader.getFontDirectoryPath());
+	}
+	
+	/*
+	 * Font Loading Section
+	 */
+	
+	/** A directory containing TrueType fonts that should exist on most Linux systems */
+	private static final String SYSTEM_FONT_PATH = "/usr/share/fonts/truetype/";
+	/** A made up font family made of system font files, so that it's never already installed */
+	private static final FontFamily SYSTEM_FONT = new FontFamily("Tadukoo Test Sans", "dejavu/",
+			List.of("DejaVuSans.ttf", "DejaVuSans-Bold.ttf"));
+	/** A made up font family made of other system font files, so that it's never already installed */
+	private static final FontFamily OTHER_SYSTEM_FONT = new FontFamily("Tadukoo Test Serif", "dejavu/",
+			List.of("DejaVuSerif.ttf", "DejaVuSerif-Bold.ttf", "DejaVuSansMono.ttf", "DejaVuSansMono-Bold.ttf"));
+	
+	/**
+	 * An {@link Executor} that runs each task on its own thread and counts how many tasks it ran
+	 */
+	private static class CountingExecutor implements Executor{
+		private final AtomicInteger count = new AtomicInteger();
+		
+		@Override
+		public void execute(Runnable command){
+			count.incrementAndGet();
+			new Thread(command).start();
+		}
+	}
+	
+	/**
+	 * @return Whether the system fonts used for testing loading are available
+	 */
+	private static boolean hasSystemFonts(){
+		return new File(SYSTEM_FONT_PATH + "dejavu/DejaVuSans.ttf").exists();
+	}
+	
+	@Test
+	public void testLoadFontInstalled() throws IOException, FontFormatException{
+		assertEquals(Font.DIALOG, fontResourceLoader.loadFont(FontFamilies.DIALOG.getFamily(), true));
+	}
+	
+	@Test
+	public void testLoadFontInstalledAlternateChain() throws IOException, FontFormatException{
+		FontFamily font = new FontFamily("Tadukoo Test Outer",
+				new FontFamily("Tadukoo Test Inner", FontFamilies.DIALOG.getFamily()));
+		assertEquals(Font.DIALOG, fontResourceLoader.loadFont(font, true));
+	}
+	
+	@Test
+	public void testLoadFontLastInAlternateChain() throws IOException, FontFormatException{
+		if(!hasSystemFonts()){
+			return;
+		}
+		FontResourceLoader loader = new FontResourceLoader(false, null, graphEnv, SYSTEM_FONT_PATH);
+		FontFamily font = new FontFamily("Tadukoo Test Outer", new FontFamily("Tadukoo Test Inner", SYSTEM_FONT));
+		assertEquals("Tadukoo Test Sans", loader.loadFont(font, true));
+	}
+	
+	@Test
+	public void testLoadFontIndexesAlreadyRegisteredFamily() throws IOException, FontFormatException{
+		if(!hasSystemFonts()){
+			return;
+		}
+		new FontResourceLoader(false, null, graphEnv, SYSTEM_FONT_PATH).loadFont(SYSTEM_FONT, true);
+		
+		// Registering the fonts again fails, but their family is still installed
+		InstalledFontFamiliesTest.TestGraphicsEnvironment testGraphEnv =
+				new InstalledFontFamiliesTest.TestGraphicsEnvironment();
+		FontResourceLoader loader = new FontResourceLoader(false, null, testGraphEnv, SYSTEM_FONT_PATH);
+		assertEquals("Tadukoo Test Sans", loader.loadFont(SYSTEM_FONT, true));
+		assertTrue(InstalledFontFamilies.of(testGraphEnv).contains("DejaVu Sans"));
+	}
+	
+	@Test
+	public void testLoadFontMissingFiles() throws IOException, FontFormatException{
+		FontFamily missing = new FontFamily("Tadukoo Missing", "missing/", List.of("Missing.ttf"));
+		assertNull(fontResourceLoader.loadFont(missing, true));
+		assertNull(fontResourceLoader.loadFont(missing, false));
+	}
+	
+	@Test
+	public void testLoadFontsInParallelMissingFiles() throws IOException, FontFormatException{
+		FontFamily missing = new FontFamily("Tadukoo Missing", "missing/", List.of("Missing.ttf", "Missing.otf"));
+		FontLoadResult result = fontResourceLoader.loadFontsInParallel(
+				List.of(FontFamilies.DIALOG.getFamily(), missing), true);
+		assertEquals(Arrays.asList(Font.DIALOG, null), result.getFontNames());
+		assertTrue(result.getFileTimings().isEmpty());
+		assertEquals(0, result.getSlowestFileNanos());
+	}
+	
+	@Test
+	public void testLoadFontsInParallelMatchesSequential() throws IOException, FontFormatException{
+		if(!hasSystemFonts()){
+			return;
+		}
+		FontFamily partial = new FontFamily("Tadukoo Test Partial", "dejavu/",
+				List.of("DejaVuSans.ttf", "Missing.ttf"));
+		List<FontFamily> families = List.of(SYSTEM_FONT, partial, FontFamilies.DIALOG.getFamily());
+		FontResourceLoader loader = new FontResourceLoader(false, null, graphEnv, SYSTEM_FONT_PATH);
+		for(boolean requireLoadAll: new boolean[]{true, false}){
+			assertEquals(loader.loadFonts(families, requireLoadAll),
+					loader.loadFontsInParallel(families, requireLoadAll).getFontNames());
+		}
+		assertEquals(Arrays.asList("Tadukoo Test Sans", null, Font.DIALOG),
+				loader.loadFontsInParallel(families, true).getFontNames());
+		assertEquals(List.of("Tadukoo Test Sans", "Tadukoo Test Partial", Font.DIALOG),
+				loader.loadFontsInParallel(families, false).getFontNames());
+	}
+	
+	@Test
+	public void testLoadFontsInParallelFileTimings() throws IOException, FontFormatException{
+		if(!hasSystemFonts()){
+			return;
+		}
+		FontResourceLoader loader = new FontResourceLoader(false, null, graphEnv, SYSTEM_FONT_PATH);
+		FontLoadResult result = loader.loadFontsInParallel(List.of(OTHER_SYSTEM_FONT, SYSTEM_FONT), true);
+		
+		// Timings are in registration order
+		List<String> paths = new ArrayList<>(result.getFileTimings().keySet());
+		List<String> expectedPaths = new ArrayList<>();
+		for(FontFamily family: List.of(OTHER_SYSTEM_FONT, SYSTEM_FONT)){
+			for(String file: family.getFiles()){
+				expectedPaths.add(SYSTEM_FONT_PATH + family.getDirectory() + file);
+			}
+		}
+		assertEquals(expectedPaths, paths);
+		for(long nanos: result.getFileTimings().values()){
+			assertTrue(nanos > 0);
+			assertTrue(nanos <= result.getSlowestFileNanos());
+		}
+		assertTrue(result.getSlowestFileNanos() <= result.getTotalFileNanos());
+		assertTrue(result.getElapsedNanos() > 0);
+	}
+	
+	@Test
+	public void testLoadFontsInParallelSharedAlternate() throws IOException, FontFormatException{
+		if(!hasSystemFonts()){
+			return;
+		}
+		FontResourceLoader loader = new FontResourceLoader(false, null, graphEnv, SYSTEM_FONT_PATH);
+		CountingExecutor executor = new CountingExecutor();
+		FontLoadResult result = loader.loadFontsInParallel(List.of(
+				new FontFamily("Tadukoo Test Proprietary", SYSTEM_FONT),
+				new FontFamily("Tadukoo Other Test Proprietary", SYSTEM_FONT)), true, executor);
+		assertEquals(List.of("Tadukoo Test Sans", "Tadukoo Test Sans"), result.getFontNames());
+		assertEquals(2, executor.count.get());
+		assertEquals(2, result.getFileTimings().size());
+	}
+	
+	@Test
+	public void testLoadFontsInParallelBadFont() throws IOException{
+		File fontDirectory = Files.createTempDirectory("tadukoo-fonts").toFile();
+		File badFontDirectory = new File(fontDirectory, "bad/");
+		assertTrue(badFontDirectory.mkdir());
+		Files.writeString(new File(badFontDirectory, "Bad.ttf").toPath(), "Not a font");
+		FontResourceLoader loader = new FontResourceLoader(false, null, graphEnv, fontDirectory.getPath() + "/");
+		try{
+			loader.loadFontsInParallel(List.of(new FontFamily("Tadukoo Bad", "bad/", List.of("Bad.ttf"))), true);
+			fail();
+		}catch(FontFormatException e){
+			// Expected - the parsing failure is rethrown as is
+		}
+	}
+	
+	@Test
+	public void testLoadFontsInParallelRepeated() throws IOException, FontFormatException{
+		if(!hasSystemFonts()){
+			return;
+		}
+		FontResourceLoader loader = new FontResourceLoader(false, null, graphEnv, SYSTEM_FONT_PATH);
+		List<FontFamily> families = List.of(SYSTEM_FONT, OTHER_SYSTEM_FONT);
+		List<String> fontNames = List.of("Tadukoo Test Sans", "Tadukoo Test Serif");
+		for(int i = 0; i < 2; i++){
+			assertEquals(fontNames, loader.loadFonts(families, true));
+			FontLoadResult result = loader.loadFontsInParallel(families, true);
+			assertEquals(fontNames, result.getFontNames());
+			assertEquals(6, result.getFileTimings().size());
+		}
+	}
 }
@@ -0,0 +1,162 @@
+package com.github.tadukoo.view.font;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.GraphicsEnvironment;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class FontSourceTest{
+	/** A directory containing TrueType fonts that should exist on most Linux systems */
+	private static final String SYSTEM_FONT_PATH = "/usr/share/fonts/truetype/";
+	/** The system font files used for testing */
+	private static final List<String> FONT_FILES = List.of("DejaVuSans.ttf", "DejaVuSans-Bold.ttf",
+			"DejaVuSerif.ttf", "DejaVuSerif-Bold.ttf", "DejaVuSansMono.ttf", "DejaVuSansMono-Bold.ttf");
+	/** A made up font family made of the system font files, so that it's never already installed */
+	private static final FontFamily FONT = new FontFamily("Tadukoo Source Test", "dejavu/", FONT_FILES);
+	
+	private boolean hasSystemFonts;
+	private Path jarPath;
+	private URLClassLoader classLoader;
+	private ZipFontSource zipFontSource;
+	
+	@BeforeEach
+	public void setup() throws IOException{
+		hasSystemFonts = new File(SYSTEM_FONT_PATH + "dejavu/DejaVuSans.ttf").exists();
+		if(!hasSystemFonts){
+			return;
+		}
+		
+		// Bundle the system fonts into a jar, like they would be in a shaded application jar
+		jarPath = Files.createTempFile("tadukoo-fonts", ".jar");
+		try(ZipOutputStream jar = new ZipOutputStream(Files.newOutputStream(jarPath))){
+			for(String file: FONT_FILES){
+				jar.putNextEntry(new ZipEntry("fonts/dejavu/" + file));
+				Files.copy(Path.of(SYSTEM_FONT_PATH + "dejavu/" + file), jar);
+				jar.closeEntry();
+			}
+		}
+		classLoader = new URLClassLoader(new URL[]{jarPath.toUri().toURL()}, null);
+		zipFontSource = new ZipFontSource(jarPath, "fonts/");
+	}
+	
+	@AfterEach
+	public void tearDown() throws IOException{
+		if(!hasSystemFonts){
+			return;
+		}
+		zipFontSource.close();
+		classLoader.close();
+		Files.deleteIfExists(jarPath);
+	}
+	
+	/**
+	 * @return Each of the {@link FontSource Font Sources} to test, all containing the same fonts
+	 */
+	private List<FontSource> getFontSources(){
+		return List.of(new FileFontSource(SYSTEM_FONT_PATH), new MappedFileFontSource(SYSTEM_FONT_PATH),
+				new ClasspathFontSource(classLoader, "fonts/"), zipFontSource);
+	}
+	
+	@Test
+	public void testLocations(){
+		assertEquals("fonts/", new FileFontSource("fonts/").getLocation());
+		assertEquals("mapped:fonts/", new MappedFileFontSource("fonts/").getLocation());
+		assertEquals("classpath:fonts/", new ClasspathFontSource("fonts/").getLocation());
+		if(hasSystemFonts){
+			assertEquals("zip:" + jarPath.toAbsolutePath() + "!/fonts/", zipFontSource.getLocation());
+		}
+	}
+	
+	@Test
+	public void testExists(){
+		if(!hasSystemFonts){
+			return;
+		}
+		for(FontSource fontSource: getFontSources()){
+			assertTrue(fontSource.exists("dejavu/DejaVuSans.ttf"), fontSource.getLocation());
+			assertFalse(fontSource.exists("dejavu/Missing.ttf"), fontSource.getLocation());
+		}
+	}
+	
+	@Test
+	public void testCreateFont() throws IOException, FontFormatException{
+		if(!hasSystemFonts){
+			return;
+		}
+		for(FontSource fontSource: getFontSources()){
+			Font font = fontSource.createFont(Font.TRUETYPE_FONT, "dejavu/DejaVuSans-Bold.ttf");
+			assertEquals("DejaVu Sans", font.getFamily(), fontSource.getLocation());
+		}
+	}
+	
+	@Test
+	public void testClasspathCreateFontMissing() throws IOException, FontFormatException{
+		try{
+			new ClasspathFontSource("fonts/").createFont(Font.TRUETYPE_FONT, "missing/Missing.ttf");
+			fail();
+		}catch(FileNotFoundException e){
+			assertEquals("Failed to find font resource: fonts/missing/Missing.ttf", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testClasspathUnpackedResource() throws IOException, FontFormatException{
+		if(!hasSystemFonts){
+			return;
+		}
+		try(URLClassLoader unpackedLoader = new URLClassLoader(
+				new URL[]{new File(SYSTEM_FONT_PATH).toURI().toURL()}, null)){
+			ClasspathFontSource fontSource = new ClasspathFontSource(unpackedLoader, "");
+			assertTrue(fontSource.exists("dejavu/DejaVuSans.ttf"));
+			assertEquals("DejaVu Sans", fontSource.createFont(Font.TRUETYPE_FONT, "dejavu/DejaVuSans.ttf").getFamily());
+		}
+	}
+	
+	@Test
+	public void testLoadFontFromEachSource() throws IOException, FontFormatException{
+		if(!hasSystemFonts){
+			return;
+		}
+		GraphicsEnvironment graphEnv = GraphicsEnvironment.getLocalGraphicsEnvironment();
+		for(FontSource fontSource: getFontSources()){
+			FontResourceLoader loader = new FontResourceLoader(false, null, graphEnv, fontSource);
+			FontLoadResult result = loader.loadFontsInParallel(List.of(FONT), true);
+			assertEquals(List.of("Tadukoo Source Test"), result.getFontNames());
+			assertEquals(FONT_FILES.size(), result.getFileTimings().size());
+			assertTrue(result.getFileTimings().containsKey(fontSource.getLocation() + "dejavu/DejaVuSans.ttf"));
+		}
+	}
+	
+	@Test
+	public void testColdStartFromEachSource() throws IOException, FontFormatException{
+		if(!hasSystemFonts){
+			return;
+		}
+		GraphicsEnvironment graphEnv = GraphicsEnvironment.getLocalGraphicsEnvironment();
+		for(FontSource fontSource: getFontSources()){
+			// A new loader each time, like at startup
+			assertEquals("Tadukoo Source Test",
+					new FontResourceLoader(false, null, graphEnv, fontSource).loadFont(FONT, true));
+			assertEquals(List.of("Tadukoo Source Test"), new FontResourceLoader(false, null, graphEnv, fontSource)
+					.loadFontsInParallel(List.of(FONT), true).getFontNames());
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.github.tadukoo.view.font;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InstalledFontFamiliesTest{
+	
+	/**
+	 * A {@link GraphicsEnvironment} with a fixed list of font families that counts how many times they're asked for
+	 */
+	static class TestGraphicsEnvironment extends GraphicsEnvironment{
+		private final String[] fontFamilies;
+		private int calls = 0;
+		
+		TestGraphicsEnvironment(String ... fontFamilies){
+			this.fontFamilies = fontFamilies;
+		}
+		
+		@Override
+		public GraphicsDevice[] getScreenDevices(){
+			return new GraphicsDevice[0];
+		}
+		
+		@Override
+		public GraphicsDevice getDefaultScreenDevice(){
+			return null;
+		}
+		
+		@Override
+		public Graphics2D createGraphics(BufferedImage img){
+			return img.createGraphics();
+		}
+		
+		@Override
+		public Font[] getAllFonts(){
+			return new Font[0];
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(){
+			calls++;
+			return fontFamilies.clone();
+		}
+		
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale l){
+			return getAvailableFontFamilyNames();
+		}
+	}
+	
+	@Test
+	public void testOfSameIndex(){
+		TestGraphicsEnvironment graphEnv = new TestGraphicsEnvironment("Dialog");
+		InstalledFontFamilies installedFamilies = InstalledFontFamilies.of(graphEnv);
+		assertSame(installedFamilies, InstalledFontFamilies.of(graphEnv));
+		assertSame(graphEnv, installedFamilies.getGraphEnv());
+		assertNotSame(installedFamilies, InstalledFontFamilies.of(new TestGraphicsEnvironment("Dialog")));
+	}
+	
+	@Test
+	public void testBuiltOnce(){
+		TestGraphicsEnvironment graphEnv = new TestGraphicsEnvironment("Dialog", "Arimo");
+		for(int i = 0; i < 100; i++){
+			assertTrue(InstalledFontFamilies.of(graphEnv).contains("Arimo"));
+		}
+		assertEquals(1, graphEnv.calls);
+		assertEquals(1, InstalledFontFamilies.of(graphEnv).getRefreshCount());
+	}
+	
+	@Test
+	public void testContainsIgnoresCase(){
+		InstalledFontFamilies installedFamilies =
+				InstalledFontFamilies.of(new TestGraphicsEnvironment("Dialog", "Courier New"));
+		assertTrue(installedFamilies.contains("courier new"));
+		assertTrue(installedFamilies.contains("DIALOG"));
+		assertFalse(installedFamilies.contains("Arimo"));
+		assertFalse(installedFamilies.contains(null));
+		assertEquals(2, installedFamilies.size());
+	}
+	
+	@Test
+	public void testGetInstalledName(){
+		InstalledFontFamilies installedFamilies = InstalledFontFamilies.of(new TestGraphicsEnvironment("Courier New"));
+		assertEquals("Courier New", installedFamilies.getInstalledName("COURIER NEW"));
+		assertNull(installedFamilies.getInstalledName("Arimo"));
+		assertNull(installedFamilies.getInstalledName(null));
+	}
+	
+	@Test
+	public void testAdd(){
+		TestGraphicsEnvironment graphEnv = new TestGraphicsEnvironment("Dialog");
+		InstalledFontFamilies installedFamilies = InstalledFontFamilies.of(graphEnv);
+		installedFamilies.add("Arimo");
+		installedFamilies.add("arimo");
+		installedFamilies.add(null);
+		assertTrue(installedFamilies.contains("Arimo"));
+		assertEquals(2, installedFamilies.size());
+		assertEquals(1, graphEnv.calls);
+	}
+	
+	@Test
+	public void testRefresh(){
+		TestGraphicsEnvironment graphEnv = new TestGraphicsEnvironment("Dialog");
+		InstalledFontFamilies installedFamilies = InstalledFontFamilies.of(graphEnv);
+		installedFamilies.add("Arimo");
+		installedFamilies.refresh();
+		assertFalse(installedFamilies.contains("Arimo"));
+		assertEquals(2, graphEnv.calls);
+		assertEquals(2, installedFamilies.getRefreshCount());
+	}
+	
+	@Test
+	public void testLocalGraphicsEnvironment(){
+		GraphicsEnvironment graphEnv = GraphicsEnvironment.getLocalGraphicsEnvironment();
+		InstalledFontFamilies installedFamilies = InstalledFontFamilies.of(graphEnv);
+		assertTrue(installedFamilies.contains(Font.DIALOG));
+		for(String fontFamily: graphEnv.getAvailableFontFamilyNames()){
+			assertTrue(installedFamilies.contains(fontFamily));
+		}
+	}
+}
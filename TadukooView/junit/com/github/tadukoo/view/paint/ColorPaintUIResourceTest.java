@@ -8,6 +8,8 @@ import java.awt.Dimension;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
 
 public class ColorPaintUIResourceTest{
 	
@@ -51,6 +53,12 @@ public class ColorPaintUIResourceTest{
 		assertEquals(color, color.getPaint(new Dimension(25, 129)));
 	}
 	
+	@Test
+	public void testGetPaintWidthHeight(){
+		ColorPaintUIResource color = new ColorPaintUIResource(Color.YELLOW);
+		assertSame(color, color.getPaint(25, 129));
+	}
+	
 	@Test
 	public void testGetColorUIResource(){
 		ColorPaintUIResource color = new ColorPaintUIResource(Color.BLACK);
@@ -68,4 +76,17 @@ public class ColorPaintUIResourceTest{
 		assertEquals(color, theList.get(3));
 		assertEquals(color, theList.get(4));
 	}
+	
+	@Test
+	public void testGetMetalGradientListMemoized(){
+		ColorPaintUIResource color = new ColorPaintUIResource(Color.YELLOW);
+		List<Object> theList = color.getMetalGradientList();
+		assertSame(theList, color.getMetalGradientList());
+		try{
+			theList.set(0, 0.5);
+			fail();
+		}catch(UnsupportedOperationException e){
+			// Expected - the list is shared, so it can't be changed
+		}
+	}
 }
@@ -0,0 +1,43 @@
+package com.github.tadukoo.view.paint;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DerivedPaletteTest{
+	
+	@Test
+	public void testColors(){
+		Color base = new Color(100, 120, 140);
+		DerivedPalette palette = DerivedPalette.of(base);
+		assertEquals(base, palette.getBase());
+		assertEquals(base.brighter(), palette.getBrighter());
+		assertEquals(base.brighter().brighter(), palette.getBrightest());
+		assertEquals(base.darker(), palette.getDarker());
+		assertEquals(base.darker().darker(), palette.getDarkest());
+	}
+	
+	@Test
+	public void testSharedByRGB(){
+		DerivedPalette palette = DerivedPalette.of(new Color(1, 2, 3));
+		assertSame(palette, DerivedPalette.of(new Color(1, 2, 3)));
+		assertSame(palette.getDarkest(), DerivedPalette.of(new Color(1, 2, 3)).getDarkest());
+	}
+	
+	@Test
+	public void testAlphaIsPartOfKey(){
+		DerivedPalette opaque = DerivedPalette.of(new Color(4, 5, 6));
+		DerivedPalette translucent = DerivedPalette.of(new Color(4, 5, 6, 128));
+		assertNotSame(opaque, translucent);
+		assertEquals(128, translucent.getBrighter().getAlpha());
+	}
+	
+	@Test
+	public void testCacheCapacity(){
+		assertEquals(DerivedPalette.CACHE_CAPACITY, DerivedPalette.getCache().getCapacity());
+	}
+}
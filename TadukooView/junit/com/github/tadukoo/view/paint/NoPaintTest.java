@@ -14,6 +14,11 @@ public class NoPaintTest{
 		assertNull(new NoPaint().getPaint(new Dimension(25, 42)));
 	}
 	
+	@Test
+	public void testGetPaintWidthHeight(){
+		assertNull(new NoPaint().getPaint(25, 42));
+	}
+	
 	@Test
 	public void testEquals(){
 		assertEquals(new NoPaint(), new NoPaint());
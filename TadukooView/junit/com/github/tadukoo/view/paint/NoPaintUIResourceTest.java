@@ -14,6 +14,11 @@ public class NoPaintUIResourceTest{
 		assertNull(new NoPaintUIResource().getPaint(new Dimension(25, 42)));
 	}
 	
+	@Test
+	public void testGetPaintWidthHeight(){
+		assertNull(new NoPaintUIResource().getPaint(25, 42));
+	}
+	
 	@Test
 	public void testGetColorUIResource(){
 		assertNull(new NoPaintUIResource().getColorUIResource());
@@ -0,0 +1,55 @@
+package com.github.tadukoo.view.paint.gradient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.plaf.ColorUIResource;
+import java.awt.Color;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class GradientUIResourceTest{
+	private GradientUIResource gradient;
+	
+	@BeforeEach
+	public void setup(){
+		gradient = new GradientUIResource(LinearGradient.builder()
+				.colorPoint(0f, Color.BLACK)
+				.colorPoint(0.25f, Color.YELLOW)
+				.colorPoint(0.75f, Color.RED)
+				.build());
+	}
+	
+	@Test
+	public void testGetColorUIResource(){
+		ColorUIResource color = gradient.getColorUIResource();
+		assertEquals(new ColorUIResource(Color.BLACK), color);
+		assertSame(color, gradient.getColorUIResource());
+	}
+	
+	@Test
+	public void testGetMetalGradientList(){
+		List<Object> theList = gradient.getMetalGradientList();
+		assertEquals(5, theList.size());
+		assertEquals(0.25f, theList.get(0));
+		assertEquals(0.25f, theList.get(1));
+		assertEquals(new ColorUIResource(Color.BLACK), theList.get(2));
+		assertEquals(new ColorUIResource(Color.YELLOW), theList.get(3));
+		assertEquals(new ColorUIResource(Color.RED), theList.get(4));
+	}
+	
+	@Test
+	public void testGetMetalGradientListMemoized(){
+		List<Object> theList = gradient.getMetalGradientList();
+		assertSame(theList, gradient.getMetalGradientList());
+		try{
+			theList.set(0, 0.5f);
+			fail();
+		}catch(UnsupportedOperationException e){
+			// Expected - the list is shared, so it can't be changed
+		}
+	}
+}
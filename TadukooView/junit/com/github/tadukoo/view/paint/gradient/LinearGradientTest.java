@@ -1,18 +1,23 @@
 package com.github.tadukoo.view.paint.gradient;
 
 import com.github.tadukoo.util.tuple.Pair;
+import com.github.tadukoo.view.cache.EvictionPolicy;
+import com.github.tadukoo.view.cache.SizeKeyedCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.MultipleGradientPaint;
+import java.awt.Paint;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.util.function.BiFunction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class LinearGradientTest{
@@ -34,6 +39,8 @@ public class LinearGradientTest{
 		assertEquals(MultipleGradientPaint.CycleMethod.NO_CYCLE, gradient.getCycleMethod());
 		assertEquals(MultipleGradientPaint.ColorSpaceType.SRGB, gradient.getColorSpace());
 		assertEquals(new AffineTransform(), gradient.getGradientTransform());
+		assertEquals(SizeKeyedCache.DEFAULT_CAPACITY, gradient.getPaintCache().getCapacity());
+		assertEquals(EvictionPolicy.LEAST_RECENTLY_USED, gradient.getPaintCache().getEvictionPolicy());
 	}
 	
 	@Test
@@ -48,6 +55,8 @@ public class LinearGradientTest{
 				.cycleMethod(MultipleGradientPaint.CycleMethod.REFLECT)
 				.colorSpace(MultipleGradientPaint.ColorSpaceType.LINEAR_RGB)
 				.gradientTransform(new AffineTransform(0.5f, 0.5f, 0.5f, 0.5f, 0.5f, 0.5f))
+				.paintCacheCapacity(3)
+				.paintCacheEvictionPolicy(EvictionPolicy.FIRST_IN_FIRST_OUT)
 				.build();
 		assertNotNull(gradient);
 		assertEquals(LinearGradient.GradientDirection.VERTICAL, gradient.getDirection());
@@ -65,6 +74,8 @@ public class LinearGradientTest{
 		assertEquals(2, fractions.length);
 		assertEquals(0.5f, fractions[0], 0.01);
 		assertEquals(0.75f, fractions[1], 0.01);
+		assertEquals(3, gradient.getPaintCache().getCapacity());
+		assertEquals(EvictionPolicy.FIRST_IN_FIRST_OUT, gradient.getPaintCache().getEvictionPolicy());
 	}
 	
 	@Test
@@ -90,4 +101,64 @@ public class LinearGradientTest{
 			assertEquals("Can't have a null function for start and end points!", e.getMessage());
 		}
 	}
+	
+	@Test
+	public void testNegativePaintCacheCapacity(){
+		try{
+			gradient = LinearGradient.builder()
+					.colorPoint(0.5f, Color.BLACK)
+					.colorPoint(0.75f, Color.YELLOW)
+					.paintCacheCapacity(-1)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't have a negative paint cache capacity!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testNullPaintCacheEvictionPolicy(){
+		try{
+			gradient = LinearGradient.builder()
+					.colorPoint(0.5f, Color.BLACK)
+					.colorPoint(0.75f, Color.YELLOW)
+					.paintCacheEvictionPolicy(null)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't have a null paint cache eviction policy!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetPaintCached(){
+		Paint paint = gradient.getPaint(new Dimension(20, 10));
+		assertSame(paint, gradient.getPaint(new Dimension(20, 10)));
+		assertNotSame(paint, gradient.getPaint(new Dimension(10, 20)));
+		assertEquals(1, gradient.getPaintCache().getHitCount());
+		assertEquals(2, gradient.getPaintCache().getMissCount());
+		assertEquals(2, gradient.getPaintCache().size());
+	}
+	
+	@Test
+	public void testGetPaintWidthHeight(){
+		Paint paint = gradient.getPaint(20, 10);
+		assertSame(paint, gradient.getPaint(20, 10));
+		assertSame(paint, gradient.getPaint(new Dimension(20, 10)));
+		assertEquals(2, gradient.getPaintCache().getHitCount());
+		assertEquals(1, gradient.getPaintCache().getMissCount());
+	}
+	
+	@Test
+	public void testGetPaintCacheDisabled(){
+		gradient = LinearGradient.builder()
+				.colorPoint(0.5f, Color.BLACK)
+				.colorPoint(0.75f, Color.YELLOW)
+				.paintCacheCapacity(0)
+				.build();
+		Paint paint = gradient.getPaint(new Dimension(20, 10));
+		assertNotSame(paint, gradient.getPaint(new Dimension(20, 10)));
+		assertEquals(0, gradient.getPaintCache().getHitCount());
+		assertEquals(0, gradient.getPaintCache().size());
+	}
 }
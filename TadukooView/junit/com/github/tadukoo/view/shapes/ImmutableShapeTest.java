@@ -0,0 +1,70 @@
+package com.github.tadukoo.view.shapes;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImmutableShapeTest{
+	private final Rectangle rectangle = new Rectangle(5, 10, 20, 40);
+	private final Shape shape = ImmutableShape.of(rectangle);
+	
+	@Test
+	public void testOfNull(){
+		assertNull(ImmutableShape.of(null));
+	}
+	
+	@Test
+	public void testOfImmutableShape(){
+		assertSame(shape, ImmutableShape.of(shape));
+	}
+	
+	@Test
+	public void testNotMutable(){
+		assertFalse(shape instanceof Rectangle);
+		shape.getBounds().setBounds(0, 0, 1, 1);
+		assertEquals(new Rectangle(5, 10, 20, 40), shape.getBounds());
+	}
+	
+	@Test
+	public void testBounds(){
+		assertEquals(rectangle.getBounds(), shape.getBounds());
+		assertEquals(rectangle.getBounds2D(), shape.getBounds2D());
+	}
+	
+	@Test
+	public void testContains(){
+		assertTrue(shape.contains(6, 11));
+		assertTrue(shape.contains(new Point2D.Double(6, 11)));
+		assertFalse(shape.contains(1, 1));
+		assertTrue(shape.contains(6, 11, 2, 2));
+		assertTrue(shape.contains(new Rectangle2D.Double(6, 11, 2, 2)));
+	}
+	
+	@Test
+	public void testIntersects(){
+		assertTrue(shape.intersects(0, 0, 10, 20));
+		assertTrue(shape.intersects(new Rectangle2D.Double(0, 0, 10, 20)));
+		assertFalse(shape.intersects(0, 0, 1, 1));
+	}
+	
+	@Test
+	public void testPathIterator(){
+		Path2D path = new Path2D.Float();
+		path.append(shape.getPathIterator(new AffineTransform()), false);
+		assertEquals(rectangle.getBounds2D(), path.getBounds2D());
+		path = new Path2D.Float();
+		path.append(shape.getPathIterator(null, 0.5), false);
+		assertEquals(rectangle.getBounds2D(), path.getBounds2D());
+	}
+}
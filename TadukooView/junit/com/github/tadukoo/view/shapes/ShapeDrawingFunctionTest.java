@@ -0,0 +1,53 @@
+package com.github.tadukoo.view.shapes;
+
+import com.github.tadukoo.util.functional.NoException;
+import com.github.tadukoo.util.functional.consumer.ThrowingConsumer5;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Graphics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ShapeDrawingFunctionTest{
+	private final int[] drawn = new int[4];
+	private final ShapeDrawingFunction drawFunc = (g, x, y, width, height) -> {
+		drawn[0] = x;
+		drawn[1] = y;
+		drawn[2] = width;
+		drawn[3] = height;
+	};
+	
+	@Test
+	public void testAcceptInts(){
+		drawFunc.accept(null, 1, 2, 300, 400);
+		assertArrayEquals(new int[]{1, 2, 300, 400}, drawn);
+	}
+	
+	@Test
+	public void testAcceptBoxed(){
+		Integer x = 1, y = 2, width = 300, height = 400;
+		drawFunc.accept(null, x, y, width, height);
+		assertArrayEquals(new int[]{1, 2, 300, 400}, drawn);
+	}
+	
+	@Test
+	public void testFromBoxed(){
+		ThrowingConsumer5<Graphics, Integer, Integer, Integer, Integer, NoException> boxed =
+				(g, x, y, width, height) -> drawFunc.accept(g, x, y, width, height);
+		ShapeDrawingFunction adapted = ShapeDrawingFunction.fromBoxed(boxed);
+		adapted.accept(null, 1, 2, 300, 400);
+		assertArrayEquals(new int[]{1, 2, 300, 400}, drawn);
+	}
+	
+	@Test
+	public void testFromBoxedShapeDrawingFunction(){
+		assertSame(drawFunc, ShapeDrawingFunction.fromBoxed(drawFunc));
+	}
+	
+	@Test
+	public void testFromBoxedNull(){
+		assertNull(ShapeDrawingFunction.fromBoxed(null));
+	}
+}
@@ -0,0 +1,207 @@
+package com.github.tadukoo.view.shapes;
+
+import com.github.tadukoo.view.border.ShapedBevelBorder;
+import com.github.tadukoo.view.border.ShapedLineBorder;
+import com.github.tadukoo.view.paint.SizableColor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JPanel;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that calling the shape functions the way the paint path does (with primitive ints) doesn't box. The values
+ * used are outside the Integer cache, so boxing them would allocate 4 Integers per call.
+ * <br><br>
+ * The shaped borders are also painted into an image using functions that count calls to their boxed versions, and
+ * the allocations of painting at bounds outside the Integer cache are compared to painting at bounds inside it.
+ */
+public class ShapeFunctionAllocationTest{
+	private static final int ITERATIONS = 100_000;
+	/** Far below the ~6 MB that boxing 4 Integers per iteration would allocate */
+	private static final long MAX_ALLOCATED_BYTES = 64 * 1024;
+	/** The number of times to paint a border when measuring it */
+	private static final int PAINTS = 20_000;
+	/** An offset outside the Integer cache, so boxing it allocates (where 0 wouldn't) */
+	private static final int FAR = 1000;
+	
+	private final Shape shape = new Rectangle();
+	private final Insets insets = new Insets(0, 0, 0, 0);
+	private ShapeInfo shapeInfo;
+	private com.sun.management.ThreadMXBean threadBean;
+	private int sink;
+	/** The number of times the boxed versions of the functions were called */
+	private int boxedCalls;
+	private BufferedImage image;
+	private Graphics2D g2d;
+	
+	/**
+	 * A {@link ShapeFunction} that counts calls to the boxed version of apply
+	 */
+	private class BoxCountingShapeFunction implements ShapeFunction{
+		
+		@Override
+		public Shape apply(int x, int y, int width, int height){
+			return shape;
+		}
+		
+		@Override
+		public Shape apply(Integer x, Integer y, Integer width, Integer height){
+			boxedCalls++;
+			return ShapeFunction.super.apply(x, y, width, height);
+		}
+	}
+	
+	/**
+	 * A {@link ShapeDrawingFunction} that counts calls to the boxed version of accept
+	 */
+	private class BoxCountingDrawingFunction implements ShapeDrawingFunction{
+		
+		@Override
+		public void accept(Graphics g, int x, int y, int width, int height){
+			g.drawLine(x, y, x + 1, y + 1);
+		}
+		
+		@Override
+		public void accept(Graphics g, Integer x, Integer y, Integer width, Integer height){
+			boxedCalls++;
+			ShapeDrawingFunction.super.accept(g, x, y, width, height);
+		}
+	}
+	
+	@BeforeEach
+	public void setup(){
+		shapeInfo = new ShapeInfo((x, y, width, height) -> shape, (x, y, width, height) -> insets,
+				(g, x, y, width, height) -> sink += width, (g, x, y, width, height) -> sink += height);
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		threadBean = bean instanceof com.sun.management.ThreadMXBean sunBean &&
+				sunBean.isThreadAllocatedMemorySupported()?sunBean:null;
+		boxedCalls = 0;
+		image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		g2d = image.createGraphics();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		g2d.dispose();
+	}
+	
+	/**
+	 * Runs the given task (once to warm up, then again while measuring) and returns the bytes allocated by it,
+	 * or 0 if the JVM can't measure allocations
+	 *
+	 * @param task The task to measure
+	 * @return The number of bytes allocated while running the task
+	 */
+	private long allocatedBytes(Runnable task){
+		if(threadBean == null){
+			return 0;
+		}
+		task.run();
+		long threadID = Thread.currentThread().getId();
+		long before = threadBean.getThreadAllocatedBytes(threadID);
+		task.run();
+		return threadBean.getThreadAllocatedBytes(threadID) - before;
+	}
+	
+	/**
+	 * Paints the given border {@link #PAINTS} times at the given offset (translating the graphics back, so the
+	 * same pixels are painted at any offset) and returns the bytes allocated by painting
+	 *
+	 * @param border The border to paint
+	 * @param offset The x and y to paint the border at
+	 * @param size The width and height to paint the border at
+	 * @return The number of bytes allocated while painting
+	 */
+	private long paintAllocatedBytes(javax.swing.border.Border border, int offset, int size){
+		JPanel panel = new JPanel();
+		return allocatedBytes(() -> {
+			g2d.translate(-offset, -offset);
+			for(int i = 0; i < PAINTS; i++){
+				border.paintBorder(panel, g2d, offset, offset, size, size);
+			}
+			g2d.translate(offset, offset);
+		});
+	}
+	
+	@Test
+	public void testShapeFuncDoesNotBox(){
+		long bytes = allocatedBytes(() -> {
+			for(int i = 0; i < ITERATIONS; i++){
+				shapeInfo.getShapeFunc().apply(1000 + i, 2000, 3000, 4000);
+			}
+		});
+		assertTrue(bytes < MAX_ALLOCATED_BYTES, "Allocated " + bytes + " bytes");
+	}
+	
+	@Test
+	public void testShapeInsetsFuncDoesNotBox(){
+		long bytes = allocatedBytes(() -> {
+			for(int i = 0; i < ITERATIONS; i++){
+				shapeInfo.getShapeInsetsFunc().apply(1000 + i, 2000, 3000, 4000);
+			}
+		});
+		assertTrue(bytes < MAX_ALLOCATED_BYTES, "Allocated " + bytes + " bytes");
+	}
+	
+	@Test
+	public void testDrawFuncsDoNotBox(){
+		long bytes = allocatedBytes(() -> {
+			for(int i = 0; i < ITERATIONS; i++){
+				shapeInfo.getTopLeftDrawFunc().accept(null, 1000 + i, 2000, 3000, 4000);
+				shapeInfo.getBottomRightDrawFunc().accept(null, 1000 + i, 2000, 3000, 4000);
+			}
+		});
+		assertTrue(bytes < MAX_ALLOCATED_BYTES, "Allocated " + bytes + " bytes");
+	}
+	
+	@Test
+	public void testLineBorderPaintDoesNotBox(){
+		// No path cache, so every paint calls the shape function
+		ShapedLineBorder border = ShapedLineBorder.builder()
+				.shapeInfo(new ShapeInfo(new BoxCountingShapeFunction(), ShapeInfo.noInsets,
+						ShapeInfo.noDrawFunc, ShapeInfo.noDrawFunc))
+				.pathCacheCapacity(0)
+				.build();
+		
+		// Painting at 0 can't allocate Integers even if boxed, so it's what painting costs without boxing
+		long cachedBytes = paintAllocatedBytes(border, 0, 50);
+		long farBytes = paintAllocatedBytes(border, FAR, 50);
+		assertEquals(0, boxedCalls);
+		// Boxing the offsets would allocate 4 Integers (64 bytes) per paint
+		assertTrue(farBytes - cachedBytes < PAINTS * 16L,
+				"Allocated " + (farBytes - cachedBytes) + " more bytes painting at " + FAR);
+	}
+	
+	@Test
+	public void testBevelBorderPaintDoesNotBox(){
+		ShapedBevelBorder border = ShapedBevelBorder.builder()
+				.shapeInfo(new ShapeInfo(new BoxCountingShapeFunction(), ShapeInfo.noInsets,
+						new BoxCountingDrawingFunction(), new BoxCountingDrawingFunction()))
+				.highlightOuterPaint(new SizableColor(Color.WHITE))
+				.highlightInnerPaint(new SizableColor(Color.LIGHT_GRAY))
+				.shadowOuterPaint(new SizableColor(Color.BLACK))
+				.shadowInnerPaint(new SizableColor(Color.DARK_GRAY))
+				.build();
+		
+		// The bevel is drawn from 0 after translating, so its sizes are what gets passed to the draw functions
+		long cachedBytes = paintAllocatedBytes(border, 0, 50);
+		long farBytes = paintAllocatedBytes(border, 0, FAR);
+		assertEquals(0, boxedCalls);
+		// Boxing the sizes would allocate 8 Integers (128 bytes) per paint
+		assertTrue(farBytes - cachedBytes < PAINTS * 32L,
+				"Allocated " + (farBytes - cachedBytes) + " more bytes painting at " + FAR);
+	}
+}
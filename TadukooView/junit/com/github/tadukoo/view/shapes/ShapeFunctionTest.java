@@ -0,0 +1,44 @@
+package com.github.tadukoo.view.shapes;
+
+import com.github.tadukoo.util.functional.NoException;
+import com.github.tadukoo.util.functional.function.ThrowingFunction4;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ShapeFunctionTest{
+	private final ShapeFunction shapeFunc = Rectangle::new;
+	
+	@Test
+	public void testApplyInts(){
+		assertEquals(new Rectangle(1, 2, 300, 400), shapeFunc.apply(1, 2, 300, 400));
+	}
+	
+	@Test
+	public void testApplyBoxed(){
+		Integer x = 1, y = 2, width = 300, height = 400;
+		assertEquals(new Rectangle(1, 2, 300, 400), shapeFunc.apply(x, y, width, height));
+	}
+	
+	@Test
+	public void testFromBoxed(){
+		ThrowingFunction4<Integer, Integer, Integer, Integer, Shape, NoException> boxed = Rectangle::new;
+		ShapeFunction adapted = ShapeFunction.fromBoxed(boxed);
+		assertEquals(new Rectangle(1, 2, 300, 400), adapted.apply(1, 2, 300, 400));
+	}
+	
+	@Test
+	public void testFromBoxedShapeFunction(){
+		assertSame(shapeFunc, ShapeFunction.fromBoxed(shapeFunc));
+	}
+	
+	@Test
+	public void testFromBoxedNull(){
+		assertNull(ShapeFunction.fromBoxed(null));
+	}
+}
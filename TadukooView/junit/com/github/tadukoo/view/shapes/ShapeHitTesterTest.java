@@ -0,0 +1,87 @@
+package com.github.tadukoo.view.shapes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Shape;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShapeHitTesterTest{
+	private ShapeHitTester hitTester;
+	private int builds;
+	private ShapeInfo countingEllipse;
+	
+	@BeforeEach
+	public void setup(){
+		hitTester = new ShapeHitTester();
+		builds = 0;
+		countingEllipse = new ShapeInfo((x, y, width, height) -> {
+			builds++;
+			return Shapes.ELLIPSE.getShapeInfo().getShape(x, y, width, height);
+		}, ShapeInfo.noInsets, ShapeInfo.noDrawFunc, ShapeInfo.noDrawFunc);
+	}
+	
+	@Test
+	public void testOutsideBounds(){
+		assertFalse(hitTester.contains(null, -1, 5, 10, 10));
+		assertFalse(hitTester.contains(null, 5, -1, 10, 10));
+		assertFalse(hitTester.contains(null, 10, 5, 10, 10));
+		assertFalse(hitTester.contains(null, 5, 10, 10, 10));
+	}
+	
+	@Test
+	public void testNullShapeInfo(){
+		assertTrue(hitTester.contains(null, 0, 0, 10, 10));
+		assertTrue(hitTester.contains(null, 9, 9, 10, 10));
+	}
+	
+	@Test
+	public void testCircle(){
+		ShapeInfo circle = Shapes.CIRCLE.getShapeInfo();
+		// Circle is centered in a 100x50 space, so x from 25 to 75
+		assertTrue(hitTester.contains(circle, 50, 25, 100, 50));
+		assertFalse(hitTester.contains(circle, 10, 25, 100, 50));
+		assertFalse(hitTester.contains(circle, 26, 1, 100, 50));
+	}
+	
+	@Test
+	public void testCutCorners(){
+		ShapeInfo cutCorners = Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo();
+		assertTrue(hitTester.contains(cutCorners, 1, 1, 100, 50));
+		assertFalse(hitTester.contains(cutCorners, 98, 1, 100, 50));
+		assertTrue(hitTester.contains(cutCorners, 50, 25, 100, 50));
+	}
+	
+	@Test
+	public void testShapeCachedBySize(){
+		hitTester.contains(countingEllipse, 50, 25, 100, 50);
+		hitTester.contains(countingEllipse, 10, 10, 100, 50);
+		hitTester.contains(countingEllipse, 1, 1, 100, 50);
+		assertEquals(1, builds);
+		hitTester.contains(countingEllipse, 50, 25, 100, 60);
+		assertEquals(2, builds);
+	}
+	
+	@Test
+	public void testShapeNotBuiltOutsideBounds(){
+		hitTester.contains(countingEllipse, 200, 25, 100, 50);
+		assertEquals(0, builds);
+	}
+	
+	@Test
+	public void testClear(){
+		hitTester.contains(countingEllipse, 50, 25, 100, 50);
+		hitTester.clear();
+		hitTester.contains(countingEllipse, 50, 25, 100, 50);
+		assertEquals(2, builds);
+	}
+	
+	@Test
+	public void testShapeInfoChange(){
+		assertFalse(hitTester.contains(Shapes.ELLIPSE.getShapeInfo(), 1, 1, 100, 50));
+		assertTrue(hitTester.contains(Shapes.RECTANGLE.getShapeInfo(), 1, 1, 100, 50));
+	}
+}
@@ -1,12 +1,19 @@
 package com.github.tadukoo.view.shapes;
 
+import com.github.tadukoo.view.cache.BoundsKeyedCache;
+import com.github.tadukoo.view.cache.EvictionPolicy;
 import org.junit.jupiter.api.Test;
 
 import java.awt.Insets;
 import java.awt.Rectangle;
+import java.awt.Shape;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ShapeInfoTest{
 	private final ShapeFunction shapeFunc = Rectangle::new;
@@ -48,4 +55,97 @@ public class ShapeInfoTest{
 	public void testGetBottomRightDrawFunc(){
 		assertEquals(botRightDrawFunc, shapeInfo.getBottomRightDrawFunc());
 	}
+	
+	@Test
+	public void testNoGeometryCache(){
+		assertNull(shapeInfo.getGeometryCache());
+	}
+	
+	@Test
+	public void testGetShapeNoCache(){
+		Shape shape = shapeInfo.getShape(1, 2, 300, 400);
+		assertEquals(new Rectangle(1, 2, 300, 400), shape);
+		assertNotSame(shape, shapeInfo.getShape(1, 2, 300, 400));
+	}
+	
+	@Test
+	public void testGeometryCacheConstructor(){
+		BoundsKeyedCache<Shape> cache = new BoundsKeyedCache<>(4, EvictionPolicy.FIRST_IN_FIRST_OUT);
+		ShapeInfo cachedInfo = new ShapeInfo(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, botRightDrawFunc, cache);
+		assertSame(cache, cachedInfo.getGeometryCache());
+	}
+	
+	@Test
+	public void testWithGeometryCache(){
+		ShapeInfo cachedInfo = shapeInfo.withGeometryCache(4);
+		assertEquals(shapeFunc, cachedInfo.getShapeFunc());
+		assertEquals(shapeInsetsFunc, cachedInfo.getShapeInsetsFunc());
+		assertEquals(topLeftDrawFunc, cachedInfo.getTopLeftDrawFunc());
+		assertEquals(botRightDrawFunc, cachedInfo.getBottomRightDrawFunc());
+		assertEquals(4, cachedInfo.getGeometryCache().getCapacity());
+		assertEquals(EvictionPolicy.LEAST_RECENTLY_USED, cachedInfo.getGeometryCache().getEvictionPolicy());
+		assertNull(shapeInfo.getGeometryCache());
+	}
+	
+	@Test
+	public void testWithGeometryCacheDefaultCapacity(){
+		assertEquals(BoundsKeyedCache.DEFAULT_CAPACITY, shapeInfo.withGeometryCache().getGeometryCache().getCapacity());
+	}
+	
+	@Test
+	public void testGetShapeCached(){
+		ShapeInfo cachedInfo = shapeInfo.withGeometryCache(4);
+		Shape shape = cachedInfo.getShape(1, 2, 300, 400);
+		assertFalse(shape instanceof Rectangle);
+		assertEquals(new Rectangle(1, 2, 300, 400), shape.getBounds());
+		assertSame(shape, cachedInfo.getShape(1, 2, 300, 400));
+		assertNotSame(shape, cachedInfo.getShape(2, 1, 300, 400));
+		assertEquals(1, cachedInfo.getGeometryCache().getHitCount());
+		assertEquals(2, cachedInfo.getGeometryCache().getMissCount());
+	}
+	
+	@Test
+	public void testGetShapeCacheEviction(){
+		ShapeInfo cachedInfo = shapeInfo.withGeometryCache(1);
+		Shape shape = cachedInfo.getShape(1, 2, 300, 400);
+		cachedInfo.getShape(1, 2, 400, 300);
+		assertNotSame(shape, cachedInfo.getShape(1, 2, 300, 400));
+		assertTrue(cachedInfo.getGeometryCache().getEvictionCount() >= 1);
+	}
+	
+	@Test
+	public void testDoesNotCoverBounds(){
+		assertFalse(shapeInfo.coversBounds());
+	}
+	
+	@Test
+	public void testCoversBounds(){
+		ShapeInfo coveringInfo = new ShapeInfo(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, botRightDrawFunc,
+				true, null);
+		assertTrue(coveringInfo.coversBounds());
+	}
+	
+	@Test
+	public void testWithGeometryCacheKeepsCoversBounds(){
+		ShapeInfo coveringInfo = new ShapeInfo(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, botRightDrawFunc,
+				true, null);
+		assertTrue(coveringInfo.withGeometryCache().coversBounds());
+	}
+	
+	@Test
+	public void testSizeDependentCornersNotSliceSafe(){
+		assertEquals(ShapeInfo.sizeDependentCorners, shapeInfo.getCornerExtent());
+		assertFalse(shapeInfo.isSliceSafe(100));
+	}
+	
+	@Test
+	public void testCornerExtent(){
+		ShapeInfo cornerInfo = new ShapeInfo(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, botRightDrawFunc,
+				false, 5, null);
+		assertEquals(5, cornerInfo.getCornerExtent());
+		assertTrue(cornerInfo.isSliceSafe(5));
+		assertTrue(cornerInfo.isSliceSafe(6));
+		assertFalse(cornerInfo.isSliceSafe(4));
+		assertEquals(5, cornerInfo.withGeometryCache().getCornerExtent());
+	}
 }
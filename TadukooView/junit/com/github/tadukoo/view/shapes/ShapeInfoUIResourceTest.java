@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ShapeInfoUIResourceTest{
 	private final ShapeInfo shapeInfo = Shapes.RECTANGLE_WITH_CUT_CORNERS_TL_BR.getShapeInfo();
@@ -72,4 +75,39 @@ public class ShapeInfoUIResourceTest{
 		ShapeInfoUIResource resource = new ShapeInfoUIResource(shapeInfo);
 		assertNotEquals(resource, shapeInfo);
 	}
+	
+	@Test
+	public void testShapeInfoConstructorSharesGeometryCache(){
+		ShapeInfo cachedInfo = shapeInfo.withGeometryCache(4);
+		ShapeInfoUIResource resource = new ShapeInfoUIResource(cachedInfo);
+		assertSame(cachedInfo.getGeometryCache(), resource.getGeometryCache());
+	}
+	
+	@Test
+	public void testWithGeometryCache(){
+		ShapeInfoUIResource resource = new ShapeInfoUIResource(shapeInfo).withGeometryCache(4);
+		assertNotNull(resource.getGeometryCache());
+		assertEquals(4, resource.getGeometryCache().getCapacity());
+		assertEquals(new ShapeInfoUIResource(shapeInfo), resource);
+	}
+	
+	@Test
+	public void testWithGeometryCacheDefaultCapacity(){
+		ShapeInfoUIResource resource = new ShapeInfoUIResource(shapeInfo).withGeometryCache();
+		assertNotNull(resource.getGeometryCache());
+	}
+	
+	@Test
+	public void testShapeInfoConstructorKeepsCoversBounds(){
+		ShapeInfoUIResource resource = new ShapeInfoUIResource(Shapes.RECTANGLE.getShapeInfo());
+		assertTrue(resource.coversBounds());
+		assertTrue(resource.withGeometryCache().coversBounds());
+	}
+	
+	@Test
+	public void testShapeInfoConstructorKeepsCornerExtent(){
+		ShapeInfoUIResource resource = new ShapeInfoUIResource(Shapes.RECTANGLE_WITH_CUT_CORNERS_TL_BR.getShapeInfo());
+		assertEquals(10, resource.getCornerExtent());
+		assertEquals(10, resource.withGeometryCache().getCornerExtent());
+	}
 }
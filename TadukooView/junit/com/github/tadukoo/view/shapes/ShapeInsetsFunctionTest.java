@@ -0,0 +1,43 @@
+package com.github.tadukoo.view.shapes;
+
+import com.github.tadukoo.util.functional.NoException;
+import com.github.tadukoo.util.functional.function.ThrowingFunction4;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Insets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ShapeInsetsFunctionTest{
+	private final ShapeInsetsFunction shapeInsetsFunc = Insets::new;
+	
+	@Test
+	public void testApplyInts(){
+		assertEquals(new Insets(1, 2, 300, 400), shapeInsetsFunc.apply(1, 2, 300, 400));
+	}
+	
+	@Test
+	public void testApplyBoxed(){
+		Integer top = 1, left = 2, bottom = 300, right = 400;
+		assertEquals(new Insets(1, 2, 300, 400), shapeInsetsFunc.apply(top, left, bottom, right));
+	}
+	
+	@Test
+	public void testFromBoxed(){
+		ThrowingFunction4<Integer, Integer, Integer, Integer, Insets, NoException> boxed = Insets::new;
+		ShapeInsetsFunction adapted = ShapeInsetsFunction.fromBoxed(boxed);
+		assertEquals(new Insets(1, 2, 300, 400), adapted.apply(1, 2, 300, 400));
+	}
+	
+	@Test
+	public void testFromBoxedShapeInsetsFunction(){
+		assertSame(shapeInsetsFunc, ShapeInsetsFunction.fromBoxed(shapeInsetsFunc));
+	}
+	
+	@Test
+	public void testFromBoxedNull(){
+		assertNull(ShapeInsetsFunction.fromBoxed(null));
+	}
+}
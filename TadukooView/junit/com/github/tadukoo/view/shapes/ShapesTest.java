@@ -9,6 +9,7 @@ import java.awt.geom.Ellipse2D;
 import java.awt.geom.RoundRectangle2D;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -75,4 +76,26 @@ public class ShapesTest{
 		assertNotNull(cutRectInfo.getTopLeftDrawFunc());
 		assertNotNull(cutRectInfo.getBottomRightDrawFunc());
 	}
+	
+	@Test
+	public void testCoversBounds(){
+		assertTrue(Shapes.RECTANGLE.getShapeInfo().coversBounds());
+		assertFalse(Shapes.ELLIPSE.getShapeInfo().coversBounds());
+		assertFalse(Shapes.CIRCLE.getShapeInfo().coversBounds());
+		assertFalse(Shapes.ROUND_RECTANGLE.getShapeInfo().coversBounds());
+		assertFalse(Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo().coversBounds());
+		assertFalse(Shapes.RECTANGLE_WITH_CUT_CORNERS_TL_BR.getShapeInfo().coversBounds());
+	}
+	
+	@Test
+	public void testSliceSafe(){
+		assertTrue(Shapes.RECTANGLE.getShapeInfo().isSliceSafe(0));
+		assertFalse(Shapes.ELLIPSE.getShapeInfo().isSliceSafe(100));
+		assertFalse(Shapes.CIRCLE.getShapeInfo().isSliceSafe(100));
+		assertFalse(Shapes.ROUND_RECTANGLE.getShapeInfo().isSliceSafe(100));
+		assertTrue(Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo().isSliceSafe(10));
+		assertFalse(Shapes.RECTANGLE_WITH_CUT_CORNERS_TR_BL.getShapeInfo().isSliceSafe(9));
+		assertTrue(Shapes.RECTANGLE_WITH_CUT_CORNERS_TL_BR.getShapeInfo().isSliceSafe(10));
+		assertFalse(Shapes.RECTANGLE_WITH_CUT_CORNERS_TL_BR.getShapeInfo().isSliceSafe(9));
+	}
 }
@@ -0,0 +1,267 @@
+package com.github.tadukoo.view.border;
+
+import com.github.tadukoo.view.cache.EvictionPolicy;
+import com.github.tadukoo.view.cache.IntKeyedCache;
+import com.github.tadukoo.view.shapes.IntShapeDrawingFunction;
+import com.github.tadukoo.view.shapes.ShapeFunction;
+import com.github.tadukoo.view.shapes.ShapeInfo;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Nine Slice Border Cache is used by the shaped borders to paint from a raster image instead of re-running their
+ * vector drawing on every repaint. The border is rendered once into a compatible translucent image of
+ * {@code 2 * sliceSize + 1} pixels square, which is then split into nine regions: the four corners (which are blitted
+ * as-is), the four edges (whose middle row/column of pixels is stretched to fit), and the center (which is skipped,
+ * since borders don't paint their interior).
+ * <br><br>
+ * Images are cached per {@link ShapeFunction} and by the background color of the component, since the default
+ * paints of the borders are derived from the background. A change to the component's background therefore results
+ * in a new image being rendered, rather than reusing the stale one. The rest of the border configuration is fixed
+ * for a border instance, which owns its own Nine Slice Border Cache.
+ * <br><br>
+ * Since edges are stretched, this is only exact for shapes whose corners (plus the thickness of the border) fit
+ * within the slice size and don't depend on the size being painted (see {@link ShapeInfo#isSliceSafe(int)}), e.g.
+ * {@link com.github.tadukoo.view.shapes.Shapes#RECTANGLE RECTANGLE} or the rectangles with cut corners, and with
+ * {@link #isConstantPaint(Paint) constant paints} that don't vary along the edges. In any other case, or if the space
+ * being painted is smaller than the source image, or the {@link Graphics} is scaled (e.g. on a HiDPI display),
+ * {@link #canPaint} is false and the border is painted as vectors instead.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class NineSliceBorderCache{
+	/** The size of the corners (the fixed regions of the image) */
+	private final int sliceSize;
+	/** The maximum number of background colors to cache images for (per {@link ShapeFunction}) */
+	private final int capacity;
+	/** The thickness of the border, which the corners of the shape are extended by */
+	private final int thickness;
+	/** The caches of images, by the {@link ShapeFunction} they were rendered with */
+	private final Map<ShapeFunction, IntKeyedCache<BufferedImage>> imageCaches = new WeakHashMap<>();
+	
+	/**
+	 * Constructs a new Nine Slice Border Cache with the given slice size, caching images for up to
+	 * {@link IntKeyedCache#DEFAULT_CAPACITY} background colors per {@link ShapeFunction}
+	 *
+	 * @param sliceSize The size of the corners (the fixed regions of the image)
+	 * @throws IllegalArgumentException If the slice size is not positive
+	 */
+	public NineSliceBorderCache(int sliceSize){
+		this(sliceSize, IntKeyedCache.DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Constructs a new Nine Slice Border Cache with the given slice size and capacity, for a border with no thickness
+	 *
+	 * @param sliceSize The size of the corners (the fixed regions of the image)
+	 * @param capacity The maximum number of background colors to cache images for (per {@link ShapeFunction})
+	 * @throws IllegalArgumentException If the slice size is not positive or the capacity is negative
+	 */
+	public NineSliceBorderCache(int sliceSize, int capacity){
+		this(sliceSize, capacity, 0);
+	}
+	
+	/**
+	 * Constructs a new Nine Slice Border Cache with the given slice size, capacity, and border thickness
+	 *
+	 * @param sliceSize The size of the corners (the fixed regions of the image)
+	 * @param capacity The maximum number of background colors to cache images for (per {@link ShapeFunction})
+	 * @param thickness The thickness of the border, which the corners of the shape are extended by
+	 * @throws IllegalArgumentException If the slice size is not positive, the capacity or thickness is negative, or
+	 * the slice size is smaller than the thickness
+	 */
+	public NineSliceBorderCache(int sliceSize, int capacity, int thickness){
+		if(sliceSize <= 0){
+			throw new IllegalArgumentException("Nine slice size must be positive!");
+		}
+		if(capacity < 0){
+			throw new IllegalArgumentException("Can't have a negative nine slice cache capacity!");
+		}
+		if(thickness < 0){
+			throw new IllegalArgumentException("Can't have a negative nine slice border thickness!");
+		}
+		if(sliceSize < thickness){
+			throw new IllegalArgumentException("Nine slice size can't be smaller than the thickness!");
+		}
+		this.sliceSize = sliceSize;
+		this.capacity = capacity;
+		this.thickness = thickness;
+	}
+	
+	/**
+	 * @return The size of the corners (the fixed regions of the image)
+	 */
+	public int getSliceSize(){
+		return sliceSize;
+	}
+	
+	/**
+	 * @return The maximum number of background colors to cache images for (per {@link ShapeFunction})
+	 */
+	public int getCapacity(){
+		return capacity;
+	}
+	
+	/**
+	 * @return The thickness of the border, which the corners of the shape are extended by
+	 */
+	public int getThickness(){
+		return thickness;
+	}
+	
+	/**
+	 * @return The width and height of the source images that get sliced
+	 */
+	public int getImageSize(){
+		return sliceSize * 2 + 1;
+	}
+	
+	/**
+	 * Retrieves the cache of images for the given {@link ShapeInfo}, creating it if needed
+	 *
+	 * @param shapeInfo The {@link ShapeInfo} being painted
+	 * @return The cache of images (by background color) for the given {@link ShapeInfo}'s {@link ShapeFunction}
+	 */
+	public synchronized IntKeyedCache<BufferedImage> getImageCache(ShapeInfo shapeInfo){
+		return imageCaches.computeIfAbsent(shapeInfo.getShapeFunc(),
+				shapeFunc -> new IntKeyedCache<>(capacity, EvictionPolicy.LEAST_RECENTLY_USED));
+	}
+	
+	/**
+	 * Determines whether the given {@link Paint} looks the same everywhere it's painted (i.e. it's a {@link Color}),
+	 * so that stretching the middle of an edge painted with it doesn't change how it looks
+	 *
+	 * @param paint The {@link Paint} to check
+	 * @return true if the paint is constant
+	 */
+	public static boolean isConstantPaint(Paint paint){
+		return paint instanceof Color;
+	}
+	
+	/**
+	 * Determines whether the border can be painted from a nine slice image on the given {@link Graphics} with the
+	 * given {@link ShapeInfo} and size. The shape's corners (extended by the thickness) must be
+	 * {@link ShapeInfo#isSliceSafe(int) slice safe}, the border's paints must be {@link #isConstantPaint constant},
+	 * the space must be at least as big as the source image, and the {@link Graphics} can't be scaled or rotated
+	 * (which would blur the image).
+	 *
+	 * @param g The {@link Graphics} being painted on
+	 * @param shapeInfo The {@link ShapeInfo} being painted
+	 * @param constantPaint Whether all the paints used by the border are {@link #isConstantPaint constant}
+	 * @param w The width of the border
+	 * @param h The height of the border
+	 * @return true if the border can be painted from a nine slice image
+	 */
+	public boolean canPaint(Graphics g, ShapeInfo shapeInfo, boolean constantPaint, int w, int h){
+		int imageSize = getImageSize();
+		if(!constantPaint || !shapeInfo.isSliceSafe(sliceSize - thickness) ||
+				w < imageSize || h < imageSize || !(g instanceof Graphics2D g2d)){
+			return false;
+		}
+		int type = g2d.getTransform().getType();
+		return (type & ~AffineTransform.TYPE_TRANSLATION) == 0;
+	}
+	
+	/**
+	 * Paints the border from a nine slice image, rendering the image with the given drawing function if there isn't
+	 * one cached for the {@link ShapeInfo} and background yet. If the border {@link #canPaint can't be painted} from
+	 * an image, nothing is painted and false is returned, so that the caller can paint it as vectors.
+	 *
+	 * @param g The {@link Graphics} to paint on
+	 * @param shapeInfo The {@link ShapeInfo} being painted
+	 * @param background The background color of the component (which default paints are derived from)
+	 * @param constantPaint Whether all the paints used by the border are {@link #isConstantPaint constant}
+	 * @param x The x coordinate of the border
+	 * @param y The y coordinate of the border
+	 * @param w The width of the border
+	 * @param h The height of the border
+	 * @param renderer The function used to draw the border as vectors, used to render the image
+	 * @return true if the border was painted, false if it needs to be painted as vectors
+	 */
+	public boolean paintBorder(
+			Graphics g, ShapeInfo shapeInfo, Color background, boolean constantPaint, int x, int y, int w, int h,
+			IntShapeDrawingFunction renderer){
+		if(!canPaint(g, shapeInfo, constantPaint, w, h)){
+			return false;
+		}
+		
+		// Find the image, or render it if needed
+		IntKeyedCache<BufferedImage> imageCache = getImageCache(shapeInfo);
+		int backgroundKey = background != null?background.getRGB():0;
+		BufferedImage image = imageCache.get(backgroundKey);
+		if(image == null){
+			image = renderImage((Graphics2D) g, renderer);
+			imageCache.put(backgroundKey, image);
+		}
+		
+		paintSlices(g, image, x, y, w, h);
+		return true;
+	}
+	
+	/**
+	 * Renders the border into a new compatible translucent image of {@link #getImageSize()} square
+	 *
+	 * @param g2d The {@link Graphics2D} being painted on (to get the device configuration and rendering hints from)
+	 * @param renderer The function used to draw the border as vectors
+	 * @return The newly rendered image
+	 */
+	private BufferedImage renderImage(Graphics2D g2d, IntShapeDrawingFunction renderer){
+		int imageSize = getImageSize();
+		BufferedImage image = g2d.getDeviceConfiguration()
+				.createCompatibleImage(imageSize, imageSize, Transparency.TRANSLUCENT);
+		Graphics2D imageGraphics = image.createGraphics();
+		try{
+			imageGraphics.setRenderingHints(g2d.getRenderingHints());
+			renderer.accept(imageGraphics, 0, 0, imageSize, imageSize);
+		}finally{
+			imageGraphics.dispose();
+		}
+		return image;
+	}
+	
+	/**
+	 * Blits the corners and stretched edges of the given image to fill the given space
+	 *
+	 * @param g The {@link Graphics} to paint on
+	 * @param image The nine slice image
+	 * @param x The x coordinate of the border
+	 * @param y The y coordinate of the border
+	 * @param w The width of the border
+	 * @param h The height of the border
+	 */
+	private void paintSlices(Graphics g, BufferedImage image, int x, int y, int w, int h){
+		int s = sliceSize;
+		int n = getImageSize();
+		int right = x + w;
+		int bottom = y + h;
+		
+		// Corners
+		g.drawImage(image, x, y, x+s, y+s, 0, 0, s, s, null);
+		g.drawImage(image, right-s, y, right, y+s, s+1, 0, n, s, null);
+		g.drawImage(image, x, bottom-s, x+s, bottom, 0, s+1, s, n, null);
+		g.drawImage(image, right-s, bottom-s, right, bottom, s+1, s+1, n, n, null);
+		
+		// Edges
+		g.drawImage(image, x+s, y, right-s, y+s, s, 0, s+1, s, null);
+		g.drawImage(image, x+s, bottom-s, right-s, bottom, s, s+1, s+1, n, null);
+		g.drawImage(image, x, y+s, x+s, bottom-s, 0, s, s, s+1, null);
+		g.drawImage(image, right-s, y+s, right, bottom-s, s+1, s, n, s+1, null);
+	}
+	
+	/**
+	 * Removes all cached images
+	 */
+	public synchronized void clear(){
+		imageCaches.clear();
+	}
+}
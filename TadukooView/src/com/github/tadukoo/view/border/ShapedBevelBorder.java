@@ -1,5 +1,7 @@
 package com.github.tadukoo.view.border;
 
+import com.github.tadukoo.view.cache.IntKeyedCache;
+import com.github.tadukoo.view.paint.DerivedPalette;
 import com.github.tadukoo.view.paint.SizablePaint;
 import com.github.tadukoo.view.shapes.ShapeInfo;
 import com.github.tadukoo.view.components.interfaces.Shaped;
@@ -7,7 +9,6 @@ import com.github.tadukoo.view.shapes.Shapes;
 
 import javax.swing.border.AbstractBorder;
 import java.awt.Component;
-import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
@@ -19,7 +20,7 @@ import java.awt.Paint;
  * it can have its own {@link ShapeInfo} if desired.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2.1
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class ShapedBevelBorder extends AbstractBorder{
@@ -47,11 +48,13 @@ public class ShapedBevelBorder extends AbstractBorder{
 	 *     <li>shadowInnerPaint - The {@link SizablePaint} for the inner shadow - defaults to using the
 	 *     Component's getBackground().darker()</li>
 	 *     <li>shadowOuterPaint - The {@link SizablePaint} for the outer shadow - defaults to using the
-	 *     Component's getBackground().darker()</li>
+	 *     Component's getBackground().darker().darker()</li>
+	 *     <li>nineSliceSize - the size of the corners when painting from a {@link NineSliceBorderCache nine slice}
+	 *     raster image (0 paints as vectors every time) - defaults to 0</li>
 	 * </ul>
 	 *
 	 * @author Logan Ferree (Tadukoo)
-	 * @version Alpha v.0.2.1
+	 * @version Alpha v.0.3.4
 	 * @since Alpha v.0.2
 	 */
 	public static class ShapedBevelBorderBuilder{
@@ -67,6 +70,8 @@ public class ShapedBevelBorder extends AbstractBorder{
 		private SizablePaint shadowInnerPaint = null;
 		/** The {@link SizablePaint} for the outer shadow */
 		private SizablePaint shadowOuterPaint = null;
+		/** The size of the corners when painting from a nine slice raster image (0 paints as vectors every time) */
+		private int nineSliceSize = 0;
 		
 		/** Can't create outside of ShapedBevelBorder */
 		private ShapedBevelBorderBuilder(){ }
@@ -125,12 +130,31 @@ public class ShapedBevelBorder extends AbstractBorder{
 			return this;
 		}
 		
+		/**
+		 * @param nineSliceSize The size of the corners when painting from a nine slice raster image
+		 * (0 paints as vectors every time)
+		 * @return this, to continue building
+		 */
+		public ShapedBevelBorderBuilder nineSliceSize(int nineSliceSize){
+			this.nineSliceSize = nineSliceSize;
+			return this;
+		}
+		
 		/**
 		 * @return A newly created {@link ShapedEtchedBorder} using the set parameters
+		 * @throws IllegalArgumentException If the nine slice size is negative or smaller than the border insets
 		 */
 		public ShapedBevelBorder build(){
+			if(nineSliceSize < 0){
+				throw new IllegalArgumentException("Can't have a negative nine slice size!");
+			}
+			if(nineSliceSize == 1){
+				throw new IllegalArgumentException("Nine slice size can't be smaller than the border insets!");
+			}
 			return new ShapedBevelBorder(shapeInfo, bevelType,
-					highlightInnerPaint, highlightOuterPaint, shadowInnerPaint, shadowOuterPaint);
+					highlightInnerPaint, highlightOuterPaint, shadowInnerPaint, shadowOuterPaint,
+					nineSliceSize != 0?
+							new NineSliceBorderCache(nineSliceSize, IntKeyedCache.DEFAULT_CAPACITY, 2):null);
 		}
 	}
 	
@@ -146,6 +170,8 @@ public class ShapedBevelBorder extends AbstractBorder{
 	private final SizablePaint shadowInnerPaint;
 	/** The {@link SizablePaint} for the outer shadow */
 	private final SizablePaint shadowOuterPaint;
+	/** The {@link NineSliceBorderCache} used to paint from a raster image (null to paint as vectors) */
+	private final NineSliceBorderCache nineSliceCache;
 	
 	/**
 	 * Creates a new Shaped Bevel Border with the given parameters
@@ -156,16 +182,20 @@ public class ShapedBevelBorder extends AbstractBorder{
 	 * @param highlightOuterPaint The {@link SizablePaint} for the outer highlight
 	 * @param shadowInnerPaint The {@link SizablePaint} for the inner shadow
 	 * @param shadowOuterPaint The {@link SizablePaint} for the outer shadow
+	 * @param nineSliceCache The {@link NineSliceBorderCache} used to paint from a raster image
+	 * (null to paint as vectors)
 	 */
 	private ShapedBevelBorder(ShapeInfo shapeInfo, BevelType bevelType,
 	                          SizablePaint highlightInnerPaint, SizablePaint highlightOuterPaint,
-	                          SizablePaint shadowInnerPaint, SizablePaint shadowOuterPaint){
+	                          SizablePaint shadowInnerPaint, SizablePaint shadowOuterPaint,
+	                          NineSliceBorderCache nineSliceCache){
 		this.shapeInfo = shapeInfo;
 		this.bevelType = bevelType;
 		this.highlightInnerPaint = highlightInnerPaint;
 		this.highlightOuterPaint = highlightOuterPaint;
 		this.shadowInnerPaint = shadowInnerPaint;
 		this.shadowOuterPaint = shadowOuterPaint;
+		this.nineSliceCache = nineSliceCache;
 	}
 	
 	/**
@@ -175,6 +205,13 @@ public class ShapedBevelBorder extends AbstractBorder{
 		return new ShapedBevelBorderBuilder();
 	}
 	
+	/**
+	 * @return The {@link NineSliceBorderCache} used to paint from a raster image (null if painting as vectors)
+	 */
+	public NineSliceBorderCache getNineSliceCache(){
+		return nineSliceCache;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public Insets getBorderInsets(Component c){
@@ -211,9 +248,48 @@ public class ShapedBevelBorder extends AbstractBorder{
 			shapeInfoToUse = shapeInfo;
 		}
 		
+		// Paint from the raster image if possible (keyed by background, since the default paints depend on it)
+		ShapeInfo bevelShapeInfo = shapeInfoToUse;
+		if(nineSliceCache != null && nineSliceCache.paintBorder(g, bevelShapeInfo, c.getBackground(),
+				hasConstantPaints(c, w, h), x, y, w, h,
+				(ig, ix, iy, iw, ih) -> paintBevel(c, ig, ix, iy, iw, ih, bevelShapeInfo))){
+			return;
+		}
+		
+		paintBevel(c, g, x, y, w, h, shapeInfoToUse);
+	}
+	
+	/**
+	 * Determines whether all the paints used by the bevel are {@link NineSliceBorderCache#isConstantPaint constant}
+	 * for the given component and size, so that it can be painted from a nine slice image
+	 *
+	 * @param c The {@link Component} we're putting a border on
+	 * @param width The width of the space being painted
+	 * @param height The height of the space being painted
+	 * @return true if all the paints are constant
+	 */
+	private boolean hasConstantPaints(Component c, int width, int height){
+		return NineSliceBorderCache.isConstantPaint(getHighlightInnerPaint(c, width, height)) &&
+				NineSliceBorderCache.isConstantPaint(getHighlightOuterPaint(c, width, height)) &&
+				NineSliceBorderCache.isConstantPaint(getShadowInnerPaint(c, width, height)) &&
+				NineSliceBorderCache.isConstantPaint(getShadowOuterPaint(c, width, height));
+	}
+	
+	/**
+	 * Paints the bevel as vectors for the specified component with the specified position and size.
+	 *
+	 * @param c the component for which the bevel is being painted
+	 * @param g the paint graphics
+	 * @param x the x position of the bevel
+	 * @param y the y position of the bevel
+	 * @param w the width of the bevel
+	 * @param h the height of the bevel
+	 * @param shapeInfo The {@link ShapeInfo} to use for the bevel
+	 */
+	private void paintBevel(Component c, Graphics g, int x, int y, int w, int h, ShapeInfo shapeInfo){
 		switch(bevelType){
-			case RAISED -> paintRaisedBevel(c, g, x, y, w, h, shapeInfoToUse);
-			case LOWERED -> paintLoweredBevel(c, g, x, y, w, h, shapeInfoToUse);
+			case RAISED -> paintRaisedBevel(c, g, x, y, w, h, shapeInfo);
+			case LOWERED -> paintLoweredBevel(c, g, x, y, w, h, shapeInfo);
 		}
 	}
 	
@@ -230,24 +306,23 @@ public class ShapedBevelBorder extends AbstractBorder{
 	 */
 	private void paintRaisedBevel(Component c, Graphics g, int x, int y, int w, int h, ShapeInfo shapeInfo){
 		Graphics2D g2d = (Graphics2D) g;
-		Dimension size = new Dimension(w, h);
 		
 		g.translate(x, y);
 		
 		// Draw outer highlight
-		g2d.setPaint(getHighlightOuterPaint(c, size));
+		g2d.setPaint(getHighlightOuterPaint(c, w, h));
 		shapeInfo.getTopLeftDrawFunc().accept(g, 0, 0, w-1, h-1);
 		
 		// Draw inner highlight
-		g2d.setPaint(getHighlightInnerPaint(c, size));
+		g2d.setPaint(getHighlightInnerPaint(c, w, h));
 		shapeInfo.getTopLeftDrawFunc().accept(g, 1, 1, w-2, h-2);
 		
 		// Draw outer shadow
-		g2d.setPaint(getShadowOuterPaint(c, size));
+		g2d.setPaint(getShadowOuterPaint(c, w, h));
 		shapeInfo.getBottomRightDrawFunc().accept(g, 0, 0, w, h);
 		
 		// Draw inner shadow
-		g2d.setPaint(getShadowInnerPaint(c, size));
+		g2d.setPaint(getShadowInnerPaint(c, w, h));
 		shapeInfo.getBottomRightDrawFunc().accept(g, 1, 1, w-1,h-1);
 		
 		g.translate(-x, -y);
@@ -266,24 +341,23 @@ public class ShapedBevelBorder extends AbstractBorder{
 	 */
 	private void paintLoweredBevel(Component c, Graphics g, int x, int y, int w, int h, ShapeInfo shapeInfo){
 		Graphics2D g2d = (Graphics2D) g;
-		Dimension size = new Dimension(w, h);
 		
 		g.translate(x, y);
 		
 		// Draw inner shadow
-		g2d.setPaint(getShadowInnerPaint(c, size));
+		g2d.setPaint(getShadowInnerPaint(c, w, h));
 		shapeInfo.getTopLeftDrawFunc().accept(g, 0, 0, w, h);
 		
 		// Draw outer shadow
-		g2d.setPaint(getShadowOuterPaint(c, size));
+		g2d.setPaint(getShadowOuterPaint(c, w, h));
 		shapeInfo.getTopLeftDrawFunc().accept(g, 1, 1, w-1, h-1);
 		
 		// Draw outer highlight
-		g2d.setPaint(getHighlightOuterPaint(c, size));
+		g2d.setPaint(getHighlightOuterPaint(c, w, h));
 		shapeInfo.getBottomRightDrawFunc().accept(g, 1, 1, w, h);
 		
 		// Draw inner highlight
-		g2d.setPaint(getHighlightInnerPaint(c, size));
+		g2d.setPaint(getHighlightInnerPaint(c, w, h));
 		shapeInfo.getBottomRightDrawFunc().accept(g, 2, 2, w-1,h-1);
 		
 		g.translate(-x, -y);
@@ -293,43 +367,51 @@ public class ShapedBevelBorder extends AbstractBorder{
 	 * Returns a {@link Paint} to use for the inner highlight on the given component with the given size.
 	 *
 	 * @param c The {@link Component} we're putting a border on
-	 * @param size The size of the space being painted
+	 * @param width The width of the space being painted
+	 * @param height The height of the space being painted
 	 * @return The {@link Paint} to use
 	 */
-	private Paint getHighlightInnerPaint(Component c, Dimension size){
-		return highlightInnerPaint != null?highlightInnerPaint.getPaint(size):c.getBackground().brighter();
+	private Paint getHighlightInnerPaint(Component c, int width, int height){
+		return highlightInnerPaint != null?highlightInnerPaint.getPaint(width, height):
+				DerivedPalette.of(c.getBackground()).getBrighter();
 	}
 	
 	/**
 	 * Returns a {@link Paint} to use for the outer highlight on the given component with the given size.
 	 *
 	 * @param c The {@link Component} we're putting a border on
-	 * @param size The size of the space being painted
+	 * @param width The width of the space being painted
+	 * @param height The height of the space being painted
 	 * @return The {@link Paint} to use
 	 */
-	private Paint getHighlightOuterPaint(Component c, Dimension size){
-		return highlightOuterPaint != null?highlightOuterPaint.getPaint(size):c.getBackground().brighter().brighter();
+	private Paint getHighlightOuterPaint(Component c, int width, int height){
+		return highlightOuterPaint != null?highlightOuterPaint.getPaint(width, height):
+				DerivedPalette.of(c.getBackground()).getBrightest();
 	}
 	
 	/**
 	 * Returns a {@link Paint} to use for the inner shadow on the given component with the given size.
 	 *
 	 * @param c The {@link Component} we're putting a border on
-	 * @param size The size of the space being painted
+	 * @param width The width of the space being painted
+	 * @param height The height of the space being painted
 	 * @return The {@link Paint} to use
 	 */
-	private Paint getShadowInnerPaint(Component c, Dimension size){
-		return shadowInnerPaint != null?shadowInnerPaint.getPaint(size):c.getBackground().darker();
+	private Paint getShadowInnerPaint(Component c, int width, int height){
+		return shadowInnerPaint != null?shadowInnerPaint.getPaint(width, height):
+				DerivedPalette.of(c.getBackground()).getDarker();
 	}
 	
 	/**
 	 * Returns a {@link Paint} to use for the outer shadow on the given component with the given size.
 	 *
 	 * @param c The {@link Component} we're putting a border on
-	 * @param size The size of the space being painted
+	 * @param width The width of the space being painted
+	 * @param height The height of the space being painted
 	 * @return The {@link Paint} to use
 	 */
-	private Paint getShadowOuterPaint(Component c, Dimension size){
-		return shadowOuterPaint != null?shadowOuterPaint.getPaint(size):c.getBackground().darker().darker();
+	private Paint getShadowOuterPaint(Component c, int width, int height){
+		return shadowOuterPaint != null?shadowOuterPaint.getPaint(width, height):
+				DerivedPalette.of(c.getBackground()).getDarkest();
 	}
 }
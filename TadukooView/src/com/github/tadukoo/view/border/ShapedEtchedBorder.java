@@ -1,5 +1,7 @@
 package com.github.tadukoo.view.border;
 
+import com.github.tadukoo.view.cache.IntKeyedCache;
+import com.github.tadukoo.view.paint.DerivedPalette;
 import com.github.tadukoo.view.paint.SizablePaint;
 import com.github.tadukoo.view.shapes.ShapeInfo;
 import com.github.tadukoo.view.components.interfaces.Shaped;
@@ -7,7 +9,6 @@ import com.github.tadukoo.view.shapes.Shapes;
 
 import javax.swing.border.AbstractBorder;
 import java.awt.Component;
-import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
@@ -19,7 +20,7 @@ import java.awt.Paint;
  * it can have its own {@link ShapeInfo} if desired.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2.1
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class ShapedEtchedBorder extends AbstractBorder{
@@ -44,10 +45,12 @@ public class ShapedEtchedBorder extends AbstractBorder{
 	 *     getBackground().brighter()</li>
 	 *     <li>shadowPaint - The {@link SizablePaint} for the shadow - defaults to using the Component's
 	 *     getBackground().darker()</li>
+	 *     <li>nineSliceSize - the size of the corners when painting from a {@link NineSliceBorderCache nine slice}
+	 *     raster image (0 paints as vectors every time) - defaults to 0</li>
 	 * </ul>
 	 *
 	 * @author Logan Ferree (Tadukoo)
-	 * @version Alpha v.0.2.1
+	 * @version Alpha v.0.3.4
 	 * @since Alpha v.0.2
 	 */
 	public static class ShapedEtchedBorderBuilder{
@@ -59,6 +62,8 @@ public class ShapedEtchedBorder extends AbstractBorder{
 		private SizablePaint highlightPaint = null;
 		/** The {@link SizablePaint} for the shadow */
 		private SizablePaint shadowPaint = null;
+		/** The size of the corners when painting from a nine slice raster image (0 paints as vectors every time) */
+		private int nineSliceSize = 0;
 		
 		/** Can't create builder outside of ShapedEtchedBorder */
 		private ShapedEtchedBorderBuilder(){ }
@@ -99,11 +104,30 @@ public class ShapedEtchedBorder extends AbstractBorder{
 			return this;
 		}
 		
+		/**
+		 * @param nineSliceSize The size of the corners when painting from a nine slice raster image
+		 * (0 paints as vectors every time)
+		 * @return this, to continue building
+		 */
+		public ShapedEtchedBorderBuilder nineSliceSize(int nineSliceSize){
+			this.nineSliceSize = nineSliceSize;
+			return this;
+		}
+		
 		/**
 		 * @return A newly created {@link ShapedEtchedBorder} using the set parameters
+		 * @throws IllegalArgumentException If the nine slice size is negative or smaller than the border insets
 		 */
 		public ShapedEtchedBorder build(){
-			return new ShapedEtchedBorder(shapeInfo, etchType, highlightPaint, shadowPaint);
+			if(nineSliceSize < 0){
+				throw new IllegalArgumentException("Can't have a negative nine slice size!");
+			}
+			if(nineSliceSize == 1){
+				throw new IllegalArgumentException("Nine slice size can't be smaller than the border insets!");
+			}
+			return new ShapedEtchedBorder(shapeInfo, etchType, highlightPaint, shadowPaint,
+					nineSliceSize != 0?
+							new NineSliceBorderCache(nineSliceSize, IntKeyedCache.DEFAULT_CAPACITY, 2):null);
 		}
 	}
 	/** The {@link ShapeInfo} to use on the Border (may be null to use the component's shape) */
@@ -114,6 +138,8 @@ public class ShapedEtchedBorder extends AbstractBorder{
 	private final SizablePaint highlightPaint;
 	/** The {@link SizablePaint} for the shadow */
 	private final SizablePaint shadowPaint;
+	/** The {@link NineSliceBorderCache} used to paint from a raster image (null to paint as vectors) */
+	private final NineSliceBorderCache nineSliceCache;
 	
 	/**
 	 * Creates a new Shaped Etched Border with the given parameters
@@ -122,13 +148,17 @@ public class ShapedEtchedBorder extends AbstractBorder{
 	 * @param etchType The {@link EtchType type of etching} (RAISED or LOWERED)
 	 * @param highlightPaint The {@link SizablePaint} for the highlight
 	 * @param shadowPaint The {@link SizablePaint} for the shadow
+	 * @param nineSliceCache The {@link NineSliceBorderCache} used to paint from a raster image
+	 * (null to paint as vectors)
 	 */
 	private ShapedEtchedBorder(ShapeInfo shapeInfo, EtchType etchType,
-	                           SizablePaint highlightPaint, SizablePaint shadowPaint){
+	                           SizablePaint highlightPaint, SizablePaint shadowPaint,
+	                           NineSliceBorderCache nineSliceCache){
 		this.shapeInfo = shapeInfo;
 		this.etchType = etchType;
 		this.highlightPaint = highlightPaint;
 		this.shadowPaint = shadowPaint;
+		this.nineSliceCache = nineSliceCache;
 	}
 	
 	/**
@@ -138,6 +168,13 @@ public class ShapedEtchedBorder extends AbstractBorder{
 		return new ShapedEtchedBorderBuilder();
 	}
 	
+	/**
+	 * @return The {@link NineSliceBorderCache} used to paint from a raster image (null if painting as vectors)
+	 */
+	public NineSliceBorderCache getNineSliceCache(){
+		return nineSliceCache;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public Insets getBorderInsets(Component c){
@@ -174,15 +211,38 @@ public class ShapedEtchedBorder extends AbstractBorder{
 			shapeInfoToUse = shapeInfo;
 		}
 		
-		Dimension size = new Dimension(w, h);
+		// Paint from the raster image if possible (keyed by background, since the default paints depend on it)
+		ShapeInfo etchShapeInfo = shapeInfoToUse;
+		if(nineSliceCache != null && nineSliceCache.paintBorder(g, etchShapeInfo, c.getBackground(),
+				NineSliceBorderCache.isConstantPaint(getHighlightPaint(c, w, h)) &&
+						NineSliceBorderCache.isConstantPaint(getShadowPaint(c, w, h)), x, y, w, h,
+				(ig, ix, iy, iw, ih) -> paintEtching(c, ig, ix, iy, iw, ih, etchShapeInfo))){
+			return;
+		}
+		
+		paintEtching(c, g, x, y, w, h, shapeInfoToUse);
+	}
+	
+	/**
+	 * Paints the etching as vectors for the specified component with the specified position and size.
+	 *
+	 * @param c the component for which the etching is being painted
+	 * @param g the paint graphics
+	 * @param x the x position of the etching
+	 * @param y the y position of the etching
+	 * @param w the width of the etching
+	 * @param h the height of the etching
+	 * @param shapeInfoToUse The {@link ShapeInfo} to use for the etching
+	 */
+	private void paintEtching(Component c, Graphics g, int x, int y, int w, int h, ShapeInfo shapeInfoToUse){
 		Graphics2D g2d = (Graphics2D) g;
 		
 		// Paint normal full shape
-		g2d.setPaint(etchType == EtchType.LOWERED?getShadowPaint(c, size):getHighlightPaint(c, size));
-		g2d.draw(shapeInfoToUse.getShapeFunc().apply(x, y, w-1, h-1));
+		g2d.setPaint(etchType == EtchType.LOWERED?getShadowPaint(c, w, h):getHighlightPaint(c, w, h));
+		g2d.draw(shapeInfoToUse.getShape(x, y, w-1, h-1));
 		
 		// Paint secondary top left
-		g2d.setPaint(etchType == EtchType.LOWERED?getHighlightPaint(c, size):getShadowPaint(c, size));
+		g2d.setPaint(etchType == EtchType.LOWERED?getHighlightPaint(c, w, h):getShadowPaint(c, w, h));
 		shapeInfoToUse.getTopLeftDrawFunc().accept(g, x+1, y+1, w-2, h-2);
 		g.drawLine(1, h-3, 1, 1);
 		g.drawLine(1, 1, w-3, 1);
@@ -197,21 +257,25 @@ public class ShapedEtchedBorder extends AbstractBorder{
 	 * Returns a {@link Paint} to use for the highlight on the given component with the given size.
 	 *
 	 * @param c The {@link Component} we're putting a border on
-	 * @param size The size of the space being painted
+	 * @param width The width of the space being painted
+	 * @param height The height of the space being painted
 	 * @return The {@link Paint} to use
 	 */
-	private Paint getHighlightPaint(Component c, Dimension size){
-		return highlightPaint != null?highlightPaint.getPaint(size):c.getBackground().brighter();
+	private Paint getHighlightPaint(Component c, int width, int height){
+		return highlightPaint != null?highlightPaint.getPaint(width, height):
+				DerivedPalette.of(c.getBackground()).getBrighter();
 	}
 	
 	/**
 	 * Returns a {@link Paint} to use for the shadow on the given component with the given size.
 	 *
 	 * @param c The {@link Component} we're putting a border on
-	 * @param size The size of the space being painted
+	 * @param width The width of the space being painted
+	 * @param height The height of the space being painted
 	 * @return The {@link Paint} to use
 	 */
-	private Paint getShadowPaint(Component c, Dimension size){
-		return shadowPaint != null?shadowPaint.getPaint(size):c.getBackground().darker();
+	private Paint getShadowPaint(Component c, int width, int height){
+		return shadowPaint != null?shadowPaint.getPaint(width, height):
+				DerivedPalette.of(c.getBackground()).getDarker();
 	}
 }
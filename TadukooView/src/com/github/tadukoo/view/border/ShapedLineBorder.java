@@ -1,7 +1,11 @@
 package com.github.tadukoo.view.border;
 
+import com.github.tadukoo.view.cache.BoundsKeyedCache;
+import com.github.tadukoo.view.cache.EvictionPolicy;
+import com.github.tadukoo.view.cache.IntKeyedCache;
 import com.github.tadukoo.view.paint.SizableColor;
 import com.github.tadukoo.view.paint.SizablePaint;
+import com.github.tadukoo.view.shapes.ImmutableShape;
 import com.github.tadukoo.view.shapes.ShapeFunction;
 import com.github.tadukoo.view.shapes.ShapeInfo;
 import com.github.tadukoo.view.components.interfaces.Shaped;
@@ -10,20 +14,28 @@ import com.github.tadukoo.view.shapes.Shapes;
 import javax.swing.border.AbstractBorder;
 import java.awt.Color;
 import java.awt.Component;
-import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
 import java.awt.Shape;
 import java.awt.geom.Path2D;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Shaped Line Border mimics the functionality of a {@link javax.swing.border.LineBorder LineBorder}, but uses the
  * {@link ShapeInfo} (if present) on the component to draw the border, rather than making a rectangular border, or
  * it can have its own {@link ShapeInfo} if desired.
+ * <br><br>
+ * The border is painted by filling the ring between the outer and inner shapes (using even-odd winding). These
+ * ring paths are cached by shape and bounds (the thickness is fixed for a border), so each size is only built
+ * once and then reused across repaints and across all the components sharing this border.
+ * <br><br>
+ * Optionally, the border can be painted from a raster image instead (see {@link NineSliceBorderCache}), which is
+ * rendered once and then sliced and stretched to fit on later paints.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2.1
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class ShapedLineBorder extends AbstractBorder{
@@ -35,10 +47,14 @@ public class ShapedLineBorder extends AbstractBorder{
 	 *     defaults to null</li>
 	 *     <li>paint - The {@link SizablePaint} to use on the Border - defaults to solid black</li>
 	 *     <li>thickness - the thickness of the line - defaults to 1</li>
+	 *     <li>pathCacheCapacity - the maximum number of ring paths to cache per shape (0 disables caching) -
+	 *     defaults to {@link BoundsKeyedCache#DEFAULT_CAPACITY}</li>
+	 *     <li>nineSliceSize - the size of the corners when painting from a {@link NineSliceBorderCache nine slice}
+	 *     raster image (0 paints as vectors every time) - defaults to 0</li>
 	 * </ul>
 	 *
 	 * @author Logan Ferree (Tadukoo)
-	 * @version Alpha v.0.2.1
+	 * @version Alpha v.0.3.4
 	 * @since Alpha v.0.2
 	 */
 	public static class ShapedLineBorderBuilder{
@@ -48,6 +64,10 @@ public class ShapedLineBorder extends AbstractBorder{
 		private SizablePaint paint = new SizableColor(Color.BLACK);
 		/** The thickness of the line */
 		private int thickness = 1;
+		/** The maximum number of ring paths to cache per shape (0 disables caching) */
+		private int pathCacheCapacity = BoundsKeyedCache.DEFAULT_CAPACITY;
+		/** The size of the corners when painting from a nine slice raster image (0 paints as vectors every time) */
+		private int nineSliceSize = 0;
 		
 		/** Can't create the builder outside of ShapeLineBorder */
 		private ShapedLineBorderBuilder(){ }
@@ -79,11 +99,43 @@ public class ShapedLineBorder extends AbstractBorder{
 			return this;
 		}
 		
+		/**
+		 * @param pathCacheCapacity The maximum number of ring paths to cache per shape (0 disables caching)
+		 * @return this, to continue building
+		 */
+		public ShapedLineBorderBuilder pathCacheCapacity(int pathCacheCapacity){
+			this.pathCacheCapacity = pathCacheCapacity;
+			return this;
+		}
+		
+		/**
+		 * @param nineSliceSize The size of the corners when painting from a nine slice raster image
+		 * (0 paints as vectors every time)
+		 * @return this, to continue building
+		 */
+		public ShapedLineBorderBuilder nineSliceSize(int nineSliceSize){
+			this.nineSliceSize = nineSliceSize;
+			return this;
+		}
+		
 		/**
 		 * @return A newly created {@link ShapedLineBorder} using the set parameters
+		 * @throws IllegalArgumentException If the path cache capacity or nine slice size is negative, or the nine
+		 * slice size is smaller than the thickness
 		 */
 		public ShapedLineBorder build(){
-			return new ShapedLineBorder(shapeInfo, paint, thickness);
+			if(pathCacheCapacity < 0){
+				throw new IllegalArgumentException("Can't have a negative path cache capacity!");
+			}
+			if(nineSliceSize < 0){
+				throw new IllegalArgumentException("Can't have a negative nine slice size!");
+			}
+			if(nineSliceSize != 0 && nineSliceSize < thickness){
+				throw new IllegalArgumentException("Nine slice size can't be smaller than the thickness!");
+			}
+			return new ShapedLineBorder(shapeInfo, paint, thickness, pathCacheCapacity,
+					nineSliceSize != 0?
+							new NineSliceBorderCache(nineSliceSize, IntKeyedCache.DEFAULT_CAPACITY, thickness):null);
 		}
 	}
 	
@@ -93,6 +145,12 @@ public class ShapedLineBorder extends AbstractBorder{
 	private final SizablePaint paint;
 	/** The thickness of the line */
 	private final int thickness;
+	/** The maximum number of ring paths to cache per shape (0 disables caching) */
+	private final int pathCacheCapacity;
+	/** The caches of ring paths, by the {@link ShapeFunction} used to make them (and then by bounds) */
+	private final Map<ShapeFunction, BoundsKeyedCache<Shape>> pathCaches = new WeakHashMap<>();
+	/** The {@link NineSliceBorderCache} used to paint from a raster image (null to paint as vectors) */
+	private final NineSliceBorderCache nineSliceCache;
 	
 	/**
 	 * Constructs a new ShapedLineBorder with the given parameters
@@ -100,11 +158,18 @@ public class ShapedLineBorder extends AbstractBorder{
 	 * @param shapeInfo The {@link ShapeInfo} to use on this Border (may be null to use the component's shape)
 	 * @param paint The {@link SizablePaint} to use on this Border
 	 * @param thickness The thickness of the line
+	 * @param pathCacheCapacity The maximum number of ring paths to cache per shape (0 disables caching)
+	 * @param nineSliceCache The {@link NineSliceBorderCache} used to paint from a raster image
+	 * (null to paint as vectors)
 	 */
-	private ShapedLineBorder(ShapeInfo shapeInfo, SizablePaint paint, int thickness){
+	private ShapedLineBorder(
+			ShapeInfo shapeInfo, SizablePaint paint, int thickness, int pathCacheCapacity,
+			NineSliceBorderCache nineSliceCache){
 		this.shapeInfo = shapeInfo;
 		this.paint = paint;
 		this.thickness = thickness;
+		this.pathCacheCapacity = pathCacheCapacity;
+		this.nineSliceCache = nineSliceCache;
 	}
 	
 	/**
@@ -114,6 +179,78 @@ public class ShapedLineBorder extends AbstractBorder{
 		return new ShapedLineBorderBuilder();
 	}
 	
+	/**
+	 * @return The maximum number of ring paths to cache per shape (0 disables caching)
+	 */
+	public int getPathCacheCapacity(){
+		return pathCacheCapacity;
+	}
+	
+	/**
+	 * @return The {@link NineSliceBorderCache} used to paint from a raster image (null if painting as vectors)
+	 */
+	public NineSliceBorderCache getNineSliceCache(){
+		return nineSliceCache;
+	}
+	
+	/**
+	 * Retrieves the cache of ring paths for the given {@link ShapeInfo}, which can be used to check its stats.
+	 *
+	 * @param shapeInfo The {@link ShapeInfo} to get the path cache for
+	 * @return The cache of ring paths for the {@link ShapeInfo}'s shape, or null if none have been painted yet
+	 */
+	public BoundsKeyedCache<Shape> getPathCache(ShapeInfo shapeInfo){
+		synchronized(pathCaches){
+			return pathCaches.get(shapeInfo.getShapeFunc());
+		}
+	}
+	
+	/**
+	 * Retrieves the ring path to fill for the border, using the given {@link ShapeInfo} and bounds. The path is
+	 * built from the outer shape and the inner shape (inset by the thickness) with even-odd winding, and it's cached
+	 * so later paints at the same bounds reuse it.
+	 *
+	 * @param shapeInfo The {@link ShapeInfo} to use for the border's shape
+	 * @param x The x coordinate of the border
+	 * @param y The y coordinate of the border
+	 * @param w The width of the border
+	 * @param h The height of the border
+	 * @return The ring path to fill
+	 */
+	protected Shape getRingPath(ShapeInfo shapeInfo, int x, int y, int w, int h){
+		// Find the cache for this shape
+		BoundsKeyedCache<Shape> pathCache = null;
+		if(pathCacheCapacity > 0){
+			synchronized(pathCaches){
+				pathCache = pathCaches.computeIfAbsent(shapeInfo.getShapeFunc(),
+						shapeFunc -> new BoundsKeyedCache<>(pathCacheCapacity, EvictionPolicy.LEAST_RECENTLY_USED));
+			}
+			
+			// Check if we already built the path for these bounds
+			Shape path = pathCache.get(x, y, w, h);
+			if(path != null){
+				return path;
+			}
+		}
+		
+		// Determine inner + outer shapes for the border
+		int offset = thickness;
+		int size = offset + offset;
+		Shape outer = shapeInfo.getShape(x, y, w, h);
+		Shape inner = shapeInfo.getShape(x + offset, y + offset, w - size, h - size);
+		
+		// Build the ring between the shapes
+		Path2D path = new Path2D.Float(Path2D.WIND_EVEN_ODD);
+		path.append(outer, false);
+		path.append(inner, false);
+		
+		Shape ring = ImmutableShape.of(path);
+		if(pathCache != null){
+			pathCache.put(x, y, w, h, ring);
+		}
+		return ring;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public Insets getBorderInsets(Component c){
@@ -131,31 +268,41 @@ public class ShapedLineBorder extends AbstractBorder{
 	@Override
 	public void paintBorder(Component c, Graphics g, int x, int y, int w, int h){
 		if((this.thickness > 0) && (g instanceof Graphics2D g2d)){
-			// Determine Shape function to use
-			ShapeFunction shapeFunc = shapeInfo != null?shapeInfo.getShapeFunc():null;
-			if(shapeFunc == null){
+			// Determine Shape Info to use
+			ShapeInfo shapeInfoToUse = shapeInfo != null && shapeInfo.getShapeFunc() != null?shapeInfo:null;
+			if(shapeInfoToUse == null){
 				if(c instanceof Shaped){
-					shapeFunc = ((Shaped) c).getShapeInfo().getShapeFunc();
+					shapeInfoToUse = ((Shaped) c).getShapeInfo();
 				}else{
 					// Use a Rectangle if it's not a Shaped object
-					shapeFunc = Shapes.RECTANGLE.getShapeInfo().getShapeFunc();
+					shapeInfoToUse = Shapes.RECTANGLE.getShapeInfo();
 				}
 			}
 			
-			// Determine inner + outer shapes for the border
-			int offset = thickness;
-			int size = offset + offset;
-			Shape outer = shapeFunc.apply(x, y, w, h);
-			Shape inner = shapeFunc.apply(x + offset, y + offset, w - size, h - size);
-			
-			// Cast Graphics to Graphics2D
+			// Paint from the raster image if possible (the paint doesn't depend on the background)
+			ShapeInfo ringShapeInfo = shapeInfoToUse;
+			if(nineSliceCache != null && nineSliceCache.paintBorder(g2d, ringShapeInfo, null,
+					NineSliceBorderCache.isConstantPaint(paint.getPaint(w, h)), x, y, w, h,
+					(ig, ix, iy, iw, ih) -> paintRing((Graphics2D) ig, ringShapeInfo, ix, iy, iw, ih))){
+				return;
+			}
 			
-			// Set the color and draw the border
-			g2d.setPaint(paint.getPaint(new Dimension(w, h)));
-			Path2D path = new Path2D.Float(Path2D.WIND_EVEN_ODD);
-			path.append(outer, false);
-			path.append(inner, false);
-			g2d.fill(path);
+			paintRing(g2d, shapeInfoToUse, x, y, w, h);
 		}
 	}
+	
+	/**
+	 * Paints the border's ring as vectors using the given {@link ShapeInfo} and bounds
+	 *
+	 * @param g2d The {@link Graphics2D} to paint on
+	 * @param shapeInfo The {@link ShapeInfo} to use for the border's shape
+	 * @param x The x coordinate of the border
+	 * @param y The y coordinate of the border
+	 * @param w The width of the border
+	 * @param h The height of the border
+	 */
+	private void paintRing(Graphics2D g2d, ShapeInfo shapeInfo, int x, int y, int w, int h){
+		g2d.setPaint(paint.getPaint(w, h));
+		g2d.fill(getRingPath(shapeInfo, x, y, w, h));
+	}
 }
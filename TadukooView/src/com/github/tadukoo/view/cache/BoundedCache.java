@@ -0,0 +1,170 @@
+package com.github.tadukoo.view.cache;
+
+/**
+ * Bounded Cache is the base for the small caches in this package. It holds at most {@link #getCapacity() capacity}
+ * values in a flat array, and once full it evicts an entry based on its {@link EvictionPolicy}. Subclasses are in
+ * charge of storing the keys (generally as primitives, so that lookups don't need to allocate anything) and finding
+ * the index of an entry for a key.
+ * <br><br>
+ * The cache keeps track of its hits, misses, and evictions, which can be used to tune the capacity. A capacity of 0
+ * disables caching entirely. Subclasses should make their lookup methods synchronized, as the methods here are.
+ *
+ * @param <V> The type of value stored in the cache
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public abstract class BoundedCache<V>{
+	/** The maximum number of entries in this cache */
+	private final int capacity;
+	/** The {@link EvictionPolicy} used to determine which entry to evict when the cache is full */
+	private final EvictionPolicy evictionPolicy;
+	/** The values of the entries */
+	private final Object[] values;
+	/** The "time" each entry was last used (for LRU) or added (for FIFO) */
+	private final long[] stamps;
+	/** The number of entries currently in the cache */
+	protected int size = 0;
+	/** A counter used to stamp entries */
+	private long clock = 0;
+	/** The number of lookups that found a value */
+	private long hitCount = 0;
+	/** The number of lookups that did not find a value */
+	private long missCount = 0;
+	/** The number of entries that have been evicted */
+	private long evictionCount = 0;
+	
+	/**
+	 * Constructs a new BoundedCache with the given capacity and {@link EvictionPolicy}
+	 *
+	 * @param capacity The maximum number of entries in this cache - 0 disables caching
+	 * @param evictionPolicy The {@link EvictionPolicy} used to determine which entry to evict when the cache is full
+	 * @throws IllegalArgumentException If the capacity is negative or the eviction policy is null
+	 */
+	protected BoundedCache(int capacity, EvictionPolicy evictionPolicy){
+		if(capacity < 0){
+			throw new IllegalArgumentException("Cache capacity can't be negative!");
+		}
+		if(evictionPolicy == null){
+			throw new IllegalArgumentException("Cache eviction policy can't be null!");
+		}
+		this.capacity = capacity;
+		this.evictionPolicy = evictionPolicy;
+		values = new Object[capacity];
+		stamps = new long[capacity];
+	}
+	
+	/**
+	 * @return The maximum number of entries in this cache
+	 */
+	public int getCapacity(){
+		return capacity;
+	}
+	
+	/**
+	 * @return The {@link EvictionPolicy} used to determine which entry to evict when the cache is full
+	 */
+	public EvictionPolicy getEvictionPolicy(){
+		return evictionPolicy;
+	}
+	
+	/**
+	 * @return The number of entries currently in the cache
+	 */
+	public synchronized int size(){
+		return size;
+	}
+	
+	/**
+	 * @return The number of lookups that found a value
+	 */
+	public synchronized long getHitCount(){
+		return hitCount;
+	}
+	
+	/**
+	 * @return The number of lookups that did not find a value
+	 */
+	public synchronized long getMissCount(){
+		return missCount;
+	}
+	
+	/**
+	 * @return The number of entries that have been evicted
+	 */
+	public synchronized long getEvictionCount(){
+		return evictionCount;
+	}
+	
+	/**
+	 * Retrieves the value at the given index (as found by the subclass's lookup), counting it as a hit or miss
+	 *
+	 * @param index The index of the entry, or -1 if it wasn't found
+	 * @return The cached value, or null if the index is -1
+	 */
+	@SuppressWarnings("unchecked")
+	protected V getAt(int index){
+		if(index == -1){
+			missCount++;
+			return null;
+		}
+		hitCount++;
+		if(evictionPolicy == EvictionPolicy.LEAST_RECENTLY_USED){
+			stamps[index] = ++clock;
+		}
+		return (V) values[index];
+	}
+	
+	/**
+	 * Determines the index to store a new entry in - either the next free spot, or the spot of the entry evicted
+	 * based on the {@link EvictionPolicy}. Should only be called when the capacity is above 0.
+	 *
+	 * @return The index to store the new entry's key in, followed by a call to {@link #putAt(int, Object)}
+	 */
+	protected int indexForNewEntry(){
+		if(size < capacity){
+			return size++;
+		}
+		
+		// Find the oldest entry to evict
+		int index = 0;
+		for(int i = 1; i < size; i++){
+			if(stamps[i] < stamps[index]){
+				index = i;
+			}
+		}
+		evictionCount++;
+		return index;
+	}
+	
+	/**
+	 * Stores the given value at the given index and stamps it as just used
+	 *
+	 * @param index The index to store the value at
+	 * @param value The value to store
+	 */
+	protected void putAt(int index, V value){
+		values[index] = value;
+		stamps[index] = ++clock;
+	}
+	
+	/**
+	 * Removes all entries from the cache. The hit, miss, and eviction counts are not reset.
+	 */
+	public synchronized void clear(){
+		for(int i = 0; i < size; i++){
+			values[i] = null;
+		}
+		size = 0;
+	}
+	
+	/**
+	 * Resets the hit, miss, and eviction counts to 0
+	 */
+	public synchronized void resetStats(){
+		hitCount = 0;
+		missCount = 0;
+		evictionCount = 0;
+	}
+}
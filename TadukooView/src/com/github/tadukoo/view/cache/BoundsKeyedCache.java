@@ -0,0 +1,112 @@
+package com.github.tadukoo.view.cache;
+
+/**
+ * Bounds Keyed Cache is a small bounded cache of values keyed by an x, y, width, and height. It's meant for objects
+ * that only depend on the bounds they're built for (e.g. a {@link java.awt.Shape}), so that painting the same
+ * component repeatedly at the same bounds reuses one object instead of building a new one each time.
+ * <br><br>
+ * Like {@link SizeKeyedCache}, entries are stored in flat arrays and looked up with a linear scan, so no objects are
+ * allocated to perform a lookup. Since bounds caches tend to be shared by every component using the same style,
+ * the {@link #DEFAULT_CAPACITY default capacity} is a bit larger. A capacity of 0 disables caching entirely.
+ *
+ * @param <V> The type of value stored in the cache
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class BoundsKeyedCache<V> extends BoundedCache<V>{
+	/** The default capacity used for a BoundsKeyedCache */
+	public static final int DEFAULT_CAPACITY = 32;
+	
+	/** The first half of the keys of the entries, combining the x and y */
+	private final long[] locationKeys;
+	/** The second half of the keys of the entries, combining the width and height */
+	private final long[] sizeKeys;
+	
+	/**
+	 * Constructs a new BoundsKeyedCache with the {@link #DEFAULT_CAPACITY default capacity} and
+	 * {@link EvictionPolicy#LEAST_RECENTLY_USED least recently used} eviction
+	 */
+	public BoundsKeyedCache(){
+		this(DEFAULT_CAPACITY, EvictionPolicy.LEAST_RECENTLY_USED);
+	}
+	
+	/**
+	 * Constructs a new BoundsKeyedCache with the given capacity and {@link EvictionPolicy}
+	 *
+	 * @param capacity The maximum number of entries in this cache - 0 disables caching
+	 * @param evictionPolicy The {@link EvictionPolicy} used to determine which entry to evict when the cache is full
+	 * @throws IllegalArgumentException If the capacity is negative or the eviction policy is null
+	 */
+	public BoundsKeyedCache(int capacity, EvictionPolicy evictionPolicy){
+		super(capacity, evictionPolicy);
+		locationKeys = new long[capacity];
+		sizeKeys = new long[capacity];
+	}
+	
+	/**
+	 * Combines the given two ints into a single key
+	 *
+	 * @param first The first int (e.g. x or width)
+	 * @param second The second int (e.g. y or height)
+	 * @return A single key for the two ints
+	 */
+	private static long key(int first, int second){
+		return ((long) first << 32) | (second & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Finds the index of the entry with the given keys
+	 *
+	 * @param locationKey The x and y key to look for
+	 * @param sizeKey The width and height key to look for
+	 * @return The index of the entry, or -1 if not found
+	 */
+	private int indexOf(long locationKey, long sizeKey){
+		for(int i = 0; i < size; i++){
+			if(sizeKeys[i] == sizeKey && locationKeys[i] == locationKey){
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Retrieves the value cached for the given bounds, counting it as a hit or miss
+	 *
+	 * @param x The x coordinate to find a value for
+	 * @param y The y coordinate to find a value for
+	 * @param width The width to find a value for
+	 * @param height The height to find a value for
+	 * @return The cached value, or null if there isn't one
+	 */
+	public synchronized V get(int x, int y, int width, int height){
+		return getAt(indexOf(key(x, y), key(width, height)));
+	}
+	
+	/**
+	 * Caches the given value for the given bounds, replacing any value already there. If the cache is full, an
+	 * entry is evicted based on the {@link EvictionPolicy}. If the capacity is 0, nothing is cached.
+	 *
+	 * @param x The x coordinate to cache the value for
+	 * @param y The y coordinate to cache the value for
+	 * @param width The width to cache the value for
+	 * @param height The height to cache the value for
+	 * @param value The value to cache
+	 */
+	public synchronized void put(int x, int y, int width, int height, V value){
+		if(getCapacity() == 0){
+			return;
+		}
+		long locationKey = key(x, y);
+		long sizeKey = key(width, height);
+		int index = indexOf(locationKey, sizeKey);
+		if(index == -1){
+			index = indexForNewEntry();
+			locationKeys[index] = locationKey;
+			sizeKeys[index] = sizeKey;
+		}
+		putAt(index, value);
+	}
+}
@@ -0,0 +1,15 @@
+package com.github.tadukoo.view.cache;
+
+/**
+ * Eviction Policy determines which entry is thrown out of a full cache when a new entry is added.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public enum EvictionPolicy{
+	/** Evicts the entry that was used (retrieved or added) the longest time ago */
+	LEAST_RECENTLY_USED,
+	/** Evicts the entry that was added the longest time ago, regardless of how often it's been retrieved */
+	FIRST_IN_FIRST_OUT
+}
@@ -0,0 +1,84 @@
+package com.github.tadukoo.view.cache;
+
+/**
+ * Int Keyed Cache is a small bounded cache of values keyed by a single int (e.g. an RGB color). Like
+ * {@link SizeKeyedCache}, entries are stored in flat arrays and looked up with a linear scan, so no objects are
+ * allocated to perform a lookup (unlike a Map, which would box the key). A capacity of 0 disables caching entirely.
+ *
+ * @param <V> The type of value stored in the cache
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class IntKeyedCache<V> extends BoundedCache<V>{
+	/** The default capacity used for an IntKeyedCache */
+	public static final int DEFAULT_CAPACITY = 8;
+	
+	/** The keys of the entries */
+	private final int[] keys;
+	
+	/**
+	 * Constructs a new IntKeyedCache with the {@link #DEFAULT_CAPACITY default capacity} and
+	 * {@link EvictionPolicy#LEAST_RECENTLY_USED least recently used} eviction
+	 */
+	public IntKeyedCache(){
+		this(DEFAULT_CAPACITY, EvictionPolicy.LEAST_RECENTLY_USED);
+	}
+	
+	/**
+	 * Constructs a new IntKeyedCache with the given capacity and {@link EvictionPolicy}
+	 *
+	 * @param capacity The maximum number of entries in this cache - 0 disables caching
+	 * @param evictionPolicy The {@link EvictionPolicy} used to determine which entry to evict when the cache is full
+	 * @throws IllegalArgumentException If the capacity is negative or the eviction policy is null
+	 */
+	public IntKeyedCache(int capacity, EvictionPolicy evictionPolicy){
+		super(capacity, evictionPolicy);
+		keys = new int[capacity];
+	}
+	
+	/**
+	 * Finds the index of the entry with the given key
+	 *
+	 * @param key The key to look for
+	 * @return The index of the entry, or -1 if not found
+	 */
+	private int indexOf(int key){
+		for(int i = 0; i < size; i++){
+			if(keys[i] == key){
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Retrieves the value cached for the given key, counting it as a hit or miss
+	 *
+	 * @param key The key to find a value for
+	 * @return The cached value, or null if there isn't one
+	 */
+	public synchronized V get(int key){
+		return getAt(indexOf(key));
+	}
+	
+	/**
+	 * Caches the given value for the given key, replacing any value already there. If the cache is full, an entry
+	 * is evicted based on the {@link EvictionPolicy}. If the capacity is 0, nothing is cached.
+	 *
+	 * @param key The key to cache the value for
+	 * @param value The value to cache
+	 */
+	public synchronized void put(int key, V value){
+		if(getCapacity() == 0){
+			return;
+		}
+		int index = indexOf(key);
+		if(index == -1){
+			index = indexForNewEntry();
+			keys[index] = key;
+		}
+		putAt(index, value);
+	}
+}
@@ -0,0 +1,106 @@
+package com.github.tadukoo.view.cache;
+
+/**
+ * Size Keyed Cache is a small bounded cache of values keyed by a width and height. It's meant for objects that
+ * only depend on the size they're built for (e.g. a {@link java.awt.Paint} built for a component), so that painting
+ * the same component repeatedly at the same size reuses one object instead of building a new one each time.
+ * <br><br>
+ * The cache holds at most {@link #getCapacity() capacity} entries, and once full it evicts an entry based on its
+ * {@link EvictionPolicy}. Entries are stored in flat arrays and looked up with a linear scan, so no objects are
+ * allocated to perform a lookup - this is intended for small capacities (a handful of sizes), which is the typical
+ * case for a single component style. A capacity of 0 disables caching entirely.
+ * <br><br>
+ * The cache keeps track of its hits, misses, and evictions, which can be used to tune the capacity. All methods are
+ * synchronized, since the objects holding a cache (e.g. Gradients) may be shared between components.
+ *
+ * @param <V> The type of value stored in the cache
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class SizeKeyedCache<V> extends BoundedCache<V>{
+	/** The default capacity used for a SizeKeyedCache */
+	public static final int DEFAULT_CAPACITY = 8;
+	
+	/** The keys of the entries, combining the width and height */
+	private final long[] keys;
+	
+	/**
+	 * Constructs a new SizeKeyedCache with the {@link #DEFAULT_CAPACITY default capacity} and
+	 * {@link EvictionPolicy#LEAST_RECENTLY_USED least recently used} eviction
+	 */
+	public SizeKeyedCache(){
+		this(DEFAULT_CAPACITY, EvictionPolicy.LEAST_RECENTLY_USED);
+	}
+	
+	/**
+	 * Constructs a new SizeKeyedCache with the given capacity and {@link EvictionPolicy}
+	 *
+	 * @param capacity The maximum number of entries in this cache - 0 disables caching
+	 * @param evictionPolicy The {@link EvictionPolicy} used to determine which entry to evict when the cache is full
+	 * @throws IllegalArgumentException If the capacity is negative or the eviction policy is null
+	 */
+	public SizeKeyedCache(int capacity, EvictionPolicy evictionPolicy){
+		super(capacity, evictionPolicy);
+		keys = new long[capacity];
+	}
+	
+	/**
+	 * Combines the given width and height into a single key
+	 *
+	 * @param width The width to use
+	 * @param height The height to use
+	 * @return A single key for the width and height
+	 */
+	private static long key(int width, int height){
+		return ((long) width << 32) | (height & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Finds the index of the entry with the given key
+	 *
+	 * @param key The key to look for
+	 * @return The index of the entry, or -1 if not found
+	 */
+	private int indexOf(long key){
+		for(int i = 0; i < size; i++){
+			if(keys[i] == key){
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Retrieves the value cached for the given size, counting it as a hit or miss
+	 *
+	 * @param width The width to find a value for
+	 * @param height The height to find a value for
+	 * @return The cached value, or null if there isn't one
+	 */
+	public synchronized V get(int width, int height){
+		return getAt(indexOf(key(width, height)));
+	}
+	
+	/**
+	 * Caches the given value for the given size, replacing any value already there. If the cache is full, an entry
+	 * is evicted based on the {@link EvictionPolicy}. If the capacity is 0, nothing is cached.
+	 *
+	 * @param width The width to cache the value for
+	 * @param height The height to cache the value for
+	 * @param value The value to cache
+	 */
+	public synchronized void put(int width, int height, V value){
+		if(getCapacity() == 0){
+			return;
+		}
+		long key = key(width, height);
+		int index = indexOf(key);
+		if(index == -1){
+			index = indexForNewEntry();
+			keys[index] = key;
+		}
+		putAt(index, value);
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Small bounded caches used to reuse objects that would otherwise be rebuilt on every paint
+ */
+package com.github.tadukoo.view.cache;
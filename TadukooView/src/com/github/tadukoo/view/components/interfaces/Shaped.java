@@ -7,11 +7,17 @@ import com.github.tadukoo.view.shapes.ShapeInfo;
  * to use custom shapes.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public interface Shaped{
 	
+	/**
+	 * The name of the bound property that changes when the {@link ShapeInfo} is set (components should fire a
+	 * property change with it, so that their Look &amp; Feel can react to the new shape)
+	 */
+	String SHAPE_INFO_PROPERTY = "shapeInfo";
+	
 	/**
 	 * @return The {@link ShapeInfo} for this component
 	 */
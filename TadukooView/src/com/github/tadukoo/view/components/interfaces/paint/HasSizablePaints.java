@@ -7,10 +7,16 @@ import com.github.tadukoo.view.paint.SizablePaint;
  * background colors, to be used instead of the simple colors.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  */
 public interface HasSizablePaints{
 	
+	/**
+	 * The name of the bound property that changes when the background {@link SizablePaint} is set (components
+	 * should fire a property change with it, so that their Look &amp; Feel can react to the new paint)
+	 */
+	String BACKGROUND_PAINT_PROPERTY = "backgroundPaint";
+	
 	/**
 	 * @return The {@link SizablePaint} to be used for the foreground of this Component
 	 */
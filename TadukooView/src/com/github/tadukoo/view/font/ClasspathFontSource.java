@@ -0,0 +1,89 @@
+package com.github.tadukoo.view.font;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+/**
+ * Classpath Font Source is a {@link FontSource} for font files bundled as classpath resources, which allows fonts
+ * to be read straight out of the application jar without unpacking them to disk first. Resources that are unpacked
+ * on disk anyway (e.g. when running from an IDE) are read directly from their files.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class ClasspathFontSource implements FontSource{
+	/** The {@link ClassLoader} to find the font resources with */
+	private final ClassLoader classLoader;
+	/** The resource path to the directory where the fonts are stored (e.g. "fonts/") */
+	private final String fontDirectoryPath;
+	
+	/**
+	 * Constructs a new Classpath Font Source for the given resource directory, using the {@link ClassLoader} that
+	 * loaded this class
+	 *
+	 * @param fontDirectoryPath The resource path to the directory where the fonts are stored (e.g. "fonts/")
+	 */
+	public ClasspathFontSource(String fontDirectoryPath){
+		this(ClasspathFontSource.class.getClassLoader(), fontDirectoryPath);
+	}
+	
+	/**
+	 * Constructs a new Classpath Font Source for the given {@link ClassLoader} and resource directory
+	 *
+	 * @param classLoader The {@link ClassLoader} to find the font resources with
+	 * @param fontDirectoryPath The resource path to the directory where the fonts are stored (e.g. "fonts/")
+	 */
+	public ClasspathFontSource(ClassLoader classLoader, String fontDirectoryPath){
+		this.classLoader = classLoader;
+		this.fontDirectoryPath = fontDirectoryPath;
+	}
+	
+	/**
+	 * @return The {@link ClassLoader} to find the font resources with
+	 */
+	public ClassLoader getClassLoader(){
+		return classLoader;
+	}
+	
+	/**
+	 * @return "classpath:" followed by the resource path to the directory where the fonts are stored
+	 */
+	@Override
+	public String getLocation(){
+		return "classpath:" + fontDirectoryPath;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean exists(String path){
+		return classLoader.getResource(fontDirectoryPath + path) != null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Font createFont(int fontFormat, String path) throws IOException, FontFormatException{
+		URL resource = classLoader.getResource(fontDirectoryPath + path);
+		if(resource == null){
+			throw new FileNotFoundException("Failed to find font resource: " + fontDirectoryPath + path);
+		}
+		
+		// Fonts read from a stream get copied to a temporary file first, so read unpacked resources directly
+		if("file".equals(resource.getProtocol())){
+			try{
+				return Font.createFont(fontFormat, new File(resource.toURI()));
+			}catch(URISyntaxException e){
+				// Fall back to reading it as a stream
+			}
+		}
+		try(InputStream stream = resource.openStream()){
+			return Font.createFont(fontFormat, stream);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.github.tadukoo.view.font;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * File Font Source is a {@link FontSource} for font files in a directory on disk. This is the {@link FontSource}
+ * used by a {@link FontResourceLoader} when it's given a font directory path.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class FileFontSource implements FontSource{
+	/** The path to the directory where the fonts are stored */
+	private final String fontDirectoryPath;
+	
+	/**
+	 * Constructs a new File Font Source for the given directory
+	 *
+	 * @param fontDirectoryPath The path to the directory where the fonts are stored
+	 */
+	public FileFontSource(String fontDirectoryPath){
+		this.fontDirectoryPath = fontDirectoryPath;
+	}
+	
+	/**
+	 * @return The path to the directory where the fonts are stored
+	 */
+	@Override
+	public String getLocation(){
+		return fontDirectoryPath;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean exists(String path){
+		return new File(fontDirectoryPath + path).exists();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Font createFont(int fontFormat, String path) throws IOException, FontFormatException{
+		return Font.createFont(fontFormat, new File(fontDirectoryPath + path));
+	}
+}
@@ -1,9 +1,16 @@
 package com.github.tadukoo.view.font;
 
 import com.github.tadukoo.util.ListUtil;
-import com.github.tadukoo.util.StringUtil;
 
 import java.awt.Font;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Contains an enumeration of {@link FontFamily FontFamilies} supported via use of the Tadukoo Fonts project.
@@ -11,7 +18,7 @@ import java.awt.Font;
  * in case the host does not have the proprietary font), and a collection of open source fonts.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2
+ * @version Alpha v.0.3.4
  */
 public enum FontFamilies implements FontConstants{
 	/*
@@ -130,6 +137,34 @@ public enum FontFamilies implements FontConstants{
 	
 	;
 	
+	/** The enumerations, keyed by the lowercase names of their families and their own lowercase names */
+	private static final Map<String, FontFamilies> byName = new HashMap<>();
+	/** The alternate chain of each enumeration (itself, followed by its alternate, its alternate's alternate, etc.) */
+	private static final Map<FontFamilies, List<FontFamilies>> alternateChains = new EnumMap<>(FontFamilies.class);
+	
+	static{
+		// Index the family names first, so that they take priority over the enum names
+		Map<FontFamily, FontFamilies> byFamily = new IdentityHashMap<>();
+		for(FontFamilies family: values()){
+			byName.putIfAbsent(key(family.getFamily().getName()), family);
+			byFamily.put(family.getFamily(), family);
+		}
+		for(FontFamilies family: values()){
+			byName.putIfAbsent(key(family.name()), family);
+		}
+		
+		// Follow the alternates of each family
+		for(FontFamilies family: values()){
+			List<FontFamilies> chain = new ArrayList<>();
+			FontFamilies current = family;
+			while(current != null && !chain.contains(current)){
+				chain.add(current);
+				current = byFamily.get(current.getFamily().getAlternate());
+			}
+			alternateChains.put(family, Collections.unmodifiableList(chain));
+		}
+	}
+	
 	/** The {@link FontFamily} contained in this enum value */
 	private final FontFamily family;
 	
@@ -142,6 +177,14 @@ public enum FontFamilies implements FontConstants{
 		this.family = family;
 	}
 	
+	/**
+	 * @param name A font family or enum name
+	 * @return The key used for the name in the index
+	 */
+	private static String key(String name){
+		return name.toLowerCase(Locale.ROOT);
+	}
+	
 	/**
 	 * @return The {@link FontFamily} contained in this enum value
 	 */
@@ -150,17 +193,21 @@ public enum FontFamilies implements FontConstants{
 	}
 	
 	/**
-	 * Grab a FontFamily from the enumeration matching the given name
+	 * @return This enumeration followed by its alternate, its alternate's alternate, etc. (e.g. ARIAL, ARIMO)
+	 */
+	public List<FontFamilies> getAlternateChain(){
+		return alternateChains.get(this);
+	}
+	
+	/**
+	 * Grab a FontFamily from the enumeration matching the given name (ignoring case). The name may be the name of
+	 * the {@link FontFamily} (e.g. "Courier New") or of the enumeration itself (e.g. "COURIER_NEW"). This uses a
+	 * precomputed index, so it doesn't need to check every enumeration.
 	 *
 	 * @param name The name of the {@link FontFamily} to find
 	 * @return The found FontFamily enumeration, or null if none was found
 	 */
 	public static FontFamilies fromName(String name){
-		for(FontFamilies family: values()){
-			if(StringUtil.equalsIgnoreCase(family.getFamily().getName(), name)){
-				return family;
-			}
-		}
-		return null;
+		return name != null?byName.get(key(name)):null;
 	}
 }
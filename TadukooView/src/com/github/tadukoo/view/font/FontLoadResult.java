@@ -0,0 +1,83 @@
+package com.github.tadukoo.view.font;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Font Load Result holds the results of {@link FontResourceLoader#loadFontsInParallel loading} a collection of
+ * {@link FontFamily Font Families}: the names of the fonts to be used, along with how long each font file took to
+ * be parsed and how long the whole load took.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class FontLoadResult{
+	/** The fonts to be used (in the same order as the {@link FontFamily Font Families} that were loaded) */
+	private final List<String> fontNames;
+	/** The time (in nanoseconds) it took to parse each font file, keyed by the path to the file */
+	private final Map<String, Long> fileTimings;
+	/** The time (in nanoseconds) the whole load took */
+	private final long elapsedNanos;
+	
+	/**
+	 * Constructs a new Font Load Result with the given parameters
+	 *
+	 * @param fontNames The fonts to be used (in the same order as the {@link FontFamily Font Families} that were
+	 * loaded - will be alternates if applicable, and null for issues)
+	 * @param fileTimings The time (in nanoseconds) it took to parse each font file, keyed by the path to the file
+	 * @param elapsedNanos The time (in nanoseconds) the whole load took
+	 */
+	public FontLoadResult(List<String> fontNames, Map<String, Long> fileTimings, long elapsedNanos){
+		this.fontNames = Collections.unmodifiableList(fontNames);
+		this.fileTimings = Collections.unmodifiableMap(fileTimings);
+		this.elapsedNanos = elapsedNanos;
+	}
+	
+	/**
+	 * @return The fonts to be used (in the same order as the {@link FontFamily Font Families} that were loaded -
+	 * will be alternates if applicable, and null for issues)
+	 */
+	public List<String> getFontNames(){
+		return fontNames;
+	}
+	
+	/**
+	 * @return The time (in nanoseconds) it took to parse each font file, keyed by the path to the file, in the
+	 * order the files were registered in
+	 */
+	public Map<String, Long> getFileTimings(){
+		return fileTimings;
+	}
+	
+	/**
+	 * @return The time (in nanoseconds) the whole load took
+	 */
+	public long getElapsedNanos(){
+		return elapsedNanos;
+	}
+	
+	/**
+	 * @return The time (in nanoseconds) it took to parse the slowest font file (0 if no files were parsed)
+	 */
+	public long getSlowestFileNanos(){
+		long slowest = 0;
+		for(long nanos: fileTimings.values()){
+			slowest = Math.max(slowest, nanos);
+		}
+		return slowest;
+	}
+	
+	/**
+	 * @return The total time (in nanoseconds) spent parsing font files, which is roughly how long the load would
+	 * take if the files were parsed one at a time
+	 */
+	public long getTotalFileNanos(){
+		long total = 0;
+		for(long nanos: fileTimings.values()){
+			total += nanos;
+		}
+		return total;
+	}
+}
@@ -0,0 +1,139 @@
+package com.github.tadukoo.view.font;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Font Registry is a thread-safe, process-wide cache of {@link FontFamily Font Families} that have been loaded with
+ * a {@link FontResourceLoader}. Loading a font calls {@link GraphicsEnvironment#getAvailableFontFamilyNames()},
+ * which is very slow, and may create and register the font files again, so the registry only loads each
+ * {@link FontFamily} once (per {@link GraphicsEnvironment} and font directory) and remembers the resulting font
+ * name. The {@link Font} objects themselves are also shared per font name, style, and size.
+ * <br><br>
+ * The component builders use the {@link #getSharedRegistry() shared registry} when no {@link FontResourceLoader}
+ * is specified, so building many components with the same font only loads it once.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class FontRegistry{
+	
+	/**
+	 * The key for a resolved font name
+	 *
+	 * @param family The {@link FontFamily} that was loaded
+	 * @param graphEnv The {@link GraphicsEnvironment} it was loaded to
+	 * @param fontDirectoryPath The path to the directory the font files were found in
+	 * @param requireLoadAll Whether all variants needed loaded for the Font Family or not
+	 */
+	private record NameKey(FontFamily family, GraphicsEnvironment graphEnv, String fontDirectoryPath,
+	                       boolean requireLoadAll){ }
+	
+	/**
+	 * The key for a {@link Font}
+	 *
+	 * @param name The name of the font
+	 * @param style The style of the font
+	 * @param size The size of the font
+	 */
+	private record FontKey(String name, int style, int size){ }
+	
+	/** The shared registry used by the component builders */
+	private static final FontRegistry sharedRegistry = new FontRegistry();
+	
+	/** The resolved font names (empty if the font failed to load) */
+	private final Map<NameKey, Optional<String>> names = new ConcurrentHashMap<>();
+	/** The created {@link Font Fonts} */
+	private final Map<FontKey, Font> fonts = new ConcurrentHashMap<>();
+	/** The number of times a {@link FontFamily} has actually been loaded */
+	private int loadCount = 0;
+	
+	/**
+	 * @return The shared Font Registry used by the component builders
+	 */
+	public static FontRegistry getSharedRegistry(){
+		return sharedRegistry;
+	}
+	
+	/**
+	 * Resolves the name of the font to use for the given {@link FontFamily}, loading it with the given
+	 * {@link FontResourceLoader} only if it hasn't been loaded to the same {@link GraphicsEnvironment} and from the
+	 * same font directory before.
+	 *
+	 * @param loader The {@link FontResourceLoader} to load the font with if needed
+	 * @param family The {@link FontFamily} to be loaded
+	 * @param requireLoadAll Whether all variants need loaded for the Font Family or not
+	 * @return The font to be used (will choose alternate if applicable, and return null for issues)
+	 * @throws IOException For file loading problems
+	 * @throws FontFormatException If the Font itself has issues
+	 */
+	public String resolveFontName(FontResourceLoader loader, FontFamily family, boolean requireLoadAll)
+			throws IOException, FontFormatException{
+		NameKey key = new NameKey(family, loader.getGraphEnv(), loader.getFontDirectoryPath(), requireLoadAll);
+		Optional<String> name = names.get(key);
+		if(name == null){
+			// Only one thread loads fonts at a time, so the same family isn't loaded twice
+			synchronized(this){
+				name = names.get(key);
+				if(name == null){
+					name = Optional.ofNullable(loader.loadFont(family, requireLoadAll));
+					names.put(key, name);
+					loadCount++;
+				}
+			}
+		}
+		return name.orElse(null);
+	}
+	
+	/**
+	 * Retrieves the {@link Font} with the given name, style, and size, creating it if it hasn't been created yet
+	 *
+	 * @param name The name of the font (may be null to use the default font)
+	 * @param style The style of the font
+	 * @param size The size of the font
+	 * @return The shared {@link Font}
+	 */
+	public Font getFont(String name, int style, int size){
+		return fonts.computeIfAbsent(new FontKey(name, style, size), key -> new Font(name, style, size));
+	}
+	
+	/**
+	 * Retrieves the {@link Font} for the given {@link FontFamily}, style, and size,
+	 * {@link #resolveFontName resolving} the font name first (which requires all variants to be loaded)
+	 *
+	 * @param loader The {@link FontResourceLoader} to load the font with if needed
+	 * @param family The {@link FontFamily} of the font
+	 * @param style The style of the font
+	 * @param size The size of the font
+	 * @return The shared {@link Font}
+	 * @throws IOException For file loading problems
+	 * @throws FontFormatException If the Font itself has issues
+	 */
+	public Font getFont(FontResourceLoader loader, FontFamily family, int style, int size)
+			throws IOException, FontFormatException{
+		return getFont(resolveFontName(loader, family, true), style, size);
+	}
+	
+	/**
+	 * @return The number of times a {@link FontFamily} has actually been loaded by this registry
+	 */
+	public synchronized int getLoadCount(){
+		return loadCount;
+	}
+	
+	/**
+	 * Forgets all the resolved font names and created {@link Font Fonts}, so that fonts are loaded again the next
+	 * time they're asked for
+	 */
+	public synchronized void clear(){
+		names.clear();
+		fonts.clear();
+		loadCount = 0;
+	}
+}
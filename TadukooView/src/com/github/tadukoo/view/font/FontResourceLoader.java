@@ -7,27 +7,81 @@ import com.github.tadukoo.util.logger.EasyLogger;
 import java.awt.Font;
 import java.awt.FontFormatException;
 import java.awt.GraphicsEnvironment;
-import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 
 /**
- * Font Resource Loader is used to load {@link FontFamily Font Families}.
+ * Font Resource Loader is used to load {@link FontFamily Font Families}. Checking whether a font family is already
+ * installed uses the {@link InstalledFontFamilies} index of the {@link GraphicsEnvironment}, which is kept up to
+ * date as fonts are registered here. Font files are read from a {@link FontSource}, which is a directory on disk
+ * by default, but can also be the classpath, a zip or jar file, or memory-mapped files. Multiple Font Families can
+ * also be {@link #loadFontsInParallel(List, boolean) loaded in parallel}, which parses their font files at the same
+ * time.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class FontResourceLoader implements FontConstants{
+	
+	/**
+	 * What needs to be done to load a {@link FontFamily}
+	 *
+	 * @param installedName The name of the installed font to use (null if a font needs to be loaded)
+	 * @param fontToUse The {@link FontFamily} (actual or alternate) whose files need to be loaded
+	 * @param fontFiles The paths to the supported font files that were found for the {@link FontFamily} in the
+	 * {@link FontSource}
+	 * @param foundAllFontFiles Whether all the font files of the {@link FontFamily} were found and supported
+	 */
+	private record LoadPlan(String installedName, FontFamily fontToUse, List<String> fontFiles,
+	                        boolean foundAllFontFiles){
+		
+		/**
+		 * @param requireLoadAll Whether all variants need loaded for the Font Family or not
+		 * @return The name of the font we loaded if we loaded all or at least one if not all are required, or null
+		 * (which happens from getting unsupported font formats or missing files)
+		 */
+		private String getResult(boolean requireLoadAll){
+			if(foundAllFontFiles || (!requireLoadAll && !fontFiles.isEmpty())){
+				return fontToUse.getName();
+			}else{
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * A parsed font file
+	 *
+	 * @param font The {@link Font} that was parsed
+	 * @param nanos The time (in nanoseconds) it took to parse the file
+	 */
+	private record ParsedFont(Font font, long nanos){ }
+	
+	/** The default {@link Executor} used to parse font files in parallel (threads are only kept while in use) */
+	private static final Executor defaultExecutor = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "Tadukoo Font Loader");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
 	/** Whether to log warnings or not about unsupported font formats */
 	private final boolean logWarnings;
 	/** The {@link EasyLogger} to use in logging any problems */
 	private final EasyLogger logger;
 	/** The {@link GraphicsEnvironment} to use for the {@link Font}s */
 	private final GraphicsEnvironment graphEnv;
-	/** The path to the directory where the fonts are stored */
-	private final String fontDirectoryPath;
+	/** The {@link FontSource} to read the font files from */
+	private final FontSource fontSource;
 	
 	/**
 	 * Constructs a new FontResourceLoader with the given {@link EasyLogger}, {@link GraphicsEnvironment}, and
@@ -40,10 +94,25 @@ public class FontResourceLoader implements FontConstants{
 	 */
 	public FontResourceLoader(boolean logWarnings, EasyLogger logger, GraphicsEnvironment graphEnv,
 	                          String fontDirectoryPath){
+		this(logWarnings, logger, graphEnv, new FileFontSource(fontDirectoryPath));
+	}
+	
+	/**
+	 * Constructs a new FontResourceLoader with the given {@link EasyLogger}, {@link GraphicsEnvironment}, and
+	 * {@link FontSource} to read the font files from (e.g. a {@link ClasspathFontSource} to read them from the
+	 * application jar)
+	 *
+	 * @param logWarnings Whether to log warnings or not about unsupported font formats
+	 * @param logger The {@link EasyLogger} to use in logging any problems - may be null if logWarnings = false
+	 * @param graphEnv The {@link GraphicsEnvironment} to use for the {@link Font}s
+	 * @param fontSource The {@link FontSource} to read the font files from
+	 */
+	public FontResourceLoader(boolean logWarnings, EasyLogger logger, GraphicsEnvironment graphEnv,
+	                          FontSource fontSource){
 		this.logWarnings = logWarnings;
 		this.logger = logger;
 		this.graphEnv = graphEnv;
-		this.fontDirectoryPath = fontDirectoryPath;
+		this.fontSource = fontSource;
 	}
 	
 	/**
@@ -68,10 +137,18 @@ public class FontResourceLoader implements FontConstants{
 	}
 	
 	/**
-	 * @return The path to the directory where the fonts are stored
+	 * @return The path to the directory where the fonts are stored (the {@link FontSource#getLocation() location}
+	 * of the {@link FontSource})
 	 */
 	public String getFontDirectoryPath(){
-		return fontDirectoryPath;
+		return fontSource.getLocation();
+	}
+	
+	/**
+	 * @return The {@link FontSource} to read the font files from
+	 */
+	public FontSource getFontSource(){
+		return fontSource;
 	}
 	
 	/**
@@ -93,6 +170,84 @@ public class FontResourceLoader implements FontConstants{
 		return results;
 	}
 	
+	/**
+	 * Loads a collection of {@link FontFamily Font Families}, parsing all of their font files at the same time on
+	 * the default executor (a shared pool of daemon threads). See
+	 * {@link #loadFontsInParallel(List, boolean, Executor)} for more details.
+	 *
+	 * @param fonts The list of {@link FontFamily Font Families} to be loaded
+	 * @param requireLoadAll Whether all variants need loaded for each Font Family or not
+	 * @return A {@link FontLoadResult} with the fonts to be used (will choose alternates if applicable, and return
+	 * nulls for issues) and how long each font file took to parse
+	 * @throws IOException For file loading problems
+	 * @throws FontFormatException If the Fonts themselves have issues
+	 */
+	public FontLoadResult loadFontsInParallel(List<FontFamily> fonts, boolean requireLoadAll)
+			throws IOException, FontFormatException{
+		return loadFontsInParallel(fonts, requireLoadAll, defaultExecutor);
+	}
+	
+	/**
+	 * Loads a collection of {@link FontFamily Font Families}, parsing all of their font files at the same time on
+	 * the given {@link Executor}, so the load takes about as long as the slowest file instead of the sum of them.
+	 * The parsed fonts are still registered one at a time, in the same order {@link #loadFonts(List, boolean)}
+	 * would register them, and the resulting font names are the same as it would return. If multiple Font Families
+	 * need the same font loaded (e.g. Arial and Helvetica both use Arimo), its files are only parsed once.
+	 *
+	 * @param fonts The list of {@link FontFamily Font Families} to be loaded
+	 * @param requireLoadAll Whether all variants need loaded for each Font Family or not
+	 * @param executor The {@link Executor} to parse the font files on
+	 * @return A {@link FontLoadResult} with the fonts to be used (will choose alternates if applicable, and return
+	 * nulls for issues) and how long each font file took to parse
+	 * @throws IOException For file loading problems
+	 * @throws FontFormatException If the Fonts themselves have issues
+	 */
+	public FontLoadResult loadFontsInParallel(List<FontFamily> fonts, boolean requireLoadAll, Executor executor)
+			throws IOException, FontFormatException{
+		long start = System.nanoTime();
+		InstalledFontFamilies installedFamilies = InstalledFontFamilies.of(graphEnv);
+		
+		// Plan every load first, and start parsing all the font files that need loaded
+		List<LoadPlan> plans = new ArrayList<>();
+		Map<FontFamily, List<FutureTask<ParsedFont>>> parsing = new IdentityHashMap<>();
+		for(FontFamily font: fonts){
+			LoadPlan plan = planLoad(font, installedFamilies);
+			plans.add(plan);
+			if(plan.installedName() == null && !parsing.containsKey(plan.fontToUse())){
+				List<FutureTask<ParsedFont>> tasks = new ArrayList<>();
+				for(String fontFile: plan.fontFiles()){
+					FutureTask<ParsedFont> task = new FutureTask<>(() -> parseFont(fontFile));
+					executor.execute(task);
+					tasks.add(task);
+				}
+				parsing.put(plan.fontToUse(), tasks);
+			}
+		}
+		
+		// Register the parsed fonts in order and grab the resulting font names
+		List<String> results = new ArrayList<>();
+		Map<String, Long> fileTimings = new LinkedHashMap<>();
+		for(LoadPlan plan: plans){
+			if(plan.installedName() != null){
+				results.add(plan.installedName());
+				continue;
+			}
+			
+			// Tasks are removed once registered, so shared fonts are only registered once
+			List<FutureTask<ParsedFont>> tasks = parsing.remove(plan.fontToUse());
+			if(tasks != null){
+				List<String> fontFiles = plan.fontFiles();
+				for(int i = 0; i < tasks.size(); i++){
+					ParsedFont parsedFont = awaitParsedFont(tasks.get(i));
+					registerFont(parsedFont.font(), installedFamilies);
+					fileTimings.put(fontSource.getLocation() + fontFiles.get(i), parsedFont.nanos());
+				}
+			}
+			results.add(plan.getResult(requireLoadAll));
+		}
+		return new FontLoadResult(results, fileTimings, System.nanoTime() - start);
+	}
+	
 	/**
 	 * Loads a single {@link FontFamily}. If an alternate is specified and we can't find the given font, the
 	 * alternate will be loaded and its name returned as a string. If we fail to load the font, a null will be
@@ -105,71 +260,163 @@ public class FontResourceLoader implements FontConstants{
 	 * @throws FontFormatException If the Font itself has issues
 	 */
 	public String loadFont(FontFamily font, boolean requireLoadAll) throws IOException, FontFormatException{
-		// Grab alternate font name if it exists
-		boolean hasAlternate = font.getAlternate() != null;
-		String alternate = hasAlternate?font.getAlternate().getName():null;
-		boolean alternateFound = false;
+		InstalledFontFamilies installedFamilies = InstalledFontFamilies.of(graphEnv);
+		LoadPlan plan = planLoad(font, installedFamilies);
+		if(plan.installedName() != null){
+			return plan.installedName();
+		}
 		
-		// Check if font family already exists
-		String[] fontFamilies = graphEnv.getAvailableFontFamilyNames();
-		for(String fontFamily: fontFamilies){
-			if(StringUtil.equalsIgnoreCase(font.getName(), fontFamily)){
-				return font.getName();
-			}else if(hasAlternate && StringUtil.equalsIgnoreCase(alternate, fontFamily)){
-				// If alternate exists (and not the main font), we will be using it instead
-				alternateFound = true;
+		// Load and register the fonts
+		for(String fontFile: plan.fontFiles()){
+			registerFont(parseFont(fontFile).font(), installedFamilies);
+		}
+		return plan.getResult(requireLoadAll);
+	}
+	
+	/**
+	 * Finds the alternate chain of the {@link FontFamily}: the family itself, followed by its alternate, its
+	 * alternate's alternate, etc. The precomputed {@link FontFamilies#getAlternateChain() chain} is used for the
+	 * {@link FontFamilies} enumerations.
+	 *
+	 * @param font The {@link FontFamily} to find the alternate chain of
+	 * @return The alternate chain of the {@link FontFamily}
+	 */
+	private static List<FontFamily> getAlternateChain(FontFamily font){
+		List<FontFamily> chain = new ArrayList<>();
+		FontFamily current = font;
+		while(current != null){
+			FontFamilies knownFamily = FontFamilies.fromName(current.getName());
+			if(knownFamily != null && knownFamily.getFamily() == current){
+				for(FontFamilies family: knownFamily.getAlternateChain()){
+					chain.add(family.getFamily());
+				}
+				return chain;
 			}
+			chain.add(current);
+			current = current.getAlternate();
 		}
-		
-		// If we found the alternate, return it (will not be hit if alternate is null)
-		if(alternateFound){
-			return alternate;
+		return chain;
+	}
+	
+	/**
+	 * Figures out what needs to be done to load a single {@link FontFamily}: either it (or one of its alternates) is
+	 * already installed, or the files of the last font in its {@link #getAlternateChain(FontFamily) alternate chain}
+	 * need to be loaded.
+	 *
+	 * @param font The {@link FontFamily} to be loaded
+	 * @param installedFamilies The {@link InstalledFontFamilies} of the {@link GraphicsEnvironment}
+	 * @return The {@link LoadPlan} for the {@link FontFamily}
+	 */
+	private LoadPlan planLoad(FontFamily font, InstalledFontFamilies installedFamilies){
+		// Use the first font family in the alternate chain that's already installed
+		List<FontFamily> alternateChain = getAlternateChain(font);
+		for(FontFamily family: alternateChain){
+			if(installedFamilies.contains(family.getName())){
+				return new LoadPlan(family.getName(), null, null, true);
+			}
 		}
 		
-		// Load actual or alternate font and return its name
-		boolean loadedAFontFile = false;
-		boolean loadedAllFontFiles = true;
-		FontFamily fontToUse = hasAlternate?font.getAlternate():font;
-		String fontFamilyPath = fontDirectoryPath + fontToUse.getDirectory();
+		// Find the files of the actual or alternate font
+		boolean foundAllFontFiles = true;
+		List<String> fontFiles = new ArrayList<>();
+		FontFamily fontToUse = alternateChain.get(alternateChain.size() - 1);
+		String fontFamilyPath = fontSource.getLocation() + fontToUse.getDirectory();
 		for(String fontFileName: fontToUse.getFiles()){
 			// Determine the font format based on the extension
 			String extension = FileUtil.getFileExtension(fontFileName);
-			int fontFormat;
-			if(StringUtil.equalsIgnoreCase(extension, TTF)){
-				fontFormat = Font.TRUETYPE_FONT;
-			}else if(StringUtil.equalsIgnoreCase(extension, OTF)){
+			if(StringUtil.equalsIgnoreCase(extension, OTF)){
 				// TODO: Find a way to support OpenType format
 				if(logWarnings){
 					logger.logWarning("Failed to load font at: " + fontFamilyPath + fontFileName +
 							"\nFont Format: OpenType Format not supported");
 				}
-				loadedAllFontFiles = false;
+				foundAllFontFiles = false;
 				continue;
-			}else{
+			}else if(!StringUtil.equalsIgnoreCase(extension, TTF)){
 				if(logWarnings){
 					logger.logWarning("Failed to load font at: " + fontFamilyPath + fontFileName +
 							"\nFont Format: Unknown Format not supported");
 				}
-				loadedAllFontFiles = false;
+				foundAllFontFiles = false;
 				continue;
 			}
 			
-			// Load and register the font
-			File fontFile = new File(fontFamilyPath + fontFileName);
-			if(fontFile.exists()){
-				graphEnv.registerFont(Font.createFont(fontFormat, fontFile));
-				loadedAFontFile = true;
+			String fontFile = fontToUse.getDirectory() + fontFileName;
+			if(fontSource.exists(fontFile)){
+				fontFiles.add(fontFile);
 			}else{
-				loadedAllFontFiles = false;
+				foundAllFontFiles = false;
 			}
 		}
-		
-		// Return the name of the font we loaded if we loaded all or at least one if not all are required
-		if(loadedAllFontFiles || (!requireLoadAll && loadedAFontFile)){
-			return fontToUse.getName();
-		}else{
-			// Hitting this happens from getting unsupported font formats (which are logged above)
-			return null;
+		return new LoadPlan(null, fontToUse, fontFiles, foundAllFontFiles);
+	}
+	
+	/**
+	 * Parses a TrueType font file from the {@link FontSource}, timing how long it takes
+	 *
+	 * @param fontFile The path to the font file in the {@link FontSource}
+	 * @return The {@link ParsedFont}
+	 * @throws IOException For file loading problems
+	 * @throws FontFormatException If the Font itself has issues
+	 */
+	private ParsedFont parseFont(String fontFile) throws IOException, FontFormatException{
+		long start = System.nanoTime();
+		Font font = fontSource.createFont(Font.TRUETYPE_FONT, fontFile);
+		return new ParsedFont(font, System.nanoTime() - start);
+	}
+	
+	/**
+	 * Waits for a font file to finish being parsed, rethrowing any problems that happened while parsing it
+	 *
+	 * @param task The task parsing the font file
+	 * @return The {@link ParsedFont}
+	 * @throws IOException For file loading problems (or if interrupted while waiting)
+	 * @throws FontFormatException If the Font itself has issues
+	 */
+	private static ParsedFont awaitParsedFont(FutureTask<ParsedFont> task) throws IOException, FontFormatException{
+		try{
+			return task.get();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a font to be parsed");
+		}catch(ExecutionException e){
+			Throwable cause = e.getCause();
+			if(cause instanceof IOException ioException){
+				throw ioException;
+			}else if(cause instanceof FontFormatException fontFormatException){
+				throw fontFormatException;
+			}else if(cause instanceof RuntimeException runtimeException){
+				throw runtimeException;
+			}else if(cause instanceof Error error){
+				throw error;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+	
+	/**
+	 * Registers a loaded {@link Font} with the {@link GraphicsEnvironment}, adding its family to the index of
+	 * installed font families if it's available afterwards. Registering fails when a font with the same name is
+	 * already available, in which case its family is still installed.
+	 *
+	 * @param font The {@link Font} to be registered
+	 * @param installedFamilies The {@link InstalledFontFamilies} of the {@link GraphicsEnvironment}
+	 */
+	private void registerFont(Font font, InstalledFontFamilies installedFamilies){
+		String family = font.getFamily();
+		if(graphEnv.registerFont(font) || isFamilyAvailable(family)){
+			installedFamilies.add(family);
 		}
 	}
+	
+	/**
+	 * Checks if the font family is available, without listing every available font family. A {@link Font} created
+	 * with the name of a font family that isn't available falls back to {@link Font#DIALOG}.
+	 *
+	 * @param family The name of the font family to check
+	 * @return true if the font family is available
+	 */
+	private static boolean isFamilyAvailable(String family){
+		return StringUtil.equalsIgnoreCase(family, new Font(family, Font.PLAIN, 1).getFamily());
+	}
 }
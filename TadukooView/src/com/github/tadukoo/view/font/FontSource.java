@@ -0,0 +1,47 @@
+package com.github.tadukoo.view.font;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.io.IOException;
+
+/**
+ * Font Source is where a {@link FontResourceLoader} reads font files from. Paths given to a Font Source are
+ * relative to it, made of a {@link FontFamily#getDirectory() Font Family directory} and a font file name.
+ * <br><br>
+ * The available Font Sources are:
+ * <ul>
+ *     <li>{@link FileFontSource} - font files in a directory on disk (the default)</li>
+ *     <li>{@link ClasspathFontSource} - font files bundled as classpath resources (e.g. in the application jar)</li>
+ *     <li>{@link ZipFontSource} - font files in a zip or jar file</li>
+ *     <li>{@link MappedFileFontSource} - font files on disk, read through memory-mapped buffers</li>
+ * </ul>
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public interface FontSource{
+	
+	/**
+	 * @return A description of where this Font Source reads fonts from - Font Sources with the same location read
+	 * the same fonts
+	 */
+	String getLocation();
+	
+	/**
+	 * @param path The path to a font file in this Font Source
+	 * @return Whether the font file exists in this Font Source
+	 */
+	boolean exists(String path);
+	
+	/**
+	 * Creates a {@link Font} from a font file in this Font Source
+	 *
+	 * @param fontFormat The format of the font file (e.g. {@link Font#TRUETYPE_FONT})
+	 * @param path The path to the font file in this Font Source
+	 * @return The created {@link Font}
+	 * @throws IOException For file loading problems
+	 * @throws FontFormatException If the Font itself has issues
+	 */
+	Font createFont(int fontFormat, String path) throws IOException, FontFormatException;
+}
@@ -0,0 +1,136 @@
+package com.github.tadukoo.view.font;
+
+import java.awt.GraphicsEnvironment;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Installed Font Families is a case-insensitive index of the font family names available in a
+ * {@link GraphicsEnvironment}. {@link GraphicsEnvironment#getAvailableFontFamilyNames()} is very slow and returns
+ * an array that would otherwise need to be scanned on every lookup, so the index is only built once per
+ * {@link GraphicsEnvironment}, and is then only updated when a font is registered through a
+ * {@link FontResourceLoader} (or {@link #refresh() refreshed} explicitly).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class InstalledFontFamilies{
+	/** The indexes for each {@link GraphicsEnvironment} */
+	private static final Map<GraphicsEnvironment, InstalledFontFamilies> indexes = new WeakHashMap<>();
+	
+	/**
+	 * The {@link GraphicsEnvironment} the font families are installed in - weakly referenced, since it's the key
+	 * this index is stored under
+	 */
+	private final WeakReference<GraphicsEnvironment> graphEnv;
+	/** The installed font family names, keyed by their lowercase names */
+	private volatile Map<String, String> names;
+	/** The number of times the index has been built from the {@link GraphicsEnvironment} */
+	private int refreshCount = 0;
+	
+	/**
+	 * Constructs a new Installed Font Families index for the given {@link GraphicsEnvironment}, building it right
+	 * away
+	 *
+	 * @param graphEnv The {@link GraphicsEnvironment} the font families are installed in
+	 */
+	private InstalledFontFamilies(GraphicsEnvironment graphEnv){
+		this.graphEnv = new WeakReference<>(graphEnv);
+		refresh();
+	}
+	
+	/**
+	 * Retrieves the index of installed font families for the given {@link GraphicsEnvironment}, building it if it
+	 * hasn't been built yet
+	 *
+	 * @param graphEnv The {@link GraphicsEnvironment} to get the installed font families of
+	 * @return The Installed Font Families index for the {@link GraphicsEnvironment}
+	 */
+	public static InstalledFontFamilies of(GraphicsEnvironment graphEnv){
+		synchronized(indexes){
+			return indexes.computeIfAbsent(graphEnv, InstalledFontFamilies::new);
+		}
+	}
+	
+	/**
+	 * @param name A font family name
+	 * @return The key used for the name in the index
+	 */
+	private static String key(String name){
+		return name.toLowerCase(Locale.ROOT);
+	}
+	
+	/**
+	 * @return The {@link GraphicsEnvironment} the font families are installed in
+	 */
+	public GraphicsEnvironment getGraphEnv(){
+		return graphEnv.get();
+	}
+	
+	/**
+	 * Checks if a font family with the given name (ignoring case) is installed
+	 *
+	 * @param name The font family name to check for
+	 * @return true if the font family is installed
+	 */
+	public boolean contains(String name){
+		return name != null && names.containsKey(key(name));
+	}
+	
+	/**
+	 * Finds the installed name of the font family with the given name (ignoring case)
+	 *
+	 * @param name The font family name to look for
+	 * @return The name the font family is installed under, or null if it isn't installed
+	 */
+	public String getInstalledName(String name){
+		return name != null?names.get(key(name)):null;
+	}
+	
+	/**
+	 * @return The number of installed font families
+	 */
+	public int size(){
+		return names.size();
+	}
+	
+	/**
+	 * Adds a newly registered font family to the index
+	 *
+	 * @param name The name of the font family that was registered
+	 */
+	public synchronized void add(String name){
+		if(name != null && !contains(name)){
+			Map<String, String> newNames = new HashMap<>(names);
+			newNames.put(key(name), name);
+			names = Collections.unmodifiableMap(newNames);
+		}
+	}
+	
+	/**
+	 * Rebuilds the index from the {@link GraphicsEnvironment}, which is needed if fonts are registered with it
+	 * directly instead of through a {@link FontResourceLoader}
+	 */
+	public synchronized void refresh(){
+		GraphicsEnvironment graphEnv = this.graphEnv.get();
+		String[] fontFamilies = graphEnv != null?graphEnv.getAvailableFontFamilyNames():new String[0];
+		Map<String, String> newNames = new HashMap<>(fontFamilies.length * 2);
+		for(String fontFamily: fontFamilies){
+			newNames.putIfAbsent(key(fontFamily), fontFamily);
+		}
+		names = Collections.unmodifiableMap(newNames);
+		refreshCount++;
+	}
+	
+	/**
+	 * @return The number of times the index has been built from the {@link GraphicsEnvironment}
+	 */
+	public synchronized int getRefreshCount(){
+		return refreshCount;
+	}
+}
@@ -0,0 +1,103 @@
+package com.github.tadukoo.view.font;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Mapped File Font Source is a {@link FontSource} for font files in a directory on disk, which reads each file
+ * through a memory-mapped {@link FileChannel} buffer instead of a plain stream. Note that {@link Font} can only
+ * create fonts from a {@link File} or an {@link InputStream}, and copies streams to a temporary file first, so this
+ * is mostly useful when the font files are on a file system that's slow to read through a plain stream.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class MappedFileFontSource implements FontSource{
+	
+	/**
+	 * An {@link InputStream} that reads from a {@link ByteBuffer}
+	 */
+	private static class ByteBufferInputStream extends InputStream{
+		/** The {@link ByteBuffer} to read from */
+		private final ByteBuffer buffer;
+		
+		/**
+		 * Constructs a new Byte Buffer Input Stream reading from the given {@link ByteBuffer}
+		 *
+		 * @param buffer The {@link ByteBuffer} to read from
+		 */
+		private ByteBufferInputStream(ByteBuffer buffer){
+			this.buffer = buffer;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int read(){
+			return buffer.hasRemaining()?buffer.get() & 0xFF:-1;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int read(byte[] bytes, int offset, int length){
+			if(length == 0){
+				return 0;
+			}else if(!buffer.hasRemaining()){
+				return -1;
+			}
+			int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int available(){
+			return buffer.remaining();
+		}
+	}
+	
+	/** The path to the directory where the fonts are stored */
+	private final String fontDirectoryPath;
+	
+	/**
+	 * Constructs a new Mapped File Font Source for the given directory
+	 *
+	 * @param fontDirectoryPath The path to the directory where the fonts are stored
+	 */
+	public MappedFileFontSource(String fontDirectoryPath){
+		this.fontDirectoryPath = fontDirectoryPath;
+	}
+	
+	/**
+	 * @return "mapped:" followed by the path to the directory where the fonts are stored
+	 */
+	@Override
+	public String getLocation(){
+		return "mapped:" + fontDirectoryPath;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean exists(String path){
+		return new File(fontDirectoryPath + path).exists();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Font createFont(int fontFormat, String path) throws IOException, FontFormatException{
+		MappedByteBuffer buffer;
+		try(FileChannel channel = FileChannel.open(new File(fontDirectoryPath + path).toPath(),
+				StandardOpenOption.READ)){
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		return Font.createFont(fontFormat, new ByteBufferInputStream(buffer));
+	}
+}
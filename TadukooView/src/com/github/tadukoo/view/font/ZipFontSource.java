@@ -0,0 +1,82 @@
+package com.github.tadukoo.view.font;
+
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Zip Font Source is a {@link FontSource} for font files in a zip or jar file, read through a zip
+ * {@link FileSystem} so that they don't need to be unpacked to disk first. The zip file is kept open until this
+ * Font Source is {@link #close() closed}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class ZipFontSource implements FontSource, Closeable{
+	/** The path to the zip or jar file */
+	private final Path zipPath;
+	/** The zip {@link FileSystem} used to read the zip or jar file */
+	private final FileSystem zipFileSystem;
+	/** The path to the directory in the zip or jar file where the fonts are stored (e.g. "fonts/") */
+	private final String fontDirectoryPath;
+	
+	/**
+	 * Constructs a new Zip Font Source for the given zip or jar file and directory within it, opening the file
+	 *
+	 * @param zipPath The path to the zip or jar file
+	 * @param fontDirectoryPath The path to the directory in the zip or jar file where the fonts are stored
+	 * (e.g. "fonts/")
+	 * @throws IOException If the zip or jar file can't be opened
+	 */
+	public ZipFontSource(Path zipPath, String fontDirectoryPath) throws IOException{
+		this.zipPath = zipPath;
+		this.zipFileSystem = FileSystems.newFileSystem(zipPath);
+		this.fontDirectoryPath = fontDirectoryPath;
+	}
+	
+	/**
+	 * @return The path to the zip or jar file
+	 */
+	public Path getZipPath(){
+		return zipPath;
+	}
+	
+	/**
+	 * @return "zip:" followed by the path to the zip or jar file, "!/", and the directory where the fonts are stored
+	 */
+	@Override
+	public String getLocation(){
+		return "zip:" + zipPath.toAbsolutePath() + "!/" + fontDirectoryPath;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean exists(String path){
+		return Files.exists(zipFileSystem.getPath(fontDirectoryPath + path));
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Font createFont(int fontFormat, String path) throws IOException, FontFormatException{
+		try(InputStream stream = Files.newInputStream(zipFileSystem.getPath(fontDirectoryPath + path))){
+			return Font.createFont(fontFormat, stream);
+		}
+	}
+	
+	/**
+	 * Closes the zip or jar file
+	 *
+	 * @throws IOException If closing the file fails
+	 */
+	@Override
+	public void close() throws IOException{
+		zipFileSystem.close();
+	}
+}
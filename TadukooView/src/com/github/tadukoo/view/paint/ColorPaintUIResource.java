@@ -5,6 +5,7 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Paint;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -14,10 +15,12 @@ import java.util.List;
  * {@link ColorUIResource}.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class ColorPaintUIResource extends ColorUIResource implements PaintUIResource{
+	/** The list that Metal Look and Feel expects for gradients (null until first asked for) */
+	private transient volatile List<Object> metalGradientList;
 	
 	/**
 	 * Create a ColorPaintUIResource using a {@link ColorUIResource}.
@@ -79,6 +82,18 @@ public class ColorPaintUIResource extends ColorUIResource implements PaintUIReso
 		return this;
 	}
 	
+	/**
+	 * Returns this as the Paint, since it's an extension of {@link Color}.
+	 *
+	 * @param width The width of the object to be painted
+	 * @param height The height of the object to be painted
+	 * @return this
+	 */
+	@Override
+	public Paint getPaint(int width, int height){
+		return this;
+	}
+	
 	/**
 	 * @return this
 	 */
@@ -88,12 +103,18 @@ public class ColorPaintUIResource extends ColorUIResource implements PaintUIReso
 	}
 	
 	/**
-	 * @return A {@code List<Object>} for use in Metal gradients that will produce a solid color
+	 * @return A {@code List<Object>} for use in Metal gradients that will produce a solid color (only created the
+	 * first time it's asked for, with the same unmodifiable list returned after)
 	 */
 	@Override
 	public List<Object> getMetalGradientList(){
-		return Arrays.asList(
-				new Object[]{0.33, 0,
-							this, this, this});
+		List<Object> metalGradientList = this.metalGradientList;
+		if(metalGradientList == null){
+			metalGradientList = Collections.unmodifiableList(Arrays.asList(
+					new Object[]{0.33, 0,
+								this, this, this}));
+			this.metalGradientList = metalGradientList;
+		}
+		return metalGradientList;
 	}
 }
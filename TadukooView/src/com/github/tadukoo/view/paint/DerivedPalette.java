@@ -0,0 +1,106 @@
+package com.github.tadukoo.view.paint;
+
+import com.github.tadukoo.view.cache.EvictionPolicy;
+import com.github.tadukoo.view.cache.IntKeyedCache;
+
+import java.awt.Color;
+
+/**
+ * Derived Palette holds the {@link Color Colors} derived from a base color with {@link Color#brighter()} and
+ * {@link Color#darker()}, as used for the default highlights and shadows of the bevel and etched borders. Palettes
+ * are shared through a process-wide cache keyed by the base color's RGB (including alpha), so painting many
+ * components with the same background reuses the same derived colors instead of allocating new ones on every paint.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public final class DerivedPalette{
+	/** The capacity of the shared cache of palettes */
+	public static final int CACHE_CAPACITY = 32;
+	/** The shared cache of palettes, keyed by base RGB */
+	private static final IntKeyedCache<DerivedPalette> cache =
+			new IntKeyedCache<>(CACHE_CAPACITY, EvictionPolicy.LEAST_RECENTLY_USED);
+	
+	/** The base {@link Color} */
+	private final Color base;
+	/** The base {@link Color} made {@link Color#brighter() brighter} once */
+	private final Color brighter;
+	/** The base {@link Color} made {@link Color#brighter() brighter} twice */
+	private final Color brightest;
+	/** The base {@link Color} made {@link Color#darker() darker} once */
+	private final Color darker;
+	/** The base {@link Color} made {@link Color#darker() darker} twice */
+	private final Color darkest;
+	
+	/**
+	 * Creates a new Derived Palette for the given base {@link Color}
+	 *
+	 * @param base The base {@link Color}
+	 */
+	private DerivedPalette(Color base){
+		this.base = base;
+		brighter = base.brighter();
+		brightest = brighter.brighter();
+		darker = base.darker();
+		darkest = darker.darker();
+	}
+	
+	/**
+	 * Retrieves the Derived Palette for the given base {@link Color} from the shared cache, creating it if needed
+	 *
+	 * @param base The base {@link Color}
+	 * @return The Derived Palette for the given {@link Color}
+	 */
+	public static DerivedPalette of(Color base){
+		int rgb = base.getRGB();
+		DerivedPalette palette = cache.get(rgb);
+		if(palette == null){
+			palette = new DerivedPalette(base);
+			cache.put(rgb, palette);
+		}
+		return palette;
+	}
+	
+	/**
+	 * @return The shared cache of palettes, which can be used to check its stats
+	 */
+	public static IntKeyedCache<DerivedPalette> getCache(){
+		return cache;
+	}
+	
+	/**
+	 * @return The base {@link Color}
+	 */
+	public Color getBase(){
+		return base;
+	}
+	
+	/**
+	 * @return The base {@link Color} made {@link Color#brighter() brighter} once
+	 */
+	public Color getBrighter(){
+		return brighter;
+	}
+	
+	/**
+	 * @return The base {@link Color} made {@link Color#brighter() brighter} twice
+	 */
+	public Color getBrightest(){
+		return brightest;
+	}
+	
+	/**
+	 * @return The base {@link Color} made {@link Color#darker() darker} once
+	 */
+	public Color getDarker(){
+		return darker;
+	}
+	
+	/**
+	 * @return The base {@link Color} made {@link Color#darker() darker} twice
+	 */
+	public Color getDarkest(){
+		return darkest;
+	}
+}
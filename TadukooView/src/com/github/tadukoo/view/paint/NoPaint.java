@@ -7,7 +7,7 @@ import java.awt.Paint;
  * No Paint is to be used when you don't actually want a Paint object, but need to specify a non-null value.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  */
 public class NoPaint implements SizablePaint{
 	
@@ -17,6 +17,12 @@ public class NoPaint implements SizablePaint{
 		return null;
 	}
 	
+	/** {@inheritDoc} */
+	@Override
+	public Paint getPaint(int width, int height){
+		return null;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object obj){
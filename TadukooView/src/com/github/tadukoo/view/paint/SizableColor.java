@@ -10,7 +10,7 @@ import java.awt.color.ColorSpace;
  * {@link Color} in {@link #getPaint(Dimension)}.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2.1
+ * @version Alpha v.0.3.4
  */
 public class SizableColor extends Color implements SizablePaint{
 	
@@ -63,4 +63,10 @@ public class SizableColor extends Color implements SizablePaint{
 	public Paint getPaint(Dimension size){
 		return this;
 	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Paint getPaint(int width, int height){
+		return this;
+	}
 }
@@ -8,7 +8,7 @@ import java.awt.Paint;
  * meant to be painted on.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2.1
+ * @version Alpha v.0.3.4
  */
 public interface SizablePaint{
 	
@@ -21,4 +21,18 @@ public interface SizablePaint{
 	 * @return A {@link Paint}
 	 */
 	Paint getPaint(Dimension size);
+	
+	/**
+	 * Creates a {@link Paint} to be used based on the width and height of the object to be painted. This is the
+	 * same as {@link #getPaint(Dimension)}, but doesn't require callers to create a {@link Dimension} first, so it
+	 * should be preferred when painting. The default implementation simply creates the {@link Dimension} -
+	 * implementations should override it if they can avoid that.
+	 *
+	 * @param width The width of the object to be painted
+	 * @param height The height of the object to be painted
+	 * @return A {@link Paint}
+	 */
+	default Paint getPaint(int width, int height){
+		return getPaint(new Dimension(width, height));
+	}
 }
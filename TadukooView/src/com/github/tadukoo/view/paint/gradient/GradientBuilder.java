@@ -1,9 +1,12 @@
 package com.github.tadukoo.view.paint.gradient;
 
 import com.github.tadukoo.util.StringUtil;
+import com.github.tadukoo.view.cache.EvictionPolicy;
+import com.github.tadukoo.view.cache.SizeKeyedCache;
 
 import java.awt.Color;
 import java.awt.MultipleGradientPaint;
+import java.awt.Paint;
 import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,7 +16,7 @@ import java.util.List;
  * specific Gradients, e.g. {@link LinearGradient}.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2.1
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public abstract class GradientBuilder<GradientType extends Gradient>{
@@ -27,6 +30,10 @@ public abstract class GradientBuilder<GradientType extends Gradient>{
 	protected MultipleGradientPaint.ColorSpaceType colorSpace = MultipleGradientPaint.ColorSpaceType.SRGB;
 	/** The {@link AffineTransform} involved in the Gradient */
 	protected AffineTransform gradientTransform = new AffineTransform();
+	/** The maximum number of built Paints (one per size) the Gradient will cache - 0 disables caching */
+	protected int paintCacheCapacity = SizeKeyedCache.DEFAULT_CAPACITY;
+	/** The {@link EvictionPolicy} used by the Gradient's Paint cache when it's full */
+	protected EvictionPolicy paintCacheEvictionPolicy = EvictionPolicy.LEAST_RECENTLY_USED;
 	
 	/**
 	 * Constructs a new GradientBuilder (to be called in subclasses)
@@ -71,6 +78,25 @@ public abstract class GradientBuilder<GradientType extends Gradient>{
 		return this;
 	}
 	
+	/**
+	 * @param paintCacheCapacity The maximum number of built Paints (one per size) the Gradient will cache -
+	 * 0 disables caching
+	 * @return this, to continue building
+	 */
+	public GradientBuilder<GradientType> paintCacheCapacity(int paintCacheCapacity){
+		this.paintCacheCapacity = paintCacheCapacity;
+		return this;
+	}
+	
+	/**
+	 * @param paintCacheEvictionPolicy The {@link EvictionPolicy} used by the Gradient's Paint cache when it's full
+	 * @return this, to continue building
+	 */
+	public GradientBuilder<GradientType> paintCacheEvictionPolicy(EvictionPolicy paintCacheEvictionPolicy){
+		this.paintCacheEvictionPolicy = paintCacheEvictionPolicy;
+		return this;
+	}
+	
 	/**
 	 * Used to verify the given parameters for the Gradient to ensure nothing went wrong.
 	 *
@@ -87,6 +113,14 @@ public abstract class GradientBuilder<GradientType extends Gradient>{
 			errors.add("Must have 2 or more colors/fractions, otherwise it's just a Color!");
 		}
 		
+		if(paintCacheCapacity < 0){
+			errors.add("Can't have a negative paint cache capacity!");
+		}
+		
+		if(paintCacheEvictionPolicy == null){
+			errors.add("Can't have a null paint cache eviction policy!");
+		}
+		
 		// Let the subclass check for errors too
 		errors.addAll(checkForSubclassErrors());
 		
@@ -120,4 +154,13 @@ public abstract class GradientBuilder<GradientType extends Gradient>{
 	 * @return The newly built {@link Gradient}
 	 */
 	protected abstract GradientType buildGradient();
+	
+	/**
+	 * Creates the Paint cache for the Gradient being built, using the specified capacity and eviction policy.
+	 *
+	 * @return A new {@link SizeKeyedCache} for the Gradient's Paints
+	 */
+	protected SizeKeyedCache<Paint> createPaintCache(){
+		return new SizeKeyedCache<>(paintCacheCapacity, paintCacheEvictionPolicy);
+	}
 }
@@ -11,19 +11,25 @@ import java.awt.MultipleGradientPaint;
 import java.awt.Paint;
 import java.awt.geom.AffineTransform;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * GradientUIResource is simply a {@link LinearGradient} wrapped as a {@link PaintUIResource} so that it can be
- * used in Tadukoo Look &amp; Feel (or other custom Look &amp; Feels if desired).
+ * used in Tadukoo Look &amp; Feel (or other custom Look &amp; Feels if desired). The {@link ColorUIResource} and
+ * Metal gradient list derived from the gradient are only created once, the first time they're asked for.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class GradientUIResource implements PaintUIResource, Gradient{
 	/** The {@link Gradient} contained in this Gradient UI resource */
 	private final Gradient gradient;
+	/** The {@link ColorUIResource} made from the first Color in the Gradient (null until first asked for) */
+	private volatile ColorUIResource colorUIResource;
+	/** The list that Metal Look and Feel expects for gradients (null until first asked for) */
+	private volatile List<Object> metalGradientList;
 	
 	/**
 	 * Constructs a Gradient UI Resource using the given {@link Gradient}.
@@ -76,6 +82,19 @@ public class GradientUIResource implements PaintUIResource, Gradient{
 		return gradient.getPaint(size);
 	}
 	
+	/**
+	 * Creates a Paint to be used based on the width and height of the object to be painted. The size is given
+	 * because in the case of Gradients, it determines where the points are placed.
+	 *
+	 * @param width The width of the object to be painted
+	 * @param height The height of the object to be painted
+	 * @return A Paint
+	 */
+	@Override
+	public Paint getPaint(int width, int height){
+		return gradient.getPaint(width, height);
+	}
+	
 	/**
 	 * Makes a ColorUIResource out of the first Color in this Gradient. There are some UI situations where
 	 * we can't avoid using a Color instead of a general Paint if we want to support everything, so we need to
@@ -85,7 +104,12 @@ public class GradientUIResource implements PaintUIResource, Gradient{
 	 */
 	@Override
 	public ColorUIResource getColorUIResource(){
-		return new ColorUIResource(gradient.getColors()[0]);
+		ColorUIResource colorUIResource = this.colorUIResource;
+		if(colorUIResource == null){
+			colorUIResource = new ColorUIResource(gradient.getColors()[0]);
+			this.colorUIResource = colorUIResource;
+		}
+		return colorUIResource;
 	}
 	
 	/**
@@ -103,11 +127,27 @@ public class GradientUIResource implements PaintUIResource, Gradient{
 	 * <br><br>
 	 * If there are only 2 colors, we send color 1, 2, and 2 again. For the fractions, we send fraction 2 as midpoint 1
 	 * and put in 0 for midpoint 2.
+	 * <br><br>
+	 * The list is only created the first time it's asked for, and the same (unmodifiable) list is returned after.
 	 *
 	 * @return The garbage List that Metal Look and Feel expects for gradients that matches best to the one defined here
 	 */
 	@Override
 	public List<Object> getMetalGradientList(){
+		List<Object> metalGradientList = this.metalGradientList;
+		if(metalGradientList == null){
+			metalGradientList = createMetalGradientList();
+			this.metalGradientList = metalGradientList;
+		}
+		return metalGradientList;
+	}
+	
+	/**
+	 * Creates the list for {@link #getMetalGradientList()}
+	 *
+	 * @return The (unmodifiable) list that Metal Look and Feel expects for gradients
+	 */
+	private List<Object> createMetalGradientList(){
 		Color[] colors = gradient.getColors();
 		float[] fractions = gradient.getFractions();
 		float mid2 = fractions.length > 2?fractions[2] - fractions[1]*2:0;
@@ -120,8 +160,8 @@ public class GradientUIResource implements PaintUIResource, Gradient{
 		}else{
 			color3 = new ColorUIResource(colors[1]);
 		}
-		return Arrays.asList(
+		return Collections.unmodifiableList(Arrays.asList(
 				new Object[]{fractions[1], mid2,
-						new ColorUIResource(colors[0]), new ColorUIResource(colors[1]), color3});
+						new ColorUIResource(colors[0]), new ColorUIResource(colors[1]), color3}));
 	}
 }
@@ -2,6 +2,8 @@ package com.github.tadukoo.view.paint.gradient;
 
 import com.github.tadukoo.util.FloatUtil;
 import com.github.tadukoo.util.tuple.Pair;
+import com.github.tadukoo.view.cache.EvictionPolicy;
+import com.github.tadukoo.view.cache.SizeKeyedCache;
 
 import java.awt.Color;
 import java.awt.Dimension;
@@ -18,7 +20,7 @@ import java.util.function.BiFunction;
  * Linear Gradient is used to build a {@link Gradient} object to use for {@link LinearGradientPaint}.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2.1
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class LinearGradient implements Gradient{
@@ -56,6 +58,10 @@ public class LinearGradient implements Gradient{
 	 *              defaults to {@link MultipleGradientPaint.ColorSpaceType#SRGB}</li>
 	 *     <li>{@link #gradientTransform(AffineTransform) gradientTransform} -
 	 *              defaults to new AffineTransform()</li>
+	 *     <li>{@link #paintCacheCapacity(int) paintCacheCapacity} -
+	 *              defaults to {@link SizeKeyedCache#DEFAULT_CAPACITY}</li>
+	 *     <li>{@link #paintCacheEvictionPolicy(EvictionPolicy) paintCacheEvictionPolicy} -
+	 *              defaults to {@link EvictionPolicy#LEAST_RECENTLY_USED}</li>
 	 *     <li>{@link #direction(GradientDirection) direction} -
 	 *              defaults to {@link GradientDirection#HORIZONTAL}</li>
 	 *     <li>{@link #startAndEndPointsFunc(BiFunction) startAndEndPointsFunc} -
@@ -63,7 +69,7 @@ public class LinearGradient implements Gradient{
 	 * </ul>
 	 *
 	 * @author Logan Ferree (Tadukoo)
-	 * @version Alpha v.0.2.1
+	 * @version Alpha v.0.3.4
 	 * @since Alpha v.0.2
 	 */
 	public static class LinearGradientBuilder extends GradientBuilder<LinearGradient>{
@@ -141,6 +147,18 @@ public class LinearGradient implements Gradient{
 			return (LinearGradientBuilder) super.gradientTransform(gradientTransform);
 		}
 		
+		/** {@inheritDoc} */
+		@Override
+		public LinearGradientBuilder paintCacheCapacity(int paintCacheCapacity){
+			return (LinearGradientBuilder) super.paintCacheCapacity(paintCacheCapacity);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public LinearGradientBuilder paintCacheEvictionPolicy(EvictionPolicy paintCacheEvictionPolicy){
+			return (LinearGradientBuilder) super.paintCacheEvictionPolicy(paintCacheEvictionPolicy);
+		}
+		
 		/**
 		 * Checks that {@link #startAndEndPointsFunc} is not null
 		 *
@@ -161,7 +179,8 @@ public class LinearGradient implements Gradient{
 		@Override
 		protected LinearGradient buildGradient(){
 			return new LinearGradient(direction, startAndEndPointsFunc, FloatUtil.convertListToArray(fractions),
-					colors.toArray(new Color[0]), cycleMethod, colorSpace, gradientTransform);
+					colors.toArray(new Color[0]), cycleMethod, colorSpace, gradientTransform,
+					createPaintCache());
 		}
 	}
 	
@@ -180,6 +199,8 @@ public class LinearGradient implements Gradient{
 	protected final MultipleGradientPaint.ColorSpaceType colorSpace;
 	/** The {@link AffineTransform} involved in this LinearGradient */
 	protected final AffineTransform gradientTransform;
+	/** A cache of the Paints built by this LinearGradient, keyed by size */
+	protected final SizeKeyedCache<Paint> paintCache;
 	
 	/**
 	 * Constructs a new Linear Gradient using the given parameters.
@@ -193,13 +214,15 @@ public class LinearGradient implements Gradient{
 	 * @param cycleMethod The {@link MultipleGradientPaint.CycleMethod cycle method} involved in this LinearGradient
 	 * @param colorSpace The {@link MultipleGradientPaint.ColorSpaceType color space} involved in this LinearGradient
 	 * @param gradientTransform The {@link AffineTransform} involved in this LinearGradient
+	 * @param paintCache A cache of the Paints built by this LinearGradient, keyed by size
 	 */
 	private LinearGradient(GradientDirection direction,
 	                       BiFunction<Dimension, GradientDirection, Pair<Point2D, Point2D>> startAndEndPointsFunc,
 	                       float[] fractions, Color[] colors,
 	                       MultipleGradientPaint.CycleMethod cycleMethod,
 	                       MultipleGradientPaint.ColorSpaceType colorSpace,
-	                       AffineTransform gradientTransform){
+	                       AffineTransform gradientTransform,
+	                       SizeKeyedCache<Paint> paintCache){
 		this.direction = direction;
 		this.startAndEndPointsFunc = startAndEndPointsFunc;
 		this.fractions = fractions;
@@ -207,6 +230,7 @@ public class LinearGradient implements Gradient{
 		this.cycleMethod = cycleMethod;
 		this.colorSpace = colorSpace;
 		this.gradientTransform = gradientTransform;
+		this.paintCache = paintCache;
 	}
 	
 	/**
@@ -261,19 +285,51 @@ public class LinearGradient implements Gradient{
 		return startAndEndPointsFunc;
 	}
 	
+	/**
+	 * @return A cache of the Paints built by this LinearGradient, keyed by size
+	 */
+	public SizeKeyedCache<Paint> getPaintCache(){
+		return paintCache;
+	}
+	
 	/**
 	 * Creates a {@link LinearGradientPaint} using the {@link #startAndEndPointsFunc} to determine the start and
-	 * end points, and sending the other parameters as specified.
+	 * end points, and sending the other parameters as specified. The built Paint is cached by size, so asking for
+	 * the same size again will return the same {@link LinearGradientPaint} (while it remains in the cache).
 	 *
 	 * @param size The dimensions of the object the Gradient will go on
-	 * @return A new {@link LinearGradientPaint} using the parameters of this LinearGradient
+	 * @return A {@link LinearGradientPaint} using the parameters of this LinearGradient
 	 */
 	@Override
 	public Paint getPaint(Dimension size){
-		Pair<Point2D, Point2D> startAndEndPoints = startAndEndPointsFunc.apply(size, direction);
+		return getPaint(size.width, size.height);
+	}
+	
+	/**
+	 * Creates a {@link LinearGradientPaint} using the {@link #startAndEndPointsFunc} to determine the start and
+	 * end points, and sending the other parameters as specified. The built Paint is cached by size, so asking for
+	 * the same size again will return the same {@link LinearGradientPaint} (while it remains in the cache) without
+	 * allocating anything.
+	 *
+	 * @param width The width of the object the Gradient will go on
+	 * @param height The height of the object the Gradient will go on
+	 * @return A {@link LinearGradientPaint} using the parameters of this LinearGradient
+	 */
+	@Override
+	public Paint getPaint(int width, int height){
+		// Check if we already built a Paint for this size
+		Paint paint = paintCache.get(width, height);
+		if(paint != null){
+			return paint;
+		}
+		
+		Pair<Point2D, Point2D> startAndEndPoints = startAndEndPointsFunc.apply(new Dimension(width, height),
+				direction);
 		
 		// Construct a new LinearGradientPaint
-		return new LinearGradientPaint(startAndEndPoints.getLeft(), startAndEndPoints.getRight(),
+		paint = new LinearGradientPaint(startAndEndPoints.getLeft(), startAndEndPoints.getRight(),
 				fractions, colors, cycleMethod, colorSpace, gradientTransform);
+		paintCache.put(width, height, paint);
+		return paint;
 	}
 }
@@ -2,6 +2,8 @@ package com.github.tadukoo.view.paint.gradient;
 
 import com.github.tadukoo.util.FloatUtil;
 import com.github.tadukoo.util.tuple.Triple;
+import com.github.tadukoo.view.cache.EvictionPolicy;
+import com.github.tadukoo.view.cache.SizeKeyedCache;
 
 import java.awt.Color;
 import java.awt.Dimension;
@@ -18,7 +20,7 @@ import java.util.function.Function;
  * Linear Gradient is used to build a {@link Gradient} object to use for {@link RadialGradientPaint}.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2.1
+ * @version Alpha v.0.3.4
  * @since Alpha v.0.2
  */
 public class RadialGradient implements Gradient{
@@ -37,12 +39,16 @@ public class RadialGradient implements Gradient{
 	 *              defaults to {@link MultipleGradientPaint.ColorSpaceType#SRGB}</li>
 	 *     <li>{@link #gradientTransform(AffineTransform) gradientTransform} -
 	 *              defaults to new AffineTransform()</li>
+	 *     <li>{@link #paintCacheCapacity(int) paintCacheCapacity} -
+	 *              defaults to {@link SizeKeyedCache#DEFAULT_CAPACITY}</li>
+	 *     <li>{@link #paintCacheEvictionPolicy(EvictionPolicy) paintCacheEvictionPolicy} -
+	 *              defaults to {@link EvictionPolicy#LEAST_RECENTLY_USED}</li>
 	 *     <li>{@link #circleFunc(Function) circleFunc} -
 	 *              defaults to calculating a circle centered in the given space with focus in the center</li>
 	 * </ul>
 	 *
 	 * @author Logan Ferree (Tadukoo)
-	 * @version Alpha v.0.2.1
+	 * @version Alpha v.0.3.4
 	 * @since Alpha v.0.2
 	 */
 	public static class RadialGradientBuilder extends GradientBuilder<RadialGradient>{
@@ -91,6 +97,18 @@ public class RadialGradient implements Gradient{
 			return (RadialGradientBuilder) super.gradientTransform(gradientTransform);
 		}
 		
+		/** {@inheritDoc} */
+		@Override
+		public RadialGradientBuilder paintCacheCapacity(int paintCacheCapacity){
+			return (RadialGradientBuilder) super.paintCacheCapacity(paintCacheCapacity);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public RadialGradientBuilder paintCacheEvictionPolicy(EvictionPolicy paintCacheEvictionPolicy){
+			return (RadialGradientBuilder) super.paintCacheEvictionPolicy(paintCacheEvictionPolicy);
+		}
+		
 		/**
 		 * Checks that {@link #circleFunc} is not null
 		 *
@@ -111,7 +129,8 @@ public class RadialGradient implements Gradient{
 		@Override
 		protected RadialGradient buildGradient(){
 			return new RadialGradient(circleFunc, FloatUtil.convertListToArray(fractions),
-					colors.toArray(new Color[0]), cycleMethod, colorSpace, gradientTransform);
+					colors.toArray(new Color[0]), cycleMethod, colorSpace, gradientTransform,
+					createPaintCache());
 		}
 	}
 	
@@ -127,6 +146,8 @@ public class RadialGradient implements Gradient{
 	protected final MultipleGradientPaint.ColorSpaceType colorSpace;
 	/** The {@link AffineTransform} involved in this LinearGradient */
 	protected final AffineTransform gradientTransform;
+	/** A cache of the Paints built by this RadialGradient, keyed by size */
+	protected final SizeKeyedCache<Paint> paintCache;
 	
 	/**
 	 * Constructs a new Radial Gradient using the given parameters.
@@ -138,18 +159,21 @@ public class RadialGradient implements Gradient{
 	 * @param cycleMethod The {@link MultipleGradientPaint.CycleMethod cycle method} involved in this LinearGradient
 	 * @param colorSpace The {@link MultipleGradientPaint.ColorSpaceType color space} involved in this LinearGradient
 	 * @param gradientTransform The {@link AffineTransform} involved in this LinearGradient
+	 * @param paintCache A cache of the Paints built by this RadialGradient, keyed by size
 	 */
 	private RadialGradient(Function<Dimension, Triple<Point2D, Float, Point2D>> circleFunc,
 	                       float[] fractions, Color[] colors,
 	                       MultipleGradientPaint.CycleMethod cycleMethod,
 	                       MultipleGradientPaint.ColorSpaceType colorSpace,
-	                       AffineTransform gradientTransform){
+	                       AffineTransform gradientTransform,
+	                       SizeKeyedCache<Paint> paintCache){
 		this.circleFunc = circleFunc;
 		this.fractions = fractions;
 		this.colors = colors;
 		this.cycleMethod = cycleMethod;
 		this.colorSpace = colorSpace;
 		this.gradientTransform = gradientTransform;
+		this.paintCache = paintCache;
 	}
 	
 	/**
@@ -196,18 +220,49 @@ public class RadialGradient implements Gradient{
 		return circleFunc;
 	}
 	
+	/**
+	 * @return A cache of the Paints built by this RadialGradient, keyed by size
+	 */
+	public SizeKeyedCache<Paint> getPaintCache(){
+		return paintCache;
+	}
+	
 	/**
 	 * Creates a {@link RadialGradientPaint} using the {@link #circleFunc} to determine the center, radius, and
-	 * focus of the circle, and sending the other parameters as specified.
+	 * focus of the circle, and sending the other parameters as specified. The built Paint is cached by size, so
+	 * asking for the same size again will return the same {@link RadialGradientPaint} (while it remains in the cache).
 	 *
 	 * @param size The dimensions of the object the Gradient will go on
-	 * @return A new {@link RadialGradientPaint} using the parameters of this RadialGradient
+	 * @return A {@link RadialGradientPaint} using the parameters of this RadialGradient
 	 */
 	@Override
 	public Paint getPaint(Dimension size){
-		Triple<Point2D, Float, Point2D> circleParams = circleFunc.apply(size);
+		return getPaint(size.width, size.height);
+	}
+	
+	/**
+	 * Creates a {@link RadialGradientPaint} using the {@link #circleFunc} to determine the center, radius, and
+	 * focus of the circle, and sending the other parameters as specified. The built Paint is cached by size, so
+	 * asking for the same size again will return the same {@link RadialGradientPaint} (while it remains in the cache)
+	 * without allocating anything.
+	 *
+	 * @param width The width of the object the Gradient will go on
+	 * @param height The height of the object the Gradient will go on
+	 * @return A {@link RadialGradientPaint} using the parameters of this RadialGradient
+	 */
+	@Override
+	public Paint getPaint(int width, int height){
+		// Check if we already built a Paint for this size
+		Paint paint = paintCache.get(width, height);
+		if(paint != null){
+			return paint;
+		}
+		
+		Triple<Point2D, Float, Point2D> circleParams = circleFunc.apply(new Dimension(width, height));
 		
-		return new RadialGradientPaint(circleParams.getLeft(), circleParams.getMiddle(), circleParams.getRight(),
+		paint = new RadialGradientPaint(circleParams.getLeft(), circleParams.getMiddle(), circleParams.getRight(),
 				fractions, colors, cycleMethod, colorSpace, gradientTransform);
+		paintCache.put(width, height, paint);
+		return paint;
 	}
 }
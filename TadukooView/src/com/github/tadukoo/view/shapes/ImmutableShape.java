@@ -0,0 +1,105 @@
+package com.github.tadukoo.view.shapes;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * Immutable Shape wraps a {@link Shape} so that it can be shared safely (e.g. from a cache). Most of the AWT shapes
+ * (e.g. {@link Rectangle} or {@link java.awt.Polygon}) are mutable, so handing the same instance to multiple
+ * components would let one of them change the geometry for all of them. This only exposes the {@link Shape} methods,
+ * all of which just read from the wrapped Shape.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public final class ImmutableShape implements Shape{
+	/** The wrapped {@link Shape} */
+	private final Shape shape;
+	
+	/**
+	 * Constructs a new Immutable Shape wrapping the given {@link Shape}
+	 *
+	 * @param shape The {@link Shape} to wrap
+	 */
+	private ImmutableShape(Shape shape){
+		this.shape = shape;
+	}
+	
+	/**
+	 * Wraps the given {@link Shape} as an ImmutableShape, unless it already is one or it's null
+	 *
+	 * @param shape The {@link Shape} to wrap
+	 * @return An ImmutableShape for the given {@link Shape}, or null if it's null
+	 */
+	public static Shape of(Shape shape){
+		if(shape == null || shape instanceof ImmutableShape){
+			return shape;
+		}
+		return new ImmutableShape(shape);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Rectangle getBounds(){
+		return shape.getBounds();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Rectangle2D getBounds2D(){
+		return shape.getBounds2D();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean contains(double x, double y){
+		return shape.contains(x, y);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean contains(Point2D p){
+		return shape.contains(p);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean intersects(double x, double y, double w, double h){
+		return shape.intersects(x, y, w, h);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean intersects(Rectangle2D r){
+		return shape.intersects(r);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean contains(double x, double y, double w, double h){
+		return shape.contains(x, y, w, h);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean contains(Rectangle2D r){
+		return shape.contains(r);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public PathIterator getPathIterator(AffineTransform at){
+		return shape.getPathIterator(at);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public PathIterator getPathIterator(AffineTransform at, double flatness){
+		return shape.getPathIterator(at, flatness);
+	}
+}
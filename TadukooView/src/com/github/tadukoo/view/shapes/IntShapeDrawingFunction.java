@@ -0,0 +1,27 @@
+package com.github.tadukoo.view.shapes;
+
+import java.awt.Graphics;
+
+/**
+ * Int Shape Drawing Function is used to draw a shape or part of one using the given {@link Graphics} and the
+ * given x, y, width, and height as primitive integers. It's the primitive version of {@link ShapeDrawingFunction},
+ * so calling it doesn't box the integers.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+@FunctionalInterface
+public interface IntShapeDrawingFunction{
+	
+	/**
+	 * Draws the shape (or part of it) in the given space
+	 *
+	 * @param g The {@link Graphics} to draw with
+	 * @param x The x coordinate of the space
+	 * @param y The y coordinate of the space
+	 * @param width The width of the space
+	 * @param height The height of the space
+	 */
+	void accept(Graphics g, int x, int y, int width, int height);
+}
@@ -0,0 +1,26 @@
+package com.github.tadukoo.view.shapes;
+
+import java.awt.Shape;
+
+/**
+ * Int Shape Function takes in 4 primitive integers (which should be x, y, width, and height) and returns a
+ * {@link Shape}. It's the primitive version of {@link ShapeFunction}, so calling it doesn't box the integers.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+@FunctionalInterface
+public interface IntShapeFunction{
+	
+	/**
+	 * Creates a {@link Shape} in the given space
+	 *
+	 * @param x The x coordinate of the space
+	 * @param y The y coordinate of the space
+	 * @param width The width of the space
+	 * @param height The height of the space
+	 * @return The {@link Shape}
+	 */
+	Shape apply(int x, int y, int width, int height);
+}
@@ -0,0 +1,26 @@
+package com.github.tadukoo.view.shapes;
+
+import java.awt.Insets;
+
+/**
+ * Int Shape Insets Function takes in 4 primitive integers (which should be x, y, width, and height) and returns an
+ * {@link Insets}. It's the primitive version of {@link ShapeInsetsFunction}, so calling it doesn't box the integers.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+@FunctionalInterface
+public interface IntShapeInsetsFunction{
+	
+	/**
+	 * Determines the {@link Insets} for a shape in the given space
+	 *
+	 * @param x The x coordinate of the space
+	 * @param y The y coordinate of the space
+	 * @param width The width of the space
+	 * @param height The height of the space
+	 * @return The {@link Insets} for the shape
+	 */
+	Insets apply(int x, int y, int width, int height);
+}
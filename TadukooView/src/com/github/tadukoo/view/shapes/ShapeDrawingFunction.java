@@ -8,9 +8,45 @@ import java.awt.Graphics;
 /**
  * Shape Drawing Function is generally used to draw a shape or part of one using the given {@link Graphics} and the
  * given x, y, width, and height, to support drawing generally sized shapes.
+ * <br><br>
+ * The function itself is the primitive {@link IntShapeDrawingFunction#accept(Graphics, int, int, int, int)}, so
+ * lambdas don't box the integers when called with ints. The boxed
+ * {@link ThrowingConsumer5#accept(Object, Object, Object, Object, Object) accept} just unboxes and calls the
+ * primitive one. Use {@link #fromBoxed(ThrowingConsumer5)} to adapt an existing boxed consumer.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2
+ * @version Alpha v.0.3.4
  */
-public interface ShapeDrawingFunction extends ThrowingConsumer5<Graphics, Integer, Integer, Integer, Integer, NoException>{
+@FunctionalInterface
+public interface ShapeDrawingFunction extends ThrowingConsumer5<Graphics, Integer, Integer, Integer, Integer, NoException>,
+		IntShapeDrawingFunction{
+	
+	/**
+	 * Unboxes the given integers and calls {@link #accept(Graphics, int, int, int, int)}
+	 *
+	 * @param g The {@link Graphics} to draw with
+	 * @param x The x coordinate of the space
+	 * @param y The y coordinate of the space
+	 * @param width The width of the space
+	 * @param height The height of the space
+	 */
+	@Override
+	default void accept(Graphics g, Integer x, Integer y, Integer width, Integer height){
+		accept(g, x.intValue(), y.intValue(), width.intValue(), height.intValue());
+	}
+	
+	/**
+	 * Adapts the given boxed consumer into a ShapeDrawingFunction. If it's already a ShapeDrawingFunction, it's
+	 * returned as-is. Note that calling the adapted function will still box the integers to call the boxed consumer.
+	 *
+	 * @param func The boxed {@link ThrowingConsumer5} to adapt
+	 * @return A ShapeDrawingFunction calling the given consumer, or null if it's null
+	 */
+	static ShapeDrawingFunction fromBoxed(
+			ThrowingConsumer5<Graphics, Integer, Integer, Integer, Integer, NoException> func){
+		if(func == null || func instanceof ShapeDrawingFunction){
+			return (ShapeDrawingFunction) func;
+		}
+		return func::accept;
+	}
 }
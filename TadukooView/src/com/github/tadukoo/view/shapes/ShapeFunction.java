@@ -9,10 +9,44 @@ import java.awt.Shape;
  * It's a {@link ThrowingFunction4} that throws {@link NoException} (just a way to avoid throwing stuff),
  * takes in 4 integers (which should be x, y, width, and height), and returns a {@link Shape}. This interface
  * exists solely as shorthand for using the long ThrowingFunction4 name.
+ * <br><br>
+ * The function itself is the primitive {@link IntShapeFunction#apply(int, int, int, int)}, so lambdas and method
+ * references (e.g. {@code Rectangle::new}) don't box the integers when called with ints. The boxed
+ * {@link ThrowingFunction4#apply(Object, Object, Object, Object) apply} just unboxes and calls the primitive one.
+ * Use {@link #fromBoxed(ThrowingFunction4)} to adapt an existing boxed function.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2
+ * @version Alpha v.0.3.4
  */
 @FunctionalInterface
-public interface ShapeFunction extends ThrowingFunction4<Integer, Integer, Integer, Integer, Shape, NoException>{
+public interface ShapeFunction extends ThrowingFunction4<Integer, Integer, Integer, Integer, Shape, NoException>,
+		IntShapeFunction{
+	
+	/**
+	 * Unboxes the given integers and calls {@link #apply(int, int, int, int)}
+	 *
+	 * @param x The x coordinate of the space
+	 * @param y The y coordinate of the space
+	 * @param width The width of the space
+	 * @param height The height of the space
+	 * @return The {@link Shape}
+	 */
+	@Override
+	default Shape apply(Integer x, Integer y, Integer width, Integer height){
+		return apply(x.intValue(), y.intValue(), width.intValue(), height.intValue());
+	}
+	
+	/**
+	 * Adapts the given boxed function into a ShapeFunction. If it's already a ShapeFunction, it's returned as-is.
+	 * Note that calling the adapted function will still box the integers to call the boxed function.
+	 *
+	 * @param func The boxed {@link ThrowingFunction4} to adapt
+	 * @return A ShapeFunction calling the given function, or null if it's null
+	 */
+	static ShapeFunction fromBoxed(ThrowingFunction4<Integer, Integer, Integer, Integer, Shape, NoException> func){
+		if(func == null || func instanceof ShapeFunction){
+			return (ShapeFunction) func;
+		}
+		return func::apply;
+	}
 }
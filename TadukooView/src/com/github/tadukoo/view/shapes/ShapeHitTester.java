@@ -0,0 +1,90 @@
+package com.github.tadukoo.view.shapes;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+
+/**
+ * Shape Hit Tester is used by {@link com.github.tadukoo.view.components.interfaces.Shaped Shaped} components to
+ * check whether a point is inside their {@link ShapeInfo shape}, rather than just inside their rectangular bounds
+ * (e.g. so clicking the transparent corners of a circular button doesn't click it).
+ * <br><br>
+ * Since {@link java.awt.Component#contains(int, int) contains} is called on every mouse move, the {@link Shape} is
+ * only built when the {@link ShapeInfo} or size changes, and points are first checked against the component's
+ * bounds and the {@link Shape Shape's} bounding box before doing the full check against the {@link Shape}.
+ * <br><br>
+ * A Shape Hit Tester belongs to a single component and isn't thread-safe, in the same way that Swing components
+ * aren't.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.4
+ * @since Alpha v.0.3.4
+ */
+public class ShapeHitTester{
+	/** The {@link ShapeInfo} the cached {@link Shape} was built with */
+	private ShapeInfo shapeInfo = null;
+	/** The width the cached {@link Shape} was built for */
+	private int width = -1;
+	/** The height the cached {@link Shape} was built for */
+	private int height = -1;
+	/** The cached {@link Shape} */
+	private Shape shape = null;
+	/** The left edge of the cached {@link Shape Shape's} bounding box */
+	private int minX;
+	/** The top edge of the cached {@link Shape Shape's} bounding box */
+	private int minY;
+	/** The right edge (exclusive) of the cached {@link Shape Shape's} bounding box */
+	private int maxX;
+	/** The bottom edge (exclusive) of the cached {@link Shape Shape's} bounding box */
+	private int maxY;
+	
+	/**
+	 * Checks whether the given point is inside the shape made by the given {@link ShapeInfo} filling a component of
+	 * the given size. The shape is built at (0, 0), the same as when painting the component's background.
+	 *
+	 * @param shapeInfo The {@link ShapeInfo} of the component (null is treated as a rectangle, as are shapes that
+	 *                  {@link ShapeInfo#coversBounds() cover their bounds})
+	 * @param x The x coordinate of the point, relative to the component
+	 * @param y The y coordinate of the point, relative to the component
+	 * @param width The width of the component
+	 * @param height The height of the component
+	 * @return true if the point is inside the shape
+	 */
+	public boolean contains(ShapeInfo shapeInfo, int x, int y, int width, int height){
+		// Reject anything outside the component's bounds
+		if(x < 0 || y < 0 || x >= width || y >= height){
+			return false;
+		}
+		if(shapeInfo == null || shapeInfo.getShapeFunc() == null || shapeInfo.coversBounds()){
+			return true;
+		}
+		
+		// Rebuild the shape only if the shape info or size changed
+		if(shapeInfo != this.shapeInfo || width != this.width || height != this.height){
+			this.shapeInfo = shapeInfo;
+			this.width = width;
+			this.height = height;
+			shape = shapeInfo.getShape(0, 0, width, height);
+			Rectangle bounds = shape.getBounds();
+			minX = bounds.x;
+			minY = bounds.y;
+			maxX = bounds.x + bounds.width;
+			maxY = bounds.y + bounds.height;
+		}
+		
+		// Reject anything outside the shape's bounding box before checking the shape itself
+		if(x < minX || y < minY || x >= maxX || y >= maxY){
+			return false;
+		}
+		return shape.contains(x, y);
+	}
+	
+	/**
+	 * Clears the cached {@link Shape}, so that it's rebuilt on the next check
+	 */
+	public void clear(){
+		shapeInfo = null;
+		width = -1;
+		height = -1;
+		shape = null;
+	}
+}
@@ -1,5 +1,8 @@
 package com.github.tadukoo.view.shapes;
 
+import com.github.tadukoo.view.cache.BoundsKeyedCache;
+import com.github.tadukoo.view.cache.EvictionPolicy;
+
 import java.awt.Insets;
 import java.awt.Shape;
 
@@ -7,9 +10,21 @@ import java.awt.Shape;
  * Shape Info contains a method for calculating the {@link Shape} and one for calculating the {@link Insets} for that
  * Shape. Both methods take in the x, y, width, and height of the space the Shape will be drawn in to support
  * Shapes of different sizes more easily.
+ * <br><br>
+ * A ShapeInfo may optionally have a geometry cache (see {@link #withGeometryCache(int)}), in which case
+ * {@link #getShape(int, int, int, int)} returns shared, immutable Shapes for bounds it has already built, instead
+ * of building a new Shape every time.
+ * <br><br>
+ * A ShapeInfo may also specify that its Shape fills its entire bounds (see {@link #coversBounds()}), e.g. a
+ * rectangle, which lets components using it stay opaque, so that Swing doesn't need to repaint their parents
+ * whenever they repaint.
+ * <br><br>
+ * A ShapeInfo may also specify its {@link #getCornerExtent() corner extent}: how far its corners reach in from the
+ * edges of its bounds, if that doesn't depend on the size of the bounds. This is used to determine whether the shape
+ * can be {@link #isSliceSafe(int) painted from a nine slice image} (where the middle of each edge gets stretched).
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2
+ * @version Alpha v.0.3.4
  */
 public class ShapeInfo{
 	
@@ -23,6 +38,11 @@ public class ShapeInfo{
 	 */
 	public static final ShapeDrawingFunction noDrawFunc = null;
 	
+	/**
+	 * To be used as the corner extent for shapes whose corners change with the size of the bounds (e.g. an ellipse)
+	 */
+	public static final int sizeDependentCorners = -1;
+	
 	/** The {@link ShapeFunction} for constructing a {@link Shape} */
 	private final ShapeFunction shapeFunc;
 	/** The {@link ShapeInsetsFunction} for determining {@link Insets} for the shape */
@@ -31,9 +51,15 @@ public class ShapeInfo{
 	private final ShapeDrawingFunction topLeftDrawFunc;
 	/** A {@link ShapeDrawingFunction} for the bottom-right half of the shape */
 	private final ShapeDrawingFunction bottomRightDrawFunc;
+	/** Whether the shape fills its entire bounds */
+	private final boolean coversBounds;
+	/** How far the corners reach in from the edges of the bounds (or {@link #sizeDependentCorners}) */
+	private final int cornerExtent;
+	/** An optional cache of the {@link Shape}s built by the {@link #shapeFunc}, keyed by bounds (may be null) */
+	private final BoundsKeyedCache<Shape> geometryCache;
 	
 	/**
-	 * Constructs a new ShapeInfo with the given functions
+	 * Constructs a new ShapeInfo with the given functions (and no geometry cache)
 	 *
 	 * @param shapeFunc The {@link ShapeFunction} for constructing a {@link Shape}
 	 * @param shapeInsetsFunc The {@link ShapeInsetsFunction} for determining {@link Insets} for the shape
@@ -42,10 +68,89 @@ public class ShapeInfo{
 	 */
 	public ShapeInfo(ShapeFunction shapeFunc, ShapeInsetsFunction shapeInsetsFunc,
 	                 ShapeDrawingFunction topLeftDrawFunc, ShapeDrawingFunction bottomRightDrawFunc){
+		this(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, bottomRightDrawFunc, null);
+	}
+	
+	/**
+	 * Constructs a new ShapeInfo with the given functions and geometry cache
+	 *
+	 * @param shapeFunc The {@link ShapeFunction} for constructing a {@link Shape}
+	 * @param shapeInsetsFunc The {@link ShapeInsetsFunction} for determining {@link Insets} for the shape
+	 * @param topLeftDrawFunc A {@link ShapeDrawingFunction} for the top-left half of the shape
+	 * @param bottomRightDrawFunc A {@link ShapeDrawingFunction} for the bottom-right half of the shape
+	 * @param geometryCache An optional cache of the {@link Shape}s built by the shape function, keyed by bounds
+	 *                      (may be null to not cache)
+	 */
+	public ShapeInfo(ShapeFunction shapeFunc, ShapeInsetsFunction shapeInsetsFunc,
+	                 ShapeDrawingFunction topLeftDrawFunc, ShapeDrawingFunction bottomRightDrawFunc,
+	                 BoundsKeyedCache<Shape> geometryCache){
+		this(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, bottomRightDrawFunc, false, geometryCache);
+	}
+	
+	/**
+	 * Constructs a new ShapeInfo with the given functions, whether it covers its bounds, and geometry cache
+	 *
+	 * @param shapeFunc The {@link ShapeFunction} for constructing a {@link Shape}
+	 * @param shapeInsetsFunc The {@link ShapeInsetsFunction} for determining {@link Insets} for the shape
+	 * @param topLeftDrawFunc A {@link ShapeDrawingFunction} for the top-left half of the shape
+	 * @param bottomRightDrawFunc A {@link ShapeDrawingFunction} for the bottom-right half of the shape
+	 * @param coversBounds Whether the shape fills its entire bounds
+	 * @param geometryCache An optional cache of the {@link Shape}s built by the shape function, keyed by bounds
+	 *                      (may be null to not cache)
+	 */
+	public ShapeInfo(ShapeFunction shapeFunc, ShapeInsetsFunction shapeInsetsFunc,
+	                 ShapeDrawingFunction topLeftDrawFunc, ShapeDrawingFunction bottomRightDrawFunc,
+	                 boolean coversBounds, BoundsKeyedCache<Shape> geometryCache){
+		this(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, bottomRightDrawFunc, coversBounds, sizeDependentCorners,
+				geometryCache);
+	}
+	
+	/**
+	 * Constructs a new ShapeInfo with the given functions, whether it covers its bounds, corner extent, and geometry
+	 * cache
+	 *
+	 * @param shapeFunc The {@link ShapeFunction} for constructing a {@link Shape}
+	 * @param shapeInsetsFunc The {@link ShapeInsetsFunction} for determining {@link Insets} for the shape
+	 * @param topLeftDrawFunc A {@link ShapeDrawingFunction} for the top-left half of the shape
+	 * @param bottomRightDrawFunc A {@link ShapeDrawingFunction} for the bottom-right half of the shape
+	 * @param coversBounds Whether the shape fills its entire bounds
+	 * @param cornerExtent How far the corners reach in from the edges of the bounds - may be
+	 *                     {@link #sizeDependentCorners}
+	 * @param geometryCache An optional cache of the {@link Shape}s built by the shape function, keyed by bounds
+	 *                      (may be null to not cache)
+	 */
+	public ShapeInfo(ShapeFunction shapeFunc, ShapeInsetsFunction shapeInsetsFunc,
+	                 ShapeDrawingFunction topLeftDrawFunc, ShapeDrawingFunction bottomRightDrawFunc,
+	                 boolean coversBounds, int cornerExtent, BoundsKeyedCache<Shape> geometryCache){
 		this.shapeFunc = shapeFunc;
 		this.shapeInsetsFunc = shapeInsetsFunc;
 		this.topLeftDrawFunc = topLeftDrawFunc;
 		this.bottomRightDrawFunc = bottomRightDrawFunc;
+		this.coversBounds = coversBounds;
+		this.cornerExtent = cornerExtent;
+		this.geometryCache = geometryCache;
+	}
+	
+	/**
+	 * Creates a copy of this ShapeInfo (using the same functions) that has a least recently used geometry cache
+	 * with the given capacity.
+	 *
+	 * @param capacity The maximum number of {@link Shape}s to cache
+	 * @return A new ShapeInfo with a geometry cache
+	 */
+	public ShapeInfo withGeometryCache(int capacity){
+		return new ShapeInfo(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, bottomRightDrawFunc, coversBounds,
+				cornerExtent, new BoundsKeyedCache<>(capacity, EvictionPolicy.LEAST_RECENTLY_USED));
+	}
+	
+	/**
+	 * Creates a copy of this ShapeInfo (using the same functions) that has a least recently used geometry cache
+	 * with the {@link BoundsKeyedCache#DEFAULT_CAPACITY default capacity}.
+	 *
+	 * @return A new ShapeInfo with a geometry cache
+	 */
+	public ShapeInfo withGeometryCache(){
+		return withGeometryCache(BoundsKeyedCache.DEFAULT_CAPACITY);
 	}
 	
 	/**
@@ -75,4 +180,63 @@ public class ShapeInfo{
 	public ShapeDrawingFunction getBottomRightDrawFunc(){
 		return bottomRightDrawFunc;
 	}
+	
+	/**
+	 * @return How far the corners reach in from the edges of the bounds - may be {@link #sizeDependentCorners}
+	 */
+	public int getCornerExtent(){
+		return cornerExtent;
+	}
+	
+	/**
+	 * Determines whether the shape can be painted from a nine slice image with the given slice size, where the
+	 * corners are painted as-is and the middle of each edge is stretched. This is only the case if the corners
+	 * don't depend on the size of the bounds and fit within the slice size.
+	 *
+	 * @param sliceSize The size of the corners of the nine slice image
+	 * @return true if the shape's corners fit within the slice size at any size
+	 */
+	public boolean isSliceSafe(int sliceSize){
+		return cornerExtent != sizeDependentCorners && cornerExtent <= sliceSize;
+	}
+	
+	/**
+	 * @return Whether the shape fills its entire bounds (e.g. a rectangle)
+	 */
+	public boolean coversBounds(){
+		return coversBounds;
+	}
+	
+	/**
+	 * @return The cache of the {@link Shape}s built by the {@link #shapeFunc}, keyed by bounds - may be null if this
+	 * ShapeInfo doesn't cache geometry. Its stats can be used to check how often Shapes are reused.
+	 */
+	public BoundsKeyedCache<Shape> getGeometryCache(){
+		return geometryCache;
+	}
+	
+	/**
+	 * Retrieves the {@link Shape} for the given bounds. If this ShapeInfo has a geometry cache, the Shape is
+	 * immutable and shared by everyone asking for the same bounds, and it's only built the first time (or after
+	 * being evicted). Without a cache, this is the same as calling the {@link #shapeFunc}.
+	 *
+	 * @param x The x coordinate of the space
+	 * @param y The y coordinate of the space
+	 * @param width The width of the space
+	 * @param height The height of the space
+	 * @return The {@link Shape} for the given bounds
+	 */
+	public Shape getShape(int x, int y, int width, int height){
+		if(geometryCache == null){
+			return shapeFunc.apply(x, y, width, height);
+		}
+		
+		// Check if we already built the Shape for these bounds
+		Shape shape = geometryCache.get(x, y, width, height);
+		if(shape == null){
+			shape = ImmutableShape.of(shapeFunc.apply(x, y, width, height));
+			geometryCache.put(x, y, width, height, shape);
+		}
+		return shape;
+	}
 }
@@ -1,25 +1,31 @@
 package com.github.tadukoo.view.shapes;
 
+import com.github.tadukoo.view.cache.BoundsKeyedCache;
+import com.github.tadukoo.view.cache.EvictionPolicy;
+
 import javax.swing.plaf.UIResource;
+import java.awt.Shape;
 import java.util.Objects;
 
 /**
  * A wrapper around {@link ShapeInfo} to turn it into a {@link UIResource} for use in the Look &amp; Feel.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.4
  */
 public class ShapeInfoUIResource extends ShapeInfo implements UIResource{
 	
 	/**
 	 * Creates a new Shape Info UIResource using the given {@link ShapeInfo}. It just takes the functions present on
-	 * the {@link ShapeInfo} and sends them to the constructor.
+	 * the {@link ShapeInfo} and sends them to the constructor. The geometry cache (if any) is shared with the given
+	 * {@link ShapeInfo}, and so are whether it covers its bounds and its corner extent.
 	 *
 	 * @param shapeInfo The {@link ShapeInfo} to wrap as a UIResource
 	 */
 	public ShapeInfoUIResource(ShapeInfo shapeInfo){
 		super(shapeInfo.getShapeFunc(), shapeInfo.getShapeInsetsFunc(),
-				shapeInfo.getTopLeftDrawFunc(), shapeInfo.getBottomRightDrawFunc());
+				shapeInfo.getTopLeftDrawFunc(), shapeInfo.getBottomRightDrawFunc(),
+				shapeInfo.coversBounds(), shapeInfo.getCornerExtent(), shapeInfo.getGeometryCache());
 	}
 	
 	/** {@inheritDoc} */
@@ -28,6 +34,42 @@ public class ShapeInfoUIResource extends ShapeInfo implements UIResource{
 		super(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, bottomRightDrawFunc);
 	}
 	
+	/** {@inheritDoc} */
+	public ShapeInfoUIResource(ShapeFunction shapeFunc, ShapeInsetsFunction shapeInsetsFunc,
+	                           ShapeDrawingFunction topLeftDrawFunc, ShapeDrawingFunction bottomRightDrawFunc,
+	                           BoundsKeyedCache<Shape> geometryCache){
+		super(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, bottomRightDrawFunc, geometryCache);
+	}
+	
+	/** {@inheritDoc} */
+	public ShapeInfoUIResource(ShapeFunction shapeFunc, ShapeInsetsFunction shapeInsetsFunc,
+	                           ShapeDrawingFunction topLeftDrawFunc, ShapeDrawingFunction bottomRightDrawFunc,
+	                           boolean coversBounds, BoundsKeyedCache<Shape> geometryCache){
+		super(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, bottomRightDrawFunc, coversBounds, geometryCache);
+	}
+	
+	/** {@inheritDoc} */
+	public ShapeInfoUIResource(ShapeFunction shapeFunc, ShapeInsetsFunction shapeInsetsFunc,
+	                           ShapeDrawingFunction topLeftDrawFunc, ShapeDrawingFunction bottomRightDrawFunc,
+	                           boolean coversBounds, int cornerExtent, BoundsKeyedCache<Shape> geometryCache){
+		super(shapeFunc, shapeInsetsFunc, topLeftDrawFunc, bottomRightDrawFunc, coversBounds, cornerExtent,
+				geometryCache);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public ShapeInfoUIResource withGeometryCache(int capacity){
+		return new ShapeInfoUIResource(getShapeFunc(), getShapeInsetsFunc(),
+				getTopLeftDrawFunc(), getBottomRightDrawFunc(), coversBounds(), getCornerExtent(),
+				new BoundsKeyedCache<>(capacity, EvictionPolicy.LEAST_RECENTLY_USED));
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public ShapeInfoUIResource withGeometryCache(){
+		return (ShapeInfoUIResource) super.withGeometryCache();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object obj){
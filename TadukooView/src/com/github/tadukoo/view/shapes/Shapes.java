@@ -10,7 +10,7 @@ import java.awt.geom.RoundRectangle2D;
  * A collection of {@link ShapeInfo}s that can be used
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.2
+ * @version Alpha v.0.3.4
  */
 public enum Shapes{
 	/**
@@ -45,7 +45,8 @@ public enum Shapes{
 				g.drawLine(width-1, 0, width-1, height-1);
 				g.drawLine(0, height-1, width-1, height-1);
 				g.translate(-x, -y);
-			})),
+			},
+			true, 0, null)),
 	
 	// TODO: Make a better way so they can specify the arc params
 	/**
@@ -82,7 +83,8 @@ public enum Shapes{
 				g.drawLine(10, height-1, width-1, height-1);
 				g.drawLine(width-1, 10, width-1, height-1);
 				g.translate(-x, -y);
-			})),
+			},
+			false, 10, null)),
 	
 	/**
 	 * Creates a Rectangle with the top left and bottom right corners cut out
@@ -111,7 +113,8 @@ public enum Shapes{
 				g.drawLine(width-1, height-10, width-10, height-1);
 				g.drawLine(0, height-1, width-10, height-1);
 				g.translate(-x, -y);
-			}))
+			},
+			false, 10, null))
 	;
 	
 	/** The {@link ShapeInfo} */
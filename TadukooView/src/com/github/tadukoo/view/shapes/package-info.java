@@ -5,5 +5,7 @@
  * interface and a method for insets. {@link com.github.tadukoo.view.shapes.ShapeInfo ShapeInfo} is used to
  * combine both the ShapeFunction and the
  * {@link com.github.tadukoo.view.shapes.ShapeInsetsFunction ShapeInsetsFunction} into one handy class.
+ * The functional interfaces are implemented through primitive int versions (e.g.
+ * {@link com.github.tadukoo.view.shapes.IntShapeFunction IntShapeFunction}) so painting doesn't box the dimensions.
  */
 package com.github.tadukoo.view.shapes;
\ No newline at end of file